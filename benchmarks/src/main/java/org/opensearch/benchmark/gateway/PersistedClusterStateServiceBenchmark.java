@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.gateway;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterModule;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.gateway.PersistedClusterStateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading the persisted cluster state of a cluster with many indices, as master-eligible nodes do on startup.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class PersistedClusterStateServiceBenchmark {
+
+    @Param({ "1000", "20000" })
+    public int numIndices = 1000;
+
+    @Param({ "1", "4" })
+    public int loadingThreads = 1;
+
+    private Path path;
+    private PersistedClusterStateService persistedClusterStateService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("persisted-cluster-state");
+        final ClusterSettings clusterSettings = new ClusterSettings(
+            Settings.builder().put(PersistedClusterStateService.LOADING_THREADS_SETTING.getKey(), loadingThreads).build(),
+            ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        persistedClusterStateService = new PersistedClusterStateService(new Path[] { path }, "node",
+            new NamedXContentRegistry(ClusterModule.getNamedXWriteables()), BigArrays.NON_RECYCLING_INSTANCE, clusterSettings, () -> 0L);
+
+        final Metadata.Builder metadata = Metadata.builder().version(1L);
+        for (int i = 0; i < numIndices; i++) {
+            metadata.put(IndexMetadata.builder("index-" + i)
+                .settings(Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 5)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+                    .put("index.refresh_interval", "30s"))
+                .putMapping("_doc", "{\"properties\":{\"@timestamp\":{\"type\":\"date\"},\"message\":{\"type\":\"text\"},"
+                    + "\"host\":{\"type\":\"keyword\"},\"status\":{\"type\":\"long\"}}}"), false);
+        }
+        final ClusterState clusterState = ClusterState.builder(ClusterName.DEFAULT).version(1L).metadata(metadata).build();
+        try (PersistedClusterStateService.Writer writer = persistedClusterStateService.createWriter()) {
+            writer.writeFullStateAndCommit(1L, clusterState);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        IOUtils.rm(path);
+    }
+
+    @Benchmark
+    public PersistedClusterStateService.OnDiskState loadBestOnDiskState() throws IOException {
+        return persistedClusterStateService.loadBestOnDiskState();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.grok;
+
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.MatcherWatchdog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares three ways of matching a log line against a list of grok
+ * patterns, the way the {@code grok} processor does with its
+ * {@code patterns}: trying a {@link Grok} per pattern one after the other,
+ * a single {@link Grok} of the alternation of all patterns, and a single
+ * {@link Grok} of the patterns merged on their common start.
+ * <p>
+ * The merge only shares leading literals, escapes and character classes,
+ * so the patterns are Linux audit log lines that all start with
+ * {@code type=} and partly with {@code type=USER_}. Patterns that start
+ * with a reference to another pattern, like most grok patterns do, share
+ * nothing and merge into the plain alternation.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokBenchmark {
+    private static final String AUDIT_PREFIX = " msg=audit\\(%{NUMBER:audit_epoch}:%{NUMBER:audit_counter}\\): ";
+
+    /**
+     * User authentication and login records, system calls, and any other record, from the most to the least specific.
+     */
+    private static final List<String> PATTERNS = Arrays.asList(
+        "type=USER_AUTH" + AUDIT_PREFIX + "pid=%{NUMBER:pid:int} uid=%{NUMBER:uid:int} %{GREEDYDATA:message}",
+        "type=USER_LOGIN" + AUDIT_PREFIX + "pid=%{NUMBER:pid:int} uid=%{NUMBER:uid:int} %{GREEDYDATA:message}",
+        "type=SYSCALL" + AUDIT_PREFIX + "arch=%{WORD:arch} syscall=%{NUMBER:syscall:int} success=%{WORD:success} %{GREEDYDATA:message}",
+        "type=%{WORD:audit_type}" + AUDIT_PREFIX + "%{GREEDYDATA:message}"
+    );
+
+    @Param({ "login", "syscall", "other" })
+    public String sample;
+
+    private String line;
+    private List<Grok> separate;
+    private Grok alternation;
+    private Grok merged;
+
+    @Setup
+    public void setup() {
+        switch (sample) {
+            case "login":
+                line = "type=USER_LOGIN msg=audit(1364481363.243:24287): pid=25448 uid=0 auid=4294967295 ses=4294967295 "
+                    + "msg='op=login acct=\"root\" exe=\"/usr/sbin/sshd\" hostname=? addr=10.0.0.1 terminal=ssh res=failed'";
+                break;
+            case "syscall":
+                line = "type=SYSCALL msg=audit(1364481363.243:24287): arch=c000003e syscall=2 success=no exit=-13 a0=7fffd19c5592 a1=0 "
+                    + "a2=7fffd19c4b50 a3=a items=1 ppid=2686 pid=3538 auid=1000 uid=1000 gid=1000 euid=1000 suid=1000 fsuid=1000 "
+                    + "egid=1000 sgid=1000 fsgid=1000 tty=pts0 ses=1 comm=\"cat\" exe=\"/bin/cat\" key=\"sshd_config\"";
+                break;
+            case "other":
+                line = "type=CWD msg=audit(1364481363.243:24287):  cwd=\"/home/shadowman\"";
+                break;
+            default:
+                throw new IllegalArgumentException("unknown sample [" + sample + "]");
+        }
+        separate = new ArrayList<>(PATTERNS.size());
+        for (String pattern : PATTERNS) {
+            separate.add(new Grok(Grok.BUILTIN_PATTERNS, pattern, MatcherWatchdog.noop(), message -> {}));
+        }
+        String alternationPattern = PATTERNS.stream().map(pattern -> "(?:" + pattern + ")").collect(Collectors.joining("|"));
+        alternation = new Grok(Grok.BUILTIN_PATTERNS, alternationPattern, MatcherWatchdog.noop(), message -> {});
+        merged = new Grok(Grok.BUILTIN_PATTERNS, PATTERNS, MatcherWatchdog.noop(), message -> {});
+    }
+
+    @Benchmark
+    public Map<String, Object> separate() {
+        for (Grok grok : separate) {
+            Map<String, Object> captures = grok.captures(line);
+            if (captures != null) {
+                return captures;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Map<String, Object> alternation() {
+        return alternation.captures(line);
+    }
+
+    @Benchmark
+    public Map<String, Object> merged() {
+        return merged.captures(line);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.routing.allocation;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
+import org.opensearch.cluster.routing.allocation.decider.ThrottlingAllocationDecider;
+import org.opensearch.common.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single reroute of a cluster whose shards are all started and balanced, as it happens on every cluster state update
+ * of a large cluster, with and without a new index to allocate.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class RerouteBenchmark {
+    // see AllocationBenchmark for why the parameters are combined into a single one
+    @Param({
+        // indices| shards| replicas| nodes
+        "     1000|      5|        1|    50",
+        "    10000|      5|        1|   100",
+        "     1000|     50|        1|   100",
+        "     5000|     10|        1|   200" })
+    public String indicesShardsReplicasNodes = "1000|5|1|50";
+
+    @Param({ "true", "false" })
+    public boolean skipBalancedIndices = true;
+
+    @Param({ "1", "4" })
+    public int deciderParallelism = 1;
+
+    public int numTags = 2;
+
+    private AllocationService strategy;
+    private ClusterState balancedClusterState;
+    private ClusterState clusterStateWithNewIndex;
+
+    @Setup
+    public void setUp() throws Exception {
+        final String[] params = indicesShardsReplicasNodes.split("\\|");
+
+        int numIndices = toInt(params[0]);
+        int numShards = toInt(params[1]);
+        int numReplicas = toInt(params[2]);
+        int numNodes = toInt(params[3]);
+
+        strategy = Allocators.createAllocationService(
+            Settings.builder()
+                .put("cluster.routing.allocation.awareness.attributes", "tag")
+                .put(BalancedShardsAllocator.SKIP_BALANCED_INDICES_SETTING.getKey(), skipBalancedIndices)
+                .put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), deciderParallelism)
+                // allocate all shards in a few rounds
+                .put(ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_RECOVERIES_SETTING.getKey(), Integer.MAX_VALUE)
+                .put(ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_INITIAL_PRIMARIES_RECOVERIES_SETTING.getKey(),
+                    Integer.MAX_VALUE)
+                .build()
+        );
+
+        Metadata.Builder mb = Metadata.builder();
+        for (int i = 1; i <= numIndices; i++) {
+            mb.put(newIndex("test_" + i, numShards, numReplicas));
+        }
+        Metadata metadata = mb.build();
+        RoutingTable.Builder rb = RoutingTable.builder();
+        for (int i = 1; i <= numIndices; i++) {
+            rb.addAsNew(metadata.index("test_" + i));
+        }
+        DiscoveryNodes.Builder nb = DiscoveryNodes.builder();
+        for (int i = 1; i <= numNodes; i++) {
+            nb.add(Allocators.newNode("node" + i, Collections.singletonMap("tag", "tag_" + (i % numTags))));
+        }
+        ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(rb.build())
+            .nodes(nb)
+            .build();
+
+        clusterState = strategy.reroute(clusterState, "reroute");
+        while (clusterState.getRoutingNodes().shardsWithState(ShardRoutingState.INITIALIZING).isEmpty() == false) {
+            clusterState = strategy.applyStartedShards(
+                clusterState,
+                clusterState.getRoutingNodes().shardsWithState(ShardRoutingState.INITIALIZING)
+            );
+        }
+        balancedClusterState = clusterState;
+
+        final IndexMetadata newIndex = newIndex("new_index", numShards, numReplicas).build();
+        clusterStateWithNewIndex = ClusterState.builder(balancedClusterState)
+            .metadata(Metadata.builder(balancedClusterState.metadata()).put(newIndex, false))
+            .routingTable(RoutingTable.builder(balancedClusterState.routingTable()).addAsNew(newIndex).build())
+            .build();
+    }
+
+    private static IndexMetadata.Builder newIndex(String name, int numShards, int numReplicas) {
+        return IndexMetadata.builder(name)
+            .settings(Settings.builder().put("index.version.created", Version.CURRENT))
+            .numberOfShards(numShards)
+            .numberOfReplicas(numReplicas);
+    }
+
+    private int toInt(String v) {
+        return Integer.valueOf(v.trim());
+    }
+
+    @Benchmark
+    public ClusterState measureReroute() {
+        return strategy.reroute(balancedClusterState, "reroute");
+    }
+
+    @Benchmark
+    public ClusterState measureRerouteWithNewIndex() {
+        return strategy.reroute(clusterStateWithNewIndex, "reroute");
+    }
+}
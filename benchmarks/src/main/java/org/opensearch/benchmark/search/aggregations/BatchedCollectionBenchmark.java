@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.search.aggregations.BatchedBucketCollector;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares collecting a {@code sum} of a numeric field one document at a time
+ * with collecting it in blocks of documents through
+ * {@link BatchedBucketCollector}, for a query that matches all documents and
+ * for a range query that matches about half of them.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BatchedCollectionBenchmark {
+    private static final String FIELD = "value";
+    private static final long MAX_VALUE = 1_000_000;
+
+    @Param({ "1000000" })
+    public int docs;
+
+    @Param({ "match_all", "range" })
+    public String query;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+    private Query luceneQuery;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < docs; i++) {
+                long value = random.nextInt((int) MAX_VALUE);
+                Document doc = new Document();
+                doc.add(new LongPoint(FIELD, value));
+                doc.add(new SortedNumericDocValuesField(FIELD, value));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+        switch (query) {
+            case "match_all":
+                luceneQuery = new MatchAllDocsQuery();
+                break;
+            case "range":
+                luceneQuery = LongPoint.newRangeQuery(FIELD, 0, MAX_VALUE / 2);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown query [" + query + "]");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public long perDoc() throws IOException {
+        SumCollector collector = new SumCollector();
+        collect(collector);
+        return collector.sum;
+    }
+
+    @Benchmark
+    public long batched() throws IOException {
+        SumCollector collector = new SumCollector();
+        collect(BatchedBucketCollector.wrap(collector));
+        return collector.sum;
+    }
+
+    private void collect(BucketCollector collector) throws IOException {
+        collector.preCollection();
+        searcher.search(luceneQuery, collector);
+        collector.postCollection();
+    }
+
+    /**
+     * Sums the values of the field, like the {@code sum} aggregation does.
+     */
+    private static class SumCollector extends BucketCollector {
+        long sum;
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+            SortedNumericDocValues values = DocValues.getSortedNumeric(ctx.reader(), FIELD);
+            NumericDocValues singleValues = DocValues.unwrapSingleton(values);
+            return new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    if (values.advanceExact(doc)) {
+                        for (int i = 0; i < values.docValueCount(); i++) {
+                            sum += values.nextValue();
+                        }
+                    }
+                }
+
+                @Override
+                public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+                    long blockSum = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (singleValues.advanceExact(docs[i])) {
+                            blockSum += singleValues.longValue();
+                        }
+                    }
+                    sum += blockSum;
+                }
+            };
+        }
+
+        @Override
+        public void preCollection() {}
+
+        @Override
+        public void postCollection() {}
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.bucket.histogram;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.FutureArrays;
+import org.opensearch.common.Rounding;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.common.util.LongHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways that a top level {@code date_histogram} without
+ * sub-aggregations can count the documents of its buckets when the query
+ * matches all documents: rounding the doc values of every document, or
+ * counting the points of the field within each rounding interval the way
+ * {@code DateHistogramAggregator} does for segments that allow it.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DateHistogramFromPointsBenchmark {
+    private static final String FIELD = "timestamp";
+    private static final long START = 1577836800000L; // 2020-01-01T00:00:00Z
+    private static final long ONE_YEAR = TimeUnit.DAYS.toMillis(365);
+
+    @Param({ "1000000" })
+    public int docs;
+
+    @Param({ "MONTH_OF_YEAR", "DAY_OF_MONTH" })
+    public String interval;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private Rounding.Prepared rounding;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < docs; i++) {
+                long timestamp = START + (long) (random.nextDouble() * ONE_YEAR);
+                Document doc = new Document();
+                doc.add(new LongPoint(FIELD, timestamp));
+                doc.add(new SortedNumericDocValuesField(FIELD, timestamp));
+                writer.addDocument(doc);
+            }
+        }
+        reader = DirectoryReader.open(directory);
+        rounding = Rounding.builder(Rounding.DateTimeUnit.valueOf(interval)).build().prepare(START, START + ONE_YEAR);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public long docValues() throws IOException {
+        try (LongHash bucketOrds = new LongHash(1, BigArrays.NON_RECYCLING_INSTANCE)) {
+            LongArray docCounts = BigArrays.NON_RECYCLING_INSTANCE.newLongArray(1, true);
+            for (LeafReaderContext ctx : reader.leaves()) {
+                SortedNumericDocValues values = DocValues.getSortedNumeric(ctx.reader(), FIELD);
+                for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                    long bucketOrd = bucketOrds.add(rounding.round(values.nextValue()));
+                    if (bucketOrd < 0) {
+                        bucketOrd = -1 - bucketOrd;
+                    }
+                    docCounts = BigArrays.NON_RECYCLING_INSTANCE.grow(docCounts, bucketOrd + 1);
+                    docCounts.increment(bucketOrd, 1);
+                }
+            }
+            return bucketOrds.size();
+        }
+    }
+
+    @Benchmark
+    public long points() throws IOException {
+        try (LongHash bucketOrds = new LongHash(1, BigArrays.NON_RECYCLING_INSTANCE)) {
+            LongArray docCounts = BigArrays.NON_RECYCLING_INSTANCE.newLongArray(1, true);
+            for (LeafReaderContext ctx : reader.leaves()) {
+                PointValues points = ctx.reader().getPointValues(FIELD);
+                long min = LongPoint.decodeDimension(points.getMinPackedValue(), 0);
+                long max = LongPoint.decodeDimension(points.getMaxPackedValue(), 0);
+                for (long key = rounding.round(min); key <= max;) {
+                    long next = rounding.nextRoundingValue(key);
+                    int docCount = countPoints(points, Math.max(key, min), Math.min(next - 1, max));
+                    long bucketOrd = bucketOrds.add(key);
+                    if (bucketOrd < 0) {
+                        bucketOrd = -1 - bucketOrd;
+                    }
+                    docCounts = BigArrays.NON_RECYCLING_INSTANCE.grow(docCounts, bucketOrd + 1);
+                    docCounts.increment(bucketOrd, docCount);
+                    key = next;
+                }
+            }
+            return bucketOrds.size();
+        }
+    }
+
+    private static int countPoints(PointValues points, long lower, long upper) throws IOException {
+        byte[] lowerPoint = new byte[Long.BYTES];
+        byte[] upperPoint = new byte[Long.BYTES];
+        LongPoint.encodeDimension(lower, lowerPoint, 0);
+        LongPoint.encodeDimension(upper, upperPoint, 0);
+        int[] count = new int[1];
+        points.intersect(new PointValues.IntersectVisitor() {
+            @Override
+            public void visit(int docID) {
+                count[0]++;
+            }
+
+            @Override
+            public void visit(int docID, byte[] packedValue) {
+                if (FutureArrays.compareUnsigned(packedValue, 0, Long.BYTES, lowerPoint, 0, Long.BYTES) >= 0
+                    && FutureArrays.compareUnsigned(packedValue, 0, Long.BYTES, upperPoint, 0, Long.BYTES) <= 0) {
+                    count[0]++;
+                }
+            }
+
+            @Override
+            public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                if (FutureArrays.compareUnsigned(minPackedValue, 0, Long.BYTES, upperPoint, 0, Long.BYTES) > 0
+                    || FutureArrays.compareUnsigned(maxPackedValue, 0, Long.BYTES, lowerPoint, 0, Long.BYTES) < 0) {
+                    return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                }
+                if (FutureArrays.compareUnsigned(minPackedValue, 0, Long.BYTES, lowerPoint, 0, Long.BYTES) >= 0
+                    && FutureArrays.compareUnsigned(maxPackedValue, 0, Long.BYTES, upperPoint, 0, Long.BYTES) <= 0) {
+                    return PointValues.Relation.CELL_INSIDE_QUERY;
+                }
+                return PointValues.Relation.CELL_CROSSES_QUERY;
+            }
+        });
+        return count[0];
+    }
+}
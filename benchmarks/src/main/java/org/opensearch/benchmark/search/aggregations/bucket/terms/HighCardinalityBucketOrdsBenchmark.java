@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.bucket.terms;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.LongHash;
+import org.opensearch.common.util.LongLongHash;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.util.RobinHoodLongHash;
+import org.opensearch.common.util.RobinHoodLongLongHash;
+import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hash tables behind {@link LongKeyedBucketOrds} when collecting
+ * so many distinct keys that the tables no longer fit in the CPU caches. Every
+ * key is added twice, once when its bucket is created and once when it is
+ * found again, the way a {@code terms} aggregation on a high cardinality
+ * field would collect them.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HighCardinalityBucketOrdsBenchmark {
+    /**
+     * The number of keys that {@link #robinHoodLongHashBatch} adds at once,
+     * about as many as a document with many values would add.
+     */
+    private static final int BATCH_SIZE = 16;
+    /**
+     * The number of buckets that the keys of the two key cases are spread over.
+     */
+    private static final long DISTINCT_BUCKETS = 21;
+
+    @Param({ "1000000", "10000000", "100000000" })
+    public long distinctValues;
+
+    private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
+    private final BigArrays bigArrays = new BigArrays(recycler, null, "REQUEST");
+
+    /**
+     * Scatters {@code 0..distinctValues} over the whole range of longs without
+     * collisions, since multiplying by an odd number is a bijection.
+     */
+    private static long key(long i) {
+        return i * 0x9E3779B97F4A7C15L;
+    }
+
+    @Benchmark
+    public void longHash(Blackhole bh) {
+        try (LongHash hash = new LongHash(1, bigArrays)) {
+            for (int pass = 0; pass < 2; pass++) {
+                for (long i = 0; i < distinctValues; i++) {
+                    bh.consume(hash.add(key(i)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void robinHoodLongHash(Blackhole bh) {
+        try (RobinHoodLongHash hash = new RobinHoodLongHash(1, bigArrays)) {
+            for (int pass = 0; pass < 2; pass++) {
+                for (long i = 0; i < distinctValues; i++) {
+                    bh.consume(hash.add(key(i)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void robinHoodLongHashBatch(Blackhole bh) {
+        long[] keys = new long[BATCH_SIZE];
+        long[] ids = new long[BATCH_SIZE];
+        try (RobinHoodLongHash hash = new RobinHoodLongHash(1, bigArrays)) {
+            for (int pass = 0; pass < 2; pass++) {
+                for (long i = 0; i < distinctValues; i += BATCH_SIZE) {
+                    int length = (int) Math.min(BATCH_SIZE, distinctValues - i);
+                    for (int j = 0; j < length; j++) {
+                        keys[j] = key(i + j);
+                    }
+                    hash.add(keys, length, ids);
+                    bh.consume(ids);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void longLongHash(Blackhole bh) {
+        try (LongLongHash hash = new LongLongHash(2, bigArrays)) {
+            for (int pass = 0; pass < 2; pass++) {
+                for (long i = 0; i < distinctValues; i++) {
+                    bh.consume(hash.add(i % DISTINCT_BUCKETS, key(i)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void robinHoodLongLongHash(Blackhole bh) {
+        try (RobinHoodLongLongHash hash = new RobinHoodLongLongHash(2, bigArrays)) {
+            for (int pass = 0; pass < 2; pass++) {
+                for (long i = 0; i < distinctValues; i++) {
+                    bh.consume(hash.add(i % DISTINCT_BUCKETS, key(i)));
+                }
+            }
+        }
+    }
+}
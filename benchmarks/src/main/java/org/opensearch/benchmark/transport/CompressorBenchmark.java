@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.transport;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the available {@link Compressor}s on serialized transport messages. The {@link #compress} benchmark
+ * also reports how many bytes it read and wrote per second, see {@link CompressedBytes}.
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CompressorBenchmark {
+
+    @Param({ "deflate", "lz4" })
+    private String compressionScheme;
+
+    @Param({ "bulk_shard_request", "terms_aggregation" })
+    private String payload;
+
+    private Compressor compressor;
+    private BytesReference uncompressed;
+    private BytesReference compressed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        compressor = CompressorFactory.compressorForName(compressionScheme);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            switch (payload) {
+                case "bulk_shard_request":
+                    bulkShardRequest(1000).writeTo(out);
+                    break;
+                case "terms_aggregation":
+                    InternalAggregations.from(org.opensearch.common.collect.List.of(terms(1000, true))).writeTo(out);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown payload [" + payload + "]");
+            }
+            uncompressed = out.copyBytes();
+        }
+        compressed = compressor.compress(uncompressed);
+    }
+
+    /**
+     * The bytes that {@link #compress} read and wrote. JMH reports both per second, and the first divided by the second is the
+     * compression ratio of the payload.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class CompressedBytes {
+        public long uncompressedBytes;
+        public long compressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            uncompressedBytes = 0;
+            compressedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public BytesReference compress(CompressedBytes bytes) throws IOException {
+        final BytesReference result = compressor.compress(uncompressed);
+        bytes.uncompressedBytes += uncompressed.length();
+        bytes.compressedBytes += result.length();
+        return result;
+    }
+
+    @Benchmark
+    public BytesReference uncompress() throws IOException {
+        return compressor.uncompress(compressed);
+    }
+
+    private static BulkShardRequest bulkShardRequest(int numDocs) {
+        final Random random = new Random(42);
+        final String[] levels = { "INFO", "WARN", "ERROR", "DEBUG" };
+        final String[] paths = { "/index.html", "/api/v1/orders", "/api/v1/users", "/static/app.js", "/login" };
+        final BulkItemRequest[] items = new BulkItemRequest[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            final String source = String.format(Locale.ROOT,
+                "{\"@timestamp\":\"2021-03-%02dT%02d:%02d:%02d.%03dZ\",\"level\":\"%s\",\"host\":\"web-%02d\","
+                    + "\"client_ip\":\"10.%d.%d.%d\",\"request\":\"GET %s HTTP/1.1\",\"status\":%d,\"bytes\":%d,"
+                    + "\"message\":\"request served in %d ms by worker %d\"}",
+                1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000),
+                levels[random.nextInt(levels.length)], random.nextInt(20), random.nextInt(256), random.nextInt(256),
+                random.nextInt(256), paths[random.nextInt(paths.length)], random.nextBoolean() ? 200 : 404,
+                random.nextInt(100000), random.nextInt(500), random.nextInt(16));
+            final IndexRequest indexRequest = new IndexRequest("logs").id(Integer.toString(i)).source(source, XContentType.JSON);
+            items[i] = new BulkItemRequest(i, indexRequest);
+        }
+        return new BulkShardRequest(new ShardId("logs", "_na_", 0), WriteRequest.RefreshPolicy.NONE, items);
+    }
+
+    private static StringTerms terms(int numBuckets, boolean withNested) {
+        final List<StringTerms.Bucket> buckets = new ArrayList<>(numBuckets);
+        for (int i = 0; i < numBuckets; i++) {
+            final InternalAggregations inner = withNested
+                ? InternalAggregations.from(org.opensearch.common.collect.List.of(terms(10, false)))
+                : InternalAggregations.EMPTY;
+            buckets.add(new StringTerms.Bucket(new BytesRef("term-" + i), numBuckets - i, inner, false, 0, DocValueFormat.RAW));
+        }
+        return new StringTerms(
+            "terms",
+            BucketOrder.key(true),
+            BucketOrder.key(true),
+            numBuckets,
+            1,
+            null,
+            DocValueFormat.RAW,
+            numBuckets,
+            false,
+            100000,
+            buckets,
+            0
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the heap and packed storage of {@link LiveVersionMap} when putting and looking up the versions of documents, and when
+ * swapping the maps on refresh. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@Fork(2)
+@Warmup(iterations = 10)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    private static final int NUM_UIDS = 100_000;
+
+    @Param({ "heap", "packed" })
+    private String type;
+
+    private BytesRef[] uids;
+    private IndexVersionValue[] values;
+    private LiveVersionMap map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        uids = new BytesRef[NUM_UIDS];
+        values = new IndexVersionValue[NUM_UIDS];
+        for (int i = 0; i < NUM_UIDS; i++) {
+            // same length as the base64 encoded auto-generated ids
+            uids[i] = new BytesRef(String.format(Locale.ROOT, "%020d", random.nextLong() & Long.MAX_VALUE));
+            values[i] = new IndexVersionValue(new Translog.Location(1, random.nextInt(Integer.MAX_VALUE), 256), 1, i, 1);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpMap() throws IOException {
+        map = new LiveVersionMap("packed".equals(type));
+        map.enforceSafeAccess();
+        // the lookup benchmark reads from both the current and the old map
+        for (int i = 0; i < NUM_UIDS; i++) {
+            if (i == NUM_UIDS / 2) {
+                map.beforeRefresh();
+            }
+            put(uids[i], values[i]);
+        }
+    }
+
+    private void put(BytesRef uid, IndexVersionValue value) {
+        try (Releasable r = map.acquireLock(uid)) {
+            map.putIndexUnderLock(uid, value);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_UIDS)
+    public void put() {
+        for (int i = 0; i < NUM_UIDS; i++) {
+            put(uids[i], values[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_UIDS)
+    public void get(Blackhole bh) {
+        for (int i = 0; i < NUM_UIDS; i++) {
+            final BytesRef uid = uids[i];
+            try (Releasable r = map.acquireLock(uid)) {
+                bh.consume(map.getUnderLock(uid));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_UIDS)
+    public void putAndRefresh() throws IOException {
+        for (int i = 0; i < NUM_UIDS; i++) {
+            put(uids[i], values[i]);
+            if ((i & 0x3FFF) == 0) {
+                map.beforeRefresh();
+                map.afterRefresh(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the documents of a bulk shard request of typical log documents, with or without sharing a {@link DocumentParserCache}
+ * across them, and reports the parsed documents per second. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(BulkDocumentParsingBenchmark.BULK_SIZE)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class BulkDocumentParsingBenchmark {
+
+    static final int BULK_SIZE = 1000;
+
+    private static final String[] LEVELS = { "DEBUG", "INFO", "WARN", "ERROR" };
+    private static final String[] PATHS = { "/", "/login", "/search", "/api/v1/orders", "/api/v1/users", "/static/app.js" };
+
+    @Param({ "false", "true" })
+    private boolean cache;
+
+    private DocumentMapper documentMapper;
+    private BytesReference[] sources;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("logs").settings(settings).build(), Settings.EMPTY);
+        final NamedAnalyzer defaultAnalyzer = new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer());
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(Collections.singletonMap("default", defaultAnalyzer),
+            Collections.emptyMap(), Collections.emptyMap());
+        final MapperService mapperService = new MapperService(indexSettings, indexAnalyzers, NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(), () -> null, () -> false, null);
+        documentMapper = mapperService.merge(MapperService.SINGLE_MAPPING_NAME, new CompressedXContent(Strings.toString(mapping())),
+            MapperService.MergeReason.MAPPING_UPDATE);
+
+        final Random random = new Random(42);
+        sources = new BytesReference[BULK_SIZE];
+        for (int i = 0; i < BULK_SIZE; i++) {
+            sources[i] = BytesReference.bytes(XContentFactory.jsonBuilder().startObject()
+                .field("@timestamp", 1600000000000L + i * 1000L)
+                .field("message", "request " + i + " served in " + random.nextInt(1000) + "ms")
+                .startObject("host").field("name", "host-" + random.nextInt(20)).endObject()
+                .field("log.level", LEVELS[random.nextInt(LEVELS.length)])
+                .startObject("http").startObject("response").field("status_code", 200 + random.nextInt(4) * 100).endObject().endObject()
+                .startObject("url").field("path", PATHS[random.nextInt(PATHS.length)]).endObject()
+                .startObject("client").field("ip", "10.0." + random.nextInt(256) + "." + random.nextInt(256)).endObject()
+                .startObject("event").field("duration", random.nextInt(1_000_000)).endObject()
+                .endObject());
+        }
+    }
+
+    private static XContentBuilder mapping() throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject(MapperService.SINGLE_MAPPING_NAME);
+        builder.startObject("properties");
+        builder.startObject("@timestamp").field("type", "date").endObject();
+        builder.startObject("message").field("type", "text").endObject();
+        builder.startObject("host").startObject("properties").startObject("name").field("type", "keyword").endObject().endObject()
+            .endObject();
+        builder.startObject("log").startObject("properties").startObject("level").field("type", "keyword").endObject().endObject()
+            .endObject();
+        builder.startObject("http").startObject("properties").startObject("response").startObject("properties")
+            .startObject("status_code").field("type", "long").endObject().endObject().endObject().endObject().endObject();
+        builder.startObject("url").startObject("properties").startObject("path").field("type", "keyword").endObject().endObject()
+            .endObject();
+        builder.startObject("client").startObject("properties").startObject("ip").field("type", "ip").endObject().endObject()
+            .endObject();
+        builder.startObject("event").startObject("properties").startObject("duration").field("type", "long").endObject().endObject()
+            .endObject();
+        builder.endObject();
+        return builder.endObject().endObject();
+    }
+
+    @Benchmark
+    public void parseBulk(Blackhole bh) {
+        // a new cache per bulk shard request, like TransportShardBulkAction
+        final DocumentParserCache parserCache = cache ? new DocumentParserCache() : null;
+        for (int i = 0; i < BULK_SIZE; i++) {
+            bh.consume(documentMapper.parse(new SourceToParse("logs", MapperService.SINGLE_MAPPING_NAME, Integer.toString(i),
+                sources[i], XContentType.JSON, null, parserCache)));
+        }
+    }
+}
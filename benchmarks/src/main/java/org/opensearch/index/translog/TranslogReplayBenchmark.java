@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.ShardId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a translog of the configured size, as local recovery and peer recovery do, reading its generations either through their
+ * file channel or memory-mapped. Replaying a multi-GB translog needs as much free disk space, e.g. {@code -p translogSize=4gb}.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class TranslogReplayBenchmark {
+
+    @Param({ "512mb" })
+    private String translogSize;
+
+    @Param({ "1kb" })
+    private String operationSize;
+
+    @Param({ "false", "true" })
+    private boolean mmap;
+
+    private Path path;
+    private Translog translog;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("translog-replay");
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_READERS_SETTING.getKey(), mmap)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_READERS_MAX_BYTES_SETTING.getKey(), Long.MAX_VALUE + "b")
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("index").settings(settings).build(), Settings.EMPTY);
+        final ShardId shardId = new ShardId(indexSettings.getIndex(), 0);
+        final TranslogConfig config = new TranslogConfig(shardId, path, indexSettings, BigArrays.NON_RECYCLING_INSTANCE);
+        final String translogUUID = Translog.createEmptyTranslog(path, SequenceNumbers.NO_OPS_PERFORMED, shardId, 1L);
+        translog = new Translog(config, translogUUID, new TranslogDeletionPolicy(-1, -1, 0),
+            () -> SequenceNumbers.NO_OPS_PERFORMED, () -> 1L, seqNo -> {});
+
+        final long totalBytes = ByteSizeValue.parseBytesSizeValue(translogSize, "translogSize").getBytes();
+        final int sourceBytes = Math.toIntExact(ByteSizeValue.parseBytesSizeValue(operationSize, "operationSize").getBytes());
+        final long generationBytes = indexSettings.getGenerationThresholdSize().getBytes();
+        final Random random = new Random(42);
+        final byte[] source = new byte[sourceBytes];
+        long seqNo = 0;
+        while (translog.sizeInBytes() < totalBytes) {
+            for (int i = 0; i < source.length; i++) {
+                source[i] = (byte) ('a' + random.nextInt(26));
+            }
+            translog.add(new Translog.Index("_doc", Long.toString(seqNo), seqNo, 1L, source));
+            seqNo++;
+            if (translog.getCurrent().sizeInBytes() >= generationBytes) {
+                translog.rollGeneration();
+            }
+        }
+        // only the immutable generations are memory-mapped
+        translog.rollGeneration();
+        translog.sync();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        IOUtils.close(translog);
+        IOUtils.rm(path);
+    }
+
+    @Benchmark
+    public void replay(Blackhole bh) throws IOException {
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            Translog.Operation operation;
+            while ((operation = snapshot.next()) != null) {
+                bh.consume(operation);
+            }
+        }
+    }
+}
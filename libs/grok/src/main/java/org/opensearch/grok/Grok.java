@@ -53,7 +53,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import static java.util.Collections.unmodifiableList;
 
@@ -87,21 +89,54 @@ public final class Grok {
     private final Regex compiledExpression;
     private final MatcherWatchdog matcherWatchdog;
     private final List<GrokCaptureConfig> captureConfig;
+    /**
+     * The back reference of the group that ends each pattern, if this {@linkplain Grok} was built from more than one pattern.
+     */
+    private final int[] matchIndexBackRefs;
+    private final int patternCount;
+    /**
+     * The number of texts that each pattern matched and the time spent matching them, at {@code index + 1}, and for the texts that
+     * no pattern matched at {@code 0}, or {@code null} unless match stats were asked for.
+     */
+    private final LongAdder[] matchCounts;
+    private final LongAdder[] matchTimesInNanos;
 
     public Grok(Map<String, String> patternBank, String grokPattern, Consumer<String> logCallBack) {
-        this(patternBank, grokPattern, true, MatcherWatchdog.noop(), logCallBack);
+        this(patternBank, grokPattern, 1, false, true, MatcherWatchdog.noop(), logCallBack);
     }
 
     public Grok(Map<String, String> patternBank, String grokPattern, MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack) {
-        this(patternBank, grokPattern, true, matcherWatchdog, logCallBack);
+        this(patternBank, grokPattern, 1, false, true, matcherWatchdog, logCallBack);
+    }
+
+    /**
+     * Build a {@linkplain Grok} that matches any of the given patterns, preferring them in order. Consecutive patterns that start
+     * with the same fixed length atoms are compiled into a single expression that matches their common start only once, see
+     * {@link GrokPatternMerger}.
+     * {@link #matchIndex} tells which pattern matched.
+     */
+    public Grok(Map<String, String> patternBank, List<String> grokPatterns, MatcherWatchdog matcherWatchdog,
+                Consumer<String> logCallBack) {
+        this(patternBank, grokPatterns, matcherWatchdog, false, logCallBack);
+    }
+
+    /**
+     * Like {@link #Grok(Map, List, MatcherWatchdog, Consumer)}, also keeping track of how often each pattern matched and how long
+     * matching took if {@code collectMatchStats} is set, see {@link #matchStats}. This costs two calls to {@link System#nanoTime}
+     * per match.
+     */
+    public Grok(Map<String, String> patternBank, List<String> grokPatterns, MatcherWatchdog matcherWatchdog, boolean collectMatchStats,
+                Consumer<String> logCallBack) {
+        this(patternBank, GrokPatternMerger.merge(grokPatterns), grokPatterns.size(), collectMatchStats, true, matcherWatchdog,
+            logCallBack);
     }
 
     Grok(Map<String, String> patternBank, String grokPattern, boolean namedCaptures, Consumer<String> logCallBack) {
-        this(patternBank, grokPattern, namedCaptures, MatcherWatchdog.noop(), logCallBack);
+        this(patternBank, grokPattern, 1, false, namedCaptures, MatcherWatchdog.noop(), logCallBack);
     }
 
-    private Grok(Map<String, String> patternBank, String grokPattern, boolean namedCaptures, MatcherWatchdog matcherWatchdog,
-                 Consumer<String> logCallBack) {
+    private Grok(Map<String, String> patternBank, String grokPattern, int patternCount, boolean collectMatchStats,
+                 boolean namedCaptures, MatcherWatchdog matcherWatchdog, Consumer<String> logCallBack) {
         this.patternBank = patternBank;
         this.namedCaptures = namedCaptures;
         this.matcherWatchdog = matcherWatchdog;
@@ -118,10 +153,32 @@ public final class Grok {
             message -> logCallBack.accept(message));
 
         List<GrokCaptureConfig> captureConfig = new ArrayList<>();
+        this.matchIndexBackRefs = patternCount > 1 ? new int[patternCount] : null;
         for (Iterator<NameEntry> entry = compiledExpression.namedBackrefIterator(); entry.hasNext();) {
-            captureConfig.add(new GrokCaptureConfig(entry.next()));
+            NameEntry nameEntry = entry.next();
+            if (matchIndexBackRefs != null) {
+                String name = new String(nameEntry.name, nameEntry.nameP, nameEntry.nameEnd - nameEntry.nameP, StandardCharsets.UTF_8);
+                if (name.startsWith(GrokPatternMerger.MATCH_INDEX_GROUP)) {
+                    int index = Integer.parseInt(name.substring(GrokPatternMerger.MATCH_INDEX_GROUP.length()));
+                    matchIndexBackRefs[index] = nameEntry.getBackRefs()[0];
+                    continue;
+                }
+            }
+            captureConfig.add(new GrokCaptureConfig(nameEntry));
         }
         this.captureConfig = unmodifiableList(captureConfig);
+        this.patternCount = patternCount;
+        if (collectMatchStats) {
+            this.matchCounts = new LongAdder[patternCount + 1];
+            this.matchTimesInNanos = new LongAdder[patternCount + 1];
+            for (int i = 0; i <= patternCount; i++) {
+                matchCounts[i] = new LongAdder();
+                matchTimesInNanos[i] = new LongAdder();
+            }
+        } else {
+            this.matchCounts = null;
+            this.matchTimesInNanos = null;
+        }
     }
 
     /**
@@ -259,9 +316,22 @@ public final class Grok {
      * @return a map containing field names and their respective coerced values that matched or null if the pattern didn't match
      */
     public Map<String, Object> captures(String text) {
+        return captures(text, index -> {});
+    }
+
+    /**
+     * Matches and returns any named captures.
+     *
+     * @param text the text to match and extract values from.
+     * @param matchedPattern called with the index of the pattern that matched, see {@link #matchIndex}
+     * @return a map containing field names and their respective coerced values that matched or null if the pattern didn't match
+     */
+    public Map<String, Object> captures(String text, IntConsumer matchedPattern) {
         byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
         GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(captureConfig);
-        if (match(utf8Bytes, 0, utf8Bytes.length, extracter)) {
+        int index = matchIndex(utf8Bytes, 0, utf8Bytes.length, extracter);
+        if (index >= 0) {
+            matchedPattern.accept(index);
             return extracter.result();
         }
         return null;
@@ -277,7 +347,22 @@ public final class Grok {
      * @throws RuntimeException if there was a timeout
      */
     public boolean match(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
+        return matchIndex(utf8Bytes, offset, length, extracter) >= 0;
+    }
+
+    /**
+     * Matches and collects any named captures, telling which pattern matched.
+     * @param utf8Bytes array containing the text to match against encoded in utf-8
+     * @param offset offset {@code utf8Bytes} of the start of the text
+     * @param length length of the text to match
+     * @param extracter collector for captures. {@link GrokCaptureConfig#nativeExtracter} can build these.
+     * @return the index of the pattern that matched, which is always {@code 0} unless this {@linkplain Grok} was built from a
+     *         list of patterns, or {@code -1} if there was no match
+     * @throws RuntimeException if there was a timeout
+     */
+    public int matchIndex(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
         Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
+        long startTime = matchCounts == null ? 0 : System.nanoTime();
         int result;
         try {
             matcherWatchdog.register(matcher);
@@ -285,15 +370,54 @@ public final class Grok {
         } finally {
             matcherWatchdog.unregister(matcher);
         }
+        long timeInNanos = matchCounts == null ? 0 : System.nanoTime() - startTime;
         if (result == Matcher.INTERRUPTED) {
             throw new RuntimeException("grok pattern matching was interrupted after [" +
                 matcherWatchdog.maxExecutionTimeInMillis() + "] ms");
         }
-        if (result == Matcher.FAILED) {
-            return false;
+        int index = -1;
+        if (result != Matcher.FAILED) {
+            Region region = matcher.getEagerRegion();
+            index = matchedPattern(region);
+            extracter.extract(utf8Bytes, offset, region);
+        }
+        if (matchCounts != null) {
+            matchCounts[index + 1].increment();
+            matchTimesInNanos[index + 1].add(timeInNanos);
+        }
+        return index;
+    }
+
+    private int matchedPattern(Region region) {
+        if (matchIndexBackRefs == null) {
+            return 0;
+        }
+        for (int i = 0; i < matchIndexBackRefs.length; i++) {
+            if (region.beg[matchIndexBackRefs[i]] >= 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("matched none of the patterns");
+    }
+
+    /**
+     * The number of patterns that this {@linkplain Grok} matches.
+     */
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * How often the pattern at {@code index} matched and how long matching took, or for {@code -1} how often and how long it
+     * took to find that no pattern matched. Counts texts matched through {@link #matchIndex} and the methods that delegate to it.
+     *
+     * @throws IllegalStateException if this {@linkplain Grok} wasn't built to collect match stats
+     */
+    public MatchStats matchStats(int index) {
+        if (matchCounts == null) {
+            throw new IllegalStateException("match stats are not collected");
         }
-        extracter.extract(utf8Bytes, offset, matcher.getEagerRegion());
-        return true;
+        return new MatchStats(matchCounts[index + 1].sum(), matchTimesInNanos[index + 1].sum());
     }
 
     /**
@@ -303,6 +427,33 @@ public final class Grok {
         return captureConfig;
     }
 
+    /**
+     * How often a pattern matched and the time that matching took.
+     */
+    public static final class MatchStats {
+        private final long count;
+        private final long timeInNanos;
+
+        MatchStats(long count, long timeInNanos) {
+            this.count = count;
+            this.timeInNanos = timeInNanos;
+        }
+
+        /**
+         * The number of texts that were matched.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The total time spent matching them, in nanoseconds.
+         */
+        public long timeInNanos() {
+            return timeInNanos;
+        }
+    }
+
     /**
      * Load built-in patterns.
      */
@@ -51,13 +51,33 @@ enum GrokCaptureType {
     INTEGER {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
-            return map.forInt(emit -> rawExtracter(backRefs, str -> emit.accept(Integer.parseInt(str))));
+            return map.forInt(emit -> bytesExtracter(backRefs, (utf8Bytes, offset, length) -> {
+                // up to 9 digits always fit in an int
+                if (length <= 9 || (length == 10 && utf8Bytes[offset] == '-')) {
+                    long value = parseLong(utf8Bytes, offset, length);
+                    if (value != NOT_A_NUMBER) {
+                        emit.accept((int) value);
+                        return;
+                    }
+                }
+                emit.accept(Integer.parseInt(new String(utf8Bytes, offset, length, StandardCharsets.UTF_8)));
+            }));
         }
     },
     LONG {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
-            return map.forLong(emit -> rawExtracter(backRefs, str -> emit.accept(Long.parseLong(str))));
+            return map.forLong(emit -> bytesExtracter(backRefs, (utf8Bytes, offset, length) -> {
+                // up to 18 digits always fit in a long
+                if (length <= 18 || (length == 19 && utf8Bytes[offset] == '-')) {
+                    long value = parseLong(utf8Bytes, offset, length);
+                    if (value != NOT_A_NUMBER) {
+                        emit.accept(value);
+                        return;
+                    }
+                }
+                emit.accept(Long.parseLong(new String(utf8Bytes, offset, length, StandardCharsets.UTF_8)));
+            }));
         }
     },
     FLOAT {
@@ -75,7 +95,15 @@ enum GrokCaptureType {
     BOOLEAN {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
-            return map.forBoolean(emit -> rawExtracter(backRefs, str -> emit.accept(Boolean.parseBoolean(str))));
+            return map.forBoolean(emit -> bytesExtracter(backRefs, (utf8Bytes, offset, length) -> {
+                // the same as Boolean#parseBoolean
+                boolean value = length == 4
+                    && (utf8Bytes[offset] | 0x20) == 't'
+                    && (utf8Bytes[offset + 1] | 0x20) == 'r'
+                    && (utf8Bytes[offset + 2] | 0x20) == 'u'
+                    && (utf8Bytes[offset + 3] | 0x20) == 'e';
+                emit.accept(value);
+            }));
         }
     };
 
@@ -100,7 +128,22 @@ enum GrokCaptureType {
         }
     }
 
+    /**
+     * Returned by {@link #parseLong} for text that it can't parse.
+     */
+    private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
     protected final GrokCaptureExtracter rawExtracter(int[] backRefs, Consumer<? super String> emit) {
+        return bytesExtracter(backRefs, (utf8Bytes, offset, length) ->
+            emit.accept(new String(utf8Bytes, offset, length, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Build an extracter that hands the bytes of the first value it captures
+     * to {@code emit}, so that types other than {@link String} can be parsed
+     * without building a {@link String} first.
+     */
+    protected final GrokCaptureExtracter bytesExtracter(int[] backRefs, BytesConsumer emit) {
         return new GrokCaptureExtracter() {
             @Override
             void extract(byte[] utf8Bytes, int offset, Region region) {
@@ -108,11 +151,44 @@ enum GrokCaptureType {
                     if (region.beg[number] >= 0) {
                         int matchOffset = offset + region.beg[number];
                         int matchLength = region.end[number] - region.beg[number];
-                        emit.accept(new String(utf8Bytes, matchOffset, matchLength, StandardCharsets.UTF_8));
+                        emit.accept(utf8Bytes, matchOffset, matchLength);
                         return; // Capture only the first value.
                     }
                 }
             }
         };
     }
+
+    /**
+     * Parse a decimal number made of an optional {@code -} and digits only,
+     * which the caller must make sure can't overflow. Anything else, like a
+     * leading {@code +}, returns {@link #NOT_A_NUMBER} and is left to the
+     * parse methods of the JDK so that errors are reported the same way.
+     */
+    private static long parseLong(byte[] utf8Bytes, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && utf8Bytes[i] == '-') {
+            negative = true;
+            i++;
+        }
+        if (i == end) {
+            return NOT_A_NUMBER;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = utf8Bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_A_NUMBER;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    @FunctionalInterface
+    interface BytesConsumer {
+        void accept(byte[] utf8Bytes, int offset, int length);
+    }
 }
@@ -0,0 +1,359 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Merges a list of grok patterns into a single expression that matches
+ * whatever any of the patterns matches, preferring the first of them like
+ * an alternation of all patterns would. Consecutive patterns that start
+ * with the same atoms that always match a single length share them, so
+ * that {@code \[%{IP:client}\]} followed by {@code \[%{WORD:host}\]}
+ * becomes {@code \[(?:%{IP:client}\]|%{WORD:host}\])} and the common start
+ * is matched once rather than once per pattern.
+ * <p>
+ * Atoms that can match more than one length, like references to other
+ * patterns, quantified atoms or groups, are never shared. Moving such an
+ * atom out of the alternation would change which match wins: with
+ * {@code %{GREEDYDATA:x}a} and {@code %{GREEDYDATA:x}b} on {@code ab} the
+ * alternation picks the first pattern with an empty {@code x} while
+ * {@code %{GREEDYDATA:x}(?:a|b)} picks the second with {@code x} set to
+ * {@code a}, because the shared atom backtracks through both branches
+ * before trying a shorter match.
+ * <p>
+ * Most grok patterns start with a reference like {@code %{IP:client}}, so
+ * they share nothing and merge into the plain alternation of all patterns.
+ * Only patterns with a literal start, like {@code type=USER_AUTH ...} and
+ * {@code type=USER_LOGIN ...}, match their common start once.
+ * <p>
+ * Every pattern ends with an empty named group, see
+ * {@link #MATCH_INDEX_GROUP}, that tells which of the patterns matched.
+ * <p>
+ * Patterns that can't safely be split into atoms, because they contain a
+ * top level alternation, set options for the rest of the pattern, or
+ * refer back to groups by number, are kept whole.
+ */
+final class GrokPatternMerger {
+
+    /**
+     * Prefix of the name of the empty group that ends each pattern, followed by the index of the pattern.
+     */
+    static final String MATCH_INDEX_GROUP = "_grok_match_index.";
+
+    private GrokPatternMerger() {}
+
+    /**
+     * Merge the given patterns, returning the only pattern unchanged.
+     */
+    static String merge(List<String> patterns) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("at least one pattern is required");
+        }
+        if (patterns.size() == 1) {
+            return patterns.get(0);
+        }
+        List<Alternative> alternatives = new ArrayList<>(patterns.size());
+        for (int i = 0; i < patterns.size(); i++) {
+            String pattern = patterns.get(i);
+            List<String> atoms = atoms(pattern);
+            if (atoms == null) {
+                atoms = Collections.singletonList("(?:" + pattern + ")");
+            }
+            alternatives.add(new Alternative(i, atoms));
+        }
+        StringBuilder merged = new StringBuilder();
+        merge(alternatives, 0, merged);
+        return merged.toString();
+    }
+
+    /**
+     * Append the alternation of the given alternatives, all of which share their first {@code depth} atoms.
+     */
+    private static void merge(List<Alternative> alternatives, int depth, StringBuilder out) {
+        List<String> branches = new ArrayList<>();
+        int i = 0;
+        while (i < alternatives.size()) {
+            Alternative alternative = alternatives.get(i);
+            if (alternative.atoms.size() == depth) {
+                branches.add(matchIndexGroup(alternative.index));
+                i++;
+                continue;
+            }
+            String atom = alternative.atoms.get(depth);
+            int end = i + 1;
+            // only consecutive patterns are merged so that the first pattern that matches still wins
+            while (isSingleLength(atom)
+                && end < alternatives.size()
+                && alternatives.get(end).atoms.size() > depth
+                && alternatives.get(end).atoms.get(depth).equals(atom)) {
+                end++;
+            }
+            StringBuilder branch = new StringBuilder();
+            if (end == i + 1) {
+                for (String rest : alternative.atoms.subList(depth, alternative.atoms.size())) {
+                    branch.append(rest);
+                }
+                branch.append(matchIndexGroup(alternative.index));
+            } else {
+                branch.append(atom);
+                merge(alternatives.subList(i, end), depth + 1, branch);
+            }
+            branches.add(branch.toString());
+            i = end;
+        }
+        if (branches.size() == 1) {
+            out.append(branches.get(0));
+        } else {
+            out.append("(?:").append(String.join("|", branches)).append(')');
+        }
+    }
+
+    /**
+     * Whether the atom always matches the same number of characters, so that it can match in one way only where it starts: a
+     * literal, an escape or a character class, each without a quantifier or with a fixed number of repetitions.
+     */
+    static boolean isSingleLength(String atom) {
+        int end;
+        switch (atom.charAt(0)) {
+            case '%':
+                if (atom.startsWith("%{")) {
+                    return false;
+                }
+                end = 1;
+                break;
+            case '(':
+                return false;
+            case '\\':
+                // line breaks and grapheme clusters can be more than one character
+                if (atom.length() < 2 || atom.charAt(1) == 'R' || atom.charAt(1) == 'X') {
+                    return false;
+                }
+                end = escapeEnd(atom, 0);
+                break;
+            case '[':
+                end = classEnd(atom, 0);
+                break;
+            default:
+                end = atomEnd(atom, 0);
+                break;
+        }
+        if (end < 0) {
+            return false;
+        }
+        if (end == atom.length()) {
+            return true;
+        }
+        // a fixed number of repetitions like {3}, which may be lazy or possessive
+        if (atom.charAt(end) != '{') {
+            return false;
+        }
+        int close = atom.indexOf('}', end);
+        if (close < 0 || close == end + 1) {
+            return false;
+        }
+        for (int i = end + 1; i < close; i++) {
+            if (atom.charAt(i) < '0' || atom.charAt(i) > '9') {
+                return false;
+            }
+        }
+        if (close + 1 == atom.length()) {
+            return true;
+        }
+        return close + 2 == atom.length() && (atom.charAt(close + 1) == '?' || atom.charAt(close + 1) == '+');
+    }
+
+    private static String matchIndexGroup(int index) {
+        return "(?<" + MATCH_INDEX_GROUP + index + ">)";
+    }
+
+    /**
+     * Split a pattern into atoms that can be matched one after the other:
+     * references to other patterns, escapes, character classes, groups and
+     * single characters, each with the quantifier that follows it.
+     *
+     * @return the atoms or {@code null} if the pattern can't be split
+     */
+    static List<String> atoms(String pattern) {
+        List<String> atoms = new ArrayList<>();
+        int i = 0;
+        while (i < pattern.length()) {
+            int end = atomEnd(pattern, i);
+            if (end < 0) {
+                return null;
+            }
+            end = quantifierEnd(pattern, end);
+            atoms.add(pattern.substring(i, end));
+            i = end;
+        }
+        return atoms;
+    }
+
+    /**
+     * The end of the atom that starts at {@code start} or {@code -1} if it can't be an atom on its own.
+     */
+    private static int atomEnd(String pattern, int start) {
+        char c = pattern.charAt(start);
+        switch (c) {
+            case '%':
+                if (pattern.startsWith("%{", start)) {
+                    int end = pattern.indexOf('}', start);
+                    return end < 0 ? -1 : end + 1;
+                }
+                return start + 1;
+            case '\\':
+                return escapeEnd(pattern, start);
+            case '[':
+                return classEnd(pattern, start);
+            case '(':
+                return groupEnd(pattern, start);
+            case ')':
+            case '|':
+                return -1;
+            default:
+                return start + Character.charCount(pattern.codePointAt(start));
+        }
+    }
+
+    private static int escapeEnd(String pattern, int start) {
+        if (start + 1 >= pattern.length()) {
+            return -1;
+        }
+        char escaped = pattern.charAt(start + 1);
+        // back references, subexpression calls and escapes longer than a single character
+        if (Character.isDigit(escaped) || "kgKxuopPcCMQE".indexOf(escaped) >= 0) {
+            return -1;
+        }
+        return start + 1 + Character.charCount(pattern.codePointAt(start + 1));
+    }
+
+    private static int classEnd(String pattern, int start) {
+        int i = start + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '^') {
+            i++;
+        }
+        if (i < pattern.length() && pattern.charAt(i) == ']') {
+            // a leading ] is a literal
+            i++;
+        }
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '[') {
+                int end = classEnd(pattern, i);
+                if (end < 0) {
+                    return -1;
+                }
+                i = end;
+            } else if (c == ']') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static int groupEnd(String pattern, int start) {
+        if (isOptionSetting(pattern, start)) {
+            return -1;
+        }
+        int i = start + 1;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '[') {
+                int end = classEnd(pattern, i);
+                if (end < 0) {
+                    return -1;
+                }
+                i = end;
+            } else if (c == '(') {
+                int end = groupEnd(pattern, i);
+                if (end < 0) {
+                    return -1;
+                }
+                i = end;
+            } else if (c == ')') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the group at {@code start} is like {@code (?i)}, which sets options up to the end of the enclosing group.
+     */
+    private static boolean isOptionSetting(String pattern, int start) {
+        if (pattern.startsWith("(?", start) == false) {
+            return false;
+        }
+        for (int i = start + 2; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == ')') {
+                return i > start + 2;
+            }
+            if (Character.isLetter(c) == false && c != '-') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static int quantifierEnd(String pattern, int start) {
+        int i = start;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '+' || c == '?') {
+                i++;
+            } else if (c == '{' && isInterval(pattern, i)) {
+                i = pattern.indexOf('}', i) + 1;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Whether the {@code {} at {@code start} opens an interval like {@code {2,5}} rather than being a literal.
+     */
+    private static boolean isInterval(String pattern, int start) {
+        int end = pattern.indexOf('}', start);
+        if (end < 0 || end == start + 1) {
+            return false;
+        }
+        boolean comma = false;
+        for (int i = start + 1; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c == ',' && comma == false) {
+                comma = true;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Alternative {
+        private final int index;
+        private final List<String> atoms;
+
+        Alternative(int index, List<String> atoms) {
+            this.index = index;
+            this.atoms = atoms;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class GrokPatternMergerTests extends OpenSearchTestCase {
+
+    public void testAtoms() {
+        assertThat(GrokPatternMerger.atoms("%{IP:client} \\[%{DATA}\\]"),
+            contains("%{IP:client}", " ", "\\[", "%{DATA}", "\\]"));
+        assertThat(GrokPatternMerger.atoms("a+b*?c{2,3}[^]x]?(?:d|e)+"),
+            contains("a+", "b*?", "c{2,3}", "[^]x]?", "(?:d|e)+"));
+        assertThat(GrokPatternMerger.atoms("(?<year>[0-9]{4})-(?:[a-z(]|\\))x{"),
+            contains("(?<year>[0-9]{4})", "-", "(?:[a-z(]|\\))", "x", "{"));
+    }
+
+    public void testAtomsOfPatternsThatCannotBeSplit() {
+        assertThat(GrokPatternMerger.atoms("a|b"), nullValue());
+        assertThat(GrokPatternMerger.atoms("(?i)abc"), nullValue());
+        assertThat(GrokPatternMerger.atoms("(a)\\1"), nullValue());
+        assertThat(GrokPatternMerger.atoms("(?<a>x)\\k<a>"), nullValue());
+        assertThat(GrokPatternMerger.atoms("\\x41"), nullValue());
+        assertThat(GrokPatternMerger.atoms("(abc"), nullValue());
+        assertThat(GrokPatternMerger.atoms("[abc"), nullValue());
+    }
+
+    public void testMerge() {
+        assertThat(GrokPatternMerger.merge(Collections.singletonList("foo|bar")), equalTo("foo|bar"));
+        assertThat(GrokPatternMerger.merge(Arrays.asList("foo", "bar")),
+            equalTo("(?:foo(?<_grok_match_index.0>)|bar(?<_grok_match_index.1>))"));
+        assertThat(GrokPatternMerger.merge(Arrays.asList("\\[%{A}\\] %{B}", "\\[%{A}\\] %{C}", "\\[%{D}")),
+            equalTo("\\[(?:%{A}\\] %{B}(?<_grok_match_index.0>)|%{A}\\] %{C}(?<_grok_match_index.1>)|%{D}(?<_grok_match_index.2>))"));
+        // atoms that can match more than one length are not shared, or a later pattern could win by backtracking into them
+        assertThat(GrokPatternMerger.merge(Arrays.asList("%{A} %{B}", "%{A} %{C}")),
+            equalTo("(?:%{A} %{B}(?<_grok_match_index.0>)|%{A} %{C}(?<_grok_match_index.1>))"));
+        assertThat(GrokPatternMerger.merge(Arrays.asList("[0-9]{2}a+b", "[0-9]{2}a+c")),
+            equalTo("[0-9]{2}(?:a+b(?<_grok_match_index.0>)|a+c(?<_grok_match_index.1>))"));
+        // only patterns next to each other are merged, so that the first pattern that matches still wins
+        assertThat(GrokPatternMerger.merge(Arrays.asList("ab", "c", "ad")),
+            equalTo("(?:ab(?<_grok_match_index.0>)|c(?<_grok_match_index.1>)|ad(?<_grok_match_index.2>))"));
+        assertThat(GrokPatternMerger.merge(Arrays.asList("a|b", "a|c")),
+            equalTo("(?:(?:a|b)(?<_grok_match_index.0>)|(?:a|c)(?<_grok_match_index.1>))"));
+        assertThat(GrokPatternMerger.merge(Arrays.asList("ab", "ab")),
+            equalTo("ab(?:(?<_grok_match_index.0>)|(?<_grok_match_index.1>))"));
+    }
+
+    public void testIsSingleLength() {
+        for (String atom : Arrays.asList("a", "%", ".", "\\[", "\\d", "\\b", "[^]x]", "[a-z]{3}", "x{2}?", "\\s{4}+")) {
+            assertTrue(atom, GrokPatternMerger.isSingleLength(atom));
+        }
+        for (String atom : Arrays.asList("%{A}", "%{A:a}", "a?", "a*", "[a-z]+", "x{2,3}", "x{2,}", "(?:ab)", "(a)", "\\R", "\\X")) {
+            assertFalse(atom, GrokPatternMerger.isSingleLength(atom));
+        }
+    }
+
+    public void testMergeNothing() {
+        expectThrows(IllegalArgumentException.class, () -> GrokPatternMerger.merge(Collections.emptyList()));
+    }
+}
@@ -59,6 +59,7 @@ import static org.opensearch.grok.GrokCaptureType.LONG;
 import static org.opensearch.grok.GrokCaptureType.STRING;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -598,6 +599,82 @@ public class GrokTests extends OpenSearchTestCase {
         assertThat(grok.captures("12"), equalTo(expected));
     }
 
+    public void testMultiplePatterns() {
+        Map<String, String> bank = new HashMap<>();
+        bank.put("ONE", "1");
+        bank.put("TWO", "2");
+        bank.put("THREE", "3");
+        Grok grok = new Grok(bank, Arrays.asList("%{ONE:first}-%{TWO:second}", "%{ONE:first}-%{THREE:third}", "%{TWO:second}"),
+            MatcherWatchdog.noop(), true, logger::warn);
+        assertThat(grok.patternCount(), equalTo(3));
+        assertCaptureConfig(grok, org.opensearch.common.collect.Map.of("first", STRING, "second", STRING, "third", STRING));
+
+        int[] matchIndex = new int[] { -1 };
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("first", "1");
+        expected.put("third", "3");
+        assertThat(grok.captures("1-3", index -> matchIndex[0] = index), equalTo(expected));
+        assertThat(matchIndex[0], equalTo(1));
+
+        assertThat(grok.captures("1-2"), equalTo(org.opensearch.common.collect.Map.of("first", "1", "second", "2")));
+        assertThat(grok.captures("3-2"), equalTo(org.opensearch.common.collect.Map.of("second", "2")));
+        assertThat(grok.captures("3-3"), nullValue());
+        assertThat(grok.captures("1-1"), nullValue());
+
+        byte[] utf8 = "x1-2".getBytes(StandardCharsets.UTF_8);
+        assertThat(grok.matchIndex(utf8, 0, utf8.length, new GrokCaptureExtracter.MapExtracter(grok.captureConfig())), equalTo(0));
+
+        assertThat(grok.matchStats(0).count(), equalTo(2L));
+        assertThat(grok.matchStats(1).count(), equalTo(1L));
+        assertThat(grok.matchStats(2).count(), equalTo(1L));
+        assertThat(grok.matchStats(-1).count(), equalTo(2L));
+        for (int i = -1; i < grok.patternCount(); i++) {
+            assertThat(grok.matchStats(i).timeInNanos(), greaterThanOrEqualTo(0L));
+        }
+    }
+
+    public void testMultiplePatternsWithVariableLengthStart() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, Arrays.asList("%{GREEDYDATA:x}a", "%{GREEDYDATA:x}b"),
+            MatcherWatchdog.noop(), logger::warn);
+        int[] matchIndex = new int[] { -1 };
+        // the first pattern wins with an empty capture, like it would if the patterns were tried one after the other
+        assertThat(grok.captures("ab", index -> matchIndex[0] = index), equalTo(org.opensearch.common.collect.Map.of("x", "")));
+        assertThat(matchIndex[0], equalTo(0));
+        assertThat(grok.captures("bb", index -> matchIndex[0] = index), equalTo(org.opensearch.common.collect.Map.of("x", "b")));
+        assertThat(matchIndex[0], equalTo(1));
+    }
+
+    public void testSinglePatternInList() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, Collections.singletonList("%{NUMBER:number}|%{WORD:word}"),
+            MatcherWatchdog.noop(), logger::warn);
+        assertThat(grok.patternCount(), equalTo(1));
+        int[] matchIndex = new int[] { -1 };
+        assertThat(grok.captures("42", index -> matchIndex[0] = index), equalTo(org.opensearch.common.collect.Map.of("number", "42")));
+        assertThat(matchIndex[0], equalTo(0));
+        // match stats are only collected if asked for
+        expectThrows(IllegalStateException.class, () -> grok.matchStats(0));
+    }
+
+    public void testIntegerCapturesFromBytes() {
+        Map<String, String> bank = new HashMap<>();
+        bank.put("INT", "[+-]?[0-9]+");
+        Grok grok = new Grok(bank, "%{INT:i:int} %{INT:l:long}", logger::warn);
+        int i = randomInt();
+        long l = randomLong();
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("i", i);
+        expected.put("l", l);
+        assertThat(grok.captures(i + " " + l), equalTo(expected));
+
+        // a leading + and leading zeros are parsed like the JDK does
+        expected.put("i", 7);
+        expected.put("l", -12L);
+        assertThat(grok.captures("+7 -0000000000000000000012"), equalTo(expected));
+
+        expectThrows(NumberFormatException.class, () -> grok.captures("2147483648 1"));
+        expectThrows(NumberFormatException.class, () -> grok.captures("1 9223372036854775808"));
+    }
+
     public void testExponentialExpressions() {
         AtomicBoolean run = new AtomicBoolean(true); // to avoid a lingering thread when test has completed
 
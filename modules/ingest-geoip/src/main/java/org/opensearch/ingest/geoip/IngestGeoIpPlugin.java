@@ -37,13 +37,15 @@ import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.AbstractResponse;
+import com.maxmind.geoip2.model.AsnResponse;
+import com.maxmind.geoip2.model.CountryResponse;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
-import org.opensearch.common.cache.Cache;
-import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.ingest.EnrichmentCache;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
@@ -65,8 +67,12 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable {
+    /**
+     * The number of lookups to cache, which is deprecated as lookups are now cached in the node's {@link EnrichmentCache}, which is
+     * bounded by {@link EnrichmentCache#CACHE_SIZE_SETTING}. Setting it to {@code 0} still disables the caching of lookups.
+     */
     public static final Setting<Long> CACHE_SIZE =
-        Setting.longSetting("ingest.geoip.cache_size", 1000, 0, Setting.Property.NodeScope);
+        Setting.longSetting("ingest.geoip.cache_size", 1000, 0, Setting.Property.NodeScope, Setting.Property.Deprecated);
 
     static String[] DEFAULT_DATABASE_FILENAMES = new String[]{"GeoLite2-ASN.mmdb", "GeoLite2-City.mmdb", "GeoLite2-Country.mmdb"};
 
@@ -90,7 +96,8 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(cacheSize)));
+        GeoIpCache cache = new GeoIpCache(cacheSize == 0 ? null : parameters.ingestService.getEnrichmentCache());
+        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, cache));
     }
 
     /*
@@ -178,40 +185,59 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
     }
 
     /**
-     * The in-memory cache for the geoip data. There should only be 1 instance of this class..
+     * The in-memory cache for the geoip data, a namespace of the node's {@link EnrichmentCache}. There should only be 1 instance of this
+     * class.
      * This cache differs from the maxmind's {@link NodeCache} such that this cache stores the deserialized Json objects to avoid the
      * cost of deserialization for each lookup (cached or not). This comes at slight expense of higher memory usage, but significant
      * reduction of CPU usage.
      */
     static class GeoIpCache {
-        private final Cache<CacheKey<?>, AbstractResponse> cache;
+        static final String NAMESPACE = "geoip";
+
+        /**
+         * Rough estimates of the size of the responses on the heap, which hold the names of places in several languages.
+         */
+        private static final long CITY_RESPONSE_SIZE_IN_BYTES = 8 * 1024;
+        private static final long COUNTRY_RESPONSE_SIZE_IN_BYTES = 4 * 1024;
+        private static final long ASN_RESPONSE_SIZE_IN_BYTES = 512;
+        private static final long KEY_SIZE_IN_BYTES = 128;
+
+        private final EnrichmentCache.Namespace<CacheKey<?>, AbstractResponse> cache;
 
+        /**
+         * @param enrichmentCache the cache to register the namespace of the geoip data in, or {@code null} to not cache lookups
+         */
         //package private for testing
-        GeoIpCache(long maxSize) {
-            if (maxSize < 0) {
-                throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
-            }
-            this.cache = CacheBuilder.<CacheKey<?>, AbstractResponse>builder().setMaximumWeight(maxSize).build();
+        GeoIpCache(@Nullable EnrichmentCache enrichmentCache) {
+            this.cache = enrichmentCache == null
+                ? null
+                : enrichmentCache.registerNamespace(NAMESPACE, (key, response) -> sizeInBytes(key.responseType));
         }
 
         <T extends AbstractResponse> T putIfAbsent(InetAddress ip, Class<T> responseType,
                                                    Function<InetAddress, AbstractResponse> retrieveFunction) {
-
-            //can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            //intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
-            if (response == null) {
-                response = retrieveFunction.apply(ip);
-                cache.put(cacheKey, response);
+            if (cache == null) {
+                return responseType.cast(retrieveFunction.apply(ip));
             }
-            return responseType.cast(response);
+            // the lookup runs in the calling thread, with the elevated permissions for the jackson
+            return responseType.cast(cache.computeIfAbsent(new CacheKey<>(ip, responseType), key -> retrieveFunction.apply(ip)));
         }
 
         //only useful for testing
         <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+            return cache == null ? null : responseType.cast(cache.get(new CacheKey<>(ip, responseType)));
+        }
+
+        static long sizeInBytes(Class<? extends AbstractResponse> responseType) {
+            final long responseSize;
+            if (responseType == AsnResponse.class) {
+                responseSize = ASN_RESPONSE_SIZE_IN_BYTES;
+            } else if (responseType == CountryResponse.class) {
+                responseSize = COUNTRY_RESPONSE_SIZE_IN_BYTES;
+            } else {
+                responseSize = CITY_RESPONSE_SIZE_IN_BYTES;
+            }
+            return KEY_SIZE_IN_BYTES + responseSize;
         }
 
          /**
@@ -35,7 +35,11 @@ package org.opensearch.ingest.geoip;
 import com.carrotsearch.randomizedtesting.generators.RandomPicks;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Randomness;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.index.VersionType;
+import org.opensearch.ingest.EnrichmentCache;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
@@ -85,7 +89,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildDefaults() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
@@ -101,7 +105,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testSetIgnoreMissing() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
@@ -118,7 +122,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testCountryBuildDefaults() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
@@ -136,7 +140,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testAsnBuildDefaults() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
@@ -154,7 +158,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildTargetField() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
         config.put("target_field", "_field");
@@ -165,7 +169,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildDbFile() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
         config.put("database_file", "GeoLite2-Country.mmdb");
@@ -178,7 +182,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildWithCountryDbAndAsnFields() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
         config.put("database_file", "GeoLite2-Country.mmdb");
@@ -192,7 +196,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildWithAsnDbAndCityFields() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
         config.put("database_file", "GeoLite2-ASN.mmdb");
@@ -206,7 +210,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildNonExistingDbFile() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Map<String, Object> config = new HashMap<>();
         config.put("field", "_field");
@@ -216,7 +220,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildFields() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Set<GeoIpProcessor.Property> properties = EnumSet.noneOf(GeoIpProcessor.Property.class);
         List<String> fieldNames = new ArrayList<>();
@@ -240,7 +244,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
     }
 
     public void testBuildIllegalFieldOption() throws Exception {
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
 
         Map<String, Object> config1 = new HashMap<>();
         config1.put("field", "_field");
@@ -267,7 +271,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
         // database readers used at class level are reused between tests. (we want to keep that otherwise running this
         // test will take roughly 4 times more time)
         Map<String, DatabaseReaderLazyLoader> databaseReaders = IngestGeoIpPlugin.loadDatabaseReaders(geoIpDir, geoIpConfigDir);
-        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
         for (DatabaseReaderLazyLoader lazyLoader : databaseReaders.values()) {
             assertNull(lazyLoader.databaseReader.get());
         }
@@ -324,7 +328,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
          * level are reused between tests. (we want to keep that otherwise running this test will take roughly 4 times more time).
          */
         final Map<String, DatabaseReaderLazyLoader> databaseReaders = IngestGeoIpPlugin.loadDatabaseReaders(geoIpDir, geoIpConfigDir);
-        final GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(1000));
+        final GeoIpProcessor.Factory factory = new GeoIpProcessor.Factory(databaseReaders, newCache());
         for (DatabaseReaderLazyLoader lazyLoader : databaseReaders.values()) {
             assertNull(lazyLoader.databaseReader.get());
         }
@@ -384,4 +388,7 @@ public class GeoIpProcessorFactoryTests extends OpenSearchTestCase {
         }
     }
 
+    private static GeoIpCache newCache() {
+        return new GeoIpCache(new EnrichmentCache(new ByteSizeValue(1, ByteSizeUnit.MB), new NoopCircuitBreaker("test")));
+    }
 }
@@ -33,7 +33,12 @@
 package org.opensearch.ingest.geoip;
 
 import com.maxmind.geoip2.model.AbstractResponse;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.network.InetAddresses;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.ingest.EnrichmentCache;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -42,7 +47,10 @@ import static org.mockito.Mockito.mock;
 public class IngestGeoIpPluginTests extends OpenSearchTestCase {
 
     public void testCachesAndEvictsResults() {
-        GeoIpCache cache = new GeoIpCache(1);
+        // room for a single response
+        EnrichmentCache enrichmentCache = new EnrichmentCache(new ByteSizeValue(GeoIpCache.sizeInBytes(AbstractResponse.class)),
+            new NoopCircuitBreaker("test"));
+        GeoIpCache cache = new GeoIpCache(enrichmentCache);
         AbstractResponse response1 = mock(AbstractResponse.class);
         AbstractResponse response2 = mock(AbstractResponse.class);
 
@@ -60,18 +68,37 @@ public class IngestGeoIpPluginTests extends OpenSearchTestCase {
         assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.2"), AbstractResponse.class));
 
         assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+
+        IngestStats.CacheStats stats = enrichmentCache.stats().get(0);
+        assertEquals(GeoIpCache.NAMESPACE, stats.getNamespace());
+        assertEquals(1, stats.getCount());
+        assertEquals(1, stats.getEvictions());
+    }
+
+    public void testSharesTheEnrichmentCacheWithOtherProcessors() {
+        EnrichmentCache enrichmentCache = new EnrichmentCache(new ByteSizeValue(1, ByteSizeUnit.MB), new NoopCircuitBreaker("test"));
+        EnrichmentCache.Namespace<String, String> other = enrichmentCache.registerNamespace("other", (key, value) -> 1);
+        GeoIpCache cache = new GeoIpCache(enrichmentCache);
+        AbstractResponse response = mock(AbstractResponse.class);
+        other.put("127.0.0.1", "other");
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response));
+        assertEquals("other", other.get("127.0.0.1"));
+        assertSame(response, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        expectThrows(IllegalArgumentException.class, () -> new GeoIpCache(enrichmentCache));
     }
 
     public void testThrowsFunctionsException() {
-        GeoIpCache cache = new GeoIpCache(1);
+        GeoIpCache cache = new GeoIpCache(new EnrichmentCache(new ByteSizeValue(1, ByteSizeUnit.MB), new NoopCircuitBreaker("test")));
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class,
             () -> cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class,
                 ip -> { throw new IllegalArgumentException("bad"); }));
         assertEquals("bad", ex.getMessage());
     }
 
-    public void testInvalidInit() {
-        IllegalArgumentException ex = expectThrows(IllegalArgumentException.class, () ->  new GeoIpCache(-1));
-        assertEquals("geoip max cache size must be 0 or greater", ex.getMessage());
+    public void testNoCache() {
+        GeoIpCache cache = new GeoIpCache(null);
+        AbstractResponse response = mock(AbstractResponse.class);
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response));
+        assertNull(cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
     }
 }
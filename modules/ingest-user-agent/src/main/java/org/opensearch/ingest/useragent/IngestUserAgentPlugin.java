@@ -33,6 +33,7 @@
 package org.opensearch.ingest.useragent;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.ingest.EnrichmentCache;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
@@ -51,8 +52,12 @@ import java.util.stream.Stream;
 
 public class IngestUserAgentPlugin extends Plugin implements IngestPlugin {
 
+    /**
+     * The number of user agents to cache, which is deprecated as user agents are now cached in the node's {@link EnrichmentCache}, which
+     * is bounded by {@link EnrichmentCache#CACHE_SIZE_SETTING}. Setting it to {@code 0} still disables the caching of user agents.
+     */
     private final Setting<Long> CACHE_SIZE_SETTING = Setting.longSetting("ingest.user_agent.cache_size", 1000, 0,
-            Setting.Property.NodeScope);
+            Setting.Property.NodeScope, Setting.Property.Deprecated);
 
     static final String DEFAULT_PARSER_NAME = "_default_";
 
@@ -68,7 +73,8 @@ public class IngestUserAgentPlugin extends Plugin implements IngestPlugin {
         long cacheSize = CACHE_SIZE_SETTING.get(parameters.env.settings());
         Map<String, UserAgentParser> userAgentParsers;
         try {
-            userAgentParsers = createUserAgentParsers(userAgentConfigDirectory, new UserAgentCache(cacheSize));
+            UserAgentCache cache = new UserAgentCache(cacheSize == 0 ? null : parameters.ingestService.getEnrichmentCache());
+            userAgentParsers = createUserAgentParsers(userAgentConfigDirectory, cache);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
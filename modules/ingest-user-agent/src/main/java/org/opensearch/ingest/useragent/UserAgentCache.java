@@ -32,25 +32,62 @@
 
 package org.opensearch.ingest.useragent;
 
-import org.opensearch.common.cache.Cache;
-import org.opensearch.common.cache.CacheBuilder;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+import org.opensearch.ingest.EnrichmentCache;
 import org.opensearch.ingest.useragent.UserAgentParser.Details;
+import org.opensearch.ingest.useragent.UserAgentParser.VersionedName;
 
 import java.util.Objects;
 
+/**
+ * The parsed user agents, a namespace of the node's {@link EnrichmentCache} that all parsers share.
+ */
 class UserAgentCache {
-    private final Cache<CompositeCacheKey, Details> cache;
+    static final String NAMESPACE = "user_agent";
+
+    private static final long KEY_SIZE = RamUsageEstimator.shallowSizeOfInstance(CompositeCacheKey.class);
+    private static final long DETAILS_SIZE = RamUsageEstimator.shallowSizeOfInstance(Details.class);
+    private static final long VERSIONED_NAME_SIZE = RamUsageEstimator.shallowSizeOfInstance(VersionedName.class);
+    private static final long STRING_SIZE =
+        RamUsageEstimator.shallowSizeOfInstance(String.class) + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER;
+
+    private final EnrichmentCache.Namespace<CompositeCacheKey, Details> cache;
 
-    UserAgentCache(long cacheSize) {
-        cache = CacheBuilder.<CompositeCacheKey, Details>builder().setMaximumWeight(cacheSize).build();
+    /**
+     * @param enrichmentCache the cache to register the namespace of the user agents in, or {@code null} to not cache them
+     */
+    UserAgentCache(@Nullable EnrichmentCache enrichmentCache) {
+        cache = enrichmentCache == null ? null : enrichmentCache.registerNamespace(NAMESPACE, UserAgentCache::sizeInBytes);
     }
 
     public Details get(String parserName, String userAgent) {
-        return cache.get(new CompositeCacheKey(parserName, userAgent));
+        return cache == null ? null : cache.get(new CompositeCacheKey(parserName, userAgent));
     }
 
     public void put(String parserName, String userAgent, Details details) {
-        cache.put(new CompositeCacheKey(parserName, userAgent), details);
+        if (cache != null) {
+            cache.put(new CompositeCacheKey(parserName, userAgent), details);
+        }
+    }
+
+    private static long sizeInBytes(CompositeCacheKey key, Details details) {
+        // the parser name is shared by all keys of a parser
+        return KEY_SIZE + sizeInBytes(key.userAgent) + DETAILS_SIZE
+            + sizeInBytes(details.userAgent) + sizeInBytes(details.operatingSystem) + sizeInBytes(details.device);
+    }
+
+    private static long sizeInBytes(@Nullable VersionedName name) {
+        if (name == null) {
+            return 0;
+        }
+        return VERSIONED_NAME_SIZE + sizeInBytes(name.name) + sizeInBytes(name.major) + sizeInBytes(name.minor)
+            + sizeInBytes(name.patch) + sizeInBytes(name.build);
+    }
+
+    private static long sizeInBytes(@Nullable String string) {
+        // an upper bound as strings that only hold latin-1 characters take a single byte per character
+        return string == null ? 0 : STRING_SIZE + 2L * string.length();
     }
 
     private static final class CompositeCacheKey {
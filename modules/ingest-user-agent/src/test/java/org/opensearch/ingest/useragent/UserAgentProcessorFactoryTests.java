@@ -34,6 +34,10 @@ package org.opensearch.ingest.useragent;
 
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Strings;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.ingest.EnrichmentCache;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.BeforeClass;
 
@@ -88,7 +92,8 @@ public class UserAgentProcessorFactoryTests extends OpenSearchTestCase {
             }
         }
 
-        userAgentParsers = IngestUserAgentPlugin.createUserAgentParsers(userAgentConfigDir, new UserAgentCache(1000));
+        userAgentParsers = IngestUserAgentPlugin.createUserAgentParsers(userAgentConfigDir, new UserAgentCache(
+            new EnrichmentCache(new ByteSizeValue(1, ByteSizeUnit.MB), new NoopCircuitBreaker("test"))));
     }
 
     public void testBuildDefaults() throws Exception {
@@ -32,6 +32,10 @@
 
 package org.opensearch.ingest.useragent;
 
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.ingest.EnrichmentCache;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.test.OpenSearchTestCase;
@@ -58,7 +62,8 @@ public class UserAgentProcessorTests extends OpenSearchTestCase {
         InputStream regexStream = UserAgentProcessor.class.getResourceAsStream("/regexes.yml");
         assertNotNull(regexStream);
 
-        UserAgentParser parser = new UserAgentParser(randomAlphaOfLength(10), regexStream, new UserAgentCache(1000));
+        UserAgentParser parser = new UserAgentParser(randomAlphaOfLength(10), regexStream, new UserAgentCache(
+            new EnrichmentCache(new ByteSizeValue(1, ByteSizeUnit.MB), new NoopCircuitBreaker("test"))));
 
         processor = new UserAgentProcessor(randomAlphaOfLength(10), null, "source_field", "target_field", parser,
                 EnumSet.allOf(UserAgentProcessor.Property.class), false, true);
@@ -53,6 +53,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.IndexFieldMapper;
@@ -86,6 +87,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
@@ -133,7 +135,13 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
      * {@link RequestWrapper} completely.
      */
     private final BiFunction<RequestWrapper<?>, ScrollableHitSource.Hit, RequestWrapper<?>> scriptApplier;
-    private int lastBatchSize;
+    private final AdaptiveBulkSize bulkSize;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile int lastBatchSize;
+    /**
+     * The batch that is fetched from the scroll while the bulk requests of the previous batch are in flight, if any.
+     */
+    private volatile PrefetchedBatch prefetchedBatch;
 
     AbstractAsyncBulkByScrollAction(BulkByScrollTask task, boolean needsSourceDocumentVersions,
                                     boolean needsSourceDocumentSeqNoAndPrimaryTerm, Logger logger, ParentTaskAssigningClient client,
@@ -152,8 +160,13 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         this.threadPool = threadPool;
         this.mainRequest = mainRequest;
         this.listener = listener;
+        int scrollSize = mainRequest.getSearchRequest().source().size();
+        bulkSize = new AdaptiveBulkSize(scrollSize > 0 ? scrollSize : AbstractBulkByScrollRequest.DEFAULT_SCROLL_SIZE);
         BackoffPolicy backoffPolicy = buildBackoffPolicy();
-        bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, worker::countBulkRetry), threadPool);
+        bulkRetry = new Retry(BackoffPolicy.wrap(backoffPolicy, () -> {
+            worker.countBulkRetry();
+            bulkSize.onRejection();
+        }), threadPool);
         scrollSource = buildScrollableResultSource(backoffPolicy);
         scriptApplier = Objects.requireNonNull(buildScriptApplier(), "script applier must not be null");
         /*
@@ -234,7 +247,7 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
 
     protected ScrollableHitSource buildScrollableResultSource(BackoffPolicy backoffPolicy) {
         return new ClientScrollableHitSource(logger, backoffPolicy, threadPool, worker::countSearchRetry,
-            this::onScrollResponse, this::finishHim, client,
+            this::onScrollResponse, this::onScrollFailure, client,
                 mainRequest.getSearchRequest());
     }
 
@@ -265,11 +278,32 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
     }
 
     void onScrollResponse(ScrollableHitSource.AsyncResponse asyncResponse) {
+        PrefetchedBatch prefetched = prefetchedBatch;
+        if (prefetched != null) {
+            prefetchedBatch = null;
+            // wait for the bulk requests of the previous batch before processing this one
+            prefetched.onScrollResponse(() -> onScrollResponse(System.nanoTime(), this.lastBatchSize, asyncResponse));
+            return;
+        }
         // lastBatchStartTime is essentially unused (see WorkerBulkByScrollTaskState.throttleWaitTime. Leaving it for now, since it seems
         // like a bug?
         onScrollResponse(System.nanoTime(), this.lastBatchSize, asyncResponse);
     }
 
+    /**
+     * Called when fetching a scroll batch failed.
+     */
+    void onScrollFailure(Exception e) {
+        PrefetchedBatch prefetched = prefetchedBatch;
+        if (prefetched != null) {
+            prefetchedBatch = null;
+            // the bulk requests of the previous batch may still be in flight, and must be done before the request finishes
+            prefetched.onScrollResponse(() -> finishHim(e));
+            return;
+        }
+        finishHim(e);
+    }
+
     /**
      * Process a scroll response.
      * @param lastBatchStartTimeNS the time when the last batch started. Used to calculate the throttling delay.
@@ -350,9 +384,46 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
             notifyDone(thisBatchStartTimeNS, asyncResponse, 0);
             return;
         }
+        int batchSize = request.requests().size();
+        if (shouldPrefetch(hits.size())) {
+            PrefetchedBatch prefetched = new PrefetchedBatch();
+            prefetchedBatch = prefetched;
+            /*
+             * Fetch the next batch while this one is indexed rather than after. The scroll is kept alive for twice as long since the
+             * next fetch only starts once the next batch has been indexed as well.
+             */
+            asyncResponse.done(mainRequest.getScrollTime());
+            sendBulkRequests(request.requests(), 0, () -> {
+                this.lastBatchSize = batchSize;
+                prefetched.onBulkDone();
+            });
+        } else {
+            sendBulkRequests(request.requests(), 0, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, batchSize));
+        }
+    }
+
+    /**
+     * Whether to fetch the next scroll batch while the bulk requests of the current batch are in flight. Throttled requests wait between
+     * batches anyway, and there is no next batch to fetch if the current batch reaches the maximum number of documents.
+     */
+    private boolean shouldPrefetch(int hits) {
+        if (worker.getStatus().getRequestsPerSecond() != Float.POSITIVE_INFINITY) {
+            return false;
+        }
+        return mainRequest.getMaxDocs() == MAX_DOCS_ALL_MATCHES || worker.getSuccessfullyProcessed() + hits < mainRequest.getMaxDocs();
+    }
+
+    /**
+     * Send the requests of a scroll batch from {@code from} on, in as many bulk requests of {@link AdaptiveBulkSize#size()} as it takes,
+     * one after the other.
+     */
+    private void sendBulkRequests(List<DocWriteRequest<?>> requests, int from, Runnable onSuccess) {
+        int to = (int) min(requests.size(), (long) from + bulkSize.size());
+        BulkRequest request = new BulkRequest();
+        request.add(from == 0 && to == requests.size() ? requests : requests.subList(from, to));
         request.timeout(mainRequest.getTimeout());
         request.waitForActiveShards(mainRequest.getWaitForActiveShards());
-        sendBulkRequest(request, () -> notifyDone(thisBatchStartTimeNS, asyncResponse, request.requests().size()));
+        sendBulkRequest(request, to == requests.size() ? onSuccess : () -> sendBulkRequests(requests, to, onSuccess));
     }
 
     /**
@@ -368,9 +439,11 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
             finishHim(null);
             return;
         }
+        long startTimeNS = System.nanoTime();
         bulkRetry.withBackoff(client::bulk, request, new ActionListener<BulkResponse>() {
             @Override
             public void onResponse(BulkResponse response) {
+                bulkSize.onBulkCompleted(request.requests().size(), System.nanoTime() - startTimeNS);
                 onBulkResponse(response, onSuccess);
             }
 
@@ -502,6 +575,14 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
      */
     protected void finishHim(Exception failure, List<Failure> indexingFailures,
             List<SearchFailure> searchFailures, boolean timedOut) {
+        if (finished.compareAndSet(false, true) == false) {
+            /*
+             * A batch that was fetched while the previous batch was indexed can fail after the request already finished. Its scroll was
+             * cleared when the request finished.
+             */
+            logger.debug(() -> new ParameterizedMessage("[{}]: already finished", task.getId()), failure);
+            return;
+        }
         logger.debug("[{}]: finishing without any catastrophic failures", task.getId());
         scrollSource.close(() -> {
             if (failure == null) {
@@ -537,6 +618,28 @@ public abstract class AbstractAsyncBulkByScrollAction<Request extends AbstractBu
         scrollSource.setScroll(scroll);
     }
 
+    /**
+     * A scroll batch that is fetched while the bulk requests of the previous batch are in flight. It is processed once both the batch
+     * arrived and the bulk requests succeeded, whichever comes last. A failure to fetch the batch is reported the same way.
+     */
+    private static final class PrefetchedBatch {
+        private final CountDown countDown = new CountDown(2);
+        private volatile Runnable process;
+
+        void onScrollResponse(Runnable process) {
+            this.process = process;
+            if (countDown.countDown()) {
+                process.run();
+            }
+        }
+
+        void onBulkDone() {
+            if (countDown.countDown()) {
+                process.run();
+            }
+        }
+    }
+
     /**
      * Wrapper for the {@link DocWriteRequest} that are used in this action class.
      */
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.common.unit.TimeValue;
+
+/**
+ * The number of documents to send in each bulk request of a bulk by scroll action, tuned from how the bulk requests went.
+ * <p>
+ * The size of the scroll batches can't change once the scroll has started, so a scroll batch is sent in as many bulk requests of this
+ * size as it takes. The size starts at the size of the scroll batches, so that each scroll batch is a single bulk request as long as
+ * the destination keeps up. It is halved when a bulk request is rejected, and shrunk in proportion when a bulk request takes longer
+ * than {@link #TARGET_LATENCY}. It grows back by half once bulk requests are well within the target again.
+ */
+final class AdaptiveBulkSize {
+
+    /**
+     * How long a single bulk request should take at most.
+     */
+    static final TimeValue TARGET_LATENCY = TimeValue.timeValueSeconds(5);
+
+    static final int MIN_SIZE = 10;
+
+    private final int maxSize;
+    private final long targetLatencyNanos;
+    private volatile int size;
+    private volatile boolean rejected;
+
+    /**
+     * @param maxSize the size of the scroll batches, which bulk requests never exceed
+     */
+    AdaptiveBulkSize(int maxSize) {
+        this(maxSize, TARGET_LATENCY);
+    }
+
+    AdaptiveBulkSize(int maxSize, TimeValue targetLatency) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("max size must be at least 1 but was [" + maxSize + "]");
+        }
+        this.maxSize = maxSize;
+        this.targetLatencyNanos = targetLatency.nanos();
+        this.size = maxSize;
+    }
+
+    /**
+     * The number of documents to send in the next bulk request.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Called when a bulk request was rejected and is about to be retried.
+     */
+    void onRejection() {
+        rejected = true;
+    }
+
+    /**
+     * Called when a bulk request completed, after any retries.
+     *
+     * @param documents  the number of documents that the request held
+     * @param tookNanos  how long the request took, including any retries
+     */
+    void onBulkCompleted(int documents, long tookNanos) {
+        int current = size;
+        int next;
+        if (rejected) {
+            rejected = false;
+            next = current / 2;
+        } else if (tookNanos > targetLatencyNanos) {
+            next = (int) (current * ((double) targetLatencyNanos / tookNanos));
+        } else if (tookNanos < targetLatencyNanos / 2 && documents >= current) {
+            // only requests that were full say anything about whether larger requests would be fine
+            next = current + Math.max(1, current / 2);
+        } else {
+            next = current;
+        }
+        size = Math.max(Math.min(MIN_SIZE, maxSize), Math.min(maxSize, next));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.reindex;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class AdaptiveBulkSizeTests extends OpenSearchTestCase {
+
+    private static final long TARGET_NANOS = TimeValue.timeValueSeconds(1).nanos();
+
+    private static AdaptiveBulkSize newBulkSize(int maxSize) {
+        return new AdaptiveBulkSize(maxSize, TimeValue.timeValueSeconds(1));
+    }
+
+    public void testStartsAtTheMaxSize() {
+        AdaptiveBulkSize bulkSize = newBulkSize(1000);
+        assertThat(bulkSize.size(), equalTo(1000));
+        bulkSize.onBulkCompleted(1000, TARGET_NANOS / 10);
+        assertThat(bulkSize.size(), equalTo(1000));
+    }
+
+    public void testHalvesOnRejections() {
+        AdaptiveBulkSize bulkSize = newBulkSize(1000);
+        bulkSize.onRejection();
+        bulkSize.onRejection();
+        bulkSize.onBulkCompleted(1000, TARGET_NANOS / 10);
+        assertThat(bulkSize.size(), equalTo(500));
+        // the rejections only count for the request that they happened in
+        bulkSize.onBulkCompleted(500, TARGET_NANOS);
+        assertThat(bulkSize.size(), equalTo(500));
+    }
+
+    public void testShrinksWhenSlow() {
+        AdaptiveBulkSize bulkSize = newBulkSize(1000);
+        bulkSize.onBulkCompleted(1000, TARGET_NANOS * 4);
+        assertThat(bulkSize.size(), equalTo(250));
+    }
+
+    public void testGrowsBackWhenFast() {
+        AdaptiveBulkSize bulkSize = newBulkSize(1000);
+        bulkSize.onRejection();
+        bulkSize.onBulkCompleted(1000, TARGET_NANOS);
+        assertThat(bulkSize.size(), equalTo(500));
+        // requests that weren't full don't make it grow
+        bulkSize.onBulkCompleted(100, TARGET_NANOS / 10);
+        assertThat(bulkSize.size(), equalTo(500));
+        bulkSize.onBulkCompleted(500, TARGET_NANOS / 10);
+        assertThat(bulkSize.size(), equalTo(750));
+        bulkSize.onBulkCompleted(750, TARGET_NANOS / 10);
+        assertThat(bulkSize.size(), equalTo(1000));
+    }
+
+    public void testStaysWithinBounds() {
+        AdaptiveBulkSize bulkSize = newBulkSize(1000);
+        for (int i = 0; i < 20; i++) {
+            bulkSize.onRejection();
+            bulkSize.onBulkCompleted(bulkSize.size(), TARGET_NANOS);
+        }
+        assertThat(bulkSize.size(), equalTo(AdaptiveBulkSize.MIN_SIZE));
+
+        AdaptiveBulkSize small = newBulkSize(3);
+        small.onBulkCompleted(3, TARGET_NANOS * 100);
+        assertThat(small.size(), equalTo(3));
+
+        expectThrows(IllegalArgumentException.class, () -> newBulkSize(0));
+    }
+}
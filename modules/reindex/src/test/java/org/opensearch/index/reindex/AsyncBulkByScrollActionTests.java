@@ -121,6 +121,7 @@ import static java.util.Collections.emptySet;
 import static java.util.Collections.newSetFromMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
 import static java.util.Collections.synchronizedSet;
 import static org.apache.lucene.util.TestUtil.randomSimpleString;
 import static org.opensearch.action.bulk.BackoffPolicy.constantBackoff;
@@ -549,6 +550,72 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
         assertEquals(capturedDelay.get(), testTask.getStatus().getThrottled());
     }
 
+    public void testPrefetchesTheNextBatchWhileIndexing() throws Exception {
+        firstSearchRequest.scroll(timeValueSeconds(10));
+        firstSearchRequest.source().size(10);
+        DummyAsyncBulkByScrollAction action = new DummyAsyncBulkByScrollAction() {
+            @Override
+            protected RequestWrapper<?> buildRequest(Hit doc) {
+                return wrap(new IndexRequest().index("test"));
+            }
+        };
+        action.start();
+
+        SearchHit hit = new SearchHit(0, "id", new Text("type"), emptyMap(), emptyMap()).sourceRef(new BytesArray("{}"));
+        SearchHits hits = new SearchHits(IntStream.range(0, 25).mapToObj(i -> hit).toArray(SearchHit[]::new),
+            new TotalHits(25, TotalHits.Relation.EQUAL_TO), 0);
+        client.lastSearch.get().listener.onResponse(new SearchResponse(new InternalSearchResponse(hits, null, null, null, false, false, 1),
+            scrollId(), 5, 5, 0, randomLong(), null, SearchResponse.Clusters.EMPTY));
+
+        // the next batch is fetched with twice the keep alive since it is fetched before this batch is indexed
+        assertBusy(() -> assertNotNull(client.lastScroll.get()));
+        assertEquals(20, client.lastScroll.get().request.scroll().keepAlive().seconds());
+        // the batch doesn't fit in a single bulk request of the size of the scroll batches
+        assertBusy(() -> assertEquals(3, client.bulksAttempts.get()));
+        assertBusy(() -> assertEquals(25, testTask.getStatus().getCreated()));
+        assertFalse(listener.isDone());
+
+        SearchHits noHits = new SearchHits(new SearchHit[0], new TotalHits(25, TotalHits.Relation.EQUAL_TO), 0);
+        client.lastScroll.get().listener.onResponse(new SearchResponse(
+            new InternalSearchResponse(noHits, null, null, null, false, false, 1),
+            scrollId(), 5, 5, 0, randomLong(), null, SearchResponse.Clusters.EMPTY));
+        BulkByScrollResponse response = listener.get();
+        assertEquals(25, response.getCreated());
+        assertEquals(1, response.getBatches());
+        assertEquals(3, client.bulksAttempts.get());
+    }
+
+    public void testPrefetchFailureIsReportedOnceTheBulkRequestsAreDone() throws Exception {
+        firstSearchRequest.scroll(timeValueSeconds(10));
+        firstSearchRequest.source().size(10);
+        DummyAsyncBulkByScrollAction action = new DummyAsyncBulkByScrollAction() {
+            @Override
+            protected RequestWrapper<?> buildRequest(Hit doc) {
+                return wrap(new IndexRequest().index("test"));
+            }
+        };
+        client.holdBulks = true;
+        action.start();
+
+        SearchHit hit = new SearchHit(0, "id", new Text("type"), emptyMap(), emptyMap()).sourceRef(new BytesArray("{}"));
+        SearchHits hits = new SearchHits(IntStream.range(0, 10).mapToObj(i -> hit).toArray(SearchHit[]::new),
+            new TotalHits(25, TotalHits.Relation.EQUAL_TO), 0);
+        client.lastSearch.get().listener.onResponse(new SearchResponse(new InternalSearchResponse(hits, null, null, null, false, false, 1),
+            scrollId(), 5, 5, 0, randomLong(), null, SearchResponse.Clusters.EMPTY));
+        assertBusy(() -> assertNotNull(client.lastScroll.get()));
+        assertBusy(() -> assertThat(client.heldBulks, hasSize(1)));
+
+        // the next batch fails while the bulk request of this batch is outstanding
+        client.lastScroll.get().listener.onFailure(new OpenSearchException("simulated"));
+        assertFalse(listener.isDone());
+        assertThat(client.scrollsCleared, empty());
+
+        client.heldBulks.remove(0).run();
+        ExecutionException e = expectThrows(ExecutionException.class, () -> listener.get());
+        assertThat(e.getCause().getMessage(), equalTo("simulated"));
+        assertEquals(10, testTask.getStatus().getCreated());
+    }
+
     /**
      * Execute a bulk retry test case. The total number of failures is random and the number of retries attempted is set to
      * testRequest.getMaxRetries and controlled by the failWithRejection parameter.
@@ -818,7 +885,13 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
          */
         private final Set<SearchScrollRequest> usedScolls = synchronizedSet(newSetFromMap(new IdentityHashMap<>()));
 
+        /**
+         * Bulk responses that are held back while {@link #holdBulks} is set, until they are run.
+         */
+        private final List<Runnable> heldBulks = synchronizedList(new ArrayList<>());
+
         private int bulksToReject = 0;
+        private volatile boolean holdBulks = false;
         private int searchesToReject = 0;
         private int scrollsToReject = 0;
 
@@ -921,7 +994,12 @@ public class AsyncBulkByScrollActionTests extends OpenSearchTestCase {
                         responses[i] = new BulkItemResponse(i, item.opType(), response);
                     }
                 }
-                listener.onResponse((Response) new BulkResponse(responses, 1));
+                BulkResponse bulkResponse = new BulkResponse(responses, 1);
+                if (holdBulks) {
+                    heldBulks.add(() -> listener.onResponse((Response) bulkResponse));
+                } else {
+                    listener.onResponse((Response) bulkResponse);
+                }
                 return;
             }
             super.doExecute(action, request, listener);
@@ -40,6 +40,7 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.unit.Fuzziness;
 import org.opensearch.index.cache.request.RequestCacheStats;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
@@ -110,6 +111,85 @@ public class IndicesRequestCacheIT extends OpenSearchIntegTestCase {
         }
     }
 
+    public void testCacheAggsPerSegment() throws Exception {
+        Client client = client();
+        assertAcked(client.admin().indices().prepareCreate("index")
+                .addMapping("type", "f", "type=date")
+                .setSettings(Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                    .put(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING.getKey(), true)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put("index.refresh_interval", -1)).get());
+        client.prepareIndex("index", "type", "1").setSource("f", "2016-03-19").get();
+        client.prepareIndex("index", "type", "2").setSource("f", "2016-03-19").get();
+        client.prepareIndex("index", "type", "3").setSource("f", "2016-03-21").get();
+        ForceMergeResponse forceMergeResponse = client.admin().indices().prepareForceMerge("index").setMaxNumSegments(1)
+            .setFlush(true).get();
+        OpenSearchAssertions.assertAllSuccessful(forceMergeResponse);
+        refresh();
+        ensureSearchable("index");
+        assertCacheState(client, "index", 0, 0);
+
+        assertDateHistogramDocCount(client, 3);
+        assertCacheState(client, "index", 0, 1);
+        assertDateHistogramDocCount(client, 3);
+        assertCacheState(client, "index", 1, 1);
+
+        // a refresh that adds a segment leaves the cached results of the existing segment alone
+        client.prepareIndex("index", "type", "4").setSource("f", "2016-03-20").get();
+        refresh();
+        assertDateHistogramDocCount(client, 4);
+        assertCacheState(client, "index", 2, 2);
+    }
+
+    public void testCacheAggsPerSegmentWithQueryThatDependsOnOtherSegments() throws Exception {
+        Client client = client();
+        assertAcked(client.admin().indices().prepareCreate("index")
+                .addMapping("type", "f", "type=date", "k", "type=keyword")
+                .setSettings(Settings.builder().put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                    .put(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING.getKey(), true)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put("index.refresh_interval", -1)).get());
+        client.prepareIndex("index", "type", "1").setSource("f", "2016-03-19", "k", "abcd").get();
+        refresh();
+        ensureSearchable("index");
+
+        // the fuzzy query only expands to the closest term of the whole shard
+        assertFuzzyHitCount(client, 1);
+        assertFuzzyHitCount(client, 1);
+        assertCacheState(client, "index", 1, 1);
+
+        // a segment with a closer term changes the documents that the query matches in the first segment, whose cached results
+        // would count the document that no longer matches
+        client.prepareIndex("index", "type", "2").setSource("f", "2016-03-20", "k", "abce").get();
+        refresh();
+        assertFuzzyHitCount(client, 1);
+        assertFuzzyHitCount(client, 1);
+        assertCacheState(client, "index", 2, 2);
+    }
+
+    private static void assertFuzzyHitCount(Client client, long expectedHitCount) {
+        final SearchResponse response = client.prepareSearch("index").setSize(0).setSearchType(SearchType.QUERY_THEN_FETCH)
+            .setQuery(QueryBuilders.fuzzyQuery("k", "abce").fuzziness(Fuzziness.ONE).maxExpansions(1))
+            .addAggregation(dateHistogram("histo").field("f").dateHistogramInterval(DateHistogramInterval.DAY))
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getTotalHits().value, equalTo(expectedHitCount));
+        final Histogram histogram = response.getAggregations().get("histo");
+        assertThat(histogram.getBuckets().stream().mapToLong(Bucket::getDocCount).sum(), equalTo(expectedHitCount));
+    }
+
+    private static void assertDateHistogramDocCount(Client client, long expectedDocCount) {
+        final SearchResponse response = client.prepareSearch("index").setSize(0).setSearchType(SearchType.QUERY_THEN_FETCH)
+            .addAggregation(dateHistogram("histo").field("f").dateHistogramInterval(DateHistogramInterval.DAY))
+            .get();
+        assertSearchResponse(response);
+        assertThat(response.getHits().getTotalHits().value, equalTo(expectedDocCount));
+        final Histogram histogram = response.getAggregations().get("histo");
+        assertThat(histogram.getBuckets().stream().mapToLong(Bucket::getDocCount).sum(), equalTo(expectedDocCount));
+    }
+
     public void testQueryRewrite() throws Exception {
         Client client = client();
         assertAcked(client.admin().indices().prepareCreate("index").addMapping("type", "s", "type=date")
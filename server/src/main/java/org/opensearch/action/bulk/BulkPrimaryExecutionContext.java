@@ -39,6 +39,7 @@ import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentParserCache;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
@@ -81,6 +82,7 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    private final DocumentParserCache parserCache = new DocumentParserCache();
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -202,6 +204,11 @@ class BulkPrimaryExecutionContext {
         return primary;
     }
 
+    /** returns the cache that is shared by the documents of all items when they are parsed */
+    public DocumentParserCache getParserCache() {
+        return parserCache;
+    }
+
     /**
      * sets the request that should actually be executed on the primary. This can be different then the request
      * received from the user (specifically, an update request is translated to an indexing or delete request).
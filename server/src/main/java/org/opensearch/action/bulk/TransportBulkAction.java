@@ -88,6 +88,7 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportService;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -837,6 +838,8 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                     response -> new BulkResponse(response.getItems(), response.getTook().getMillis(), ingestTookInMillis));
             } else {
                 return ActionListener.delegateFailure(actionListener, (delegatedListener, response) -> {
+                    // items fail or get dropped in any order when the slices of a bulk request are processed concurrently
+                    itemResponses.sort(Comparator.comparingInt(BulkItemResponse::getItemId));
                     BulkItemResponse[] items = response.getItems();
                     for (int i = 0; i < items.length; i++) {
                         itemResponses.add(originalSlots.get(i), response.getItems()[i]);
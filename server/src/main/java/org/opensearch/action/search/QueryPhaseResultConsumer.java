@@ -47,6 +47,8 @@ import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContextBuilder;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.profile.ReduceProfileResult;
+import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.query.QuerySearchResult;
 
 import java.util.ArrayDeque;
@@ -66,6 +68,10 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * In incremental mode, a partial reduce is started on the executor as soon as a shard result arrives and no
+ * other partial reduce is in-flight, so that each result is merged into the running reduction instead of
+ * waiting for {@link SearchRequest#getBatchedReduceSize()} results to be buffered. The batched reduce size
+ * remains the upper bound of results that are buffered while a partial reduce is running.
  */
 public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhaseResult> implements Releasable {
     private static final Logger logger = LogManager.getLogger(QueryPhaseResultConsumer.class);
@@ -81,6 +87,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final boolean incrementalReduce;
+    private final boolean profile;
 
     private final PendingMerges pendingMerges;
     private final Consumer<Exception> onPartialMergeFailure;
@@ -97,6 +105,24 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                     NamedWriteableRegistry namedWriteableRegistry,
                                     int expectedResultSize,
                                     Consumer<Exception> onPartialMergeFailure) {
+        this(request, executor, circuitBreaker, controller, progressListener, namedWriteableRegistry,
+            expectedResultSize, false, onPartialMergeFailure);
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed. If <code>incrementalReduce</code> is set, each result is merged
+     * into the running reduction as soon as the executor is free rather than once a batch is full.
+     */
+    public QueryPhaseResultConsumer(SearchRequest request,
+                                    Executor executor,
+                                    CircuitBreaker circuitBreaker,
+                                    SearchPhaseController controller,
+                                    SearchProgressListener progressListener,
+                                    NamedWriteableRegistry namedWriteableRegistry,
+                                    int expectedResultSize,
+                                    boolean incrementalReduce,
+                                    Consumer<Exception> onPartialMergeFailure) {
         super(expectedResultSize);
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
@@ -111,6 +137,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
+        this.profile = source != null && source.profile();
+        this.incrementalReduce = incrementalReduce && (hasAggs || hasTopDocs);
         int batchReduceSize = (hasAggs || hasTopDocs) ? Math.min(request.getBatchedReduceSize(), expectedResultSize)  : expectedResultSize;
         this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
     }
@@ -146,8 +174,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             // Add an estimate of the final reduce size
             breakerSize = pendingMerges.addEstimateAndMaybeBreak(pendingMerges.estimateRamBytesUsedForReduce(breakerSize));
         }
+        final long startTime = System.nanoTime();
         SearchPhaseController.ReducedQueryPhase reducePhase = controller.reducedQueryPhase(results.asList(), aggsList,
             topDocsList, topDocsStats, pendingMerges.numReducePhases, false, aggReduceContextBuilder, performFinalReduce);
+        final long finalReduceTimeInNanos = System.nanoTime() - startTime;
         if (hasAggs) {
             // Update the circuit breaker to replace the estimation with the serialized size of the newly reduced result
             long finalSize = reducePhase.aggregations.getSerializedSize() - breakerSize;
@@ -155,11 +185,27 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             logger.trace("aggs final reduction [{}] max [{}]",
                 pendingMerges.aggsCurrentBufferSize, pendingMerges.maxAggsCurrentBufferSize);
         }
+        if (profile && reducePhase.shardResults != null) {
+            reducePhase = withReduceProfile(reducePhase, finalReduceTimeInNanos);
+        }
         progressListener.notifyFinalReduce(SearchProgressListener.buildSearchShards(results.asList()),
             reducePhase.totalHits, reducePhase.aggregations, reducePhase.numReducePhases);
         return reducePhase;
     }
 
+    private SearchPhaseController.ReducedQueryPhase withReduceProfile(SearchPhaseController.ReducedQueryPhase reducePhase,
+                                                                      long finalReduceTimeInNanos) {
+        final ReduceProfileResult reduceProfile = new ReduceProfileResult(incrementalReduce, reducePhase.numReducePhases,
+            pendingMerges.maxBufferedResults, pendingMerges.maxAggsCurrentBufferSize, pendingMerges.partialReduceTimeInNanos,
+            finalReduceTimeInNanos);
+        final SearchProfileShardResults shardResults =
+            new SearchProfileShardResults(reducePhase.shardResults.getShardResults(), reduceProfile);
+        return new SearchPhaseController.ReducedQueryPhase(reducePhase.totalHits, reducePhase.fetchHits, reducePhase.maxScore,
+            reducePhase.timedOut, reducePhase.terminatedEarly, reducePhase.suggest, reducePhase.aggregations, shardResults,
+            reducePhase.sortedTopDocs, reducePhase.sortValueFormats, reducePhase.numReducePhases, reducePhase.size,
+            reducePhase.from, reducePhase.isEmptyResult);
+    }
+
     private MergeResult partialReduce(QuerySearchResult[] toConsume,
                                       List<SearchShard> emptyResults,
                                       SearchPhaseController.TopDocsStats topDocsStats,
@@ -231,6 +277,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         // the memory that is currently used in the buffer
         private volatile long aggsCurrentBufferSize;
         private volatile long maxAggsCurrentBufferSize = 0;
+        // the maximum number of results that were buffered at once
+        private volatile int maxBufferedResults = 0;
+        // the time spent in partial reduces, which are executed one at a time
+        private volatile long partialReduceTimeInNanos = 0;
 
         private final ArrayDeque<MergeTask> queue = new ArrayDeque<>();
         private final AtomicReference<MergeTask> runningTask = new AtomicReference<>();
@@ -328,15 +378,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                     // add one if a partial merge is pending
                     int size = buffer.size() + (hasPartialReduce ? 1 : 0);
                     if (size >= batchReduceSize) {
-                        hasPartialReduce = true;
                         executeNextImmediately = false;
-                        QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
-                        MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), next);
-                        aggsCurrentBufferSize = 0;
-                        buffer.clear();
-                        emptyResults.clear();
-                        queue.add(task);
-                        tryExecuteNext();
+                        queueMerge(next);
                     }
                     if (hasAggs) {
                         long aggsSize = ramBytesUsedQueryResult(result);
@@ -344,6 +387,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         aggsCurrentBufferSize += aggsSize;
                     }
                     buffer.add(result);
+                    maxBufferedResults = Math.max(maxBufferedResults, buffer.size());
+                    if (incrementalReduce && executeNextImmediately && hasPendingMerges() == false) {
+                        // merge the result into the running reduction right away, the listener is notified
+                        // once it is merged so that the final reduce cannot start while the merge is in-flight
+                        executeNextImmediately = false;
+                        queueMerge(next);
+                    }
                 }
             }
             if (executeNextImmediately) {
@@ -351,6 +401,17 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
         }
 
+        private synchronized void queueMerge(Runnable next) {
+            hasPartialReduce = true;
+            QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
+            MergeTask task = new MergeTask(clone, aggsCurrentBufferSize, new ArrayList<>(emptyResults), next);
+            aggsCurrentBufferSize = 0;
+            buffer.clear();
+            emptyResults.clear();
+            queue.add(task);
+            tryExecuteNext();
+        }
+
         private synchronized void onMergeFailure(Exception exc) {
             if (hasFailure()) {
                 assert circuitBreakerBytes == 0;
@@ -424,7 +485,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
                         ++ numReducePhases;
+                        final long startTime = System.nanoTime();
                         newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, numReducePhases);
+                        partialReduceTimeInNanos += System.nanoTime() - startTime;
                     } catch (Exception t) {
                         onMergeFailure(t);
                         return;
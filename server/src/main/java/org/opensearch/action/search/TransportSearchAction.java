@@ -121,6 +121,13 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Whether the coordinating node merges each shard result into the running reduction as soon as it arrives,
+     * rather than once {@link SearchRequest#getBatchedReduceSize()} results are buffered.
+     */
+    public static final Setting<Boolean> INCREMENTAL_REDUCE_SETTING = Setting.boolSetting(
+            "action.search.incremental_reduce.enabled", false, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -814,8 +821,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 };
             }, clusters);
         } else {
+            final boolean incrementalReduce = clusterService.getClusterSettings().get(INCREMENTAL_REDUCE_SETTING);
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
-                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), exc -> cancelTask(task, exc));
+                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), incrementalReduce,
+                exc -> cancelTask(task, exc));
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
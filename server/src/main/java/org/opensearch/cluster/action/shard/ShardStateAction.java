@@ -63,6 +63,7 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.node.NodeClosedException;
 import org.opensearch.tasks.Task;
@@ -85,6 +86,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -119,11 +121,42 @@ public class ShardStateAction {
             "priority [" + priority + "] not supported for [" + FOLLOW_UP_REROUTE_PRIORITY_SETTING.getKey() + "]");
     }
 
+    /**
+     * The priority of the cluster state update tasks that start shards. All the queued shard-started tasks are executed together, so
+     * that a single cluster state update starts every shard that finished recovering while the master was busy.
+     */
+    public static final Setting<Priority> SHARD_STARTED_TASK_PRIORITY_SETTING
+        = new Setting<>("cluster.routing.allocation.shard_state.started.priority", Priority.URGENT.toString(),
+        s -> parseTaskPriority("cluster.routing.allocation.shard_state.started.priority", s),
+        Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /**
+     * The priority of the cluster state update tasks that fail shards.
+     */
+    public static final Setting<Priority> SHARD_FAILED_TASK_PRIORITY_SETTING
+        = new Setting<>("cluster.routing.allocation.shard_state.failed.priority", Priority.HIGH.toString(),
+        s -> parseTaskPriority("cluster.routing.allocation.shard_state.failed.priority", s),
+        Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    private static Priority parseTaskPriority(String key, String priorityString) {
+        final Priority priority = Priority.valueOf(priorityString.toUpperCase(Locale.ROOT));
+        switch (priority) {
+            case NORMAL:
+            case HIGH:
+            case URGENT:
+            case IMMEDIATE:
+                return priority;
+        }
+        throw new IllegalArgumentException("priority [" + priority + "] not supported for [" + key + "]");
+    }
+
     private final TransportService transportService;
     private final ClusterService clusterService;
     private final ThreadPool threadPool;
 
     private volatile Priority followUpRerouteTaskPriority;
+    private volatile Priority shardStartedTaskPriority;
+    private volatile Priority shardFailedTaskPriority;
 
     // a list of shards that failed during replication
     // we keep track of these shards in order to avoid sending duplicate failed shard requests for a single failing shard.
@@ -139,15 +172,21 @@ public class ShardStateAction {
         followUpRerouteTaskPriority = FOLLOW_UP_REROUTE_PRIORITY_SETTING.get(clusterService.getSettings());
         clusterService.getClusterSettings().addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING,
             this::setFollowUpRerouteTaskPriority);
+        shardStartedTaskPriority = SHARD_STARTED_TASK_PRIORITY_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SHARD_STARTED_TASK_PRIORITY_SETTING,
+            priority -> this.shardStartedTaskPriority = priority);
+        shardFailedTaskPriority = SHARD_FAILED_TASK_PRIORITY_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SHARD_FAILED_TASK_PRIORITY_SETTING,
+            priority -> this.shardFailedTaskPriority = priority);
 
         transportService.registerRequestHandler(SHARD_STARTED_ACTION_NAME, ThreadPool.Names.SAME, StartedShardEntry::new,
             new ShardStartedTransportHandler(clusterService,
                 new ShardStartedClusterStateTaskExecutor(allocationService, rerouteService, () -> followUpRerouteTaskPriority, logger),
-                logger));
+                () -> shardStartedTaskPriority, logger));
         transportService.registerRequestHandler(SHARD_FAILED_ACTION_NAME, ThreadPool.Names.SAME, FailedShardEntry::new,
             new ShardFailedTransportHandler(clusterService,
                 new ShardFailedClusterStateTaskExecutor(allocationService, rerouteService, () -> followUpRerouteTaskPriority, logger),
-                logger));
+                () -> shardFailedTaskPriority, logger));
     }
 
     private void sendShardAction(final String actionName, final ClusterState currentState,
@@ -271,12 +310,15 @@ public class ShardStateAction {
     private static class ShardFailedTransportHandler implements TransportRequestHandler<FailedShardEntry> {
         private final ClusterService clusterService;
         private final ShardFailedClusterStateTaskExecutor shardFailedClusterStateTaskExecutor;
+        private final Supplier<Priority> prioritySupplier;
         private final Logger logger;
 
         ShardFailedTransportHandler(ClusterService clusterService,
-                                    ShardFailedClusterStateTaskExecutor shardFailedClusterStateTaskExecutor, Logger logger) {
+                                    ShardFailedClusterStateTaskExecutor shardFailedClusterStateTaskExecutor,
+                                    Supplier<Priority> prioritySupplier, Logger logger) {
             this.clusterService = clusterService;
             this.shardFailedClusterStateTaskExecutor = shardFailedClusterStateTaskExecutor;
+            this.prioritySupplier = prioritySupplier;
             this.logger = logger;
         }
 
@@ -287,7 +329,7 @@ public class ShardStateAction {
             clusterService.submitStateUpdateTask(
                 "shard-failed",
                 request,
-                ClusterStateTaskConfig.build(Priority.HIGH),
+                ClusterStateTaskConfig.build(prioritySupplier.get()),
                 shardFailedClusterStateTaskExecutor,
                 new ClusterStateTaskListener() {
                     @Override
@@ -548,24 +590,40 @@ public class ShardStateAction {
     private static class ShardStartedTransportHandler implements TransportRequestHandler<StartedShardEntry> {
         private final ClusterService clusterService;
         private final ShardStartedClusterStateTaskExecutor shardStartedClusterStateTaskExecutor;
+        private final Supplier<Priority> prioritySupplier;
         private final Logger logger;
 
         ShardStartedTransportHandler(ClusterService clusterService,
-                                     ShardStartedClusterStateTaskExecutor shardStartedClusterStateTaskExecutor, Logger logger) {
+                                     ShardStartedClusterStateTaskExecutor shardStartedClusterStateTaskExecutor,
+                                     Supplier<Priority> prioritySupplier, Logger logger) {
             this.clusterService = clusterService;
             this.shardStartedClusterStateTaskExecutor = shardStartedClusterStateTaskExecutor;
+            this.prioritySupplier = prioritySupplier;
             this.logger = logger;
         }
 
         @Override
         public void messageReceived(StartedShardEntry request, TransportChannel channel, Task task) throws Exception {
             logger.debug("{} received shard started for [{}]", request.shardId, request);
-            clusterService.submitStateUpdateTask(
-                "shard-started " + request,
-                request,
-                ClusterStateTaskConfig.build(Priority.URGENT),
-                shardStartedClusterStateTaskExecutor,
-                shardStartedClusterStateTaskExecutor);
+            final ClusterStateTaskListener listener = shardStartedClusterStateTaskExecutor.queue(request);
+            if (listener == null) {
+                logger.trace("{} ignoring shard started task [{}] (already queued)", request.shardId, request);
+            } else {
+                boolean success = false;
+                try {
+                    clusterService.submitStateUpdateTask(
+                        "shard-started " + request,
+                        request,
+                        ClusterStateTaskConfig.build(prioritySupplier.get()),
+                        shardStartedClusterStateTaskExecutor,
+                        listener);
+                    success = true;
+                } finally {
+                    if (success == false) {
+                        shardStartedClusterStateTaskExecutor.dequeue(request);
+                    }
+                }
+            }
             channel.sendResponse(TransportResponse.Empty.INSTANCE);
         }
     }
@@ -577,6 +635,12 @@ public class ShardStateAction {
         private final RerouteService rerouteService;
         private final Supplier<Priority> prioritySupplier;
 
+        // the entries of the queued shard-started tasks. Data nodes send a shard-started entry with every cluster state they apply while
+        // the shard is still initializing in it, so during a full cluster restart most entries would be duplicates of queued ones.
+        private final Set<StartedShardEntry> queuedEntries = ConcurrentCollections.newConcurrentSet();
+        // whether a follow-up reroute was skipped because more shard-started tasks were queued
+        private final AtomicBoolean rerouteSkipped = new AtomicBoolean();
+
         public ShardStartedClusterStateTaskExecutor(AllocationService allocationService, RerouteService rerouteService,
                                                     Supplier<Priority> prioritySupplier, Logger logger) {
             this.allocationService = allocationService;
@@ -658,8 +722,58 @@ public class ShardStateAction {
             }
         }
 
+        /**
+         * Registers the entry of a shard-started task that is about to be queued, and returns the listener to submit it with, or
+         * {@code null} if an equal entry is queued already, in which case the task is redundant.
+         */
+        ClusterStateTaskListener queue(StartedShardEntry entry) {
+            if (queuedEntries.add(entry) == false) {
+                return null;
+            }
+            return new ClusterStateTaskListener() {
+                @Override
+                public void onFailure(String source, Exception e) {
+                    dequeue(entry);
+                    ShardStartedClusterStateTaskExecutor.this.onFailure(source, e);
+                }
+
+                @Override
+                public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                    // no follow-up reroute is triggered when the state is unchanged, so trigger the one that was skipped if needed
+                    if (oldState == newState) {
+                        dequeue(entry);
+                    } else {
+                        queuedEntries.remove(entry);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Forgets about the entry of a shard-started task that is no longer queued.
+         */
+        void dequeue(StartedShardEntry entry) {
+            queuedEntries.remove(entry);
+            if (queuedEntries.isEmpty() && rerouteSkipped.compareAndSet(true, false)) {
+                reroute();
+            }
+        }
+
         @Override
         public void clusterStatePublished(ClusterChangedEvent clusterChangedEvent) {
+            rerouteSkipped.set(true);
+            // the tasks of a batch are dequeued before it is published, so these entries belong to a later batch, which is executed
+            // before the follow-up reroute anyway and reroutes once it is published or dequeued
+            if (queuedEntries.isEmpty() == false) {
+                logger.trace("skipping reroute after starting shards, more shard-started tasks are queued");
+                return;
+            }
+            if (rerouteSkipped.compareAndSet(true, false)) {
+                reroute();
+            }
+        }
+
+        private void reroute() {
             rerouteService.reroute("reroute after starting shards", prioritySupplier.get(), ActionListener.wrap(
                 r -> logger.trace("reroute after starting shards succeeded"),
                 e -> logger.debug("reroute after starting shards failed", e)));
@@ -719,6 +833,22 @@ public class ShardStateAction {
             return String.format(Locale.ROOT,  "StartedShardEntry{shardId [%s], allocationId [%s], primary term [%d], message [%s]}",
                 shardId, allocationId, primaryTerm, message);
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StartedShardEntry that = (StartedShardEntry) o;
+            // Exclude message from equals and hashCode
+            return Objects.equals(this.shardId, that.shardId) &&
+                Objects.equals(this.allocationId, that.allocationId) &&
+                primaryTerm == that.primaryTerm;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, allocationId, primaryTerm);
+        }
     }
 
     public static class NoLongerPrimaryShardException extends OpenSearchException {
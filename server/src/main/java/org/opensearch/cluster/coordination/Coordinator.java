@@ -64,6 +64,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
 import org.opensearch.common.Strings;
 import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.ClusterSettings;
@@ -127,6 +128,13 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         Setting.timeSetting("cluster.publish.timeout",
             TimeValue.timeValueMillis(30000), TimeValue.timeValueMillis(1), Setting.Property.NodeScope);
 
+    // the compression scheme of published cluster states and diffs, nodes that do not support it are sent states compressed with deflate
+    public static final Setting<String> PUBLISH_COMPRESSION_SCHEME_SETTING =
+        new Setting<>("cluster.publish.compression_scheme", CompressorFactory.DEFLATE, s -> {
+            CompressorFactory.compressorForName(s);
+            return s;
+        }, Setting.Property.NodeScope);
+
     private final Settings settings;
     private final boolean singleNodeDiscovery;
     private final ElectionStrategy electionStrategy;
@@ -205,7 +213,8 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         this.peerFinder = new CoordinatorPeerFinder(settings, transportService,
             new HandshakingTransportAddressConnector(settings, transportService), configuredHostsResolver);
         this.publicationHandler = new PublicationTransportHandler(transportService, namedWriteableRegistry,
-            this::handlePublishRequest, this::handleApplyCommit);
+            this::handlePublishRequest, this::handleApplyCommit,
+            CompressorFactory.compressorForName(PUBLISH_COMPRESSION_SCHEME_SETTING.get(settings)));
         this.leaderChecker = new LeaderChecker(settings, transportService, this::onLeaderFailure, nodeHealthService);
         this.followersChecker = new FollowersChecker(settings, transportService, this::onFollowerCheckRequest, this::removeNode,
             nodeHealthService);
@@ -43,7 +43,9 @@ import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -53,6 +55,7 @@ import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.discovery.zen.PublishClusterStateAction;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
@@ -70,6 +73,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -86,6 +90,7 @@ public class PublicationTransportHandler {
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest;
+    private final Compressor compressor;
 
     private final AtomicReference<ClusterState> lastSeenClusterState = new AtomicReference<>();
 
@@ -99,6 +104,17 @@ public class PublicationTransportHandler {
     private final AtomicLong fullClusterStateReceivedCount = new AtomicLong();
     private final AtomicLong incompatibleClusterStateDiffReceivedCount = new AtomicLong();
     private final AtomicLong compatibleClusterStateDiffReceivedCount = new AtomicLong();
+
+    // the last state that each node accepted from this master, so that a node that missed a publication can be sent a diff from the
+    // state it has rather than the full state. These states only differ from the current one by a few diffs and share most of their
+    // structure with it, so keeping them around is cheap.
+    private final Map<String, ClusterState> lastAcceptedStates = ConcurrentCollections.newConcurrentMap();
+
+    private final AtomicLong fullClusterStateSerializedCount = new AtomicLong();
+    private final AtomicLong clusterStateDiffSerializedCount = new AtomicLong();
+    private final AtomicLong laggingClusterStateDiffSerializedCount = new AtomicLong();
+    private final AtomicLong serializedClusterStateSizeInBytes = new AtomicLong();
+    private final AtomicLong clusterStateSerializationTimeInNanos = new AtomicLong();
     // -> no need to put a timeout on the options here, because we want the response to eventually be received
     //  and not log an error if it arrives after the timeout
     private final TransportRequestOptions stateRequestOptions = TransportRequestOptions.builder()
@@ -107,9 +123,20 @@ public class PublicationTransportHandler {
     public PublicationTransportHandler(TransportService transportService, NamedWriteableRegistry namedWriteableRegistry,
                                        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
                                        BiConsumer<ApplyCommitRequest, ActionListener<Void>> handleApplyCommit) {
+        this(transportService, namedWriteableRegistry, handlePublishRequest, handleApplyCommit, CompressorFactory.COMPRESSOR);
+    }
+
+    /**
+     * @param compressor the compressor of published states and diffs, which falls back to deflate for nodes that can't decompress
+     *                   what it compresses. Receiving nodes detect the compression scheme from the bytes.
+     */
+    public PublicationTransportHandler(TransportService transportService, NamedWriteableRegistry namedWriteableRegistry,
+                                       Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
+                                       BiConsumer<ApplyCommitRequest, ActionListener<Void>> handleApplyCommit, Compressor compressor) {
         this.transportService = transportService;
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.handlePublishRequest = handlePublishRequest;
+        this.compressor = compressor;
 
         transportService.registerRequestHandler(PUBLISH_STATE_ACTION_NAME, ThreadPool.Names.GENERIC, false, false,
             BytesTransportRequest::new, (request, channel, task) -> channel.sendResponse(handleIncomingPublishRequest(request)));
@@ -167,7 +194,12 @@ public class PublicationTransportHandler {
         return new PublishClusterStateStats(
             fullClusterStateReceivedCount.get(),
             incompatibleClusterStateDiffReceivedCount.get(),
-            compatibleClusterStateDiffReceivedCount.get());
+            compatibleClusterStateDiffReceivedCount.get(),
+            fullClusterStateSerializedCount.get(),
+            clusterStateDiffSerializedCount.get(),
+            laggingClusterStateDiffSerializedCount.get(),
+            serializedClusterStateSizeInBytes.get(),
+            TimeUnit.NANOSECONDS.toMillis(clusterStateSerializationTimeInNanos.get()));
     }
 
     private PublishWithJoinResponse handleIncomingPublishRequest(BytesTransportRequest request) throws IOException {
@@ -253,9 +285,11 @@ public class PublicationTransportHandler {
         return publicationContext;
     }
 
-    private static BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+    private BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+        final long startTimeNanos = System.nanoTime();
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream))) {
+        try (StreamOutput stream = new OutputStreamStreamOutput(
+            CompressorFactory.compressorForVersion(compressor, nodeVersion).threadLocalOutputStream(bStream))) {
             stream.setVersion(nodeVersion);
             stream.writeBoolean(true);
             clusterState.writeTo(stream);
@@ -263,17 +297,28 @@ public class PublicationTransportHandler {
         final BytesReference serializedState = bStream.bytes();
         logger.trace("serialized full cluster state version [{}] for node version [{}] with size [{}]",
             clusterState.version(), nodeVersion, serializedState.length());
+        onSerialized(fullClusterStateSerializedCount, serializedState, startTimeNanos);
         return serializedState;
     }
 
-    private static BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
+    private BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion, AtomicLong serializedCount,
+                                                     long startTimeNanos) throws IOException {
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream))) {
+        try (StreamOutput stream = new OutputStreamStreamOutput(
+            CompressorFactory.compressorForVersion(compressor, nodeVersion).threadLocalOutputStream(bStream))) {
             stream.setVersion(nodeVersion);
             stream.writeBoolean(false);
             diff.writeTo(stream);
         }
-        return bStream.bytes();
+        final BytesReference serializedDiff = bStream.bytes();
+        onSerialized(serializedCount, serializedDiff, startTimeNanos);
+        return serializedDiff;
+    }
+
+    private void onSerialized(AtomicLong serializedCount, BytesReference serialized, long startTimeNanos) {
+        serializedCount.incrementAndGet();
+        serializedClusterStateSizeInBytes.addAndGet(serialized.length());
+        clusterStateSerializationTimeInNanos.addAndGet(Math.max(0L, System.nanoTime() - startTimeNanos));
     }
 
     /**
@@ -289,6 +334,10 @@ public class PublicationTransportHandler {
         private final boolean sendFullVersion;
         private final Map<Version, BytesReference> serializedStates = new HashMap<>();
         private final Map<Version, BytesReference> serializedDiffs = new HashMap<>();
+        // diffs from older states than the previous one, for the nodes that missed its publication, serialized once per state they
+        // are computed from and version of the nodes they are sent to
+        private final Map<Tuple<String, Version>, BytesReference> serializedLaggingDiffs = new HashMap<>();
+        private final Map<String, Diff<ClusterState>> laggingDiffs = new HashMap<>();
 
         PublicationContext(ClusterChangedEvent clusterChangedEvent) {
             discoveryNodes = clusterChangedEvent.state().nodes();
@@ -298,6 +347,10 @@ public class PublicationTransportHandler {
         }
 
         void buildDiffAndSerializeStates() {
+            // forget about the nodes that left and about the states accepted from an earlier master
+            lastAcceptedStates.keySet().removeIf(nodeId -> discoveryNodes.nodeExists(nodeId) == false);
+            lastAcceptedStates.values().removeIf(state -> state.term() != previousState.term());
+
             Diff<ClusterState> diff = null;
             for (DiscoveryNode node : discoveryNodes) {
                 try {
@@ -307,11 +360,13 @@ public class PublicationTransportHandler {
                         }
                     } else {
                         // will send a diff
+                        final long startTimeNanos = System.nanoTime();
                         if (diff == null) {
                             diff = newState.diff(previousState);
                         }
                         if (serializedDiffs.containsKey(node.getVersion()) == false) {
-                            final BytesReference serializedDiff = serializeDiffClusterState(diff, node.getVersion());
+                            final BytesReference serializedDiff = serializeDiffClusterState(diff, node.getVersion(),
+                                clusterStateDiffSerializedCount, startTimeNanos);
                             serializedDiffs.put(node.getVersion(), serializedDiff);
                             logger.trace("serialized cluster state diff for version [{}] in for node version [{}] with size [{}]",
                                 newState.version(), node.getVersion(), serializedDiff.length());
@@ -409,24 +464,75 @@ public class PublicationTransportHandler {
                     return;
                 }
             }
-            sendClusterState(destination, bytes, false, listener);
+            sendClusterState(destination, bytes, null, listener);
         }
 
         private void sendClusterStateDiff(DiscoveryNode destination, ActionListener<PublishWithJoinResponse> listener) {
             final BytesReference bytes = serializedDiffs.get(destination.getVersion());
             assert bytes != null
                 : "failed to find serialized diff for node " + destination + " of version [" + destination.getVersion() + "]";
-            sendClusterState(destination, bytes, true, listener);
+            sendClusterState(destination, bytes, exp -> sendLaggingClusterStateDiff(destination, exp, listener), listener);
+        }
+
+        /**
+         * Sends a diff from the last state that the given node accepted from this master to a node that rejected the diff from the
+         * previous state, because it missed the publication of the previous state. Falls back to sending the full state if the state
+         * the node last accepted is unknown, or if the node rejects this diff too.
+         */
+        private void sendLaggingClusterStateDiff(DiscoveryNode destination, TransportException incompatibleStateException,
+                                                 ActionListener<PublishWithJoinResponse> listener) {
+            final ClusterState lastAcceptedState = lastAcceptedStates.get(destination.getId());
+            if (lastAcceptedState == null
+                || lastAcceptedState.term() != previousState.term()
+                || lastAcceptedState.version() >= previousState.version()) {
+                logger.debug("resending full cluster state to node {} reason {}",
+                    destination, incompatibleStateException.getDetailedMessage());
+                sendFullClusterState(destination, listener);
+                return;
+            }
+            final BytesReference bytes;
+            try {
+                bytes = serializeLaggingDiff(lastAcceptedState, destination.getVersion());
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("failed to serialize cluster state diff from version [{}] before publishing " +
+                    "it to node {}, sending full cluster state instead", lastAcceptedState.version(), destination), e);
+                sendFullClusterState(destination, listener);
+                return;
+            }
+            logger.debug("resending cluster state diff from version [{}] to node {} reason {}",
+                lastAcceptedState.version(), destination, incompatibleStateException.getDetailedMessage());
+            sendClusterState(destination, bytes, exp -> {
+                logger.debug("resending full cluster state to node {} reason {}", destination, exp.getDetailedMessage());
+                sendFullClusterState(destination, listener);
+            }, listener);
+        }
+
+        private synchronized BytesReference serializeLaggingDiff(ClusterState diffSource, Version nodeVersion) throws IOException {
+            final Tuple<String, Version> key = Tuple.tuple(diffSource.stateUUID(), nodeVersion);
+            BytesReference bytes = serializedLaggingDiffs.get(key);
+            if (bytes == null) {
+                final long startTimeNanos = System.nanoTime();
+                final Diff<ClusterState> diff = laggingDiffs.computeIfAbsent(diffSource.stateUUID(), uuid -> newState.diff(diffSource));
+                bytes = serializeDiffClusterState(diff, nodeVersion, laggingClusterStateDiffSerializedCount, startTimeNanos);
+                serializedLaggingDiffs.put(key, bytes);
+                logger.trace("serialized cluster state diff from version [{}] to version [{}] for node version [{}] with size [{}]",
+                    diffSource.version(), newState.version(), nodeVersion, bytes.length());
+            }
+            return bytes;
         }
 
-        private void sendClusterState(DiscoveryNode destination, BytesReference bytes, boolean retryWithFullClusterStateOnFailure,
+        /**
+         * @param onIncompatibleState called instead of failing the listener if the node rejects the state because it doesn't have the
+         *                            state a diff is computed from, or {@code null} if the state is a full state
+         */
+        private void sendClusterState(DiscoveryNode destination, BytesReference bytes,
+                                      @Nullable Consumer<TransportException> onIncompatibleState,
                                       ActionListener<PublishWithJoinResponse> listener) {
             try {
                 final BytesTransportRequest request = new BytesTransportRequest(bytes, destination.getVersion());
                 final Consumer<TransportException> transportExceptionHandler = exp -> {
-                    if (retryWithFullClusterStateOnFailure && exp.unwrapCause() instanceof IncompatibleClusterStateVersionException) {
-                        logger.debug("resending full cluster state to node {} reason {}", destination, exp.getDetailedMessage());
-                        sendFullClusterState(destination, listener);
+                    if (onIncompatibleState != null && exp.unwrapCause() instanceof IncompatibleClusterStateVersionException) {
+                        onIncompatibleState.accept(exp);
                     } else {
                         logger.debug(() -> new ParameterizedMessage("failed to send cluster state to {}", destination), exp);
                         listener.onFailure(exp);
@@ -442,6 +548,7 @@ public class PublicationTransportHandler {
 
                         @Override
                         public void handleResponse(PublishWithJoinResponse response) {
+                            lastAcceptedStates.put(destination.getId(), newState);
                             listener.onResponse(response);
                         }
 
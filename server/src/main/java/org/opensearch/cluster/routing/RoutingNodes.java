@@ -46,6 +46,7 @@ import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.Index;
 import org.opensearch.index.shard.ShardId;
 
@@ -94,7 +95,8 @@ public class RoutingNodes implements Iterable<RoutingNode> {
 
     private int relocatingShards = 0;
 
-    private final Map<String, ObjectIntHashMap<String>> nodesPerAttributeNames = new HashMap<>();
+    // concurrent since allocation deciders may compute the counts while deciding for several nodes concurrently
+    private final Map<String, ObjectIntHashMap<String>> nodesPerAttributeNames = ConcurrentCollections.newConcurrentMap();
     private final Map<String, Recoveries> recoveriesPerNode = new HashMap<>();
 
     public RoutingNodes(ClusterState clusterState) {
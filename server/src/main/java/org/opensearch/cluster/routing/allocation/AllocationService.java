@@ -473,6 +473,10 @@ public class AllocationService {
                 getAllocatorForShard(shardRouting, allocation).allocateUnassigned(shardRouting, allocation, replicaIterator);
             }
         }
+
+        for (final ExistingShardsAllocator existingShardsAllocator : existingShardsAllocators.values()) {
+            existingShardsAllocator.afterAllocation(allocation);
+        }
     }
 
     private void disassociateDeadNodes(RoutingAllocation allocation) {
@@ -72,6 +72,13 @@ public interface ExistingShardsAllocator {
     void allocateUnassigned(ShardRouting shardRouting, RoutingAllocation allocation,
                             UnassignedAllocationHandler unassignedAllocationHandler);
 
+    /**
+     * Called at the end of a round of allocation, after attempting to allocate all the unassigned shards, allowing the allocator to
+     * e.g. send out any work it collected during the round.
+     */
+    default void afterAllocation(RoutingAllocation allocation) {
+    }
+
     /**
      * Returns an explanation for a single unassigned shard.
      */
@@ -60,6 +60,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.gateway.PriorityComparator;
 
 import java.util.ArrayList;
@@ -71,6 +72,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
@@ -101,9 +108,17 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     public static final Setting<Float> THRESHOLD_SETTING =
         Setting.floatSetting("cluster.routing.allocation.balance.threshold", 1.0f, 0.0f,
             Property.Dynamic, Property.NodeScope);
+    public static final Setting<Boolean> SKIP_BALANCED_INDICES_SETTING =
+        Setting.boolSetting("cluster.routing.allocation.balance.skip_balanced_indices", true, Property.Dynamic, Property.NodeScope);
+    public static final Setting<Integer> DECIDER_PARALLELISM_SETTING =
+        Setting.intSetting("cluster.routing.allocation.balance.decider_parallelism", 1, 1, Property.Dynamic, Property.NodeScope);
 
     private volatile WeightFunction weightFunction;
     private volatile float threshold;
+    private volatile boolean skipBalancedIndices;
+    private volatile int deciderParallelism;
+
+    private final String deciderThreadNamePrefix;
 
     public BalancedShardsAllocator(Settings settings) {
         this(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
@@ -113,8 +128,13 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     public BalancedShardsAllocator(Settings settings, ClusterSettings clusterSettings) {
         setWeightFunction(INDEX_BALANCE_FACTOR_SETTING.get(settings), SHARD_BALANCE_FACTOR_SETTING.get(settings));
         setThreshold(THRESHOLD_SETTING.get(settings));
+        setSkipBalancedIndices(SKIP_BALANCED_INDICES_SETTING.get(settings));
+        setDeciderParallelism(DECIDER_PARALLELISM_SETTING.get(settings));
+        this.deciderThreadNamePrefix = OpenSearchExecutors.threadName(settings, "allocation_decider");
         clusterSettings.addSettingsUpdateConsumer(INDEX_BALANCE_FACTOR_SETTING, SHARD_BALANCE_FACTOR_SETTING, this::setWeightFunction);
         clusterSettings.addSettingsUpdateConsumer(THRESHOLD_SETTING, this::setThreshold);
+        clusterSettings.addSettingsUpdateConsumer(SKIP_BALANCED_INDICES_SETTING, this::setSkipBalancedIndices);
+        clusterSettings.addSettingsUpdateConsumer(DECIDER_PARALLELISM_SETTING, this::setDeciderParallelism);
     }
 
     private void setWeightFunction(float indexBalance, float shardBalanceFactor) {
@@ -125,21 +145,58 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.threshold = threshold;
     }
 
+    private void setSkipBalancedIndices(boolean skipBalancedIndices) {
+        this.skipBalancedIndices = skipBalancedIndices;
+    }
+
+    private void setDeciderParallelism(int deciderParallelism) {
+        this.deciderParallelism = deciderParallelism;
+    }
+
     @Override
     public void allocate(RoutingAllocation allocation) {
         if (allocation.routingNodes().size() == 0) {
             failAllocationOfNewPrimaries(allocation);
             return;
         }
-        final Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold);
-        balancer.allocateUnassigned();
-        balancer.moveShards();
-        balancer.balance();
+        final ForkJoinPool deciderPool = newDeciderPool(allocation);
+        try {
+            final Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold, skipBalancedIndices, deciderPool);
+            balancer.allocateUnassigned();
+            balancer.moveShards();
+            balancer.balance();
+        } finally {
+            if (deciderPool != null) {
+                deciderPool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Creates the pool that the deciders are asked about several nodes on during a single reroute, or returns {@code null} if the
+     * decisions must be taken on the calling thread because parallelism is disabled, a decider is not thread-safe, or the decisions
+     * are explained. The pool starts its threads lazily, so a reroute that does not need it does not pay for it.
+     */
+    private ForkJoinPool newDeciderPool(RoutingAllocation allocation) {
+        final int parallelism = deciderParallelism;
+        if (parallelism <= 1 || allocation.debugDecision() || allocation.deciders().isThreadSafe() == false) {
+            return null;
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        return new ForkJoinPool(parallelism,
+            pool -> new DeciderThread(pool, deciderThreadNamePrefix + "[T#" + threadCount.incrementAndGet() + "]"), null, false);
+    }
+
+    private static final class DeciderThread extends ForkJoinWorkerThread {
+        DeciderThread(ForkJoinPool pool, String name) {
+            super(pool);
+            setName(name);
+        }
     }
 
     @Override
     public ShardAllocationDecision decideShardAllocation(final ShardRouting shard, final RoutingAllocation allocation) {
-        Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold);
+        Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold, skipBalancedIndices);
         AllocateUnassignedDecision allocateUnassignedDecision = AllocateUnassignedDecision.NOT_TAKEN;
         MoveDecision moveDecision = MoveDecision.NOT_TAKEN;
         if (shard.unassigned()) {
@@ -253,15 +310,30 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private final WeightFunction weight;
 
         private final float threshold;
+        private final boolean skipBalancedIndices;
         private final Metadata metadata;
         private final float avgShardsPerNode;
         private final NodeSorter sorter;
 
-        public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold) {
+        private final ForkJoinPool deciderPool;
+
+        public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold,
+                        boolean skipBalancedIndices) {
+            this(logger, allocation, weight, threshold, skipBalancedIndices, null);
+        }
+
+        /**
+         * @param deciderPool the pool to ask the deciders about several nodes concurrently on, or {@code null} to take all the
+         *                    decisions on the calling thread
+         */
+        public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold,
+                        boolean skipBalancedIndices, ForkJoinPool deciderPool) {
             this.logger = logger;
             this.allocation = allocation;
             this.weight = weight;
             this.threshold = threshold;
+            this.skipBalancedIndices = skipBalancedIndices;
+            this.deciderPool = deciderPool;
             this.routingNodes = allocation.routingNodes();
             this.metadata = allocation.metadata();
             avgShardsPerNode = ((float) metadata.getTotalNumberOfShards()) / routingNodes.size();
@@ -478,15 +550,23 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             final ModelNode[] modelNodes = sorter.modelNodes;
             final float[] weights = sorter.weights;
             for (String index : buildWeightOrderedIndices()) {
+                if (skipBalancedIndices && isBalanced(index)) {
+                    // none of the shards of this index can be relocated, there is no need to ask the deciders about every node
+                    continue;
+                }
                 IndexMetadata indexMetadata = metadata.index(index);
+                final Decision[] indexDecisions = decideIndexConcurrently(indexMetadata, modelNodes);
 
                 // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
                 // move these nodes to the front of modelNodes so that we can only balance based on these nodes
                 int relevantNodes = 0;
                 for (int i = 0; i < modelNodes.length; i++) {
                     ModelNode modelNode = modelNodes[i];
+                    // nodes are only swapped with nodes at lower positions, so the node at position i is still the one the
+                    // concurrent decision was taken for
                     if (modelNode.getIndex(index) != null
-                        || deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() != Type.NO) {
+                        || (indexDecisions != null ? indexDecisions[i]
+                            : deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation)).type() != Type.NO) {
                         // swap nodes at position i and relevantNodes
                         modelNodes[i] = modelNodes[relevantNodes];
                         modelNodes[relevantNodes] = modelNode;
@@ -579,6 +659,25 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             }
         }
 
+        /**
+         * Returns {@code true} iff the weights of all nodes with respect to the given index are within the threshold of each other.
+         * The weights of the nodes that {@link #balanceByWeights()} considers for an index are a subset of these weights, so it
+         * would not relocate any of the shards of such an index, whatever the deciders say. Computing the weights from the model is
+         * much cheaper than asking the deciders whether the index may be allocated to each node, which matters for clusters with
+         * many indices that are mostly balanced, so that a reroute after a small change only does real work for the indices that
+         * the change unbalanced.
+         */
+        private boolean isBalanced(String index) {
+            float minWeight = Float.POSITIVE_INFINITY;
+            float maxWeight = Float.NEGATIVE_INFINITY;
+            for (ModelNode node : sorter.modelNodes) {
+                final float nodeWeight = weight.weight(this, node, index);
+                minWeight = Math.min(minWeight, nodeWeight);
+                maxWeight = Math.max(maxWeight, nodeWeight);
+            }
+            return lessThan(maxWeight - minWeight, threshold);
+        }
+
         /**
          * This builds a initial index ordering where the indices are returned
          * in most unbalanced first. We need this in order to prevent over
@@ -898,6 +997,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
              * iteration order is different for each run and makes testing hard */
             Map<String, NodeAllocationResult> nodeExplanationMap = explain ? new HashMap<>() : null;
             List<Tuple<String, Float>> nodeWeights = explain ? new ArrayList<>() : null;
+            final Map<ModelNode, Decision> prefetchedDecisions = explain ? null : decideShardConcurrently(shard);
             for (ModelNode node : nodes.values()) {
                 if (node.containsShard(shard) && explain == false) {
                     // decision is NO without needing to check anything further, so short circuit
@@ -911,7 +1011,10 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                     continue;
                 }
 
-                Decision currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+                Decision currentDecision = prefetchedDecisions == null ? null : prefetchedDecisions.get(node);
+                if (currentDecision == null) {
+                    currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+                }
                 if (explain) {
                     nodeExplanationMap.put(node.getNodeId(),
                         new NodeAllocationResult(node.getRoutingNode().node(), currentDecision, 0));
@@ -974,6 +1077,65 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             );
         }
 
+        /**
+         * Asks the deciders whether the given unassigned shard can be allocated to the nodes with the lowest weights for its index
+         * concurrently, in batches of increasing weight until no node is left whose weight is lower than the weight of a node the
+         * shard can be allocated to. These are the nodes that {@link #decideAllocateUnassigned} needs the decisions of to find the
+         * node with the minimal weight, it takes the decisions for any other node itself. Returns {@code null} if the decisions are
+         * to be taken on the calling thread.
+         */
+        private Map<ModelNode, Decision> decideShardConcurrently(ShardRouting shard) {
+            if (deciderPool == null || nodes.size() < deciderPool.getParallelism()) {
+                return null;
+            }
+            final AllocationDeciders deciders = allocation.deciders();
+            final NodeSorter candidates = new NodeSorter(
+                nodes.values().stream().filter(node -> node.containsShard(shard) == false).toArray(ModelNode[]::new), weight, this);
+            candidates.reset(shard.getIndexName());
+            final Map<ModelNode, Decision> decisions = new HashMap<>();
+            final int batchSize = deciderPool.getParallelism() * 2;
+            float minWeight = Float.POSITIVE_INFINITY;
+            for (int from = 0; from < candidates.modelNodes.length && candidates.weights[from] <= minWeight; from += batchSize) {
+                final int offset = from;
+                final int count = Math.min(batchSize, candidates.modelNodes.length - from);
+                final Decision[] batch = decideConcurrently(count,
+                    i -> deciders.canAllocate(shard, candidates.modelNodes[offset + i].getRoutingNode(), allocation));
+                for (int i = 0; i < count; i++) {
+                    decisions.put(candidates.modelNodes[offset + i], batch[i]);
+                    if (batch[i].type() == Type.YES || batch[i].type() == Type.THROTTLE) {
+                        minWeight = Math.min(minWeight, candidates.weights[offset + i]);
+                    }
+                }
+            }
+            return decisions;
+        }
+
+        /**
+         * Asks the deciders whether shards of the given index can be allocated to each of the given nodes that does not hold a shard
+         * of the index yet concurrently. Returns {@code null} if the decisions are to be taken on the calling thread.
+         */
+        private Decision[] decideIndexConcurrently(IndexMetadata indexMetadata, ModelNode[] modelNodes) {
+            if (deciderPool == null || modelNodes.length < deciderPool.getParallelism()) {
+                return null;
+            }
+            final AllocationDeciders deciders = allocation.deciders();
+            final String index = indexMetadata.getIndex().getName();
+            return decideConcurrently(modelNodes.length, i -> modelNodes[i].getIndex(index) != null
+                ? null : deciders.canAllocate(indexMetadata, modelNodes[i].getRoutingNode(), allocation));
+        }
+
+        /**
+         * Takes the given number of decisions on the decider pool and waits for all of them. The balancer model and the routing
+         * nodes are not modified while the decisions are taken, so the deciders may read them from several threads.
+         */
+        private Decision[] decideConcurrently(int count, IntFunction<Decision> decider) {
+            final Decision[] decisions = new Decision[count];
+            // a parallel stream started on a fork-join pool runs on the threads of that pool
+            deciderPool.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, count).parallel()
+                .forEach(i -> decisions[i] = decider.apply(i))));
+            return decisions;
+        }
+
         private static final Comparator<ShardRouting> BY_DESCENDING_SHARD_ID = Comparator.comparing(ShardRouting::shardId).reversed();
 
         /**
@@ -128,4 +128,13 @@ public abstract class AllocationDecider {
             return decision;
         }
     }
+
+    /**
+     * Returns {@code true} if this decider may take node-level decisions for several nodes concurrently, which it may if it only
+     * reads the {@link RoutingAllocation} and its own settings. The default is {@code false}, which makes the allocator take all
+     * the decisions of a reroute on a single thread.
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -236,6 +236,19 @@ public class AllocationDeciders extends AllocationDecider {
         return ret;
     }
 
+    /**
+     * Returns {@code true} iff all the deciders may take decisions for several nodes concurrently.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        for (AllocationDecider allocationDecider : allocations) {
+            if (allocationDecider.isThreadSafe() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void addDecision(Decision.Multi ret, Decision decision, RoutingAllocation allocation) {
         // We never add ALWAYS decisions and only add YES decisions when requested by debug mode (since Multi default is YES).
         if (decision != Decision.ALWAYS
@@ -212,4 +212,9 @@ public class AwarenessAllocationDecider extends AllocationDecider {
 
         return allocation.decision(Decision.YES, NAME, "node meets all awareness attribute requirements");
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
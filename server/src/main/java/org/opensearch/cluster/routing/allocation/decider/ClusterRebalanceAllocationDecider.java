@@ -158,4 +158,9 @@ public class ClusterRebalanceAllocationDecider extends AllocationDecider {
         // type == Type.ALWAYS
         return allocation.decision(Decision.YES, NAME, "all shards are active");
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -97,4 +97,9 @@ public class ConcurrentRebalanceAllocationDecider extends AllocationDecider {
                 "below threshold [%d] for concurrent rebalances, current rebalance shard count [%d]",
                 clusterConcurrentRebalance, relocatingShards);
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
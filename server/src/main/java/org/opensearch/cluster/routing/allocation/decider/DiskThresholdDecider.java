@@ -563,4 +563,8 @@ public class DiskThresholdDecider extends AllocationDecider {
         }
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
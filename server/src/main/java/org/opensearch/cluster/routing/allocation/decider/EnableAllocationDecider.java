@@ -303,4 +303,8 @@ public class EnableAllocationDecider extends AllocationDecider {
         }
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -224,4 +224,9 @@ public class FilterAllocationDecider extends AllocationDecider {
     private void setClusterExcludeFilters(Map<String, String> filters) {
         clusterExcludeFilters = DiscoveryNodeFilters.trimTier(DiscoveryNodeFilters.buildFromKeyValue(OR, filters));
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
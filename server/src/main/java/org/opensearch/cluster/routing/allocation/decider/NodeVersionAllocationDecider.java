@@ -119,4 +119,9 @@ public class NodeVersionAllocationDecider extends AllocationDecider {
                 target.node().getVersion(), recoverySource.version());
         }
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -49,4 +49,9 @@ public class RebalanceOnlyWhenActiveAllocationDecider extends AllocationDecider
         }
         return allocation.decision(Decision.YES, NAME, "rebalancing is allowed as all replicas are active in the cluster");
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -99,4 +99,9 @@ public class ResizeAllocationDecider extends AllocationDecider {
         assert shardRouting.primary() : "must not call canForceAllocatePrimary on a non-primary shard " + shardRouting;
         return canAllocate(shardRouting, node, allocation);
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
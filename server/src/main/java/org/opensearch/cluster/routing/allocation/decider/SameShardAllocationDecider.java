@@ -145,4 +145,9 @@ public class SameShardAllocationDecider extends AllocationDecider {
         }
         return allocation.decision(Decision.YES, NAME, "this node does not hold a copy of this shard");
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
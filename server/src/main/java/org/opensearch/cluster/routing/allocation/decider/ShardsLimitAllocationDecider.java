@@ -142,4 +142,8 @@ public class ShardsLimitAllocationDecider extends AllocationDecider {
             nodeShardCount, indexShardLimit, clusterShardLimit);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
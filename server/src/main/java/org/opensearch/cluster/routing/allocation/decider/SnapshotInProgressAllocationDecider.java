@@ -95,4 +95,8 @@ public class SnapshotInProgressAllocationDecider extends AllocationDecider {
         return allocation.decision(Decision.YES, NAME, "the shard is not being snapshotted");
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
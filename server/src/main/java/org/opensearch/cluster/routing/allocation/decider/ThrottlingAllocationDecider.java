@@ -224,4 +224,9 @@ public class ThrottlingAllocationDecider extends AllocationDecider {
         assert initializingShard.initializing();
         return initializingShard;
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -83,8 +83,18 @@ public final class CompressedXContent {
      * Create a {@link CompressedXContent} out of a {@link ToXContent} instance.
      */
     public CompressedXContent(ToXContent xcontent, XContentType type, ToXContent.Params params) throws IOException {
+        this(xcontent, type, params, CompressorFactory.COMPRESSOR);
+    }
+
+    /**
+     * Create a {@link CompressedXContent} out of a {@link ToXContent} instance, compressed with the given compressor. The compressed
+     * bytes are sent as they are to other nodes and stored in the cluster metadata, so the default compressor should be used for
+     * anything that ends up there unless all nodes can decompress what the given compressor compresses.
+     */
+    public CompressedXContent(ToXContent xcontent, XContentType type, ToXContent.Params params, Compressor compressor)
+        throws IOException {
         BytesStreamOutput bStream = new BytesStreamOutput();
-        OutputStream compressedStream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(bStream);
+        OutputStream compressedStream = compressor.threadLocalOutputStream(bStream);
         CRC32 crc32 = new CRC32();
         OutputStream checkedStream = new CheckedOutputStream(compressedStream, crc32);
         try (XContentBuilder builder = XContentFactory.contentBuilder(type, checkedStream)) {
@@ -102,13 +112,21 @@ public final class CompressedXContent {
      * that may already be compressed.
      */
     public CompressedXContent(BytesReference data) throws IOException {
-        Compressor compressor = CompressorFactory.compressor(data);
-        if (compressor != null) {
+        this(data, CompressorFactory.COMPRESSOR);
+    }
+
+    /**
+     * Create a {@link CompressedXContent} out of a serialized {@link ToXContent} that may already be compressed, with any scheme,
+     * or is otherwise compressed with the given compressor. See {@link #CompressedXContent(ToXContent, XContentType,
+     * ToXContent.Params, Compressor)} about which compressor to use.
+     */
+    public CompressedXContent(BytesReference data, Compressor compressor) throws IOException {
+        if (CompressorFactory.compressor(data) != null) {
             // already compressed...
             this.bytes = BytesReference.toBytes(data);
             this.crc32 = crc32(uncompressed());
         } else {
-            this.bytes = BytesReference.toBytes(CompressorFactory.COMPRESSOR.compress(data));
+            this.bytes = BytesReference.toBytes(compressor.compress(data));
             this.crc32 = crc32(data);
         }
         assertConsistent();
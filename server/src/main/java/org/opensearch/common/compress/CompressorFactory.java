@@ -32,31 +32,87 @@
 
 package org.opensearch.common.compress;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public class CompressorFactory {
 
+    /** The default compressor, based on DEFLATE, used to compress stored state and transport messages. */
     public static final Compressor COMPRESSOR = new DeflateCompressor();
 
+    /** A faster compressor than the default one, based on LZ4, that trades compression ratio for speed. */
+    public static final Compressor LZ4_COMPRESSOR = new Lz4Compressor();
+
+    public static final String DEFLATE = "deflate";
+    public static final String LZ4 = "lz4";
+
+    /** The first version that can decompress bytes compressed with {@link #LZ4_COMPRESSOR}. */
+    public static final Version LZ4_COMPRESSION_VERSION = Version.V_7_10_3;
+
+    private static final Map<String, Compressor> COMPRESSORS;
+
+    static {
+        final Map<String, Compressor> compressors = new LinkedHashMap<>();
+        compressors.put(DEFLATE, COMPRESSOR);
+        compressors.put(LZ4, LZ4_COMPRESSOR);
+        COMPRESSORS = Collections.unmodifiableMap(compressors);
+    }
+
+    /**
+     * Returns the names of all the supported compression schemes.
+     */
+    public static Set<String> compressorNames() {
+        return COMPRESSORS.keySet();
+    }
+
+    /**
+     * Returns the {@link Compressor} registered under the provided compression scheme name.
+     * @throws IllegalArgumentException if no compressor is registered under this name
+     */
+    public static Compressor compressorForName(String name) {
+        final Compressor compressor = COMPRESSORS.get(name);
+        if (compressor == null) {
+            throw new IllegalArgumentException("unknown compression scheme [" + name + "], must be one of " + COMPRESSORS.keySet());
+        }
+        return compressor;
+    }
+
+    /**
+     * Returns the provided compressor if nodes of the provided version can decompress what it compresses, or the default
+     * {@link #COMPRESSOR} otherwise.
+     */
+    public static Compressor compressorForVersion(Compressor compressor, Version version) {
+        if (compressor != COMPRESSOR && version.before(LZ4_COMPRESSION_VERSION)) {
+            return COMPRESSOR;
+        }
+        return compressor;
+    }
+
     public static boolean isCompressed(BytesReference bytes) {
         return compressor(bytes) != null;
     }
 
     @Nullable
     public static Compressor compressor(BytesReference bytes) {
-            if (COMPRESSOR.isCompressed(bytes)) {
+        for (Compressor compressor : COMPRESSORS.values()) {
+            if (compressor.isCompressed(bytes)) {
                 // bytes should be either detected as compressed or as xcontent,
                 // if we have bytes that can be either detected as compressed or
                 // as a xcontent, we have a problem
                 assert XContentHelper.xContentType(bytes) == null;
-                return COMPRESSOR;
+                return compressor;
             }
+        }
 
         XContentType contentType = XContentHelper.xContentType(bytes);
         if (contentType == null) {
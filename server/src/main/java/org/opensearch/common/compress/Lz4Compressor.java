@@ -0,0 +1,534 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 block compression algorithm. It trades compression ratio for speed and
+ * is much cheaper on CPU than {@link DeflateCompressor}, which makes it a better fit for compressing data that is sent over
+ * fast networks.
+ *
+ * The compressed format is owned by OpenSearch so that it does not change with the version of any library: the header is
+ * followed by a sequence of blocks, each made of a block type, the decompressed length and the stored length of the
+ * block, and of the stored bytes. Blocks hold at most {@link #BLOCK_SIZE} decompressed bytes and the stream ends with an
+ * {@link #END_BLOCK} marker.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams
+    // It needs to be different from other compressors and to not be specific
+    // enough so that no stream starting with these bytes could be detected as
+    // a XContent
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+
+    /** The maximum number of decompressed bytes in a single block */
+    public static final int BLOCK_SIZE = 64 * 1024;
+    /** Length of the header of a block: the block type, the decompressed length and the stored length */
+    public static final int BLOCK_HEADER_LENGTH = 1 + Integer.BYTES + Integer.BYTES;
+
+    /** Marks the end of the compressed stream, this block type has no lengths and no payload */
+    public static final byte END_BLOCK = 0;
+    /** A block compressed with LZ4 */
+    public static final byte COMPRESSED_BLOCK = 1;
+    /** A block that did not compress and is stored as is */
+    public static final byte RAW_BLOCK = 2;
+
+    private static final int MIN_MATCH = 4;
+    // the last 5 bytes of a block are always literals
+    private static final int LAST_LITERALS = 5;
+    // the last match must start at least 12 bytes before the end of the block
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 1 << 16;
+    private static final int HASH_LOG = 12;
+    private static final int ML_MASK = 0x0F;
+    private static final int RUN_MASK = 0x0F;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    /**
+     * Buffers that are reused by the compressing and decompressing streams of a thread.
+     */
+    private static final class Buffers {
+        final byte[] uncompressed = new byte[BLOCK_SIZE];
+        final byte[] compressed = new byte[maxCompressedLength(BLOCK_SIZE)];
+        final int[] hashTable = new int[1 << HASH_LOG];
+        // true if these buffers are currently in use and are not available for re-use
+        boolean inUse;
+    }
+
+    private static final ThreadLocal<Buffers> buffersRef = ThreadLocal.withInitial(Buffers::new);
+
+    private static Buffers acquireBuffers() {
+        final Buffers current = buffersRef.get();
+        if (current.inUse) {
+            // Nested streams should not happen but we still handle them safely by using fresh buffers
+            final Buffers buffers = new Buffers();
+            buffers.inUse = true;
+            return buffers;
+        }
+        current.inUse = true;
+        return current;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in, acquireBuffers());
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new Lz4OutputStream(out, acquireBuffers());
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        try (BytesStreamOutput buffer = new BytesStreamOutput(); InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            final byte[] bytes = new byte[BLOCK_SIZE];
+            int read;
+            while ((read = in.read(bytes)) != -1) {
+                buffer.write(bytes, 0, read);
+            }
+            return buffer.copyBytes();
+        }
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        try (BytesStreamOutput buffer = new BytesStreamOutput()) {
+            try (OutputStream out = threadLocalOutputStream(buffer)) {
+                bytesReference.writeTo(out);
+            }
+            return buffer.copyBytes();
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes that compressing <code>length</code> bytes can produce.
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses <code>length</code> bytes of <code>src</code> starting at <code>offset</code> into <code>dest</code>, which must
+     * hold at least {@link #maxCompressedLength(int)} bytes from <code>destOffset</code>.
+     *
+     * @return the number of compressed bytes written to <code>dest</code>
+     */
+    static int compressBlock(byte[] src, int offset, int length, byte[] dest, int destOffset, int[] hashTable) {
+        final int srcEnd = offset + length;
+        final int matchLimit = srcEnd - LAST_LITERALS;
+        final int mfLimit = srcEnd - MF_LIMIT;
+        int anchor = offset;
+        int dOff = destOffset;
+        if (length > MF_LIMIT) {
+            Arrays.fill(hashTable, -1);
+            int off = offset;
+            while (off < mfLimit) {
+                final int sequence = readInt(src, off);
+                final int hash = hash(sequence);
+                int ref = hashTable[hash];
+                hashTable[hash] = off;
+                if (ref == -1 || off - ref >= MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    ++off;
+                    continue;
+                }
+                int matchLength = MIN_MATCH + commonBytes(src, ref + MIN_MATCH, off + MIN_MATCH, matchLimit);
+                // extend the match backwards over the pending literals
+                while (off > anchor && ref > offset && src[off - 1] == src[ref - 1]) {
+                    --off;
+                    --ref;
+                    ++matchLength;
+                }
+                dOff = encodeSequence(src, anchor, off - anchor, off - ref, matchLength, dest, dOff);
+                off += matchLength;
+                anchor = off;
+            }
+        }
+        // the remaining bytes are written as literals
+        final int literalLength = srcEnd - anchor;
+        final int token = Math.min(literalLength, RUN_MASK) << 4;
+        dest[dOff++] = (byte) token;
+        if (literalLength >= RUN_MASK) {
+            dOff = writeLength(literalLength - RUN_MASK, dest, dOff);
+        }
+        System.arraycopy(src, anchor, dest, dOff, literalLength);
+        dOff += literalLength;
+        return dOff - destOffset;
+    }
+
+    /**
+     * Decompresses <code>length</code> compressed bytes of <code>src</code> into exactly <code>decompressedLength</code> bytes of
+     * <code>dest</code> starting at <code>destOffset</code>.
+     *
+     * @throws IOException if the compressed bytes are corrupted
+     */
+    public static void decompressBlock(byte[] src, int offset, int length, byte[] dest, int destOffset, int decompressedLength)
+            throws IOException {
+        final int srcEnd = offset + length;
+        final int destEnd = destOffset + decompressedLength;
+        int sOff = offset;
+        int dOff = destOffset;
+        while (true) {
+            if (sOff >= srcEnd) {
+                throw new IOException("Corrupted LZ4 block: unexpected end of the compressed bytes");
+            }
+            final int token = src[sOff++] & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    if (sOff >= srcEnd) {
+                        throw new IOException("Corrupted LZ4 block: unexpected end of the compressed bytes");
+                    }
+                    b = src[sOff++] & 0xFF;
+                    literalLength += b;
+                } while (b == 0xFF);
+            }
+            if (literalLength > srcEnd - sOff || literalLength > destEnd - dOff) {
+                throw new IOException("Corrupted LZ4 block: literals overflow the block");
+            }
+            System.arraycopy(src, sOff, dest, dOff, literalLength);
+            sOff += literalLength;
+            dOff += literalLength;
+
+            if (sOff == srcEnd) {
+                // the last sequence only has literals
+                break;
+            }
+
+            if (srcEnd - sOff < 2) {
+                throw new IOException("Corrupted LZ4 block: unexpected end of the compressed bytes");
+            }
+            final int matchOffset = (src[sOff] & 0xFF) | ((src[sOff + 1] & 0xFF) << 8);
+            sOff += 2;
+            int matchLength = token & ML_MASK;
+            if (matchLength == ML_MASK) {
+                int b;
+                do {
+                    if (sOff >= srcEnd) {
+                        throw new IOException("Corrupted LZ4 block: unexpected end of the compressed bytes");
+                    }
+                    b = src[sOff++] & 0xFF;
+                    matchLength += b;
+                } while (b == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+            final int ref = dOff - matchOffset;
+            if (matchOffset == 0 || ref < destOffset || matchLength > destEnd - dOff) {
+                throw new IOException("Corrupted LZ4 block: invalid match");
+            }
+            if (matchOffset >= matchLength) {
+                System.arraycopy(dest, ref, dest, dOff, matchLength);
+            } else {
+                // overlapping copy, the match repeats the bytes that are being written
+                for (int i = 0; i < matchLength; ++i) {
+                    dest[dOff + i] = dest[ref + i];
+                }
+            }
+            dOff += matchLength;
+        }
+        if (dOff != destEnd) {
+            throw new IOException("Corrupted LZ4 block: expected [" + decompressedLength + "] decompressed bytes but got ["
+                + (dOff - destOffset) + "]");
+        }
+    }
+
+    private static int encodeSequence(byte[] src, int anchor, int literalLength, int matchOffset, int matchLength,
+                                      byte[] dest, int dOff) {
+        final int tokenOffset = dOff++;
+        int token = Math.min(literalLength, RUN_MASK) << 4;
+        if (literalLength >= RUN_MASK) {
+            dOff = writeLength(literalLength - RUN_MASK, dest, dOff);
+        }
+        System.arraycopy(src, anchor, dest, dOff, literalLength);
+        dOff += literalLength;
+
+        dest[dOff++] = (byte) matchOffset;
+        dest[dOff++] = (byte) (matchOffset >>> 8);
+
+        final int encodedMatchLength = matchLength - MIN_MATCH;
+        token |= Math.min(encodedMatchLength, ML_MASK);
+        if (encodedMatchLength >= ML_MASK) {
+            dOff = writeLength(encodedMatchLength - ML_MASK, dest, dOff);
+        }
+        dest[tokenOffset] = (byte) token;
+        return dOff;
+    }
+
+    private static int writeLength(int length, byte[] dest, int dOff) {
+        while (length >= 0xFF) {
+            dest[dOff++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+        dest[dOff++] = (byte) length;
+        return dOff;
+    }
+
+    private static int commonBytes(byte[] b, int o1, int o2, int limit) {
+        int count = 0;
+        while (o2 < limit && b[o1++] == b[o2++]) {
+            ++count;
+        }
+        return count;
+    }
+
+    private static int readInt(byte[] b, int offset) {
+        return ((b[offset] & 0xFF) << 24) | ((b[offset + 1] & 0xFF) << 16) | ((b[offset + 2] & 0xFF) << 8) | (b[offset + 3] & 0xFF);
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    /**
+     * Reads one of the big-endian lengths of a block header.
+     */
+    public static int readBlockInt(byte[] b, int offset) {
+        return readInt(b, offset);
+    }
+
+    private static void writeBlockInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) (value >>> 24);
+        b[offset + 1] = (byte) (value >>> 16);
+        b[offset + 2] = (byte) (value >>> 8);
+        b[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Output stream that buffers up to {@link #BLOCK_SIZE} bytes and writes them as a single block when the buffer is full or when the
+     * stream is flushed.
+     */
+    private static final class Lz4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final Buffers buffers;
+        private int position;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out, Buffers buffers) {
+            this.out = out;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (position == BLOCK_SIZE) {
+                writeBlock();
+            }
+            buffers.uncompressed[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (position == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - position);
+                System.arraycopy(b, off, buffers.uncompressed, position, toCopy);
+                position += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (position == 0) {
+                return;
+            }
+            final byte[] compressed = buffers.compressed;
+            final int compressedLength = compressBlock(buffers.uncompressed, 0, position, compressed, BLOCK_HEADER_LENGTH,
+                buffers.hashTable);
+            if (compressedLength < position) {
+                compressed[0] = COMPRESSED_BLOCK;
+                writeBlockInt(compressed, 1, position);
+                writeBlockInt(compressed, 1 + Integer.BYTES, compressedLength);
+                out.write(compressed, 0, BLOCK_HEADER_LENGTH + compressedLength);
+            } else {
+                compressed[0] = RAW_BLOCK;
+                writeBlockInt(compressed, 1, position);
+                writeBlockInt(compressed, 1 + Integer.BYTES, position);
+                out.write(compressed, 0, BLOCK_HEADER_LENGTH);
+                out.write(buffers.uncompressed, 0, position);
+            }
+            position = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                out.write(END_BLOCK);
+                out.close();
+            } finally {
+                buffers.inUse = false;
+            }
+        }
+    }
+
+    /**
+     * Input stream that reads and decompresses one block at a time.
+     */
+    private static final class Lz4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final Buffers buffers;
+        private final byte[] blockHeader = new byte[BLOCK_HEADER_LENGTH];
+        private int position;
+        private int limit;
+        private boolean eos;
+        private boolean closed;
+
+        Lz4InputStream(InputStream in, Buffers buffers) {
+            this.in = in;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return buffers.uncompressed[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, limit - position);
+            System.arraycopy(buffers.uncompressed, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position == limit) {
+                if (eos) {
+                    return false;
+                }
+                readBlock();
+            }
+            return true;
+        }
+
+        private void readBlock() throws IOException {
+            final int type = in.read();
+            if (type == -1) {
+                throw new EOFException("Unexpected end of LZ4 stream");
+            } else if (type == END_BLOCK) {
+                eos = true;
+                position = limit = 0;
+                return;
+            }
+            readFully(blockHeader, 1, BLOCK_HEADER_LENGTH - 1);
+            final int decompressedLength = readInt(blockHeader, 1);
+            final int storedLength = readInt(blockHeader, 1 + Integer.BYTES);
+            if (decompressedLength < 0 || decompressedLength > BLOCK_SIZE
+                || storedLength < 0 || storedLength > buffers.compressed.length) {
+                throw new IOException("Corrupted LZ4 stream: invalid block lengths [" + decompressedLength + "/" + storedLength + "]");
+            }
+            if (type == RAW_BLOCK) {
+                if (storedLength != decompressedLength) {
+                    throw new IOException("Corrupted LZ4 stream: raw block with different stored and decompressed lengths");
+                }
+                readFully(buffers.uncompressed, 0, decompressedLength);
+            } else if (type == COMPRESSED_BLOCK) {
+                readFully(buffers.compressed, 0, storedLength);
+                decompressBlock(buffers.compressed, 0, storedLength, buffers.uncompressed, 0, decompressedLength);
+            } else {
+                throw new IOException("Corrupted LZ4 stream: unknown block type [" + type + "]");
+            }
+            position = 0;
+            limit = decompressedLength;
+        }
+
+        private void readFully(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                final int read = in.read(b, off, len);
+                if (read == -1) {
+                    throw new EOFException("Unexpected end of LZ4 stream");
+                }
+                off += read;
+                len -= read;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                in.close();
+            } finally {
+                buffers.inUse = false;
+            }
+        }
+    }
+}
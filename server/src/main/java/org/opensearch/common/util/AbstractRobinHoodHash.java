@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+
+/**
+ * Base implementation for {@link RobinHoodLongHash} and {@link RobinHoodLongLongHash}. Each slot of the table stores the key next to
+ * the id it maps to, so that a probe reads a single cache line rather than following the id of every visited slot to the key it
+ * stands for. Collisions are resolved with Robin Hood probing: an entry that is further from the slot it hashes to takes the slot
+ * of an entry that is closer to its own, which keeps probe sequences short even at high load factors and lets lookups of absent
+ * keys stop as soon as they reach an entry that is closer to its slot than the key would be. The keys are also stored by id, so
+ * that growing rebuilds the table from them and that ids can be resolved to their keys.
+ * This class is not thread-safe.
+ */
+// The last long of every slot stores the id as id + 1 so that 0 encodes for an empty slot, shifted left to make room for the
+// distance of the entry from the slot it hashes to.
+abstract class AbstractRobinHoodHash implements Releasable {
+
+    // Robin Hood probing keeps probe sequences short enough to allow for a higher load factor than linear probing.
+    static final float DEFAULT_MAX_LOAD_FACTOR = 0.75f;
+
+    static final int DISTANCE_BITS = 8;
+    // Probe sequences are so short that the table is grown rather than letting an entry get further from its slot.
+    static final long MAX_DISTANCE = (1L << DISTANCE_BITS) - 1;
+
+    final BigArrays bigArrays;
+    final float maxLoadFactor;
+    private final int slotWidth;
+    LongArray table;
+    long size, maxSize;
+    long mask;
+
+    AbstractRobinHoodHash(long capacity, float maxLoadFactor, int slotWidth, BigArrays bigArrays) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must be >= 0");
+        }
+        if (maxLoadFactor <= 0 || maxLoadFactor >= 1) {
+            throw new IllegalArgumentException("maxLoadFactor must be > 0 and < 1");
+        }
+        this.bigArrays = bigArrays;
+        this.maxLoadFactor = maxLoadFactor;
+        this.slotWidth = slotWidth;
+        long buckets = 1L + (long) (capacity / maxLoadFactor);
+        buckets = Math.max(1, Long.highestOneBit(buckets - 1) << 1); // next power of two
+        assert buckets == Long.highestOneBit(buckets);
+        maxSize = (long) (buckets * maxLoadFactor);
+        assert maxSize >= capacity;
+        mask = buckets - 1;
+        table = bigArrays.newLongArray(buckets * slotWidth, true);
+    }
+
+    static long meta(long id, long distance) {
+        assert distance <= MAX_DISTANCE;
+        return ((id + 1) << DISTANCE_BITS) | distance;
+    }
+
+    static long id(long meta) {
+        return (meta >>> DISTANCE_BITS) - 1;
+    }
+
+    static long distance(long meta) {
+        return meta & MAX_DISTANCE;
+    }
+
+    /**
+     * Return the number of allocated slots to store this hash table.
+     */
+    public long capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Return the number of keys in this hash table.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Put the key with the given id back into the table while it is rebuilt. Return {@code false} if that would move an entry more
+     * than {@link #MAX_DISTANCE} slots away from the slot it hashes to.
+     */
+    protected abstract boolean reinsert(long id);
+
+    /**
+     * Double the number of slots and rebuild the table from the keys that are stored by id.
+     */
+    protected final void grow() {
+        long buckets = capacity() << 1;
+        while (true) {
+            table.close();
+            table = null;
+            table = bigArrays.newLongArray(buckets * slotWidth, true);
+            mask = buckets - 1;
+            maxSize = (long) (buckets * maxLoadFactor);
+            boolean reinserted = true;
+            for (long id = 0; id < size && reinserted; id++) {
+                reinserted = reinsert(id);
+            }
+            if (reinserted) {
+                assert size < maxSize || size == 0;
+                return;
+            }
+            // this takes a badly distributed set of keys, but grow anyway rather than letting the probe sequences get longer
+            buckets <<= 1;
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(table);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.lease.Releasables;
+
+/**
+ * Specialized hash table implementation that maps long values to ids, like {@link LongHash}, but which stores each key next to its
+ * id and resolves collisions with Robin Hood probing, see {@link AbstractRobinHoodHash}. This makes lookups and inserts into large
+ * tables need fewer cache misses.
+ * This class is not thread-safe.
+ */
+public final class RobinHoodLongHash extends AbstractRobinHoodHash {
+
+    // the key and the id of every slot
+    private static final int SLOT_WIDTH = 2;
+
+    private LongArray keys;
+
+    // Constructor with configurable capacity and default maximum load factor.
+    public RobinHoodLongHash(long capacity, BigArrays bigArrays) {
+        this(capacity, DEFAULT_MAX_LOAD_FACTOR, bigArrays);
+    }
+
+    //Constructor with configurable capacity and load factor.
+    public RobinHoodLongHash(long capacity, float maxLoadFactor, BigArrays bigArrays) {
+        super(capacity, maxLoadFactor, SLOT_WIDTH, bigArrays);
+        boolean success = false;
+        try {
+            keys = bigArrays.newLongArray(capacity, false);
+            success = true;
+        } finally {
+            if (success == false) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Return the key with the given id.
+     */
+    public long get(long id) {
+        return keys.get(id);
+    }
+
+    /**
+     * Get the id associated with <code>key</code> or -1 if the key is not contained in the hash.
+     */
+    public long find(long key) {
+        long slot = AbstractPagedHashMap.hash(key) & mask;
+        for (long distance = 0; distance <= MAX_DISTANCE; distance++) {
+            final long index = slot * SLOT_WIDTH;
+            final long meta = table.get(index + 1);
+            if (meta == 0 || distance(meta) < distance) {
+                return -1;
+            }
+            if (table.get(index) == key) {
+                return id(meta);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Try to add <code>key</code>. Return its newly allocated id if it wasn't in the hash table yet, or <code>-1-id</code>
+     * if it was already present in the hash table.
+     */
+    public long add(long key) {
+        return add(key, AbstractPagedHashMap.hash(key));
+    }
+
+    /**
+     * Add the first {@code length} of the given keys, storing what {@link #add(long)} returns for each of them in {@code ids}.
+     * All keys are hashed before any of them is looked up, which lets the processor overlap the memory accesses of these lookups
+     * better than when they are added one by one.
+     */
+    public void add(long[] keys, int length, long[] ids) {
+        for (int i = 0; i < length; i++) {
+            ids[i] = AbstractPagedHashMap.hash(keys[i]);
+        }
+        for (int i = 0; i < length; i++) {
+            ids[i] = add(keys[i], ids[i]);
+        }
+    }
+
+    private long add(long key, long hash) {
+        if (size >= maxSize) {
+            assert size == maxSize;
+            grow();
+        }
+        long slot = hash & mask;
+        long distance = 0;
+        while (true) {
+            final long index = slot * SLOT_WIDTH;
+            final long meta = table.get(index + 1);
+            if (meta == 0 || distance(meta) < distance) {
+                break;
+            }
+            if (table.get(index) == key) {
+                return -1 - id(meta);
+            }
+            slot = (slot + 1) & mask;
+            if (++distance > MAX_DISTANCE) {
+                grow();
+                return add(key, hash);
+            }
+        }
+        final long id = size++;
+        keys = bigArrays.grow(keys, size);
+        keys.set(id, key);
+        if (insert(slot, distance, key, id) == false) {
+            grow();
+        }
+        return id;
+    }
+
+    /**
+     * Insert a key that is known to be absent, starting at the given slot.
+     */
+    private boolean insert(long slot, long distance, long key, long id) {
+        long meta = meta(id, distance);
+        while (true) {
+            final long index = slot * SLOT_WIDTH;
+            final long current = table.get(index + 1);
+            if (current == 0) {
+                table.set(index, key);
+                table.set(index + 1, meta);
+                return true;
+            }
+            if (distance(current) < distance(meta)) {
+                // take the slot of the entry that is closer to its own slot and carry on with that entry
+                final long currentKey = table.get(index);
+                table.set(index, key);
+                table.set(index + 1, meta);
+                key = currentKey;
+                meta = current;
+            }
+            if (distance(meta) == MAX_DISTANCE) {
+                return false;
+            }
+            meta++; // one slot further
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    protected boolean reinsert(long id) {
+        final long key = keys.get(id);
+        return insert(AbstractPagedHashMap.hash(key) & mask, 0, key, id);
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(keys, super::close);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.lease.Releasables;
+
+/**
+ * Specialized hash table implementation that maps pairs of long values to ids, like {@link LongLongHash}, but which stores each
+ * pair next to its id and resolves collisions with Robin Hood probing, see {@link AbstractRobinHoodHash}. This makes lookups and
+ * inserts into large tables need fewer cache misses.
+ * This class is not thread-safe.
+ */
+public final class RobinHoodLongLongHash extends AbstractRobinHoodHash {
+
+    // both keys and the id of every slot
+    private static final int SLOT_WIDTH = 3;
+
+    /**
+     * The keys of the hash, stored one after another. Even elements
+     * are the {@code key1}s and odd elements are the {@code key2}s
+     * for each key.
+     */
+    private LongArray keys;
+
+    // Constructor with configurable capacity and default maximum load factor.
+    public RobinHoodLongLongHash(long capacity, BigArrays bigArrays) {
+        this(capacity, DEFAULT_MAX_LOAD_FACTOR, bigArrays);
+    }
+
+    //Constructor with configurable capacity and load factor.
+    public RobinHoodLongLongHash(long capacity, float maxLoadFactor, BigArrays bigArrays) {
+        super(capacity, maxLoadFactor, SLOT_WIDTH, bigArrays);
+        boolean success = false;
+        try {
+            keys = bigArrays.newLongArray(2 * capacity, false);
+            success = true;
+        } finally {
+            if (success == false) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Return the first key at {@code 0 &lt;= index &lt;= capacity()}. The
+     * result is undefined if the slot is unused.
+     */
+    public long getKey1(long id) {
+        return keys.get(2 * id);
+    }
+
+    /**
+     * Return the second key at {@code 0 &lt;= index &lt;= capacity()}. The
+     * result is undefined if the slot is unused.
+     */
+    public long getKey2(long id) {
+        return keys.get(2 * id + 1);
+    }
+
+    /**
+     * Get the id associated with <code>key</code> or -1 if the key is not contained in the hash.
+     */
+    public long find(long key1, long key2) {
+        long slot = LongLongHash.hash(key1, key2) & mask;
+        for (long distance = 0; distance <= MAX_DISTANCE; distance++) {
+            final long index = slot * SLOT_WIDTH;
+            final long meta = table.get(index + 2);
+            if (meta == 0 || distance(meta) < distance) {
+                return -1;
+            }
+            if (table.get(index) == key1 && table.get(index + 1) == key2) {
+                return id(meta);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Try to add {@code key}. Return its newly allocated id if it wasn't in
+     * the hash table yet, or {@code -1-id} if it was already present in
+     * the hash table.
+     */
+    public long add(long key1, long key2) {
+        return add(key1, key2, LongLongHash.hash(key1, key2));
+    }
+
+    /**
+     * Add the pairs of {@code key1} with the first {@code length} of the given {@code key2s}, storing what
+     * {@link #add(long, long)} returns for each of them in {@code ids}. All pairs are hashed before any of them is looked up,
+     * which lets the processor overlap the memory accesses of these lookups better than when they are added one by one.
+     */
+    public void add(long key1, long[] key2s, int length, long[] ids) {
+        for (int i = 0; i < length; i++) {
+            ids[i] = LongLongHash.hash(key1, key2s[i]);
+        }
+        for (int i = 0; i < length; i++) {
+            ids[i] = add(key1, key2s[i], ids[i]);
+        }
+    }
+
+    private long add(long key1, long key2, long hash) {
+        if (size >= maxSize) {
+            assert size == maxSize;
+            grow();
+        }
+        long slot = hash & mask;
+        long distance = 0;
+        while (true) {
+            final long index = slot * SLOT_WIDTH;
+            final long meta = table.get(index + 2);
+            if (meta == 0 || distance(meta) < distance) {
+                break;
+            }
+            if (table.get(index) == key1 && table.get(index + 1) == key2) {
+                return -1 - id(meta);
+            }
+            slot = (slot + 1) & mask;
+            if (++distance > MAX_DISTANCE) {
+                grow();
+                return add(key1, key2, hash);
+            }
+        }
+        final long id = size++;
+        keys = bigArrays.grow(keys, 2 * size);
+        keys.set(2 * id, key1);
+        keys.set(2 * id + 1, key2);
+        if (insert(slot, distance, key1, key2, id) == false) {
+            grow();
+        }
+        return id;
+    }
+
+    /**
+     * Insert a pair of keys that is known to be absent, starting at the given slot.
+     */
+    private boolean insert(long slot, long distance, long key1, long key2, long id) {
+        long meta = meta(id, distance);
+        while (true) {
+            final long index = slot * SLOT_WIDTH;
+            final long current = table.get(index + 2);
+            if (current == 0) {
+                table.set(index, key1);
+                table.set(index + 1, key2);
+                table.set(index + 2, meta);
+                return true;
+            }
+            if (distance(current) < distance(meta)) {
+                // take the slot of the entry that is closer to its own slot and carry on with that entry
+                final long currentKey1 = table.get(index);
+                final long currentKey2 = table.get(index + 1);
+                table.set(index, key1);
+                table.set(index + 1, key2);
+                table.set(index + 2, meta);
+                key1 = currentKey1;
+                key2 = currentKey2;
+                meta = current;
+            }
+            if (distance(meta) == MAX_DISTANCE) {
+                return false;
+            }
+            meta++; // one slot further
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    protected boolean reinsert(long id) {
+        final long key1 = keys.get(2 * id);
+        final long key2 = keys.get(2 * id + 1);
+        return insert(LongLongHash.hash(key1, key2) & mask, 0, key1, key2, id);
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(keys, super::close);
+    }
+}
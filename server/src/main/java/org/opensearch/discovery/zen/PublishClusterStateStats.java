@@ -32,9 +32,12 @@
 
 package org.opensearch.discovery.zen;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 
@@ -48,6 +51,11 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
     private final long fullClusterStateReceivedCount;
     private final long incompatibleClusterStateDiffReceivedCount;
     private final long compatibleClusterStateDiffReceivedCount;
+    private final long fullClusterStateSerializedCount;
+    private final long clusterStateDiffSerializedCount;
+    private final long laggingClusterStateDiffSerializedCount;
+    private final long serializedClusterStateSizeInBytes;
+    private final long clusterStateSerializationTimeInMillis;
 
     /**
      * @param fullClusterStateReceivedCount the number of times this node has received a full copy of the cluster state from the master.
@@ -57,15 +65,53 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
     public PublishClusterStateStats(long fullClusterStateReceivedCount,
                                     long incompatibleClusterStateDiffReceivedCount,
                                     long compatibleClusterStateDiffReceivedCount) {
+        this(fullClusterStateReceivedCount, incompatibleClusterStateDiffReceivedCount, compatibleClusterStateDiffReceivedCount,
+            0L, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * @param fullClusterStateSerializedCount the number of times this node has serialized a full copy of the cluster state to publish it
+     * @param clusterStateDiffSerializedCount the number of times this node has serialized a cluster-state diff to publish it
+     * @param laggingClusterStateDiffSerializedCount the number of serialized cluster-state diffs that were computed from a state older
+     *                                               than the previously published state, for nodes that missed a publication
+     * @param serializedClusterStateSizeInBytes the total compressed size of the full states and diffs this node has serialized
+     * @param clusterStateSerializationTimeInMillis the total time this node has spent on computing and serializing full states and diffs
+     */
+    public PublishClusterStateStats(long fullClusterStateReceivedCount,
+                                    long incompatibleClusterStateDiffReceivedCount,
+                                    long compatibleClusterStateDiffReceivedCount,
+                                    long fullClusterStateSerializedCount,
+                                    long clusterStateDiffSerializedCount,
+                                    long laggingClusterStateDiffSerializedCount,
+                                    long serializedClusterStateSizeInBytes,
+                                    long clusterStateSerializationTimeInMillis) {
         this.fullClusterStateReceivedCount = fullClusterStateReceivedCount;
         this.incompatibleClusterStateDiffReceivedCount = incompatibleClusterStateDiffReceivedCount;
         this.compatibleClusterStateDiffReceivedCount = compatibleClusterStateDiffReceivedCount;
+        this.fullClusterStateSerializedCount = fullClusterStateSerializedCount;
+        this.clusterStateDiffSerializedCount = clusterStateDiffSerializedCount;
+        this.laggingClusterStateDiffSerializedCount = laggingClusterStateDiffSerializedCount;
+        this.serializedClusterStateSizeInBytes = serializedClusterStateSizeInBytes;
+        this.clusterStateSerializationTimeInMillis = clusterStateSerializationTimeInMillis;
     }
 
     public PublishClusterStateStats(StreamInput in) throws IOException {
         fullClusterStateReceivedCount = in.readVLong();
         incompatibleClusterStateDiffReceivedCount = in.readVLong();
         compatibleClusterStateDiffReceivedCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            fullClusterStateSerializedCount = in.readVLong();
+            clusterStateDiffSerializedCount = in.readVLong();
+            laggingClusterStateDiffSerializedCount = in.readVLong();
+            serializedClusterStateSizeInBytes = in.readVLong();
+            clusterStateSerializationTimeInMillis = in.readVLong();
+        } else {
+            fullClusterStateSerializedCount = 0L;
+            clusterStateDiffSerializedCount = 0L;
+            laggingClusterStateDiffSerializedCount = 0L;
+            serializedClusterStateSizeInBytes = 0L;
+            clusterStateSerializationTimeInMillis = 0L;
+        }
     }
 
     @Override
@@ -73,6 +119,13 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
         out.writeVLong(fullClusterStateReceivedCount);
         out.writeVLong(incompatibleClusterStateDiffReceivedCount);
         out.writeVLong(compatibleClusterStateDiffReceivedCount);
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeVLong(fullClusterStateSerializedCount);
+            out.writeVLong(clusterStateDiffSerializedCount);
+            out.writeVLong(laggingClusterStateDiffSerializedCount);
+            out.writeVLong(serializedClusterStateSizeInBytes);
+            out.writeVLong(clusterStateSerializationTimeInMillis);
+        }
     }
 
     @Override
@@ -82,6 +135,15 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
             builder.field("full_states", fullClusterStateReceivedCount);
             builder.field("incompatible_diffs", incompatibleClusterStateDiffReceivedCount);
             builder.field("compatible_diffs", compatibleClusterStateDiffReceivedCount);
+            builder.startObject("serialized");
+            {
+                builder.field("full_states", fullClusterStateSerializedCount);
+                builder.field("diffs", clusterStateDiffSerializedCount);
+                builder.field("lagging_diffs", laggingClusterStateDiffSerializedCount);
+                builder.humanReadableField("size_in_bytes", "size", new ByteSizeValue(serializedClusterStateSizeInBytes));
+                builder.humanReadableField("time_in_millis", "time", new TimeValue(clusterStateSerializationTimeInMillis));
+            }
+            builder.endObject();
         }
         builder.endObject();
         return builder;
@@ -93,11 +155,24 @@ public class PublishClusterStateStats implements Writeable, ToXContentObject {
 
     public long getCompatibleClusterStateDiffReceivedCount() { return compatibleClusterStateDiffReceivedCount; }
 
+    public long getFullClusterStateSerializedCount() { return fullClusterStateSerializedCount; }
+
+    public long getClusterStateDiffSerializedCount() { return clusterStateDiffSerializedCount; }
+
+    public long getLaggingClusterStateDiffSerializedCount() { return laggingClusterStateDiffSerializedCount; }
+
+    public long getSerializedClusterStateSizeInBytes() { return serializedClusterStateSizeInBytes; }
+
+    public long getClusterStateSerializationTimeInMillis() { return clusterStateSerializationTimeInMillis; }
+
     @Override
     public String toString() {
         return "PublishClusterStateStats(full=" + fullClusterStateReceivedCount
             + ", incompatible=" + incompatibleClusterStateDiffReceivedCount
             + ", compatible=" + compatibleClusterStateDiffReceivedCount
+            + ", serializedFull=" + fullClusterStateSerializedCount
+            + ", serializedDiffs=" + clusterStateDiffSerializedCount
+            + ", serializedLaggingDiffs=" + laggingClusterStateDiffSerializedCount
             + ")";
     }
 }
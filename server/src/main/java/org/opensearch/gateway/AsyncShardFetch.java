@@ -79,6 +79,17 @@ public abstract class AsyncShardFetch<T extends BaseNodeResponse> implements Rel
         void list(ShardId shardId, @Nullable String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesResponse> listener);
     }
 
+    /**
+     * A {@link Lister} that can also list the data of many shards on a single node with a single request, see {@link BatchedShardLister}.
+     */
+    public interface BatchLister<NodesResponse extends BaseNodesResponse<NodeResponse>, NodeResponse extends BaseNodeResponse>
+        extends Lister<NodesResponse, NodeResponse> {
+
+        void listBatch(DiscoveryNode node, NodeShardsBatchRequest request, ActionListener<NodeShardsBatchResponse<NodeResponse>> listener);
+
+        NodesResponse newNodesResponse(List<NodeResponse> responses, List<FailedNodeException> failures);
+    }
+
     protected final Logger logger;
     protected final String type;
     protected final ShardId shardId;
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.index.shard.ShardId;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the fetches that the {@link AsyncShardFetch} instances of the {@link GatewayAllocator} start while allocating shards, and
+ * sends them to each node in batches of many shards rather than as a request per shard to every node, which after a full cluster
+ * restart of a cluster with many shards adds up to a huge number of tiny requests. A node's batch is sent as soon as it is full, and
+ * the remaining shards are sent when the batches are {@link #flush() flushed} at the end of the allocation round. Each fetch still
+ * completes with the responses of all its nodes at once, so that caching and invalidating the fetched data per shard is left to
+ * {@link AsyncShardFetch}. Nodes that do not support batched listing yet are sent a request per shard.
+ */
+public class BatchedShardLister<NodesResponse extends BaseNodesResponse<NodeResponse>, NodeResponse extends BaseNodeResponse>
+    implements AsyncShardFetch.Lister<NodesResponse, NodeResponse> {
+
+    private final Logger logger;
+    private final String type;
+    private final AsyncShardFetch.BatchLister<NodesResponse, NodeResponse> action;
+    private final IntSupplier batchSize;
+
+    // guarded by this
+    private final Map<DiscoveryNode, List<ShardFetch>> pendingFetches = new HashMap<>();
+
+    public BatchedShardLister(Logger logger, String type, AsyncShardFetch.BatchLister<NodesResponse, NodeResponse> action,
+                              IntSupplier batchSize) {
+        this.logger = logger;
+        this.type = type;
+        this.action = action;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void list(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesResponse> listener) {
+        final int batchSize = this.batchSize.getAsInt();
+        if (batchSize <= 1) {
+            action.list(shardId, customDataPath, nodes, listener);
+            return;
+        }
+
+        final ShardFetch fetch = new ShardFetch(new NodeShardsBatchRequest.Shard(shardId, customDataPath), nodes.length, listener);
+        final List<DiscoveryNode> legacyNodes = new ArrayList<>();
+        final Map<DiscoveryNode, List<ShardFetch>> fullBatches = new HashMap<>();
+        synchronized (this) {
+            for (DiscoveryNode node : nodes) {
+                if (node.getVersion().onOrAfter(Version.V_7_10_3)) {
+                    final List<ShardFetch> fetches = pendingFetches.computeIfAbsent(node, n -> new ArrayList<>());
+                    fetches.add(fetch);
+                    if (fetches.size() >= batchSize) {
+                        fullBatches.put(node, pendingFetches.remove(node));
+                    }
+                } else {
+                    legacyNodes.add(node);
+                }
+            }
+        }
+
+        if (legacyNodes.isEmpty() == false) {
+            final DiscoveryNode[] legacyNodesArray = legacyNodes.toArray(new DiscoveryNode[0]);
+            action.list(shardId, customDataPath, legacyNodesArray, ActionListener.wrap(fetch::onNodesResponse, e -> {
+                for (DiscoveryNode node : legacyNodesArray) {
+                    fetch.onNodeFailure(new FailedNodeException(node.getId(), "total failure in fetching", e));
+                }
+            }));
+        }
+        fullBatches.forEach(this::sendBatch);
+    }
+
+    /**
+     * Sends the batches of all the fetches that are still pending.
+     */
+    public void flush() {
+        final Map<DiscoveryNode, List<ShardFetch>> batches;
+        synchronized (this) {
+            if (pendingFetches.isEmpty()) {
+                return;
+            }
+            batches = new HashMap<>(pendingFetches);
+            pendingFetches.clear();
+        }
+        batches.forEach(this::sendBatch);
+    }
+
+    /**
+     * Returns the number of shard fetches that are waiting to be sent to some node.
+     */
+    public synchronized int getNumberOfPendingFetches() {
+        return pendingFetches.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void sendBatch(DiscoveryNode node, List<ShardFetch> fetches) {
+        logger.trace("fetching [{}] of [{}] shards from {}", type, fetches.size(), node);
+        final NodeShardsBatchRequest request = new NodeShardsBatchRequest(fetches.stream().map(f -> f.shard).collect(Collectors.toList()));
+        action.listBatch(node, request, new ActionListener<NodeShardsBatchResponse<NodeResponse>>() {
+            @Override
+            public void onResponse(NodeShardsBatchResponse<NodeResponse> response) {
+                assert response.size() == fetches.size() : "expected [" + fetches.size() + "] shards but got [" + response.size() + "]";
+                for (int i = 0; i < fetches.size(); i++) {
+                    final NodeResponse nodeResponse = response.getResponse(i);
+                    if (nodeResponse != null) {
+                        fetches.get(i).onNodeResponse(nodeResponse);
+                    } else {
+                        fetches.get(i).onNodeFailure(
+                            new FailedNodeException(node.getId(), "Failed node [" + node.getId() + "]", response.getFailure(i)));
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                for (ShardFetch fetch : fetches) {
+                    fetch.onNodeFailure(new FailedNodeException(node.getId(), "total failure in fetching", e));
+                }
+            }
+        });
+    }
+
+    /**
+     * The fetch of a single shard from a number of nodes, which completes once all of them responded.
+     */
+    private final class ShardFetch {
+
+        private final NodeShardsBatchRequest.Shard shard;
+        private final AtomicInteger pendingNodes;
+        private final ActionListener<NodesResponse> listener;
+        // guarded by this
+        private final List<NodeResponse> responses = new ArrayList<>();
+        // guarded by this
+        private final List<FailedNodeException> failures = new ArrayList<>();
+
+        ShardFetch(NodeShardsBatchRequest.Shard shard, int nodes, ActionListener<NodesResponse> listener) {
+            this.shard = shard;
+            this.pendingNodes = new AtomicInteger(nodes);
+            this.listener = listener;
+        }
+
+        void onNodeResponse(NodeResponse response) {
+            synchronized (this) {
+                responses.add(response);
+            }
+            countDown(1);
+        }
+
+        void onNodeFailure(FailedNodeException failure) {
+            synchronized (this) {
+                failures.add(failure);
+            }
+            countDown(1);
+        }
+
+        void onNodesResponse(NodesResponse nodesResponse) {
+            synchronized (this) {
+                responses.addAll(nodesResponse.getNodes());
+                failures.addAll(nodesResponse.failures());
+            }
+            countDown(nodesResponse.getNodes().size() + nodesResponse.failures().size());
+        }
+
+        private void countDown(int nodes) {
+            final int remaining = pendingNodes.addAndGet(-nodes);
+            assert remaining >= 0 : "received more responses than requested for " + shard;
+            if (remaining == 0) {
+                final NodesResponse nodesResponse;
+                synchronized (this) {
+                    nodesResponse = action.newNodesResponse(new ArrayList<>(responses), new ArrayList<>(failures));
+                }
+                listener.onResponse(nodesResponse);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return shard.toString();
+        }
+    }
+}
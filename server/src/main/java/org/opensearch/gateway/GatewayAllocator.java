@@ -48,9 +48,12 @@ import org.opensearch.cluster.routing.allocation.AllocateUnassignedDecision;
 import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
 import org.opensearch.cluster.routing.allocation.FailedShard;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.index.shard.ShardId;
@@ -69,8 +72,21 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     private static final Logger logger = LogManager.getLogger(GatewayAllocator.class);
 
+    /**
+     * The maximum number of shards whose started state or store metadata is listed on a node with a single request. Setting it to 1
+     * sends a request per shard.
+     */
+    public static final Setting<Integer> SHARD_FETCH_BATCH_SIZE_SETTING = Setting.intSetting(
+        "cluster.routing.allocation.shard_fetch_batch_size", 1000, 1, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     private final RerouteService rerouteService;
 
+    private final BatchedShardLister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+        TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedLister;
+    private final BatchedShardLister<TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
+        TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> storeLister;
+    private volatile int shardFetchBatchSize;
+
     private final PrimaryShardAllocator primaryShardAllocator;
     private final ReplicaShardAllocator replicaShardAllocator;
 
@@ -81,12 +97,28 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     private Set<String> lastSeenEphemeralIds = Collections.emptySet();
 
     @Inject
-    public GatewayAllocator(RerouteService rerouteService,
+    public GatewayAllocator(RerouteService rerouteService, ClusterService clusterService,
                             TransportNodesListGatewayStartedShards startedAction,
                             TransportNodesListShardStoreMetadata storeAction) {
+        this(rerouteService, clusterService.getClusterSettings(), startedAction, storeAction);
+    }
+
+    GatewayAllocator(RerouteService rerouteService, ClusterSettings clusterSettings,
+                     AsyncShardFetch.BatchLister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+                         TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction,
+                     AsyncShardFetch.BatchLister<TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
+                         TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> storeAction) {
         this.rerouteService = rerouteService;
-        this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedAction);
-        this.replicaShardAllocator = new InternalReplicaShardAllocator(storeAction);
+        this.shardFetchBatchSize = clusterSettings.get(SHARD_FETCH_BATCH_SIZE_SETTING);
+        clusterSettings.addSettingsUpdateConsumer(SHARD_FETCH_BATCH_SIZE_SETTING, this::setShardFetchBatchSize);
+        this.startedLister = new BatchedShardLister<>(logger, "shard_started", startedAction, () -> shardFetchBatchSize);
+        this.storeLister = new BatchedShardLister<>(logger, "shard_store", storeAction, () -> shardFetchBatchSize);
+        this.primaryShardAllocator = new InternalPrimaryShardAllocator(startedLister);
+        this.replicaShardAllocator = new InternalReplicaShardAllocator(storeLister);
+    }
+
+    private void setShardFetchBatchSize(int shardFetchBatchSize) {
+        this.shardFetchBatchSize = shardFetchBatchSize;
     }
 
     @Override
@@ -100,6 +132,8 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     // for tests
     protected GatewayAllocator() {
         this.rerouteService = null;
+        this.startedLister = null;
+        this.storeLister = null;
         this.primaryShardAllocator = null;
         this.replicaShardAllocator = null;
     }
@@ -137,17 +171,26 @@ public class GatewayAllocator implements ExistingShardsAllocator {
         assert primaryShardAllocator != null;
         assert replicaShardAllocator != null;
         ensureAsyncFetchStorePrimaryRecency(allocation);
+        // send anything left over from an earlier round that did not complete
+        flushShardFetches();
     }
 
     @Override
     public void afterPrimariesBeforeReplicas(RoutingAllocation allocation) {
         assert replicaShardAllocator != null;
+        // the primaries are allocated, no need to wait for the replicas before fetching their data
+        flushShardFetches();
         if (allocation.routingNodes().hasInactiveShards()) {
             // cancel existing recoveries if we have a better match
             replicaShardAllocator.processExistingRecoveries(allocation);
         }
     }
 
+    @Override
+    public void afterAllocation(RoutingAllocation allocation) {
+        flushShardFetches();
+    }
+
     @Override
     public void allocateUnassigned(ShardRouting shardRouting, final RoutingAllocation allocation,
                                    UnassignedAllocationHandler unassignedAllocationHandler) {
@@ -174,12 +217,28 @@ public class GatewayAllocator implements ExistingShardsAllocator {
     public AllocateUnassignedDecision explainUnassignedShardAllocation(ShardRouting unassignedShard, RoutingAllocation routingAllocation) {
         assert unassignedShard.unassigned();
         assert routingAllocation.debugDecision();
-        if (unassignedShard.primary()) {
-            assert primaryShardAllocator != null;
-            return primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
-        } else {
-            assert replicaShardAllocator != null;
-            return replicaShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+        try {
+            if (unassignedShard.primary()) {
+                assert primaryShardAllocator != null;
+                return primaryShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            } else {
+                assert replicaShardAllocator != null;
+                return replicaShardAllocator.makeAllocationDecision(unassignedShard, routingAllocation, logger);
+            }
+        } finally {
+            flushShardFetches();
+        }
+    }
+
+    /**
+     * Sends the shard fetches that were started since the last flush, batched per node.
+     */
+    private void flushShardFetches() {
+        if (startedLister != null) {
+            startedLister.flush();
+        }
+        if (storeLister != null) {
+            storeLister.flush();
         }
     }
 
@@ -239,9 +298,11 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     class InternalPrimaryShardAllocator extends PrimaryShardAllocator {
 
-        private final TransportNodesListGatewayStartedShards startedAction;
+        private final AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+            TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction;
 
-        InternalPrimaryShardAllocator(TransportNodesListGatewayStartedShards startedAction) {
+        InternalPrimaryShardAllocator(AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+                                          TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> startedAction) {
             this.startedAction = startedAction;
         }
 
@@ -265,9 +326,11 @@ public class GatewayAllocator implements ExistingShardsAllocator {
 
     class InternalReplicaShardAllocator extends ReplicaShardAllocator {
 
-        private final TransportNodesListShardStoreMetadata storeAction;
+        private final AsyncShardFetch.Lister<TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
+            TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> storeAction;
 
-        InternalReplicaShardAllocator(TransportNodesListShardStoreMetadata storeAction) {
+        InternalReplicaShardAllocator(AsyncShardFetch.Lister<TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
+                                          TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> storeAction) {
             this.storeAction = storeAction;
         }
 
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Asks a single node for the data of many shards at once, see {@link AsyncShardFetch.BatchLister}.
+ */
+public class NodeShardsBatchRequest extends TransportRequest {
+
+    private final List<Shard> shards;
+
+    public NodeShardsBatchRequest(List<Shard> shards) {
+        this.shards = Collections.unmodifiableList(shards);
+    }
+
+    public NodeShardsBatchRequest(StreamInput in) throws IOException {
+        super(in);
+        shards = in.readList(Shard::new);
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(shards);
+    }
+
+    /**
+     * A shard to list, together with the custom data path of its index.
+     */
+    public static class Shard implements Writeable {
+
+        private final ShardId shardId;
+        private final String customDataPath;
+
+        public Shard(ShardId shardId, String customDataPath) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.customDataPath = Objects.requireNonNull(customDataPath);
+        }
+
+        public Shard(StreamInput in) throws IOException {
+            shardId = new ShardId(in);
+            customDataPath = in.readString();
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        /**
+         * Returns the custom data path that is used to look up information for this shard.
+         * Returns an empty string if no custom data path is used for this index.
+         */
+        public String getCustomDataPath() {
+            return customDataPath;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            out.writeString(customDataPath);
+        }
+
+        @Override
+        public String toString() {
+            return shardId.toString();
+        }
+    }
+}
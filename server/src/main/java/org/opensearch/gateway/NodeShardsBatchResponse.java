@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.CountDown;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * The response of a single node to a {@link NodeShardsBatchRequest}. Holds either the data or the failure of each of the requested
+ * shards, in the order of the request, so that a shard that could not be listed does not fail the other shards of the batch.
+ */
+public class NodeShardsBatchResponse<T extends BaseNodeResponse> extends TransportResponse {
+
+    private final List<T> responses;
+    private final List<Exception> failures;
+
+    public NodeShardsBatchResponse(List<T> responses, List<Exception> failures) {
+        assert responses.size() == failures.size();
+        this.responses = Collections.unmodifiableList(responses);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    public NodeShardsBatchResponse(StreamInput in, Writeable.Reader<T> reader) throws IOException {
+        super(in);
+        final int size = in.readVInt();
+        final List<T> responses = new ArrayList<>(size);
+        final List<Exception> failures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (in.readBoolean()) {
+                responses.add(reader.read(in));
+                failures.add(null);
+            } else {
+                responses.add(null);
+                failures.add(in.readException());
+            }
+        }
+        this.responses = Collections.unmodifiableList(responses);
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Lists the shards of the given request with the given per-shard operation, each on its own thread of the given executor, and
+     * completes the listener once all shards are listed. The failure of each shard is captured separately.
+     */
+    public static <T extends BaseNodeResponse> void listShards(NodeShardsBatchRequest request, Executor executor,
+                                                               Function<NodeShardsBatchRequest.Shard, T> operation,
+                                                               ActionListener<NodeShardsBatchResponse<T>> listener) {
+        final int size = request.getShards().size();
+        if (size == 0) {
+            listener.onResponse(new NodeShardsBatchResponse<>(Collections.emptyList(), Collections.emptyList()));
+            return;
+        }
+        final AtomicReferenceArray<T> responses = new AtomicReferenceArray<>(size);
+        final AtomicReferenceArray<Exception> failures = new AtomicReferenceArray<>(size);
+        final CountDown countDown = new CountDown(size);
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            executor.execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    responses.set(index, operation.apply(request.getShards().get(index)));
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    failures.set(index, e);
+                }
+
+                @Override
+                public void onAfter() {
+                    if (countDown.countDown()) {
+                        final List<T> responseList = new ArrayList<>(size);
+                        final List<Exception> failureList = new ArrayList<>(size);
+                        for (int j = 0; j < size; j++) {
+                            responseList.add(responses.get(j));
+                            failureList.add(failures.get(j));
+                        }
+                        listener.onResponse(new NodeShardsBatchResponse<>(responseList, failureList));
+                    }
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * Returns the data of the i-th shard of the request, or {@code null} if listing it failed.
+     */
+    @Nullable
+    public T getResponse(int i) {
+        return responses.get(i);
+    }
+
+    /**
+     * Returns the failure of the i-th shard of the request, or {@code null} if it was listed successfully.
+     */
+    @Nullable
+    public Exception getFailure(int i) {
+        return failures.get(i);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            final T response = responses.get(i);
+            if (response != null) {
+                out.writeBoolean(true);
+                response.writeTo(out);
+            } else {
+                assert failures.get(i) != null : "shard [" + i + "] has neither a response nor a failure";
+                out.writeBoolean(false);
+                out.writeException(failures.get(i));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NodeShardsBatchResponse{responses=" + responses + ", failures=" + failures + "}";
+    }
+}
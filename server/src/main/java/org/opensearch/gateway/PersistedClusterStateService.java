@@ -80,6 +80,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.ByteArray;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.ToXContent;
@@ -90,10 +91,12 @@ import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.env.NodeMetadata;
 import org.opensearch.index.Index;
+import org.opensearch.node.Node;
 
 import java.io.Closeable;
 import java.io.IOError;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -102,10 +105,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntPredicate;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Stores cluster metadata in a bare Lucene index (per data path) split across a number of documents. This is used by master-eligible nodes
@@ -144,17 +152,29 @@ public class PersistedClusterStateService {
     private static final String INDEX_TYPE_NAME = "index";
     private static final String INDEX_UUID_FIELD_NAME = "index_uuid";
     private static final int COMMIT_DATA_SIZE = 4;
+    // below this number of indices parsing the metadata on a single thread is cheaper than handing it out to a pool
+    private static final int MIN_INDICES_TO_LOAD_CONCURRENTLY = 64;
 
     public static final String METADATA_DIRECTORY_NAME = MetadataStateFormat.STATE_DIR_NAME;
 
     public static final Setting<TimeValue> SLOW_WRITE_LOGGING_THRESHOLD = Setting.timeSetting("gateway.slow_write_logging_threshold",
         TimeValue.timeValueSeconds(10), TimeValue.ZERO, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    /**
+     * The number of threads that parse the index metadata documents when loading the on-disk cluster state, which dominates the
+     * startup time of master-eligible nodes of clusters with many indices.
+     */
+    public static final Setting<Integer> LOADING_THREADS_SETTING = new Setting<>("gateway.metadata.loading_threads",
+        s -> Integer.toString(Math.min(8, OpenSearchExecutors.allocatedProcessors(s))),
+        s -> Setting.parseInt(s, 1, "gateway.metadata.loading_threads"), Setting.Property.NodeScope);
+
     private final Path[] dataPaths;
     private final String nodeId;
     private final NamedXContentRegistry namedXContentRegistry;
     private final BigArrays bigArrays;
     private final LongSupplier relativeTimeMillisSupplier;
+    private final int loadingThreads;
+    private final String loadingThreadNamePrefix;
 
     private volatile TimeValue slowWriteLoggingThreshold;
 
@@ -171,6 +191,8 @@ public class PersistedClusterStateService {
         this.namedXContentRegistry = namedXContentRegistry;
         this.bigArrays = bigArrays;
         this.relativeTimeMillisSupplier = relativeTimeMillisSupplier;
+        this.loadingThreads = clusterSettings.get(LOADING_THREADS_SETTING);
+        this.loadingThreadNamePrefix = OpenSearchExecutors.threadName(clusterSettings.get(Node.NODE_NAME_SETTING), "metadata_loader");
         this.slowWriteLoggingThreshold = clusterSettings.get(SLOW_WRITE_LOGGING_THRESHOLD);
         clusterSettings.addSettingsUpdateConsumer(SLOW_WRITE_LOGGING_THRESHOLD, this::setSlowWriteLoggingThreshold);
     }
@@ -413,17 +435,17 @@ public class PersistedClusterStateService {
 
         logger.trace("got global metadata, now reading index metadata");
 
+        final List<BytesRef> indexMetadataDocuments = new ArrayList<>();
+        consumeFromType(searcher, INDEX_TYPE_NAME, indexMetadataDocuments::add);
+
         final Set<String> indexUUIDs = new HashSet<>();
-        consumeFromType(searcher, INDEX_TYPE_NAME, bytes ->
-        {
-            final IndexMetadata indexMetadata = IndexMetadata.fromXContent(XContentFactory.xContent(XContentType.SMILE)
-                .createParser(namedXContentRegistry, LoggingDeprecationHandler.INSTANCE, bytes.bytes, bytes.offset, bytes.length));
+        for (IndexMetadata indexMetadata : parseIndexMetadata(indexMetadataDocuments)) {
             logger.trace("found index metadata for {}", indexMetadata.getIndex());
             if (indexUUIDs.add(indexMetadata.getIndexUUID()) == false) {
                 throw new IllegalStateException("duplicate metadata found for " + indexMetadata.getIndex() + " in [" + dataPath + "]");
             }
             builder.put(indexMetadata, false);
-        });
+        }
 
         final Map<String, String> userData = reader.getIndexCommit().getUserData();
         logger.trace("loaded metadata [{}] from [{}]", userData, reader.directory());
@@ -436,6 +458,49 @@ public class PersistedClusterStateService {
             Long.parseLong(userData.get(LAST_ACCEPTED_VERSION_KEY)), builder.build());
     }
 
+    /**
+     * Parses the given index metadata documents, concurrently if there are enough of them, and returns the results in the same order.
+     */
+    private IndexMetadata[] parseIndexMetadata(List<BytesRef> documents) throws IOException {
+        final IndexMetadata[] indexMetadata = new IndexMetadata[documents.size()];
+        if (loadingThreads <= 1 || documents.size() < MIN_INDICES_TO_LOAD_CONCURRENTLY) {
+            for (int i = 0; i < indexMetadata.length; i++) {
+                indexMetadata[i] = parseIndexMetadata(documents.get(i));
+            }
+            return indexMetadata;
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(loadingThreads,
+            p -> new MetadataLoadingThread(p, loadingThreadNamePrefix + "[T#" + threadCount.incrementAndGet() + "]"), null, false);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> IntStream.range(0, indexMetadata.length).parallel().forEach(i -> {
+                try {
+                    indexMetadata[i] = parseIndexMetadata(documents.get(i));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        return indexMetadata;
+    }
+
+    private IndexMetadata parseIndexMetadata(BytesRef bytes) throws IOException {
+        return IndexMetadata.fromXContent(XContentFactory.xContent(XContentType.SMILE)
+            .createParser(namedXContentRegistry, LoggingDeprecationHandler.INSTANCE, bytes.bytes, bytes.offset, bytes.length));
+    }
+
+    private static final class MetadataLoadingThread extends ForkJoinWorkerThread {
+        MetadataLoadingThread(ForkJoinPool pool, String name) {
+            super(pool);
+            setName(name);
+        }
+    }
+
     private static void consumeFromType(IndexSearcher indexSearcher, String type,
                                         CheckedConsumer<BytesRef, IOException> bytesRefConsumer) throws IOException {
 
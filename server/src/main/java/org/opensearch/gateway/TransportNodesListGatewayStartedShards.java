@@ -36,9 +36,11 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.action.support.nodes.BaseNodeRequest;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.action.support.nodes.BaseNodesRequest;
@@ -79,10 +81,11 @@ public class TransportNodesListGatewayStartedShards extends
         TransportNodesListGatewayStartedShards.NodeRequest,
         TransportNodesListGatewayStartedShards.NodeGatewayStartedShards>
     implements
-    AsyncShardFetch.Lister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
+    AsyncShardFetch.BatchLister<TransportNodesListGatewayStartedShards.NodesGatewayStartedShards,
         TransportNodesListGatewayStartedShards.NodeGatewayStartedShards> {
 
     public static final String ACTION_NAME = "internal:gateway/local/started_shards";
+    public static final String BATCH_ACTION_NAME = ACTION_NAME + "_batch[n]";
     public static final ActionType<NodesGatewayStartedShards> TYPE = new ActionType<>(ACTION_NAME, NodesGatewayStartedShards::new);
 
     private final Settings settings;
@@ -101,6 +104,12 @@ public class TransportNodesListGatewayStartedShards extends
         this.nodeEnv = env;
         this.indicesService = indicesService;
         this.namedXContentRegistry = namedXContentRegistry;
+        transportService.registerRequestHandler(BATCH_ACTION_NAME, ThreadPool.Names.FETCH_SHARD_STARTED, NodeShardsBatchRequest::new,
+            // the shards of a batch are listed in parallel, like the per-shard requests that the batch replaces
+            (request, channel, task) -> NodeShardsBatchResponse.listShards(request,
+                threadPool.executor(ThreadPool.Names.FETCH_SHARD_STARTED),
+                shard -> nodeOperation(new NodeRequest(shard.getShardId(), shard.getCustomDataPath())),
+                new ChannelActionListener<>(channel, BATCH_ACTION_NAME, request)));
     }
 
     @Override
@@ -109,6 +118,18 @@ public class TransportNodesListGatewayStartedShards extends
         execute(new Request(shardId, customDataPath, nodes), listener);
     }
 
+    @Override
+    public void listBatch(DiscoveryNode node, NodeShardsBatchRequest request,
+                          ActionListener<NodeShardsBatchResponse<NodeGatewayStartedShards>> listener) {
+        transportService.sendRequest(node, BATCH_ACTION_NAME, request,
+            new ActionListenerResponseHandler<>(listener, in -> new NodeShardsBatchResponse<>(in, NodeGatewayStartedShards::new)));
+    }
+
+    @Override
+    public NodesGatewayStartedShards newNodesResponse(List<NodeGatewayStartedShards> responses, List<FailedNodeException> failures) {
+        return new NodesGatewayStartedShards(clusterService.getClusterName(), responses, failures);
+    }
+
     @Override
     protected NodeRequest newNodeRequest(Request request) {
         return new NodeRequest(request);
@@ -269,8 +290,12 @@ public class TransportNodesListGatewayStartedShards extends
         }
 
         public NodeRequest(Request request) {
-            this.shardId = Objects.requireNonNull(request.shardId());
-            this.customDataPath = Objects.requireNonNull(request.getCustomDataPath());
+            this(request.shardId(), request.getCustomDataPath());
+        }
+
+        public NodeRequest(ShardId shardId, String customDataPath) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.customDataPath = Objects.requireNonNull(customDataPath);
         }
 
         @Override
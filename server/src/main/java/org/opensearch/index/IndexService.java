@@ -728,6 +728,16 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 }
             }
         }
+
+        @Override
+        public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, Accountable fieldData) {
+            if (shardId != null) {
+                final IndexShard shard = indexService.getShardOrNull(shardId.id());
+                if (shard != null) {
+                    shard.fieldData().onRemoval(shardId, fieldName, wasEvicted, fieldData);
+                }
+            }
+        }
     }
 
     public IndexMetadata getMetadata() {
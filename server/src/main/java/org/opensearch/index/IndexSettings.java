@@ -83,6 +83,27 @@ public final class IndexSettings {
     public static final Setting<TimeValue> INDEX_TRANSLOG_SYNC_INTERVAL_SETTING =
         Setting.timeSetting("index.translog.sync_interval", TimeValue.timeValueSeconds(5), TimeValue.timeValueMillis(100),
             Property.Dynamic, Property.IndexScope);
+    /**
+     * The maximum time the thread that fsyncs the translog waits for concurrent operations to be written before fsyncing them
+     * together in a single group commit. The actual wait adapts to the observed fsync latency and stops as soon as no new
+     * operations arrive. {@code 0} disables group commits.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_MAX_WAIT_SETTING =
+        Setting.timeSetting("index.translog.group_commit.max_wait", TimeValue.ZERO, TimeValue.ZERO, TimeValue.timeValueMillis(50),
+            Property.Dynamic, Property.IndexScope);
+    /**
+     * Whether the immutable generations of the translog are memory-mapped when they are replayed, rather than read through
+     * positional reads of their file channel.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_MMAP_READERS_SETTING =
+        Setting.boolSetting("index.translog.mmap_readers.enabled", false, Property.IndexScope);
+    /**
+     * The maximum number of bytes of translog generations that a shard keeps memory-mapped at the same time. Generations that
+     * would exceed it are read through their file channel.
+     */
+    public static final Setting<ByteSizeValue> INDEX_TRANSLOG_MMAP_READERS_MAX_BYTES_SETTING =
+        Setting.byteSizeSetting("index.translog.mmap_readers.max_bytes", new ByteSizeValue(1, ByteSizeUnit.GB),
+            new ByteSizeValue(0, ByteSizeUnit.BYTES), new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES), Property.IndexScope);
     public static final Setting<TimeValue> INDEX_SEARCH_IDLE_AFTER =
         Setting.timeSetting("index.search.idle.after", TimeValue.timeValueSeconds(30),
             TimeValue.timeValueMinutes(0), Property.IndexScope, Property.Dynamic);
@@ -347,6 +368,13 @@ public final class IndexSettings {
     public static final Setting<Boolean> INDEX_SEARCH_THROTTLED = Setting.boolSetting("index.search.throttled", false,
         Property.IndexScope, Property.PrivateIndex, Property.Dynamic);
 
+    /**
+     * Enables searching the segments of a single shard concurrently, one slice of segments per thread of the
+     * {@link org.opensearch.threadpool.ThreadPool.Names#INDEX_SEARCHER} thread-pool.
+     */
+    public static final Setting<Boolean> INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING =
+        Setting.boolSetting("index.search.concurrent_segment_search.enabled", false, Property.IndexScope, Property.Dynamic);
+
     /**
      * Determines a balance between file-based and operations-based peer recoveries. The number of operations that will be used in an
      * operations-based peer recovery is limited to this proportion of the total number of documents in the shard (including deleted
@@ -376,6 +404,9 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
+    private volatile TimeValue translogGroupCommitMaxWait;
+    private final boolean translogMmapReaders;
+    private final ByteSizeValue translogMmapReadersMaxBytes;
     private volatile TimeValue refreshInterval;
     private volatile ByteSizeValue flushThresholdSize;
     private volatile TimeValue translogRetentionAge;
@@ -421,6 +452,7 @@ public final class IndexSettings {
     private volatile String defaultPipeline;
     private volatile String requiredPipeline;
     private volatile boolean searchThrottled;
+    private volatile boolean concurrentSegmentSearch;
     private volatile long mappingNestedFieldsLimit;
     private volatile long mappingNestedDocsLimit;
     private volatile long mappingTotalFieldsLimit;
@@ -510,6 +542,7 @@ public final class IndexSettings {
         numberOfShards = settings.getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, null);
 
         this.searchThrottled = INDEX_SEARCH_THROTTLED.get(settings);
+        this.concurrentSegmentSearch = INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING.get(settings);
         this.queryStringLenient = QUERY_STRING_LENIENT_SETTING.get(settings);
         this.queryStringAnalyzeWildcard = QUERY_STRING_ANALYZE_WILDCARD.get(nodeSettings);
         this.queryStringAllowLeadingWildcard = QUERY_STRING_ALLOW_LEADING_WILDCARD.get(nodeSettings);
@@ -517,6 +550,9 @@ public final class IndexSettings {
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitMaxWait = INDEX_TRANSLOG_GROUP_COMMIT_MAX_WAIT_SETTING.get(settings);
+        translogMmapReaders = scopedSettings.get(INDEX_TRANSLOG_MMAP_READERS_SETTING);
+        translogMmapReadersMaxBytes = scopedSettings.get(INDEX_TRANSLOG_MMAP_READERS_MAX_BYTES_SETTING);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
@@ -574,6 +610,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MergeSchedulerConfig.AUTO_THROTTLE_SETTING, mergeSchedulerConfig::setAutoThrottle);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_GROUP_COMMIT_MAX_WAIT_SETTING, this::setTranslogGroupCommitMaxWait);
         scopedSettings.addSettingsUpdateConsumer(MAX_RESULT_WINDOW_SETTING, this::setMaxResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_INNER_RESULT_WINDOW_SETTING, this::setMaxInnerResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_ADJACENCY_MATRIX_FILTERS_SETTING, this::setMaxAdjacencyMatrixFilters);
@@ -604,6 +641,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING, this::setSoftDeleteRetentionOperations);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_THROTTLED, this::setSearchThrottled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING, this::setConcurrentSegmentSearch);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING, this::setRetentionLeaseMillis);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_NESTED_FIELDS_LIMIT_SETTING, this::setMappingNestedFieldsLimit);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_NESTED_DOCS_LIMIT_SETTING, this::setMappingNestedDocsLimit);
@@ -804,6 +842,32 @@ public final class IndexSettings {
         this.syncInterval = translogSyncInterval;
     }
 
+    /**
+     * Returns the maximum time the translog waits for concurrent operations before fsyncing them in a single group commit.
+     * {@code 0} means that group commits are disabled.
+     */
+    public TimeValue getTranslogGroupCommitMaxWait() {
+        return translogGroupCommitMaxWait;
+    }
+
+    private void setTranslogGroupCommitMaxWait(TimeValue translogGroupCommitMaxWait) {
+        this.translogGroupCommitMaxWait = translogGroupCommitMaxWait;
+    }
+
+    /**
+     * Returns <code>true</code> if the immutable translog generations are memory-mapped when they are replayed.
+     */
+    public boolean isTranslogMmapReadersEnabled() {
+        return translogMmapReaders;
+    }
+
+    /**
+     * Returns the maximum number of bytes of translog generations that are memory-mapped at the same time.
+     */
+    public ByteSizeValue getTranslogMmapReadersMaxBytes() {
+        return translogMmapReadersMaxBytes;
+    }
+
     /**
      * Returns this interval in which the shards of this index are asynchronously refreshed. {@code -1} means async refresh is disabled.
      */
@@ -1100,6 +1164,18 @@ public final class IndexSettings {
         this.searchThrottled = searchThrottled;
     }
 
+    /**
+     * Returns true if the segments of a shard of this index should be searched concurrently using the
+     * {@link org.opensearch.threadpool.ThreadPool.Names#INDEX_SEARCHER} thread-pool
+     */
+    public boolean isConcurrentSegmentSearchEnabled() {
+        return concurrentSegmentSearch;
+    }
+
+    private void setConcurrentSegmentSearch(boolean concurrentSegmentSearch) {
+        this.concurrentSegmentSearch = concurrentSegmentSearch;
+    }
+
     public long getMappingNestedFieldsLimit() {
         return mappingNestedFieldsLimit;
     }
@@ -138,6 +138,22 @@ public final class EngineConfig {
     public static final Setting<Boolean> INDEX_OPTIMIZE_AUTO_GENERATED_IDS = Setting.boolSetting("index.optimize_auto_generated_id", true,
         Property.IndexScope, Property.Dynamic);
 
+    /**
+     * Configures how the engine keeps the versions of the documents that were indexed since the last refresh. <code>heap</code> keeps
+     * one object per document in a concurrent hash map, <code>packed</code> keeps packed primitives in hash tables backed by big arrays,
+     * which creates far less garbage on update heavy workloads with long refresh intervals. The default is <code>heap</code>.
+     */
+    public static final Setting<String> INDEX_VERSION_MAP_TYPE_SETTING = new Setting<>("index.version_map.type", "heap", s -> {
+        switch (s) {
+            case "heap":
+            case "packed":
+                return s;
+            default:
+                throw new IllegalArgumentException(
+                    "unknown value for [index.version_map.type] must be one of [heap, packed] but was: " + s);
+        }
+    }, Property.IndexScope);
+
     private final TranslogConfig translogConfig;
 
     /**
@@ -359,6 +375,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * returns true if the engine should keep the versions of recently indexed documents as packed primitives
+     */
+    public boolean isPackedVersionMapEnabled() {
+        return "packed".equals(indexSettings.getValue(INDEX_VERSION_MAP_TYPE_SETTING));
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
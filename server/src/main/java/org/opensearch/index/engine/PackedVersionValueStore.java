@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link VersionValueStore} that keeps the uids in {@link BytesRefHash}es and the version, sequence number, primary term and
+ * translog location of each uid as packed longs in {@link LongArray}s, rather than keeping several objects per uid on heap.
+ * The store is split into segments that are each guarded by their own lock. Removed entries only free their memory once the
+ * store is released, which happens on refresh.
+ */
+final class PackedVersionValueStore implements VersionValueStore {
+
+    private static final int NUM_SEGMENTS = 16;
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(NUM_SEGMENTS);
+
+    // the layout of the packed values of an entry
+    private static final int VERSION = 0;
+    private static final int SEQ_NO = 1;
+    private static final int TERM = 2;
+    private static final int GENERATION = 3;
+    private static final int LOCATION = 4;
+    private static final int SIZE = 5;
+    private static final int VALUES_PER_ENTRY = 6;
+
+    // marks an entry as removed, this is never a valid version
+    private static final long REMOVED = Long.MIN_VALUE;
+    // marks an entry that has no translog location, translog generations are never negative
+    private static final long NO_LOCATION = -1L;
+
+    /**
+     * Bytes used per entry in addition to the bytes of the uid: the packed values, the start offset and the cached
+     * hash of the uid, and the slot of the hash table, assuming the default load factor of 60%.
+     */
+    static final long BYTES_PER_ENTRY = VALUES_PER_ENTRY * Long.BYTES + Long.BYTES + Integer.BYTES + (long) Math.ceil(Long.BYTES / 0.6);
+
+    private final BigArrays bigArrays;
+    private final Segment[] segments;
+
+    PackedVersionValueStore(BigArrays bigArrays, int expectedSize) {
+        this.bigArrays = bigArrays;
+        final long segmentCapacity = Math.max(1, expectedSize / NUM_SEGMENTS);
+        this.segments = new Segment[NUM_SEGMENTS];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    private Segment segment(int code) {
+        return segments[code >>> SEGMENT_SHIFT];
+    }
+
+    @Override
+    public VersionValue get(BytesRef uid) {
+        final int code = uid.hashCode();
+        final Segment segment = segment(code);
+        synchronized (segment) {
+            if (segment.keys == null) {
+                return null;
+            }
+            final long id = segment.keys.find(uid, code);
+            return id < 0 ? null : segment.value(id);
+        }
+    }
+
+    @Override
+    public long put(BytesRef uid, IndexVersionValue value) {
+        final int code = uid.hashCode();
+        final Segment segment = segment(code);
+        synchronized (segment) {
+            if (segment.keys == null) {
+                return 0;
+            }
+            long id = segment.keys.add(uid, code);
+            final long bytesUsed;
+            if (id < 0) {
+                id = -1 - id;
+                if (segment.values.get(id * VALUES_PER_ENTRY + VERSION) == REMOVED) {
+                    segment.size++;
+                }
+                bytesUsed = 0;
+            } else {
+                segment.values = bigArrays.grow(segment.values, (id + 1) * VALUES_PER_ENTRY);
+                segment.size++;
+                bytesUsed = BYTES_PER_ENTRY + uid.length;
+            }
+            final long base = id * VALUES_PER_ENTRY;
+            segment.values.set(base + VERSION, value.version);
+            segment.values.set(base + SEQ_NO, value.seqNo);
+            segment.values.set(base + TERM, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                segment.values.set(base + GENERATION, NO_LOCATION);
+            } else {
+                segment.values.set(base + GENERATION, location.generation);
+                segment.values.set(base + LOCATION, location.translogLocation);
+                segment.values.set(base + SIZE, location.size);
+            }
+            return bytesUsed;
+        }
+    }
+
+    @Override
+    public long remove(BytesRef uid) {
+        final int code = uid.hashCode();
+        final Segment segment = segment(code);
+        synchronized (segment) {
+            if (segment.keys == null) {
+                return 0;
+            }
+            final long id = segment.keys.find(uid, code);
+            if (id >= 0 && segment.values.get(id * VALUES_PER_ENTRY + VERSION) != REMOVED) {
+                segment.values.set(id * VALUES_PER_ENTRY + VERSION, REMOVED);
+                segment.size--;
+            }
+            // the slot and the uid are only freed once the store is released
+            return 0;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Map<BytesRef, VersionValue> asMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                if (segment.keys == null) {
+                    continue;
+                }
+                for (long id = 0; id < segment.keys.size(); id++) {
+                    final VersionValue value = segment.value(id);
+                    if (value != null) {
+                        map.put(BytesRef.deepCopyOf(segment.keys.get(id, new BytesRef())), value);
+                    }
+                }
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Releasables.close(segment.keys, segment.values);
+                segment.keys = null;
+                segment.values = null;
+                segment.size = 0;
+            }
+        }
+    }
+
+    private final class Segment {
+        private BytesRefHash keys;
+        private LongArray values;
+        // the number of entries that are not removed
+        private int size;
+
+        Segment(long capacity) {
+            boolean success = false;
+            try {
+                keys = new BytesRefHash(capacity, bigArrays);
+                values = bigArrays.newLongArray(capacity * VALUES_PER_ENTRY, false);
+                success = true;
+            } finally {
+                if (success == false) {
+                    Releasables.close(keys, values);
+                }
+            }
+        }
+
+        VersionValue value(long id) {
+            final long base = id * VALUES_PER_ENTRY;
+            final long version = values.get(base + VERSION);
+            if (version == REMOVED) {
+                return null;
+            }
+            final long generation = values.get(base + GENERATION);
+            final Translog.Location location = generation == NO_LOCATION
+                ? null
+                : new Translog.Location(generation, values.get(base + LOCATION), (int) values.get(base + SIZE));
+            return new IndexVersionValue(location, version, values.get(base + SEQ_NO), values.get(base + TERM));
+        }
+    }
+}
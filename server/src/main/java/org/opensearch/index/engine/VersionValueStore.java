@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+
+import java.util.Map;
+
+/**
+ * Holds the versions of the documents that were indexed in between two refreshes of a {@link LiveVersionMap}.
+ * Implementations must support concurrent access to different uids, access to a single uid is serialized by
+ * the keyed lock of the version map.
+ */
+interface VersionValueStore extends Releasable {
+
+    /**
+     * Returns the version of the given uid or <code>null</code> if it is not stored.
+     */
+    VersionValue get(BytesRef uid);
+
+    /**
+     * Stores the version of the given uid and returns by how many bytes the memory used by this store changed.
+     */
+    long put(BytesRef uid, IndexVersionValue value);
+
+    /**
+     * Removes the version of the given uid and returns by how many bytes the memory used by this store changed.
+     */
+    long remove(BytesRef uid);
+
+    /**
+     * Returns <code>true</code> if no version is stored.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of stored versions.
+     */
+    int size();
+
+    /**
+     * Returns the stored versions keyed by uid.
+     */
+    Map<BytesRef, VersionValue> asMap();
+
+    /**
+     * Releases the resources held by this store. Lookups that race with a release do not find any version.
+     */
+    @Override
+    void close();
+}
@@ -35,6 +35,8 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.util.Accountable;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalMap;
 import org.opensearch.index.shard.ShardId;
 
 /**
@@ -47,6 +49,15 @@ public interface IndexFieldDataCache {
     <FD extends LeafFieldData, IFD extends IndexFieldData.Global<FD>> IFD load(DirectoryReader indexReader, IFD indexFieldData)
         throws Exception;
 
+    /**
+     * Returns the mapping of the global ordinals that were last built for the shard of the given reader, if they were built to be
+     * reused, so that the global ordinals of the given reader can be derived from them.
+     */
+    @Nullable
+    default GlobalOrdinalMap getLastGlobalOrdinalMap(DirectoryReader indexReader) {
+        return null;
+    }
+
     /**
      * Clears all the field data stored cached in on this index.
      */
@@ -68,6 +79,13 @@ public interface IndexFieldDataCache {
          * Called after the fielddata is unloaded
          */
         default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes){}
+
+        /**
+         * Called after the given fielddata is unloaded
+         */
+        default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, Accountable fieldData) {
+            onRemoval(shardId, fieldName, wasEvicted, fieldData.ramBytesUsed());
+        }
     }
 
     class None implements IndexFieldDataCache {
@@ -35,6 +35,7 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.OrdinalMap;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalMap;
 
 
 /**
@@ -61,6 +62,16 @@ public interface IndexOrdinalsFieldData extends IndexFieldData.Global<LeafOrdina
      */
     OrdinalMap getOrdinalMap();
 
+    /**
+     * Returns the mapping between segment and global ordinals for this fielddata or null if global ordinals are not needed
+     * (constant value or single segment). Unlike {@link #getOrdinalMap()} this is always cheap, even if global ordinals were
+     * built incrementally.
+     */
+    default GlobalOrdinalMap getGlobalOrdinalMap() {
+        final OrdinalMap ordinalMap = getOrdinalMap();
+        return ordinalMap == null ? null : GlobalOrdinalMap.wrap(ordinalMap);
+    }
+
     /**
      * Whether this field data is able to provide a mapping between global and segment ordinals,
      * by returning the underlying {@link OrdinalMap}. If this method returns false, then calling
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.LongValues;
+import org.opensearch.common.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Maps the ordinals of the segments of a reader to global ordinals and back. This is either a Lucene {@link OrdinalMap} that was
+ * built from the terms of all segments, or an {@link IncrementalOrdinalMap} that was derived from the map of a previous reader of
+ * the same shard by only merging in the terms of the segments that were added since.
+ */
+public abstract class GlobalOrdinalMap implements Accountable {
+
+    @Nullable
+    private final IndexReader.CacheKey[] segmentKeys;
+    @Nullable
+    private final long[] segmentValueCounts;
+
+    GlobalOrdinalMap(@Nullable IndexReader.CacheKey[] segmentKeys, @Nullable long[] segmentValueCounts) {
+        assert (segmentKeys == null) == (segmentValueCounts == null);
+        assert segmentKeys == null || segmentKeys.length == segmentValueCounts.length;
+        this.segmentKeys = segmentKeys;
+        this.segmentValueCounts = segmentValueCounts;
+    }
+
+    /**
+     * Wraps the given Lucene {@link OrdinalMap}.
+     */
+    public static GlobalOrdinalMap wrap(OrdinalMap ordinalMap) {
+        return new LuceneOrdinalMap(ordinalMap, null, null);
+    }
+
+    static GlobalOrdinalMap wrap(OrdinalMap ordinalMap, @Nullable IndexReader.CacheKey[] segmentKeys,
+                                 @Nullable long[] segmentValueCounts) {
+        return new LuceneOrdinalMap(ordinalMap, segmentKeys, segmentValueCounts);
+    }
+
+    /**
+     * Returns the number of global ordinals.
+     */
+    public abstract long getValueCount();
+
+    /**
+     * Returns the mapping from the ordinals of the given segment to global ordinals.
+     */
+    public abstract LongValues getGlobalOrds(int segmentIndex);
+
+    /**
+     * Returns the index of a segment that contains the given global ordinal.
+     */
+    public abstract int getFirstSegmentNumber(long globalOrd);
+
+    /**
+     * Returns the ordinal of the given global ordinal in the segment returned by {@link #getFirstSegmentNumber(long)}.
+     */
+    public abstract long getFirstSegmentOrd(long globalOrd);
+
+    /**
+     * Returns the Lucene {@link OrdinalMap} if this map was built from the terms of all segments, or {@code null} otherwise.
+     */
+    @Nullable
+    public abstract OrdinalMap getOrdinalMap();
+
+    /**
+     * Whether this map was derived from the map of a previous reader rather than built from the terms of all segments.
+     */
+    public abstract boolean isIncremental();
+
+    /**
+     * Whether the global ordinals of newer readers of the same shard can be derived from this map.
+     */
+    public boolean isReusable() {
+        return segmentKeys != null;
+    }
+
+    /**
+     * Returns the core cache keys of the segments that this map was built for, in segment order, or {@code null} if the map can not
+     * be reused for newer readers.
+     */
+    @Nullable
+    IndexReader.CacheKey[] getSegmentKeys() {
+        return segmentKeys;
+    }
+
+    /**
+     * Returns the number of terms of each of the segments that this map was built for, or {@code null} if the map can not be reused
+     * for newer readers.
+     */
+    @Nullable
+    long[] getSegmentValueCounts() {
+        return segmentValueCounts;
+    }
+
+    /**
+     * Whether the segment with the given core cache key is one of the segments that this map was built for.
+     */
+    public boolean containsSegment(IndexReader.CacheKey key) {
+        if (segmentKeys != null) {
+            for (IndexReader.CacheKey segmentKey : segmentKeys) {
+                if (segmentKey == key) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+        return Collections.emptyList();
+    }
+
+    private static final class LuceneOrdinalMap extends GlobalOrdinalMap {
+
+        private final OrdinalMap ordinalMap;
+
+        LuceneOrdinalMap(OrdinalMap ordinalMap, @Nullable IndexReader.CacheKey[] segmentKeys, @Nullable long[] segmentValueCounts) {
+            super(segmentKeys, segmentValueCounts);
+            this.ordinalMap = ordinalMap;
+        }
+
+        @Override
+        public long getValueCount() {
+            return ordinalMap.getValueCount();
+        }
+
+        @Override
+        public LongValues getGlobalOrds(int segmentIndex) {
+            return ordinalMap.getGlobalOrds(segmentIndex);
+        }
+
+        @Override
+        public int getFirstSegmentNumber(long globalOrd) {
+            return ordinalMap.getFirstSegmentNumber(globalOrd);
+        }
+
+        @Override
+        public long getFirstSegmentOrd(long globalOrd) {
+            return ordinalMap.getFirstSegmentOrd(globalOrd);
+        }
+
+        @Override
+        public OrdinalMap getOrdinalMap() {
+            return ordinalMap;
+        }
+
+        @Override
+        public boolean isIncremental() {
+            return false;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return ordinalMap.ramBytesUsed();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
@@ -65,6 +66,18 @@ public enum GlobalOrdinalsBuilder {
     public static IndexOrdinalsFieldData build(final IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
             CircuitBreakerService breakerService, Logger logger,
             Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) throws IOException {
+        return build(indexReader, indexFieldData, breakerService, logger, scriptFunction, false, null);
+    }
+
+    /**
+     * Build global ordinals for the provided {@link IndexReader}. If {@code reusable} is set then the resulting global ordinals can be
+     * passed as {@code previous} when building the global ordinals of a newer reader of the same shard, which derives them from the
+     * previous ones if that reader only added segments.
+     */
+    public static IndexOrdinalsFieldData build(final IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
+            CircuitBreakerService breakerService, Logger logger,
+            Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction,
+            boolean reusable, @Nullable GlobalOrdinalMap previous) throws IOException {
         assert indexReader.leaves().size() > 1;
         long startTimeNS = System.nanoTime();
 
@@ -74,20 +87,44 @@ public enum GlobalOrdinalsBuilder {
             atomicFD[i] = indexFieldData.load(indexReader.leaves().get(i));
             subs[i] = atomicFD[i].getOrdinalsValues();
         }
-        final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        IndexReader.CacheKey[] segmentKeys = null;
+        long[] segmentValueCounts = null;
+        if (reusable) {
+            segmentKeys = new IndexReader.CacheKey[subs.length];
+            segmentValueCounts = new long[subs.length];
+            for (int i = 0; i < subs.length; ++i) {
+                final IndexReader.CacheHelper cacheHelper = indexReader.leaves().get(i).reader().getCoreCacheHelper();
+                if (cacheHelper == null) {
+                    segmentKeys = null;
+                    segmentValueCounts = null;
+                    break;
+                }
+                segmentKeys[i] = cacheHelper.getKey();
+                segmentValueCounts[i] = subs[i].getValueCount();
+            }
+        }
+        GlobalOrdinalMap ordinalMap = null;
+        if (previous != null && segmentKeys != null) {
+            ordinalMap = IncrementalOrdinalMap.build(previous, subs, segmentKeys, segmentValueCounts);
+        }
+        if (ordinalMap == null) {
+            ordinalMap = GlobalOrdinalMap.wrap(OrdinalMap.build(null, subs, PackedInts.DEFAULT), segmentKeys, segmentValueCounts);
+        }
         final long memorySizeInBytes = ordinalMap.ramBytesUsed();
         breakerService.getBreaker(CircuitBreaker.FIELDDATA).addWithoutBreaking(memorySizeInBytes);
+        final long buildTimeInNanos = System.nanoTime() - startTimeNS;
 
         if (logger.isDebugEnabled()) {
             logger.debug(
-                    "global-ordinals [{}][{}] took [{}]",
+                    "global-ordinals [{}][{}] took [{}]{}",
                     indexFieldData.getFieldName(),
                     ordinalMap.getValueCount(),
-                    new TimeValue(System.nanoTime() - startTimeNS, TimeUnit.NANOSECONDS)
+                    new TimeValue(buildTimeInNanos, TimeUnit.NANOSECONDS),
+                    ordinalMap.isIncremental() ? " (incremental)" : ""
             );
         }
         return new GlobalOrdinalsIndexFieldData(indexFieldData.getFieldName(), indexFieldData.getValuesSourceType(),
-                atomicFD, ordinalMap, memorySizeInBytes, scriptFunction
+                atomicFD, ordinalMap, memorySizeInBytes, buildTimeInNanos, scriptFunction
         );
     }
 
@@ -121,7 +158,7 @@ public enum GlobalOrdinalsBuilder {
         }
         final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
         return new GlobalOrdinalsIndexFieldData(indexFieldData.getFieldName(), indexFieldData.getValuesSourceType(),
-                atomicFD, ordinalMap, 0, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION
+                atomicFD, GlobalOrdinalMap.wrap(ordinalMap), 0, 0, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION
         );
     }
 
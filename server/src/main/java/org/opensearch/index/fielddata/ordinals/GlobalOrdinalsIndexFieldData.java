@@ -38,6 +38,7 @@ import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.packed.PackedInts;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.index.fielddata.IndexFieldData.XFieldComparatorSource.Nested;
@@ -71,20 +72,23 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
     private final String fieldName;
     private final ValuesSourceType valuesSourceType;
     private final long memorySizeInBytes;
+    private final long buildTimeInNanos;
 
-    private final OrdinalMap ordinalMap;
+    private final GlobalOrdinalMap ordinalMap;
     private final LeafOrdinalsFieldData[] segmentAfd;
     private final Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction;
 
     protected GlobalOrdinalsIndexFieldData(String fieldName,
                                            ValuesSourceType valuesSourceType,
                                            LeafOrdinalsFieldData[] segmentAfd,
-                                           OrdinalMap ordinalMap,
+                                           GlobalOrdinalMap ordinalMap,
                                            long memorySizeInBytes,
+                                           long buildTimeInNanos,
                                            Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) {
         this.fieldName = fieldName;
         this.valuesSourceType = valuesSourceType;
         this.memorySizeInBytes = memorySizeInBytes;
+        this.buildTimeInNanos = buildTimeInNanos;
         this.ordinalMap = ordinalMap;
         this.segmentAfd = segmentAfd;
         this.scriptFunction = scriptFunction;
@@ -146,11 +150,39 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
         throw new IllegalStateException("load(LeafReaderContext) should not be called in this context");
     }
 
+    /**
+     * Returns the Lucene {@link OrdinalMap} of these global ordinals. If they were built incrementally then it is built from the terms
+     * of all segments on every call, so callers that only need to map ordinals should use {@link #getGlobalOrdinalMap()} instead.
+     */
     @Override
     public OrdinalMap getOrdinalMap() {
+        final OrdinalMap luceneOrdinalMap = ordinalMap.getOrdinalMap();
+        if (luceneOrdinalMap != null) {
+            return luceneOrdinalMap;
+        }
+        final SortedSetDocValues[] subs = new SortedSetDocValues[segmentAfd.length];
+        for (int i = 0; i < segmentAfd.length; i++) {
+            subs[i] = segmentAfd[i].getOrdinalsValues();
+        }
+        try {
+            return OrdinalMap.build(null, subs, PackedInts.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to build ordinal map", e);
+        }
+    }
+
+    @Override
+    public GlobalOrdinalMap getGlobalOrdinalMap() {
         return ordinalMap;
     }
 
+    /**
+     * Returns how long it took to build these global ordinals.
+     */
+    public long getBuildTimeInNanos() {
+        return buildTimeInNanos;
+    }
+
     @Override
     public boolean supportsGlobalOrdinalsMapping() {
         return true;
@@ -269,6 +301,11 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
 
         @Override
         public OrdinalMap getOrdinalMap() {
+            return GlobalOrdinalsIndexFieldData.this.getOrdinalMap();
+        }
+
+        @Override
+        public GlobalOrdinalMap getGlobalOrdinalMap() {
             return ordinalMap;
         }
 
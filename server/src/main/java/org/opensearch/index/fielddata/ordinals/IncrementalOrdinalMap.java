@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+
+/**
+ * A {@link GlobalOrdinalMap} that is derived from the map of a previous reader of the same shard when the new reader only added
+ * segments to it, which is what most refreshes do. Only the terms of the added segments are merged, by looking up where each of
+ * them falls among the terms of the previous map, after which the mappings of the segments of the previous reader are shifted by
+ * the number of terms that were inserted before each of their ordinals. This replaces reading and merging the terms dictionaries
+ * of all segments with a number of term lookups that depends on the size of the added segments and a pass over the ordinals of
+ * the existing segments. All mappings are stored in packed structures.
+ */
+final class IncrementalOrdinalMap extends GlobalOrdinalMap {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(IncrementalOrdinalMap.class);
+
+    private final long valueCount;
+    private final LongValues[] segmentToGlobalOrds;
+    private final PackedLongValues firstSegments;
+    private final PackedLongValues globalOrdDeltas;
+    private final long ramBytesUsed;
+
+    private IncrementalOrdinalMap(IndexReader.CacheKey[] segmentKeys, long[] segmentValueCounts, long valueCount,
+                                  LongValues[] segmentToGlobalOrds, PackedLongValues firstSegments, PackedLongValues globalOrdDeltas) {
+        super(segmentKeys, segmentValueCounts);
+        this.valueCount = valueCount;
+        this.segmentToGlobalOrds = segmentToGlobalOrds;
+        this.firstSegments = firstSegments;
+        this.globalOrdDeltas = globalOrdDeltas;
+        long ramBytesUsed = BASE_RAM_BYTES_USED + RamUsageEstimator.shallowSizeOf(segmentToGlobalOrds)
+            + RamUsageEstimator.shallowSizeOf(segmentKeys) + RamUsageEstimator.sizeOf(segmentValueCounts)
+            + firstSegments.ramBytesUsed() + globalOrdDeltas.ramBytesUsed();
+        for (LongValues mapping : segmentToGlobalOrds) {
+            if (mapping instanceof PackedLongValues) {
+                ramBytesUsed += ((PackedLongValues) mapping).ramBytesUsed();
+            }
+        }
+        this.ramBytesUsed = ramBytesUsed;
+    }
+
+    /**
+     * Derives the map of a reader with the given segments from the map of a previous reader of the same shard, or returns
+     * {@code null} if the previous map can not be reused because segments were removed since, or because the added segments are
+     * so large that building the map from scratch is cheaper.
+     */
+    @Nullable
+    static IncrementalOrdinalMap build(GlobalOrdinalMap previous, SortedSetDocValues[] subs, IndexReader.CacheKey[] segmentKeys,
+                                       long[] segmentValueCounts) throws IOException {
+        final IndexReader.CacheKey[] previousKeys = previous.getSegmentKeys();
+        final long[] previousValueCounts = previous.getSegmentValueCounts();
+        if (previousKeys == null) {
+            return null;
+        }
+        // the index of each segment in the previous map, or -1 for the segments that were added since
+        final int[] previousSegments = new int[subs.length];
+        // the index of each segment of the previous map in the new reader
+        final int[] newSegments = new int[previousKeys.length];
+        int reusedSegments = 0;
+        int addedSegments = 0;
+        long addedValueCount = 0;
+        for (int i = 0; i < subs.length; i++) {
+            previousSegments[i] = -1;
+            for (int j = 0; j < previousKeys.length; j++) {
+                if (previousKeys[j] == segmentKeys[i]) {
+                    if (previousValueCounts[j] != segmentValueCounts[i]) {
+                        // the segment is seen through a reader that exposes different terms
+                        return null;
+                    }
+                    previousSegments[i] = j;
+                    newSegments[j] = i;
+                    reusedSegments++;
+                    break;
+                }
+            }
+            if (previousSegments[i] == -1) {
+                addedSegments++;
+                addedValueCount += segmentValueCounts[i];
+            }
+        }
+        if (reusedSegments != previousKeys.length) {
+            // segments were merged away, so terms that only they contained must be removed
+            return null;
+        }
+        final long previousValueCount = previous.getValueCount();
+        if (addedValueCount > previousValueCount || addedValueCount > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        final int[] added = new int[addedSegments];
+        final SortedSetDocValues[] addedSubs = new SortedSetDocValues[addedSegments];
+        for (int i = 0, j = 0; i < subs.length; i++) {
+            if (previousSegments[i] == -1) {
+                added[j] = i;
+                addedSubs[j++] = subs[i];
+            }
+        }
+        final GlobalOrdinalMap addedMap = addedSegments == 0 ? null
+            : GlobalOrdinalMap.wrap(OrdinalMap.build(null, addedSubs, PackedInts.DEFAULT));
+        final TermsEnum[] addedLookups = termsEnums(addedSubs);
+        final TermsEnum[] previousLookups = new TermsEnum[previousKeys.length];
+        for (int j = 0; j < previousKeys.length; j++) {
+            previousLookups[j] = subs[newSegments[j]].termsEnum();
+        }
+
+        // find the global ordinal of each added term, which is where it was found among the previous terms or where it is inserted,
+        // shifted by the number of terms that were inserted before it
+        final int addedTerms = addedMap == null ? 0 : Math.toIntExact(addedMap.getValueCount());
+        final long[] addedToGlobalOrds = new long[addedTerms];
+        final FixedBitSet insertedTerms = new FixedBitSet(addedTerms);
+        final BytesRefBuilder term = new BytesRefBuilder();
+        int inserted = 0;
+        long low = 0;
+        for (int ord = 0; ord < addedTerms; ord++) {
+            term.copyBytes(lookupTerm(addedMap, addedLookups, ord));
+            // added terms come in order, so gallop from the position of the previous one before narrowing down the position
+            long high = low;
+            for (long step = 1; high < previousValueCount && lookupTerm(previous, previousLookups, high).compareTo(term.get()) < 0;
+                 step <<= 1) {
+                low = high + 1;
+                high = Math.min(high + step, previousValueCount);
+            }
+            while (low < high) {
+                final long mid = (low + high) >>> 1;
+                if (lookupTerm(previous, previousLookups, mid).compareTo(term.get()) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            addedToGlobalOrds[ord] = low + inserted;
+            if (low == previousValueCount || lookupTerm(previous, previousLookups, low).bytesEquals(term.get()) == false) {
+                insertedTerms.set(ord);
+                inserted++;
+            }
+        }
+        // the previous ordinals that the inserted terms are placed before, in order
+        final long[] insertions = new long[inserted];
+        for (int ord = 0, i = 0; ord < addedTerms; ord++) {
+            if (insertedTerms.get(ord)) {
+                insertions[i] = addedToGlobalOrds[ord] - i;
+                i++;
+            }
+        }
+        final long valueCount = previousValueCount + inserted;
+
+        final LongValues[] segmentToGlobalOrds = new LongValues[subs.length];
+        for (int i = 0, addedIndex = 0; i < subs.length; i++) {
+            final long segmentValueCount = segmentValueCounts[i];
+            if (segmentValueCount == valueCount) {
+                // segment ordinals match global ordinals
+                segmentToGlobalOrds[i] = LongValues.IDENTITY;
+                if (previousSegments[i] == -1) {
+                    addedIndex++;
+                }
+                continue;
+            }
+            final PackedLongValues.Builder mapping = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+            if (previousSegments[i] >= 0) {
+                final LongValues previousGlobalOrds = previous.getGlobalOrds(previousSegments[i]);
+                int shift = 0;
+                for (long ord = 0; ord < segmentValueCount; ord++) {
+                    final long previousGlobalOrd = previousGlobalOrds.get(ord);
+                    while (shift < inserted && insertions[shift] <= previousGlobalOrd) {
+                        shift++;
+                    }
+                    mapping.add(previousGlobalOrd + shift);
+                }
+            } else {
+                final LongValues addedGlobalOrds = addedMap.getGlobalOrds(addedIndex++);
+                for (long ord = 0; ord < segmentValueCount; ord++) {
+                    mapping.add(addedToGlobalOrds[(int) addedGlobalOrds.get(ord)]);
+                }
+            }
+            segmentToGlobalOrds[i] = mapping.build();
+        }
+
+        // merge the previous terms with the inserted ones to find a segment that contains each global ordinal
+        final PackedLongValues.Builder firstSegments = PackedLongValues.packedBuilder(PackedInts.COMPACT);
+        final PackedLongValues.Builder globalOrdDeltas = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        long previousGlobalOrd = 0;
+        for (long globalOrd = 0, ord = 0, i = 0; globalOrd < valueCount; globalOrd++) {
+            final int segment;
+            final long segmentOrd;
+            if (i < inserted && insertions[(int) i] <= previousGlobalOrd) {
+                while (insertedTerms.get((int) ord) == false) {
+                    ord++;
+                }
+                segment = added[addedMap.getFirstSegmentNumber(ord)];
+                segmentOrd = addedMap.getFirstSegmentOrd(ord);
+                ord++;
+                i++;
+            } else {
+                segment = newSegments[previous.getFirstSegmentNumber(previousGlobalOrd)];
+                segmentOrd = previous.getFirstSegmentOrd(previousGlobalOrd);
+                previousGlobalOrd++;
+            }
+            firstSegments.add(segment);
+            globalOrdDeltas.add(globalOrd - segmentOrd);
+        }
+        assert firstSegments.size() == valueCount : firstSegments.size() + " != " + valueCount;
+
+        return new IncrementalOrdinalMap(segmentKeys, segmentValueCounts, valueCount, segmentToGlobalOrds, firstSegments.build(),
+            globalOrdDeltas.build());
+    }
+
+    private static TermsEnum[] termsEnums(SortedSetDocValues[] subs) throws IOException {
+        final TermsEnum[] termsEnums = new TermsEnum[subs.length];
+        for (int i = 0; i < subs.length; i++) {
+            termsEnums[i] = subs[i].termsEnum();
+        }
+        return termsEnums;
+    }
+
+    private static BytesRef lookupTerm(GlobalOrdinalMap map, TermsEnum[] lookups, long globalOrd) throws IOException {
+        final TermsEnum lookup = lookups[map.getFirstSegmentNumber(globalOrd)];
+        lookup.seekExact(map.getFirstSegmentOrd(globalOrd));
+        return lookup.term();
+    }
+
+    @Override
+    public long getValueCount() {
+        return valueCount;
+    }
+
+    @Override
+    public LongValues getGlobalOrds(int segmentIndex) {
+        return segmentToGlobalOrds[segmentIndex];
+    }
+
+    @Override
+    public int getFirstSegmentNumber(long globalOrd) {
+        return (int) firstSegments.get(globalOrd);
+    }
+
+    @Override
+    public long getFirstSegmentOrd(long globalOrd) {
+        return globalOrd - globalOrdDeltas.get(globalOrd);
+    }
+
+    @Override
+    public OrdinalMap getOrdinalMap() {
+        return null;
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+}
@@ -161,15 +161,27 @@ public abstract class AbstractIndexOrdinalsFieldData implements IndexOrdinalsFie
 
     @Override
     public IndexOrdinalsFieldData loadGlobalDirect(DirectoryReader indexReader) throws Exception {
+        final boolean incremental = buildsGlobalOrdinalsIncrementally();
         return GlobalOrdinalsBuilder.build(
             indexReader,
             this,
             breakerService,
             logger,
-            scriptFunction
+            scriptFunction,
+            incremental,
+            incremental ? cache.getLastGlobalOrdinalMap(indexReader) : null
         );
     }
 
+    /**
+     * Whether global ordinals may be derived from those of a previous reader of the same shard. Global ordinals that are built this
+     * way only expose a Lucene {@link OrdinalMap} by building it on demand, so this should only be enabled for fields whose
+     * global ordinals are not needed in that form.
+     */
+    protected boolean buildsGlobalOrdinalsIncrementally() {
+        return false;
+    }
+
     @Override
     public boolean supportsGlobalOrdinalsMapping() {
         return false;
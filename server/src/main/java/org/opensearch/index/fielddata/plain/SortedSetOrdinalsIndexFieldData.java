@@ -61,15 +61,26 @@ public class SortedSetOrdinalsIndexFieldData extends AbstractIndexOrdinalsFieldD
         private final String name;
         private final Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction;
         private final ValuesSourceType valuesSourceType;
+        private final boolean incrementalGlobalOrdinals;
 
         public Builder(String name, ValuesSourceType valuesSourceType) {
             this(name, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION, valuesSourceType);
         }
 
+        public Builder(String name, ValuesSourceType valuesSourceType, boolean incrementalGlobalOrdinals) {
+            this(name, AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION, valuesSourceType, incrementalGlobalOrdinals);
+        }
+
         public Builder(String name, Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction, ValuesSourceType valuesSourceType) {
+            this(name, scriptFunction, valuesSourceType, false);
+        }
+
+        public Builder(String name, Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction, ValuesSourceType valuesSourceType,
+                       boolean incrementalGlobalOrdinals) {
             this.name = name;
             this.scriptFunction = scriptFunction;
             this.valuesSourceType = valuesSourceType;
+            this.incrementalGlobalOrdinals = incrementalGlobalOrdinals;
         }
 
         @Override
@@ -77,18 +88,33 @@ public class SortedSetOrdinalsIndexFieldData extends AbstractIndexOrdinalsFieldD
             IndexFieldDataCache cache,
             CircuitBreakerService breakerService
         ) {
-            return new SortedSetOrdinalsIndexFieldData(cache, name, valuesSourceType, breakerService, scriptFunction);
+            return new SortedSetOrdinalsIndexFieldData(cache, name, valuesSourceType, breakerService, scriptFunction,
+                incrementalGlobalOrdinals);
         }
     }
 
+    private final boolean incrementalGlobalOrdinals;
+
     public SortedSetOrdinalsIndexFieldData(
         IndexFieldDataCache cache,
         String fieldName,
         ValuesSourceType valuesSourceType,
         CircuitBreakerService breakerService,
         Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction
+    ) {
+        this(cache, fieldName, valuesSourceType, breakerService, scriptFunction, false);
+    }
+
+    public SortedSetOrdinalsIndexFieldData(
+        IndexFieldDataCache cache,
+        String fieldName,
+        ValuesSourceType valuesSourceType,
+        CircuitBreakerService breakerService,
+        Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction,
+        boolean incrementalGlobalOrdinals
     ) {
         super(fieldName, valuesSourceType, cache, breakerService, scriptFunction);
+        this.incrementalGlobalOrdinals = incrementalGlobalOrdinals;
     }
 
     @Override
@@ -131,6 +157,11 @@ public class SortedSetOrdinalsIndexFieldData extends AbstractIndexOrdinalsFieldD
         return null;
     }
 
+    @Override
+    protected boolean buildsGlobalOrdinalsIncrementally() {
+        return incrementalGlobalOrdinals;
+    }
+
     @Override
     public boolean supportsGlobalOrdinalsMapping() {
         return true;
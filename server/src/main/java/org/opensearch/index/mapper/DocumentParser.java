@@ -53,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.opensearch.index.mapper.FieldMapper.IGNORE_MALFORMED_SETTING;
@@ -76,6 +77,10 @@ final class DocumentParser {
         final Mapping mapping = docMapper.mapping();
         final ParseContext.InternalParseContext context;
         final XContentType xContentType = source.getXContentType();
+        final DocumentParserCache parserCache = source.parserCache();
+        if (parserCache != null) {
+            parserCache.startDocument(docMapper);
+        }
 
         try (XContentParser parser = XContentHelper.createParser(docMapperParser.getXContentRegistry(),
             LoggingDeprecationHandler.INSTANCE, source.source(), xContentType)) {
@@ -204,6 +209,19 @@ final class DocumentParser {
         return new MapperParsingException("failed to parse", e);
     }
 
+    private static String[] splitAndValidatePath(ParseContext context, String fullFieldPath) {
+        final DocumentParserCache parserCache = context.sourceToParse().parserCache();
+        if (parserCache == null) {
+            return splitAndValidatePath(fullFieldPath);
+        }
+        String[] paths = parserCache.getPath(fullFieldPath);
+        if (paths == null) {
+            paths = splitAndValidatePath(fullFieldPath);
+            parserCache.putPath(fullFieldPath, paths);
+        }
+        return paths;
+    }
+
     private static String[] splitAndValidatePath(String fullFieldPath) {
         if (fullFieldPath.contains(".")) {
             String[] parts = fullFieldPath.split("\\.");
@@ -419,7 +437,7 @@ final class DocumentParser {
         while (token != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
-                paths = splitAndValidatePath(currentFieldName);
+                paths = splitAndValidatePath(context, currentFieldName);
                 if (containsDisabledObjectMapper(mapper, paths)) {
                     parser.nextToken();
                     parser.skipChildren();
@@ -599,7 +617,7 @@ final class DocumentParser {
                                              final String lastFieldName, String arrayFieldName) throws IOException {
         XContentParser parser = context.parser();
         XContentParser.Token token;
-        final String[] paths = splitAndValidatePath(lastFieldName);
+        final String[] paths = splitAndValidatePath(context, lastFieldName);
         while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
             if (token == XContentParser.Token.START_OBJECT) {
                 parseObject(context, mapper, lastFieldName, paths);
@@ -824,7 +842,7 @@ final class DocumentParser {
             // The path of the dest field might be completely different from the current one so we need to reset it
             context = context.overridePath(new ContentPath(0));
 
-            final String[] paths = splitAndValidatePath(field);
+            final String[] paths = splitAndValidatePath(context, field);
             final String fieldName = paths[paths.length-1];
             Tuple<Integer, ObjectMapper> parentMapperTuple = getDynamicParentMapper(context, paths, null);
             ObjectMapper objectMapper = parentMapperTuple.v2();
@@ -909,6 +927,21 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        final DocumentParserCache parserCache = context.sourceToParse().parserCache();
+        if (parserCache == null) {
+            return lookupMapper(context, objectMapper, fieldName, subfields);
+        }
+        final Map<String, Mapper> childMappers = parserCache.getChildMappers(objectMapper);
+        Mapper mapper = childMappers.get(fieldName);
+        if (mapper == null && childMappers.containsKey(fieldName) == false) {
+            mapper = lookupMapper(context, objectMapper, fieldName, subfields);
+            parserCache.putChildMapper(childMappers, fieldName, mapper);
+        }
+        assert mapper == lookupMapper(context, objectMapper, fieldName, subfields) : "cached mapper lookup for [" + fieldName + "]";
+        return mapper;
+    }
+
+    private static Mapper lookupMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.Nullable;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Caches what the {@link DocumentParser} derives from field names and mappings, so that it can be reused across the documents of
+ * a batch, e.g. the items of a bulk shard request, which usually share most of their field names. The validated paths of field
+ * names are cached for the whole batch, the lookups of mappers only for as long as the documents are parsed with the same
+ * {@link DocumentMapper}. Instances are not thread-safe and must only be used to parse one document at a time.
+ */
+public final class DocumentParserCache {
+
+    /**
+     * The maximum number of field names and mapper lookups that are cached, so that documents with arbitrary field names do not
+     * make the cache grow unbounded.
+     */
+    static final int MAX_ENTRIES = 1024;
+
+    private final Map<String, String[]> paths = new HashMap<>();
+    private final Map<ObjectMapper, Map<String, Mapper>> mappers = new IdentityHashMap<>();
+    private DocumentMapper docMapper;
+    private int mapperEntries;
+
+    /**
+     * Called before a document is parsed with the given mapper, clears the cached mapper lookups if the mapping changed.
+     */
+    void startDocument(DocumentMapper docMapper) {
+        if (this.docMapper != docMapper) {
+            this.docMapper = docMapper;
+            mappers.clear();
+            mapperEntries = 0;
+        }
+    }
+
+    /**
+     * Returns the cached path elements of the given field name, or <code>null</code> if they are not cached.
+     */
+    @Nullable
+    String[] getPath(String fieldName) {
+        return paths.get(fieldName);
+    }
+
+    void putPath(String fieldName, String[] path) {
+        if (paths.size() < MAX_ENTRIES) {
+            paths.put(fieldName, path);
+        }
+    }
+
+    /**
+     * Returns the cached lookups of the child mappers of the given object mapper, keyed by field name. A field name that is mapped
+     * to <code>null</code> is known to have no mapper.
+     */
+    Map<String, Mapper> getChildMappers(ObjectMapper parent) {
+        Map<String, Mapper> children = mappers.get(parent);
+        if (children == null) {
+            children = new HashMap<>();
+            mappers.put(parent, children);
+        }
+        return children;
+    }
+
+    void putChildMapper(Map<String, Mapper> children, String fieldName, @Nullable Mapper mapper) {
+        if (mapperEntries < MAX_ENTRIES) {
+            children.put(fieldName, mapper);
+            mapperEntries++;
+        }
+    }
+}
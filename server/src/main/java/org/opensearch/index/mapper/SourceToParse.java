@@ -53,7 +53,17 @@ public class SourceToParse {
 
     private final XContentType xContentType;
 
+    private final @Nullable DocumentParserCache parserCache;
+
     public SourceToParse(String index, String type, String id, BytesReference source, XContentType xContentType, @Nullable String routing) {
+        this(index, type, id, source, xContentType, routing, null);
+    }
+
+    /**
+     * Creates a source to parse that shares the given cache with the other documents of its batch, see {@link DocumentParserCache}.
+     */
+    public SourceToParse(String index, String type, String id, BytesReference source, XContentType xContentType, @Nullable String routing,
+                         @Nullable DocumentParserCache parserCache) {
         this.index = Objects.requireNonNull(index);
         this.type = Objects.requireNonNull(type);
         this.id = Objects.requireNonNull(id);
@@ -62,6 +72,7 @@ public class SourceToParse {
         this.source = new BytesArray(Objects.requireNonNull(source).toBytesRef());
         this.xContentType = Objects.requireNonNull(xContentType);
         this.routing = routing;
+        this.parserCache = parserCache;
     }
 
     public SourceToParse(String index, String type, String id, BytesReference source, XContentType xContentType) {
@@ -92,6 +103,10 @@ public class SourceToParse {
         return this.xContentType;
     }
 
+    public @Nullable DocumentParserCache parserCache() {
+        return this.parserCache;
+    }
+
     public enum Origin {
         PRIMARY,
         REPLICA
@@ -35,6 +35,7 @@ package org.opensearch.index.translog;
 import org.opensearch.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -112,6 +113,14 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
      */
     protected final BufferedChecksumStreamInput checksummedStream(ByteBuffer reusableBuffer, long position, int opSize,
                                                                         BufferedChecksumStreamInput reuse) throws IOException {
+        final ByteBuffer mapped = mappedOperations();
+        if (mapped != null && position >= getFirstOperationOffset() && position + opSize <= mapped.limit()) {
+            // read the operation straight from the mapped file rather than copying it into a heap buffer
+            final ByteBuffer slice = mapped.duplicate();
+            slice.position(Math.toIntExact(position));
+            slice.limit(Math.toIntExact(position + opSize));
+            return new BufferedChecksumStreamInput(new ByteBufferStreamInput(slice.slice()), path.toString(), reuse);
+        }
         final ByteBuffer buffer;
         if (reusableBuffer.capacity() >= opSize) {
             buffer = reusableBuffer;
@@ -141,6 +150,28 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
      */
     protected abstract void readBytes(ByteBuffer buffer, long position) throws IOException;
 
+    /**
+     * Returns a read-only buffer over the memory-mapped file of this reader, starting at offset <code>0</code>, or <code>null</code>
+     * if the file is not memory-mapped and operations are read through the file channel.
+     */
+    protected ByteBuffer mappedOperations() {
+        return null;
+    }
+
+    /**
+     * Copies the bytes at the given position of the memory-mapped file into the given buffer, filling it.
+     */
+    protected static void readFromMapped(ByteBuffer mapped, long position, ByteBuffer buffer) throws EOFException {
+        if (position + buffer.remaining() > mapped.limit()) {
+            throw new EOFException("read requested past EOF. pos [" + position + "] length: [" + buffer.remaining() + "] end: ["
+                + mapped.limit() + "]");
+        }
+        final ByteBuffer slice = mapped.duplicate();
+        slice.position(Math.toIntExact(position));
+        slice.limit(Math.toIntExact(position + buffer.remaining()));
+        buffer.put(slice);
+    }
+
     @Override
     public String toString() {
         return "translog [" + generation + "][" + path + "]";
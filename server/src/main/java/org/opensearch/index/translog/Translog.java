@@ -47,6 +47,7 @@ import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.core.internal.io.IOUtils;
@@ -74,11 +75,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -137,6 +140,10 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
     private TranslogWriter current;
 
     protected final TragicExceptionHolder tragedy = new TragicExceptionHolder();
+    private final TranslogGroupCommit groupCommit;
+    // null if the immutable generations are read through their file channel
+    @Nullable
+    private final TranslogMappedBytes mappedBytes;
     private final AtomicBoolean closed = new AtomicBoolean();
     private final TranslogConfig config;
     private final LongSupplier globalCheckpointSupplier;
@@ -175,6 +182,10 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         this.persistedSequenceNumberConsumer = persistedSequenceNumberConsumer;
         this.deletionPolicy = deletionPolicy;
         this.translogUUID = translogUUID;
+        this.groupCommit = new TranslogGroupCommit(config.getIndexSettings()::getTranslogGroupCommitMaxWait);
+        this.mappedBytes = config.getIndexSettings().isTranslogMmapReadersEnabled()
+            ? new TranslogMappedBytes(config.getIndexSettings().getTranslogMmapReadersMaxBytes().getBytes())
+            : null;
         bigArrays = config.getBigArrays();
         ReadWriteLock rwl = new ReentrantReadWriteLock();
         readLock = new ReleasableLock(rwl.readLock());
@@ -519,6 +530,7 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
                 config.getBufferSize(),
                 initialMinTranslogGen, initialGlobalCheckpoint,
                 globalCheckpointSupplier, this::getMinFileGeneration, primaryTermSupplier.getAsLong(), tragedy,
+                groupCommit,
                 persistedSequenceNumberConsumer,
                 bigArrays);
         } catch (final IOException e) {
@@ -629,14 +641,34 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         assert fromSeqNo >= 0 : "from_seq_no must be non-negative " + fromSeqNo;
         try (ReleasableLock ignored = readLock.acquire()) {
             ensureOpen();
-            TranslogSnapshot[] snapshots = Stream.concat(readers.stream(), Stream.of(current))
-                .filter(reader -> reader.getCheckpoint().minSeqNo <= toSeqNo && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo())
+            final Predicate<BaseTranslogReader> inRange =
+                reader -> reader.getCheckpoint().minSeqNo <= toSeqNo && fromSeqNo <= reader.getCheckpoint().maxEffectiveSeqNo();
+            TranslogSnapshot[] snapshots = Stream.concat(readers.stream().filter(inRange).map(this::maybeMapOperations),
+                Stream.of(current).filter(inRange))
                 .map(BaseTranslogReader::newSnapshot).toArray(TranslogSnapshot[]::new);
             final Snapshot snapshot = newMultiSnapshot(snapshots);
             return new SeqNoFilterSnapshot(snapshot, fromSeqNo, toSeqNo);
         }
     }
 
+    /**
+     * Memory-maps the file of the given reader if the translog is configured to do so, and the number of mapped bytes allows it.
+     */
+    private TranslogReader maybeMapOperations(TranslogReader reader) {
+        if (mappedBytes != null) {
+            try {
+                if (reader.mapOperations(mappedBytes) == false) {
+                    logger.trace("not memory-mapping translog generation [{}], [{}] bytes are mapped already",
+                        reader.getGeneration(), mappedBytes.getMappedBytes());
+                }
+            } catch (IOException e) {
+                // the operations are read through the file channel
+                logger.debug(() -> new ParameterizedMessage("failed to memory-map translog generation [{}]", reader.getGeneration()), e);
+            }
+        }
+        return reader;
+    }
+
     /**
      * Reads and returns the operation from the given location if the generation it references is still available. Otherwise
      * this method will return <code>null</code>.
@@ -793,10 +825,22 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
      * @return Returns <code>true</code> iff this call caused an actual sync operation otherwise <code>false</code>
      */
     public boolean ensureSynced(Location location) throws IOException {
+        final long offset = location.translogLocation + location.size;
+        if (groupCommit.isEnabled()) {
+            final TranslogWriter writer;
+            try (ReleasableLock lock = readLock.acquire()) {
+                writer = location.generation == current.getGeneration() ? current : null;
+            }
+            // wait outside of the lock, concurrent operations are added to the translog under the read lock and rolling a
+            // generation requires the write lock
+            if (writer != null && writer.syncNeededUpTo(offset)) {
+                groupCommit.awaitConcurrentOperations(writer::pendingOperations);
+            }
+        }
         try (ReleasableLock lock = readLock.acquire()) {
             if (location.generation == current.getGeneration()) { // if we have a new one it's already synced
                 ensureOpen();
-                return current.syncUpTo(location.translogLocation + location.size);
+                return current.syncUpTo(offset);
             }
         } catch (final Exception ex) {
             closeOnTragicEvent(ex);
@@ -858,7 +902,9 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
         try (ReleasableLock lock = readLock.acquire()) {
             long uncommittedGen = getMinGenerationForSeqNo(deletionPolicy.getLocalCheckpointOfSafeCommit() + 1).translogFileGeneration;
             return new TranslogStats(totalOperations(), sizeInBytes(), totalOperationsByMinGen(uncommittedGen),
-                sizeInBytesByMinGen(uncommittedGen), earliestLastModifiedAge());
+                sizeInBytesByMinGen(uncommittedGen), earliestLastModifiedAge(), groupCommit.getSyncCount(),
+                groupCommit.getSyncedOperations(), TimeUnit.NANOSECONDS.toMillis(groupCommit.getSyncTimeInNanos()),
+                TimeUnit.NANOSECONDS.toMillis(groupCommit.getWaitTimeInNanos()));
         }
     }
 
@@ -1930,6 +1976,7 @@ public class Translog extends AbstractIndexShardComponent implements IndexShardC
             },
             primaryTerm,
             new TragicExceptionHolder(),
+            new TranslogGroupCommit(() -> TimeValue.ZERO),
             seqNo -> {
                 throw new UnsupportedOperationException();
             }, BigArrays.NON_RECYCLING_INSTANCE);
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Batches the fsyncs of the translog. Before syncing a location, the syncing thread waits for a short window so that operations that
+ * are concurrently written to the translog are made durable by the same fsync, rather than each triggering their own fsync. The
+ * window is bounded by the configured maximum wait and by the observed fsync latency, and is cut short as soon as no new operations
+ * are written. This class also keeps track of the number of fsyncs and of the operations they made durable.
+ */
+final class TranslogGroupCommit {
+
+    // weight of new samples in the moving averages
+    private static final double ALPHA = 0.3;
+    // the wait is split in slices, after each slice the wait stops if no operations were written in the meantime
+    private static final int SLICES_PER_WINDOW = 4;
+    private static final long MIN_SLICE_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final Supplier<TimeValue> maxWaitSupplier;
+    private final ExponentiallyWeightedMovingAverage fsyncNanos = new ExponentiallyWeightedMovingAverage(ALPHA, 0);
+    private final ExponentiallyWeightedMovingAverage operationsPerSync = new ExponentiallyWeightedMovingAverage(ALPHA, 1);
+
+    private final AtomicLong syncCount = new AtomicLong();
+    private final AtomicLong syncedOperations = new AtomicLong();
+    private final AtomicLong syncTimeInNanos = new AtomicLong();
+    private final AtomicLong waitTimeInNanos = new AtomicLong();
+
+    TranslogGroupCommit(Supplier<TimeValue> maxWaitSupplier) {
+        this.maxWaitSupplier = maxWaitSupplier;
+    }
+
+    /**
+     * Returns <code>true</code> if syncs may wait for concurrent operations
+     */
+    boolean isEnabled() {
+        return maxWaitSupplier.get().nanos() > 0;
+    }
+
+    /**
+     * Returns the time to wait for concurrent operations before the next fsync, or {@code 0} if the next fsync should happen
+     * right away because group commits are disabled or the recent fsyncs did not make concurrent operations durable.
+     */
+    long windowNanos(int pendingOperations) {
+        final long maxWaitNanos = maxWaitSupplier.get().nanos();
+        if (maxWaitNanos <= 0) {
+            return 0;
+        }
+        if (pendingOperations <= 1 && operationsPerSync.getAverage() < 2) {
+            // a single writer would only pay the latency of the wait
+            return 0;
+        }
+        // waiting longer than an fsync takes would add more latency than it can save
+        return Math.min(maxWaitNanos, Math.max(MIN_SLICE_NANOS, (long) fsyncNanos.getAverage()));
+    }
+
+    /**
+     * Waits for concurrent operations to be written before the pending operations are synced.
+     *
+     * @param pendingOperations supplies the number of operations that were written but not yet synced
+     */
+    void awaitConcurrentOperations(IntSupplier pendingOperations) {
+        int pending = pendingOperations.getAsInt();
+        final long windowNanos = windowNanos(pending);
+        if (windowNanos <= 0) {
+            return;
+        }
+        final long sliceNanos = Math.max(MIN_SLICE_NANOS, windowNanos / SLICES_PER_WINDOW);
+        final long startNanos = System.nanoTime();
+        long elapsedNanos = 0;
+        while (elapsedNanos < windowNanos) {
+            LockSupport.parkNanos(Math.min(sliceNanos, windowNanos - elapsedNanos));
+            elapsedNanos = System.nanoTime() - startNanos;
+            final int newPending = pendingOperations.getAsInt();
+            if (newPending <= pending) {
+                // no concurrent operations were written during the last slice (or they were synced by someone else)
+                break;
+            }
+            pending = newPending;
+        }
+        waitTimeInNanos.addAndGet(elapsedNanos);
+    }
+
+    /**
+     * Records an fsync of the translog that made the given number of operations durable.
+     */
+    void onSync(int operations, long tookInNanos) {
+        syncCount.incrementAndGet();
+        syncedOperations.addAndGet(operations);
+        syncTimeInNanos.addAndGet(tookInNanos);
+        fsyncNanos.addValue(tookInNanos);
+        operationsPerSync.addValue(operations);
+    }
+
+    long getSyncCount() {
+        return syncCount.get();
+    }
+
+    long getSyncedOperations() {
+        return syncedOperations.get();
+    }
+
+    long getSyncTimeInNanos() {
+        return syncTimeInNanos.get();
+    }
+
+    long getWaitTimeInNanos() {
+        return waitTimeInNanos.get();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the bytes of translog generations that are memory-mapped by the readers of a translog, and caps them.
+ */
+final class TranslogMappedBytes {
+
+    private final long maxBytes;
+    private final AtomicLong mappedBytes = new AtomicLong();
+
+    TranslogMappedBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reserves the given number of bytes, returns <code>false</code> if they would exceed the cap.
+     */
+    boolean tryAcquire(long bytes) {
+        assert bytes >= 0 : bytes;
+        while (true) {
+            final long current = mappedBytes.get();
+            if (current + bytes > maxBytes) {
+                return false;
+            }
+            if (mappedBytes.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases bytes that were reserved by {@link #tryAcquire(long)}.
+     */
+    void release(long bytes) {
+        final long remaining = mappedBytes.addAndGet(-bytes);
+        assert remaining >= 0 : "released more bytes than were mapped: " + remaining;
+    }
+
+    long getMappedBytes() {
+        return mappedBytes.get();
+    }
+}
@@ -56,6 +56,9 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
     private final int totalOperations;
     private final Checkpoint checkpoint;
     protected final AtomicBoolean closed = new AtomicBoolean(false);
+    // the memory-mapped file, if any, and the budget its bytes were reserved from; guarded by this
+    private volatile ByteBuffer mappedOperations;
+    private TranslogMappedBytes mappedBytes;
 
     /**
      * Create a translog writer against the specified translog file channel.
@@ -93,6 +96,7 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
      */
     TranslogReader closeIntoTrimmedReader(long aboveSeqNo, ChannelFactory channelFactory) throws IOException {
         if (closed.compareAndSet(false, true)) {
+            releaseMappedOperations();
             Closeable toCloseOnFailure = channel;
             final TranslogReader newReader;
             try {
@@ -134,6 +138,49 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
         return checkpoint;
     }
 
+    /**
+     * Memory-maps the file of this reader so that its operations are read without going through the file channel, unless it is
+     * already mapped or mapping it would exceed the given budget.
+     *
+     * @return <code>true</code> if the file of this reader is memory-mapped
+     */
+    synchronized boolean mapOperations(TranslogMappedBytes mappedBytes) throws IOException {
+        if (mappedOperations != null) {
+            return true;
+        }
+        if (isClosed() || length > Integer.MAX_VALUE || mappedBytes.tryAcquire(length) == false) {
+            return false;
+        }
+        boolean success = false;
+        try {
+            mappedOperations = channel.map(FileChannel.MapMode.READ_ONLY, 0, length).asReadOnlyBuffer();
+            this.mappedBytes = mappedBytes;
+            success = true;
+        } finally {
+            if (success == false) {
+                mappedBytes.release(length);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected ByteBuffer mappedOperations() {
+        return mappedOperations;
+    }
+
+    /**
+     * Drops the reference to the memory-mapped file. The mapping is not unmapped forcibly as snapshots that were opened before
+     * may still read from it, it is unmapped once these snapshots are garbage collected.
+     */
+    private synchronized void releaseMappedOperations() {
+        if (mappedOperations != null) {
+            mappedOperations = null;
+            mappedBytes.release(length);
+            mappedBytes = null;
+        }
+    }
+
     /**
      * reads an operation at the given position into the given buffer.
      */
@@ -145,12 +192,18 @@ public class TranslogReader extends BaseTranslogReader implements Closeable {
             throw new IOException("read requested before position of first ops. pos [" + position + "] first op on: [" +
                 getFirstOperationOffset() + "]");
         }
-        Channels.readFromFileChannelWithEofException(channel, position, buffer);
+        final ByteBuffer mapped = mappedOperations;
+        if (mapped != null) {
+            readFromMapped(mapped, position, buffer);
+        } else {
+            Channels.readFromFileChannelWithEofException(channel, position, buffer);
+        }
     }
 
     @Override
     public final void close() throws IOException {
         if (closed.compareAndSet(false, true)) {
+            releaseMappedOperations();
             channel.close();
         }
     }
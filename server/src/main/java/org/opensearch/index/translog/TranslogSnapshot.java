@@ -45,6 +45,7 @@ final class TranslogSnapshot extends BaseTranslogReader {
     protected final long length;
 
     private final ByteBuffer reusableBuffer;
+    private final ByteBuffer mappedOperations;
     private long position;
     private int skippedOperations;
     private int readOperations;
@@ -58,6 +59,8 @@ final class TranslogSnapshot extends BaseTranslogReader {
         this.length = length;
         this.totalOperations = reader.totalOperations();
         this.checkpoint = reader.getCheckpoint();
+        // the snapshot keeps the mapping alive even if the reader is closed in the meantime
+        this.mappedOperations = reader.mappedOperations();
         this.reusableBuffer = ByteBuffer.allocate(1024);
         this.readOperations = 0;
         this.position = reader.getFirstOperationOffset();
@@ -102,6 +105,11 @@ final class TranslogSnapshot extends BaseTranslogReader {
         return length;
     }
 
+    @Override
+    protected ByteBuffer mappedOperations() {
+        return mappedOperations;
+    }
+
     /**
      * reads an operation at the given position into the given buffer.
      */
@@ -115,7 +123,11 @@ final class TranslogSnapshot extends BaseTranslogReader {
                 throw new IOException("read requested before position of first ops. pos [" + position + "] first op on: [" +
                     getFirstOperationOffset() + "], generation: [" + getGeneration() + "], path: [" + path + "]");
             }
-            Channels.readFromFileChannelWithEofException(channel, position, buffer);
+            if (mappedOperations != null) {
+                readFromMapped(mappedOperations, position, buffer);
+            } else {
+                Channels.readFromFileChannelWithEofException(channel, position, buffer);
+            }
         } catch (EOFException e) {
             throw new TranslogCorruptedException(path.toString(), "translog truncated", e);
         }
@@ -80,6 +80,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     private volatile int operationCounter;
     /* if we hit an exception that we can't recover from we assign it to this var and ship it with every AlreadyClosedException we throw */
     private final TragicExceptionHolder tragedy;
+    // batches the fsyncs and keeps track of their stats, shared with the other writers of the translog
+    private final TranslogGroupCommit groupCommit;
     /* the total offset of this file including the bytes written to the file as well as into the buffer */
     private volatile long totalOffset;
 
@@ -115,6 +117,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final ByteSizeValue bufferSize,
         final LongSupplier globalCheckpointSupplier, LongSupplier minTranslogGenerationSupplier, TranslogHeader header,
         final TragicExceptionHolder tragedy,
+        final TranslogGroupCommit groupCommit,
         final LongConsumer persistedSequenceNumberConsumer,
         final BigArrays bigArrays)
             throws
@@ -140,12 +143,14 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.bigArrays = bigArrays;
         this.seenSequenceNumbers = Assertions.ENABLED ? new HashMap<>() : null;
         this.tragedy = tragedy;
+        this.groupCommit = groupCommit;
     }
 
     public static TranslogWriter create(ShardId shardId, String translogUUID, long fileGeneration, Path file, ChannelFactory channelFactory,
                                         ByteSizeValue bufferSize, final long initialMinTranslogGen, long initialGlobalCheckpoint,
                                         final LongSupplier globalCheckpointSupplier, final LongSupplier minTranslogGenerationSupplier,
                                         final long primaryTerm, TragicExceptionHolder tragedy,
+                                        final TranslogGroupCommit groupCommit,
                                         final LongConsumer persistedSequenceNumberConsumer, final BigArrays bigArrays)
         throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
@@ -171,7 +176,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                 writerGlobalCheckpointSupplier = globalCheckpointSupplier;
             }
             return new TranslogWriter(shardId, checkpoint, channel, checkpointChannel, file, checkpointFile, bufferSize,
-                writerGlobalCheckpointSupplier, minTranslogGenerationSupplier, header, tragedy, persistedSequenceNumberConsumer, bigArrays);
+                writerGlobalCheckpointSupplier, minTranslogGenerationSupplier, header, tragedy, groupCommit,
+                persistedSequenceNumberConsumer, bigArrays);
         } catch (Exception exception) {
             // if we fail to bake the file-generation into the checkpoint we stick with the file and once we recover and that
             // file exists we remove it. We only apply this logic to the checkpoint.generation+1 any other file with a higher generation
@@ -319,6 +325,20 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         return operationCounter;
     }
 
+    /**
+     * Returns <code>true</code> if the translog is not yet synced up to the given offset
+     */
+    boolean syncNeededUpTo(long offset) {
+        return lastSyncedCheckpoint.offset < offset && syncNeeded();
+    }
+
+    /**
+     * Returns the number of operations that were added to this writer but not yet fsynced
+     */
+    int pendingOperations() {
+        return operationCounter - lastSyncedCheckpoint.numOps;
+    }
+
     @Override
     synchronized Checkpoint getCheckpoint() {
         return new Checkpoint(totalOffset, operationCounter, generation, minSeqNo, maxSeqNo,
@@ -437,6 +457,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     }
                     // now do the actual fsync outside of the synchronized block such that
                     // we can continue writing to the buffer etc.
+                    final long startNanos = System.nanoTime();
                     try {
                         channel.force(false);
                         writeCheckpoint(checkpointChannel, checkpointPath, checkpointToSync);
@@ -444,6 +465,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                         closeWithTragicEvent(ex);
                         throw ex;
                     }
+                    groupCommit.onSync(checkpointToSync.numOps - lastSyncedCheckpoint.numOps, System.nanoTime() - startNanos);
                     flushedSequenceNumbers.forEach((LongProcedure) persistedSequenceNumberConsumer::accept);
                     assert lastSyncedCheckpoint.offset <= checkpointToSync.offset :
                         "illegal state: " + lastSyncedCheckpoint.offset + " <= " + checkpointToSync.offset;
@@ -63,6 +63,7 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 /**
  * The indices request cache allows to cache a shard level request stage responses, helping with improving
@@ -87,6 +88,12 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     public static final Setting<Boolean> INDEX_CACHE_REQUEST_ENABLED_SETTING =
         Setting.boolSetting("index.requests.cache.enable", true, Property.Dynamic, Property.IndexScope);
+    /**
+     * A setting to cache the results of size=0 aggregation requests per segment rather than per shard, so that a refresh only
+     * invalidates the results of the segments it changed.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING =
+        Setting.boolSetting("index.requests.cache.segment_level", false, Property.Dynamic, Property.IndexScope);
     public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_SIZE =
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
@@ -128,17 +135,33 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
     BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
                                 DirectoryReader reader, BytesReference cacheKey) throws Exception {
         assert reader.getReaderCacheHelper() != null;
-        final Key key =  new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        return getOrCompute(cacheEntity, loader, reader.getReaderCacheHelper().getKey(),
+            cleanupKey -> OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey), cacheKey);
+    }
+
+    /**
+     * Like {@link #getOrCompute(CacheEntity, CheckedSupplier, DirectoryReader, BytesReference)} but for the results of a single
+     * segment, which are cleaned up once the core or the reader of the segment that the given cache helper belongs to is closed.
+     */
+    BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
+                                IndexReader.CacheHelper cacheHelper, BytesReference cacheKey) throws Exception {
+        return getOrCompute(cacheEntity, loader, cacheHelper.getKey(), cacheHelper::addClosedListener, cacheKey);
+    }
+
+    private BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
+                                        IndexReader.CacheKey readerCacheKey, Consumer<CleanupKey> closedListenerRegistration,
+                                        BytesReference cacheKey) throws Exception {
+        final Key key =  new Key(cacheEntity, readerCacheKey, cacheKey);
         Loader cacheLoader = new Loader(cacheEntity, loader);
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
             // see if its the first time we see this reader, and make sure to register a cleanup key
-            CleanupKey cleanupKey = new CleanupKey(cacheEntity, reader.getReaderCacheHelper().getKey());
+            CleanupKey cleanupKey = new CleanupKey(cacheEntity, readerCacheKey);
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
                 Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
                 if (previous == null) {
-                    OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey);
+                    closedListenerRegistration.accept(cleanupKey);
                 }
             }
         } else {
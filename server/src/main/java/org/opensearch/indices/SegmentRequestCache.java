@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.script.ScriptService;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BatchedBucketCollector;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MergeableAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.tasks.TaskCancelledException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Caches the hit count and the shard-level aggregation results of size=0 search requests per segment in the
+ * {@link IndicesRequestCache}, rather than per point-in-time view of the shard. A refresh that adds or merges segments only
+ * invalidates the results of the segments it changed, the results of the segments it left alone are reused and reduced together
+ * with the freshly computed results of the new segments. Entries are keyed by the core of a segment as long as it has no
+ * deletions, and by the segment reader otherwise, so that the results of a segment are recomputed when documents are deleted
+ * from it.
+ *
+ * Only requests whose aggregations are {@link MergeableAggregations mergeable} are eligible, and only as long as the results of a
+ * segment don't depend on the other segments of the shard. Requests that score documents or otherwise read term statistics of the
+ * whole shard are cached at the shard level instead, and segments whose queries rewrite differently when they are rewritten against
+ * the whole shard, like the terms that a {@code fuzzy} query expands to, are not cached at all.
+ */
+final class SegmentRequestCache {
+
+    private final IndicesRequestCache requestCache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final ScriptService scriptService;
+
+    SegmentRequestCache(IndicesRequestCache requestCache, NamedWriteableRegistry namedWriteableRegistry, ScriptService scriptService) {
+        this.requestCache = requestCache;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.scriptService = scriptService;
+    }
+
+    /**
+     * Can the result of the given request, which can be cached at the shard level, be cached per segment?
+     */
+    static boolean canCache(ShardSearchRequest request, SearchContext context) {
+        if (context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING) == false) {
+            return false;
+        }
+        if (context.size() != 0 || context.aggregations() == null || request.source() == null
+                || request.source().aggregations() == null) {
+            return false;
+        }
+        // everything but the hit count and the aggregations needs to see all the segments at once
+        if (context.suggest() != null || context.parsedPostFilter() != null || context.minimumScore() != null
+                || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.collapse() != null
+                || context.searchAfter() != null || context.rescore().isEmpty() == false) {
+            return false;
+        }
+        // the partial results of a segment that timed out must not be cached
+        if (context.timeout() != null && context.timeout().equals(SearchService.NO_TIMEOUT) == false) {
+            return false;
+        }
+        if (context.searcher().getIndexReader().leaves().isEmpty()) {
+            return false;
+        }
+        return MergeableAggregations.isMergeable(request.source().aggregations());
+    }
+
+    /**
+     * Loads the hit count and the aggregations of every segment from the cache, computing the ones that are not cached yet,
+     * and reduces them into the {@link SearchContext#queryResult() context's query result}.
+     *
+     * @return {@code false} if the results of the request depend on statistics of the whole shard, in which case nothing was
+     *         loaded and the request needs to be cached at the shard level
+     */
+    boolean loadIntoContext(ShardSearchRequest request, SearchContext context) throws Exception {
+        assert canCache(request, context);
+        final LeafSearcher leafSearcher = new LeafSearcher(context, request.source().aggregations());
+        if (leafSearcher.readsShardStatistics()) {
+            return false;
+        }
+        final IndicesService.IndexShardCacheEntity cacheEntity = new IndicesService.IndexShardCacheEntity(context.indexShard());
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<InternalAggregations> aggregations = new ArrayList<>(leaves.size());
+        long totalHits = 0;
+        for (LeafReaderContext leaf : leaves) {
+            checkCancelled(context);
+            final IndexReader.CacheHelper cacheHelper = leaf.reader().numDeletedDocs() == 0
+                ? leaf.reader().getCoreCacheHelper() : leaf.reader().getReaderCacheHelper();
+            final BytesReference bytes;
+            if (cacheHelper == null) {
+                // the segment reader is wrapped in a way that does not support caching
+                bytes = leafSearcher.search(leaf);
+            } else if (leafSearcher.rewritesLikeShard(leaf) == false) {
+                // the results of the segment depend on the terms of the other segments
+                bytes = leafSearcher.search(leaf);
+            } else {
+                bytes = requestCache.getOrCompute(cacheEntity, () -> leafSearcher.search(leaf), cacheHelper, request.cacheKey());
+            }
+            try (StreamInput in = new NamedWriteableAwareStreamInput(bytes.streamInput(), namedWriteableRegistry)) {
+                totalHits += in.readVLong();
+                aggregations.add(InternalAggregations.readFrom(in));
+            }
+        }
+
+        final QuerySearchResult result = context.queryResult();
+        result.searchTimedOut(false);
+        result.from(context.from());
+        result.size(context.size());
+        result.topDocs(new TopDocsAndMaxScore(emptyTopDocs(context, totalHits), Float.NaN), null);
+        final InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(
+            context.bigArrays(), scriptService, request.source().aggregations()::buildPipelineTree);
+        result.aggregations(InternalAggregations.topLevelReduce(aggregations, reduceContext));
+        return true;
+    }
+
+    private static TopDocs emptyTopDocs(SearchContext context, long hitCount) {
+        final TotalHits totalHits;
+        if (context.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+            totalHits = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        } else {
+            // the coordinating node caps accurate hit counts to the requested threshold
+            totalHits = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+        }
+        final SortAndFormats sort = context.sort();
+        if (sort != null) {
+            return new TopFieldDocs(totalHits, Lucene.EMPTY_SCORE_DOCS, sort.sort.getSort());
+        }
+        return new TopDocs(totalHits, Lucene.EMPTY_SCORE_DOCS);
+    }
+
+    private static void checkCancelled(SearchContext context) {
+        final SearchShardTask task = context.getTask();
+        if (task != null && task.isCancelled()) {
+            throw new TaskCancelledException("cancelled");
+        }
+    }
+
+    /**
+     * Collects the hit count and the aggregations of single segments with fresh aggregators, sharing the weight of the query
+     * across them.
+     */
+    private static final class LeafSearcher {
+
+        private final SearchContext context;
+        private final Weight weight;
+        private final boolean readsShardStatistics;
+        /**
+         * The queries that select documents, before and after they were rewritten against the whole shard.
+         */
+        private final List<Query> queries = new ArrayList<>();
+        private final List<Query> shardRewrittenQueries = new ArrayList<>();
+        private Aggregator[] nextAggregators;
+
+        LeafSearcher(SearchContext context, AggregatorFactories.Builder aggregations) throws IOException {
+            this.context = context;
+            final ContextIndexSearcher searcher = context.searcher();
+            final long statisticsReads = searcher.statisticsReads();
+            nextAggregators = context.aggregations().factories().createTopLevelAggregators(context);
+            final ScoreMode scoreMode = MultiBucketCollector.wrap(Arrays.asList(nextAggregators)).scoreMode();
+            weight = searcher.createWeight(context.query(), scoreMode, 1f);
+            queries.add(context.buildFilteredQuery(context.parsedQuery().query()));
+            shardRewrittenQueries.add(context.query());
+            addFilters(aggregations.getAggregatorFactories());
+            for (int i = 1; i < queries.size(); i++) {
+                // filter aggregations create the same weights when they collect the first segment
+                searcher.createWeight(shardRewrittenQueries.get(i), ScoreMode.COMPLETE_NO_SCORES, 1f);
+            }
+            // scores depend on the statistics of the whole shard, and so may queries that filter by score
+            readsShardStatistics = scoreMode.needsScores() || searcher.statisticsReads() != statisticsReads;
+        }
+
+        private void addFilters(Collection<AggregationBuilder> aggregations) throws IOException {
+            for (AggregationBuilder aggregation : aggregations) {
+                if (aggregation instanceof FilterAggregationBuilder) {
+                    addFilter(((FilterAggregationBuilder) aggregation).getFilter());
+                } else if (aggregation instanceof FiltersAggregationBuilder) {
+                    for (FiltersAggregator.KeyedFilter filter : ((FiltersAggregationBuilder) aggregation).filters()) {
+                        addFilter(filter.filter());
+                    }
+                }
+                addFilters(aggregation.getSubAggregations());
+            }
+        }
+
+        private void addFilter(QueryBuilder filter) throws IOException {
+            final Query query = filter.toQuery(context.getQueryShardContext());
+            queries.add(query);
+            shardRewrittenQueries.add(context.searcher().rewrite(query));
+        }
+
+        /**
+         * Whether the results of the request need scores or read term or collection statistics of the whole shard.
+         */
+        boolean readsShardStatistics() {
+            return readsShardStatistics;
+        }
+
+        /**
+         * Whether the queries of the request rewrite to the same queries against the given segment alone as against the whole
+         * shard, so that the results of the segment don't depend on the terms of the other segments.
+         */
+        boolean rewritesLikeShard(LeafReaderContext leaf) throws IOException {
+            final IndexSearcher leafSearcher = new IndexSearcher(leaf.reader());
+            for (int i = 0; i < queries.size(); i++) {
+                if (leafSearcher.rewrite(queries.get(i)).equals(shardRewrittenQueries.get(i)) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        BytesReference search(LeafReaderContext leaf) throws IOException {
+            final Aggregator[] aggregators;
+            if (nextAggregators != null) {
+                aggregators = nextAggregators;
+                nextAggregators = null;
+            } else {
+                aggregators = context.aggregations().factories().createTopLevelAggregators(context);
+            }
+            final BucketCollector aggregationCollector = BatchedBucketCollector.wrap(
+                MultiBucketCollector.wrap(Arrays.asList(aggregators)));
+            final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+            aggregationCollector.preCollection();
+            context.searcher().search(leaf, weight, MultiCollector.wrap(hitCountCollector, aggregationCollector));
+
+            final List<InternalAggregation> aggregations = new ArrayList<>(aggregators.length);
+            context.aggregations().resetBucketMultiConsumer();
+            aggregationCollector.postCollection();
+            for (Aggregator aggregator : aggregators) {
+                aggregations.add(aggregator.buildTopLevel());
+            }
+            // see IndicesService#cacheShardLevelResult for the expected size
+            try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                out.writeVLong(hitCountCollector.getTotalHits());
+                InternalAggregations.from(aggregations).writeTo(out);
+                return out.bytes();
+            }
+        }
+    }
+}
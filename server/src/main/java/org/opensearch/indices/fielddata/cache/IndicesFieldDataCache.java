@@ -42,6 +42,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.IndexReader.CacheKey;
 import org.apache.lucene.util.Accountable;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.RemovalListener;
@@ -52,16 +53,22 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.Index;
 import org.opensearch.index.fielddata.LeafFieldData;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalMap;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.shard.ShardUtils;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.ToLongBiFunction;
 
 public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCache.Key, Accountable>, Releasable{
@@ -72,9 +79,20 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         Setting.memorySizeSetting("indices.fielddata.cache.size", new ByteSizeValue(-1), Property.NodeScope);
     private final IndexFieldDataCache.Listener indicesFieldDataCacheListener;
     private final Cache<Key, Accountable> cache;
+    private final CircuitBreaker breaker;
 
     public IndicesFieldDataCache(Settings settings, IndexFieldDataCache.Listener indicesFieldDataCacheListener) {
+        this(settings, indicesFieldDataCacheListener, new NoneCircuitBreakerService());
+    }
+
+    /**
+     * @param breakerService the fielddata circuit breaker of this service is charged for the global ordinal maps that are kept for
+     *                       reuse after the global ordinals that they were built for were removed from the cache
+     */
+    public IndicesFieldDataCache(Settings settings, IndexFieldDataCache.Listener indicesFieldDataCacheListener,
+                                 CircuitBreakerService breakerService) {
         this.indicesFieldDataCacheListener = indicesFieldDataCacheListener;
+        this.breaker = breakerService.getBreaker(CircuitBreaker.FIELDDATA);
         final long sizeInBytes = INDICES_FIELDDATA_CACHE_SIZE_KEY.get(settings).getBytes();
         CacheBuilder<Key, Accountable> cacheBuilder = CacheBuilder.<Key, Accountable>builder()
                 .removalListener(this);
@@ -90,7 +108,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
     }
 
     public IndexFieldDataCache buildIndexFieldDataCache(IndexFieldDataCache.Listener listener, Index index, String fieldName) {
-        return new IndexFieldCache(logger, cache, index, fieldName, indicesFieldDataCacheListener, listener);
+        return new IndexFieldCache(logger, cache, breaker, index, fieldName, indicesFieldDataCacheListener, listener);
     }
 
     public Cache<Key, Accountable> getCache() {
@@ -103,12 +121,13 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         assert key != null && key.listeners != null;
         IndexFieldCache indexCache = key.indexCache;
         final Accountable value = notification.getValue();
+        final boolean wasEvicted = notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED;
+        if (key.shardId != null && value instanceof GlobalOrdinalsIndexFieldData) {
+            indexCache.onGlobalOrdinalsRemoved(key.shardId, ((GlobalOrdinalsIndexFieldData) value).getGlobalOrdinalMap(), wasEvicted);
+        }
         for (IndexFieldDataCache.Listener listener : key.listeners) {
             try {
-                listener.onRemoval(
-                    key.shardId, indexCache.fieldName,
-                    notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED, value.ramBytesUsed()
-                );
+                listener.onRemoval(key.shardId, indexCache.fieldName, wasEvicted, value);
             } catch (Exception e) {
                 // load anyway since listeners should not throw exceptions
                 logger.error("Failed to call listener on field data cache unloading", e);
@@ -132,14 +151,22 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         final Index index;
         final String fieldName;
         private final Cache<Key, Accountable> cache;
+        private final CircuitBreaker breaker;
         private final Listener[] listeners;
+        /**
+         * The mapping of the global ordinals that were last built for each shard, which is kept after the reader it was built for is
+         * closed so that the global ordinals of the next reader can be derived from it, until one of its segments is closed.
+         */
+        private final ConcurrentMap<ShardId, RetainedGlobalOrdinalMap> lastGlobalOrdinalMaps = ConcurrentCollections.newConcurrentMap();
 
-        IndexFieldCache(Logger logger,final Cache<Key, Accountable> cache, Index index, String fieldName, Listener... listeners) {
+        IndexFieldCache(Logger logger, final Cache<Key, Accountable> cache, CircuitBreaker breaker, Index index, String fieldName,
+                        Listener... listeners) {
             this.logger = logger;
             this.listeners = listeners;
             this.index = index;
             this.fieldName = fieldName;
             this.cache = cache;
+            this.breaker = breaker;
         }
 
         @Override
@@ -185,6 +212,9 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
                 OpenSearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
                 final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                if (shardId != null && ifd instanceof GlobalOrdinalsIndexFieldData) {
+                    retainGlobalOrdinalMap(shardId, indexReader, ((GlobalOrdinalsIndexFieldData) ifd).getGlobalOrdinalMap());
+                }
                 for (Listener listener : k.listeners) {
                     try {
                         listener.onCache(shardId, fieldName, ifd);
@@ -198,6 +228,67 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             return (IFD) accountable;
         }
 
+        @Override
+        public GlobalOrdinalMap getLastGlobalOrdinalMap(DirectoryReader indexReader) {
+            final ShardId shardId = ShardUtils.extractShardId(indexReader);
+            final RetainedGlobalOrdinalMap retained = shardId == null ? null : lastGlobalOrdinalMaps.get(shardId);
+            return retained == null ? null : retained.ordinalMap;
+        }
+
+        private void retainGlobalOrdinalMap(ShardId shardId, DirectoryReader indexReader, GlobalOrdinalMap ordinalMap) {
+            if (ordinalMap.isReusable() == false) {
+                return;
+            }
+            // the global ordinals that are about to be cached account for the map as long as they are cached
+            final RetainedGlobalOrdinalMap replaced = lastGlobalOrdinalMaps.put(shardId, new RetainedGlobalOrdinalMap(ordinalMap, false));
+            if (replaced != null) {
+                release(replaced);
+            }
+            for (LeafReaderContext context : indexReader.leaves()) {
+                final IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+                if (replaced == null || replaced.ordinalMap.containsSegment(cacheHelper.getKey()) == false) {
+                    // a map can no longer be reused once one of its segments was merged away
+                    cacheHelper.addClosedListener(closedKey -> lastGlobalOrdinalMaps.computeIfPresent(shardId,
+                        (id, retained) -> retained.ordinalMap.containsSegment(closedKey) ? release(retained) : retained));
+                }
+            }
+        }
+
+        /**
+         * Called when the global ordinals that were built with the given map were removed from the cache. A map that is still kept for
+         * reuse is charged to the circuit breaker from then on, unless the global ordinals were evicted, in which case it is dropped.
+         */
+        void onGlobalOrdinalsRemoved(ShardId shardId, GlobalOrdinalMap ordinalMap, boolean wasEvicted) {
+            lastGlobalOrdinalMaps.computeIfPresent(shardId, (id, retained) -> {
+                if (retained.ordinalMap != ordinalMap || retained.charged) {
+                    return retained;
+                }
+                if (wasEvicted) {
+                    // global ordinals that had to make room for other fielddata should not be kept around for reuse
+                    return null;
+                }
+                breaker.addWithoutBreaking(ordinalMap.ramBytesUsed());
+                return new RetainedGlobalOrdinalMap(ordinalMap, true);
+            });
+        }
+
+        /**
+         * Releases the circuit breaker for the given map if it was charged for it, and returns {@code null} so that it can be used to
+         * drop the map from {@link #lastGlobalOrdinalMaps} within a compute function.
+         */
+        private RetainedGlobalOrdinalMap release(RetainedGlobalOrdinalMap retained) {
+            if (retained.charged) {
+                breaker.addWithoutBreaking(-retained.ordinalMap.ramBytesUsed());
+            }
+            return null;
+        }
+
+        private void clearLastGlobalOrdinalMaps() {
+            for (ShardId shardId : lastGlobalOrdinalMaps.keySet()) {
+                lastGlobalOrdinalMaps.computeIfPresent(shardId, (id, retained) -> release(retained));
+            }
+        }
+
         @Override
         public void onClose(CacheKey key) throws IOException {
             cache.invalidate(new Key(this, key, null));
@@ -206,8 +297,10 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
 
         @Override
         public void clear() {
+            clearLastGlobalOrdinalMaps();
             for (Key key : cache.keys()) {
                 if (key.indexCache.index.equals(index)) {
+                    key.indexCache.clearLastGlobalOrdinalMaps();
                     cache.invalidate(key);
                 }
             }
@@ -217,9 +310,13 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
 
         @Override
         public void clear(String fieldName) {
+            if (this.fieldName.equals(fieldName)) {
+                clearLastGlobalOrdinalMaps();
+            }
             for (Key key : cache.keys()) {
                 if (key.indexCache.index.equals(index)) {
                     if (key.indexCache.fieldName.equals(fieldName)) {
+                        key.indexCache.clearLastGlobalOrdinalMaps();
                         cache.invalidate(key);
                     }
                 }
@@ -231,6 +328,20 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         }
     }
 
+    /**
+     * A global ordinal map that is kept for reuse, and whether the circuit breaker is charged for it, which is the case once the
+     * global ordinals that it was built for are no longer cached and so no longer account for it.
+     */
+    private static final class RetainedGlobalOrdinalMap {
+        final GlobalOrdinalMap ordinalMap;
+        final boolean charged;
+
+        RetainedGlobalOrdinalMap(GlobalOrdinalMap ordinalMap, boolean charged) {
+            this.ordinalMap = ordinalMap;
+            this.charged = charged;
+        }
+    }
+
     public static class Key {
         public final IndexFieldCache indexCache;
         public final IndexReader.CacheKey readerKey;
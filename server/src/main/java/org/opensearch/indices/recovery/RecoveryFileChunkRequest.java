@@ -33,16 +33,18 @@
 package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.transport.ThinWriteable;
 
 import java.io.IOException;
 
-public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
+public final class RecoveryFileChunkRequest extends RecoveryTransportRequest implements ThinWriteable {
     private final boolean lastChunk;
     private final long recoveryId;
     private final ShardId shardId;
@@ -61,13 +63,19 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
+        // the content is the last field as of 7.10.3 so that it can be appended to the message without copying it
+        final boolean contentLast = in.getVersion().onOrAfter(org.opensearch.Version.V_7_10_3);
+        BytesReference content = contentLast ? null : in.readBytesReference();
         Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
         assert writtenBy != null;
         metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
         lastChunk = in.readBoolean();
         totalTranslogOps = in.readVInt();
         sourceThrottleTimeInNanos = in.readLong();
+        if (contentLast) {
+            content = in.readBytesReference();
+        }
+        this.content = content;
     }
 
     public RecoveryFileChunkRequest(long recoveryId, final long requestSeqNo, ShardId shardId, StoreFileMetadata metadata, long position,
@@ -117,6 +125,16 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        // writeThin already wrote the length of the content if it must trail the request
+        writeThin(out).writeTo(out);
+    }
+
+    /**
+     * Writes this request without its content if the content is the last field for the version of the given stream, in which case
+     * the content is returned, and must be appended as is, so that the file bytes are not copied into the message buffer.
+     */
+    @Override
+    public BytesReference writeThin(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeLong(recoveryId);
         shardId.writeTo(out);
@@ -124,11 +142,19 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         out.writeVLong(position);
         out.writeVLong(metadata.length());
         out.writeString(metadata.checksum());
-        out.writeBytesReference(content);
+        final boolean contentLast = out.getVersion().onOrAfter(org.opensearch.Version.V_7_10_3);
+        if (contentLast == false) {
+            out.writeBytesReference(content);
+        }
         out.writeString(metadata.writtenBy().toString());
         out.writeBoolean(lastChunk);
         out.writeVInt(totalTranslogOps);
         out.writeLong(sourceThrottleTimeInNanos);
+        if (contentLast) {
+            out.writeVInt(content.length());
+            return content;
+        }
+        return BytesArray.EMPTY;
     }
 
     @Override
@@ -959,9 +959,14 @@ public class RecoverySourceHandler {
                 @Override
                 protected void executeChunkRequest(FileChunk request, ActionListener<Void> listener) {
                     cancellableThreads.checkForCancel();
+                    // the content is sent without being copied, so a failed chunk may still be queued on the network and its buffer
+                    // must not be reused; buffers are only recycled once the target acknowledged the chunk
                     recoveryTarget.writeFileChunk(
                         request.md, request.position, request.content, request.lastChunk, translogOps.getAsInt(),
-                        ActionListener.runBefore(listener, request::close));
+                        ActionListener.wrap(r -> {
+                            request.close();
+                            listener.onResponse(r);
+                        }, listener::onFailure));
                 }
 
                 @Override
@@ -35,10 +35,12 @@ package org.opensearch.indices.store;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.Version;
 import org.opensearch.action.ActionType;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.action.support.nodes.BaseNodeRequest;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.action.support.nodes.BaseNodesRequest;
@@ -57,6 +59,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.gateway.AsyncShardFetch;
+import org.opensearch.gateway.NodeShardsBatchRequest;
+import org.opensearch.gateway.NodeShardsBatchResponse;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.seqno.ReplicationTracker;
@@ -81,10 +85,11 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
     TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
     TransportNodesListShardStoreMetadata.NodeRequest,
     TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata>
-    implements AsyncShardFetch.Lister<TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
+    implements AsyncShardFetch.BatchLister<TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata,
     TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata> {
 
     public static final String ACTION_NAME = "internal:cluster/nodes/indices/shard/store";
+    public static final String BATCH_ACTION_NAME = ACTION_NAME + "_batch[n]";
     public static final ActionType<NodesStoreFilesMetadata> TYPE = new ActionType<>(ACTION_NAME, NodesStoreFilesMetadata::new);
 
     private final Settings settings;
@@ -101,6 +106,12 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
         this.settings = settings;
         this.indicesService = indicesService;
         this.nodeEnv = nodeEnv;
+        transportService.registerRequestHandler(BATCH_ACTION_NAME, ThreadPool.Names.FETCH_SHARD_STORE, NodeShardsBatchRequest::new,
+            // the shards of a batch are listed in parallel, like the per-shard requests that the batch replaces
+            (request, channel, task) -> NodeShardsBatchResponse.listShards(request,
+                threadPool.executor(ThreadPool.Names.FETCH_SHARD_STORE),
+                shard -> nodeOperation(new NodeRequest(shard.getShardId(), shard.getCustomDataPath())),
+                new ChannelActionListener<>(channel, BATCH_ACTION_NAME, request)));
     }
 
     @Override
@@ -108,6 +119,18 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
         execute(new Request(shardId, customDataPath, nodes), listener);
     }
 
+    @Override
+    public void listBatch(DiscoveryNode node, NodeShardsBatchRequest request,
+                          ActionListener<NodeShardsBatchResponse<NodeStoreFilesMetadata>> listener) {
+        transportService.sendRequest(node, BATCH_ACTION_NAME, request,
+            new ActionListenerResponseHandler<>(listener, in -> new NodeShardsBatchResponse<>(in, NodeStoreFilesMetadata::new)));
+    }
+
+    @Override
+    public NodesStoreFilesMetadata newNodesResponse(List<NodeStoreFilesMetadata> responses, List<FailedNodeException> failures) {
+        return new NodesStoreFilesMetadata(clusterService.getClusterName(), responses, failures);
+    }
+
     @Override
     protected NodeRequest newNodeRequest(Request request) {
         return new NodeRequest(request);
@@ -366,8 +389,12 @@ public class TransportNodesListShardStoreMetadata extends TransportNodesAction<T
         }
 
         public NodeRequest(Request request) {
-            this.shardId = Objects.requireNonNull(request.shardId());
-            this.customDataPath = Objects.requireNonNull(request.getCustomDataPath());
+            this(request.shardId(), request.getCustomDataPath());
+        }
+
+        public NodeRequest(ShardId shardId, String customDataPath) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.customDataPath = Objects.requireNonNull(customDataPath);
         }
 
         @Override
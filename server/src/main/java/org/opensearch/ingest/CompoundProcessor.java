@@ -41,6 +41,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -180,6 +182,85 @@ public class CompoundProcessor implements Processor {
         });
     }
 
+    @Override
+    public void batchExecute(List<IngestDocument> ingestDocuments, List<BiConsumer<IngestDocument, Exception>> handlers) {
+        innerBatchExecute(0, ingestDocuments, handlers);
+    }
+
+    /**
+     * Runs the given documents through the processors one processor at a time, so that each processor gets all documents that
+     * neither failed nor got dropped by the previous processors at once. Documents that fail leave the batch to run through the
+     * on failure processors on their own.
+     */
+    void innerBatchExecute(int currentProcessor, List<IngestDocument> ingestDocuments,
+                           List<BiConsumer<IngestDocument, Exception>> handlers) {
+        assert ingestDocuments.size() == handlers.size();
+        final int size = ingestDocuments.size();
+        if (size == 0) {
+            return;
+        }
+        if (size == 1) {
+            innerExecute(currentProcessor, ingestDocuments.get(0), handlers.get(0));
+            return;
+        }
+        if (currentProcessor == processorsWithMetrics.size()) {
+            for (int i = 0; i < size; i++) {
+                handlers.get(i).accept(ingestDocuments.get(i), null);
+            }
+            return;
+        }
+
+        Tuple<Processor, IngestMetric> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+        final Processor processor = processorWithMetric.v1();
+        final IngestMetric metric = processorWithMetric.v2();
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        // the documents that go on to the next processor, by position in the batch
+        final IngestDocument[] results = new IngestDocument[size];
+        final AtomicInteger pending = new AtomicInteger(size);
+        final AtomicLong lastCompletionInNanos = new AtomicLong(startTimeInNanos);
+        final List<BiConsumer<IngestDocument, Exception>> processorHandlers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int slot = i;
+            final IngestDocument ingestDocument = ingestDocuments.get(i);
+            final BiConsumer<IngestDocument, Exception> handler = handlers.get(i);
+            metric.preIngest();
+            processorHandlers.add((result, e) -> {
+                metric.postIngest(lastCompletionInNanos, relativeTimeProvider.getAsLong());
+                if (e != null) {
+                    metric.ingestFailed();
+                    if (ignoreFailure) {
+                        results[slot] = ingestDocument;
+                    } else {
+                        IngestProcessorException compoundProcessorException =
+                            newCompoundProcessorException(e, processor, ingestDocument);
+                        if (onFailureProcessors.isEmpty()) {
+                            handler.accept(null, compoundProcessorException);
+                        } else {
+                            executeOnFailureAsync(0, ingestDocument, compoundProcessorException, handler);
+                        }
+                    }
+                } else if (result != null) {
+                    results[slot] = result;
+                } else {
+                    handler.accept(null, null);
+                }
+
+                if (pending.decrementAndGet() == 0) {
+                    List<IngestDocument> nextDocuments = new ArrayList<>(size);
+                    List<BiConsumer<IngestDocument, Exception>> nextHandlers = new ArrayList<>(size);
+                    for (int j = 0; j < size; j++) {
+                        if (results[j] != null) {
+                            nextDocuments.add(results[j]);
+                            nextHandlers.add(handlers.get(j));
+                        }
+                    }
+                    innerBatchExecute(currentProcessor + 1, nextDocuments, nextHandlers);
+                }
+            });
+        }
+        processor.batchExecute(ingestDocuments, processorHandlers);
+    }
+
     void executeOnFailureAsync(int currentOnFailureProcessor, IngestDocument ingestDocument, OpenSearchException exception,
                                BiConsumer<IngestDocument, Exception> handler) {
         if (currentOnFailureProcessor == 0) {
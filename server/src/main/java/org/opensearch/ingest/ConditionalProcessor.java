@@ -50,6 +50,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -130,6 +131,52 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
         }
     }
 
+    @Override
+    public void batchExecute(List<IngestDocument> ingestDocuments, List<BiConsumer<IngestDocument, Exception>> handlers) {
+        final List<IngestDocument> matchingDocuments = new ArrayList<>(ingestDocuments.size());
+        final List<BiConsumer<IngestDocument, Exception>> matchingHandlers = new ArrayList<>(ingestDocuments.size());
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            final IngestDocument ingestDocument = ingestDocuments.get(i);
+            final BiConsumer<IngestDocument, Exception> handler = handlers.get(i);
+            final boolean matches;
+            try {
+                matches = evaluate(ingestDocument);
+            } catch (Exception e) {
+                handler.accept(null, e);
+                continue;
+            }
+            if (matches) {
+                matchingDocuments.add(ingestDocument);
+                matchingHandlers.add(handler);
+            } else {
+                handler.accept(ingestDocument, null);
+            }
+        }
+        final int size = matchingDocuments.size();
+        if (size == 0) {
+            return;
+        }
+
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final AtomicLong lastCompletionInNanos = new AtomicLong(startTimeInNanos);
+        final List<BiConsumer<IngestDocument, Exception>> processorHandlers = new ArrayList<>(size);
+        for (BiConsumer<IngestDocument, Exception> handler : matchingHandlers) {
+            metric.preIngest();
+            processorHandlers.add((result, e) -> {
+                metric.postIngest(lastCompletionInNanos, relativeTimeProvider.getAsLong());
+                if (e != null) {
+                    metric.ingestFailed();
+                }
+                if (e != null) {
+                    handler.accept(null, e);
+                } else {
+                    handler.accept(result, null);
+                }
+            });
+        }
+        processor.batchExecute(matchingDocuments, processorHandlers);
+    }
+
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
         throw new UnsupportedOperationException("this method should not get executed");
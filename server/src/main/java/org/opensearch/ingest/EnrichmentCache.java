@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.ByteSizeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A node level cache for the results of the lookups that ingest processors
+ * do to enrich documents, like geoip or user agent lookups, that all
+ * processors share rather than each keeping a cache of its own.
+ * <p>
+ * Processors register a {@link Namespace} with a weigher that estimates the
+ * size of their keys and values in bytes. All namespaces are evicted
+ * together, least recently used first, once the cache holds more than
+ * {@link #CACHE_SIZE_SETTING} bytes, and the cached entries are accounted
+ * for in the {@link CircuitBreaker#ACCOUNTING accounting} circuit breaker.
+ * Values that would trip the breaker are simply not cached.
+ */
+public final class EnrichmentCache {
+
+    public static final Setting<ByteSizeValue> CACHE_SIZE_SETTING =
+        Setting.memorySizeSetting("ingest.enrichment_cache.size", "1%", Setting.Property.NodeScope);
+
+    private final long maximumWeight;
+    private final CircuitBreaker breaker;
+    private final Cache<Key, Value> cache;
+    private final Map<String, Namespace<?, ?>> namespaces = new ConcurrentHashMap<>();
+
+    public EnrichmentCache(ByteSizeValue size, CircuitBreaker breaker) {
+        this.maximumWeight = size.getBytes();
+        this.breaker = breaker;
+        this.cache = CacheBuilder.<Key, Value>builder()
+            .setMaximumWeight(maximumWeight)
+            .weigher((key, value) -> value.sizeInBytes)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Register a namespace for the entries of a kind of processor.
+     *
+     * @param name    the name of the namespace in the stats, which must be unique
+     * @param weigher estimates the size of a key and its value in bytes
+     */
+    public <K, V> Namespace<K, V> registerNamespace(String name, ToLongBiFunction<K, V> weigher) {
+        Namespace<K, V> namespace = new Namespace<>(name, weigher);
+        if (namespaces.putIfAbsent(name, namespace) != null) {
+            throw new IllegalArgumentException("enrichment cache namespace [" + name + "] is already registered");
+        }
+        return namespace;
+    }
+
+    /**
+     * The stats of all namespaces, ordered by name.
+     */
+    public List<IngestStats.CacheStats> stats() {
+        List<IngestStats.CacheStats> stats = new ArrayList<>(namespaces.size());
+        for (Namespace<?, ?> namespace : namespaces.values()) {
+            stats.add(namespace.stats());
+        }
+        stats.sort((a, b) -> a.getNamespace().compareTo(b.getNamespace()));
+        return stats;
+    }
+
+    /**
+     * The number of bytes that all namespaces hold.
+     */
+    long sizeInBytes() {
+        return cache.weight();
+    }
+
+    private void onRemoval(RemovalNotification<Key, Value> notification) {
+        Namespace<?, ?> namespace = notification.getKey().namespace;
+        long sizeInBytes = notification.getValue().sizeInBytes;
+        namespace.count.decrement();
+        namespace.sizeInBytes.add(-sizeInBytes);
+        if (notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED) {
+            namespace.evictions.increment();
+        }
+        breaker.addWithoutBreaking(-sizeInBytes);
+    }
+
+    /**
+     * The entries of a kind of processor in the cache.
+     */
+    public final class Namespace<K, V> {
+        private final String name;
+        private final ToLongBiFunction<K, V> weigher;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sizeInBytes = new LongAdder();
+
+        private Namespace(String name, ToLongBiFunction<K, V> weigher) {
+            this.name = name;
+            this.weigher = weigher;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The cached value for the key, or {@code null} if it isn't cached.
+         */
+        @SuppressWarnings("unchecked")
+        public V get(K key) {
+            Value value = cache.get(new Key(this, key));
+            if (value == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return (V) value.value;
+        }
+
+        /**
+         * Cache the value for the key, unless it is larger than the whole cache or caching it would trip the circuit breaker.
+         */
+        public void put(K key, V value) {
+            Objects.requireNonNull(value);
+            long weight = weigher.applyAsLong(key, value);
+            if (weight > maximumWeight) {
+                return;
+            }
+            try {
+                breaker.addEstimateBytesAndMaybeBreak(weight, "ingest_enrichment_cache[" + name + "]");
+            } catch (CircuitBreakingException e) {
+                // the cache is only an optimization, so it is better to look the value up again than to fail the document
+                return;
+            }
+            count.increment();
+            sizeInBytes.add(weight);
+            cache.put(new Key(this, key), new Value(value, weight));
+        }
+
+        /**
+         * The cached value for the key, looking it up and caching it if it isn't cached.
+         * <p>
+         * Unlike {@link Cache#computeIfAbsent} this doesn't block other threads that look up the same key, and runs the lookup in the
+         * calling thread, so that lookups that need elevated privileges keep them. A value that is looked up by several threads at
+         * the same time is simply put more than once.
+         */
+        public V computeIfAbsent(K key, Function<K, V> lookup) {
+            V value = get(key);
+            if (value == null) {
+                value = lookup.apply(key);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            return value;
+        }
+
+        IngestStats.CacheStats stats() {
+            return new IngestStats.CacheStats(name, count.sum(), sizeInBytes.sum(), hits.sum(), misses.sum(), evictions.sum());
+        }
+    }
+
+    private static final class Key {
+        private final Namespace<?, ?> namespace;
+        private final Object key;
+
+        Key(Namespace<?, ?> namespace, Object key) {
+            this.namespace = namespace;
+            this.key = Objects.requireNonNull(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return namespace == that.namespace && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(namespace) + key.hashCode();
+        }
+    }
+
+    private static final class Value {
+        private final Object value;
+        private final long sizeInBytes;
+
+        Value(Object value, long sizeInBytes) {
+            this.value = value;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.opensearch.script.TemplateScript;
 
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -78,8 +79,19 @@ public final class IngestDocument {
 
     public IngestDocument(String index, String type, String id, String routing,
                           Long version, VersionType versionType, Map<String, Object> source) {
-        this.sourceAndMetadata = new HashMap<>();
-        this.sourceAndMetadata.putAll(source);
+        this(new HashMap<>(source), index, type, id, routing, version, versionType);
+    }
+
+    /**
+     * Builds a document on top of a source that is parsed as it is read rather than copied into a new map.
+     */
+    IngestDocument(String index, String type, String id, String routing, Long version, VersionType versionType, LazySourceMap source) {
+        this((Map<String, Object>) source, index, type, id, routing, version, versionType);
+    }
+
+    private IngestDocument(Map<String, Object> sourceAndMetadata, String index, String type, String id, String routing,
+                           Long version, VersionType versionType) {
+        this.sourceAndMetadata = sourceAndMetadata;
         this.sourceAndMetadata.put(Metadata.INDEX.getFieldName(), index);
         this.sourceAndMetadata.put(Metadata.TYPE.getFieldName(), type);
         this.sourceAndMetadata.put(Metadata.ID.getFieldName(), id);
@@ -659,12 +671,48 @@ public final class IngestDocument {
     }
 
     private Map<String, Object> createTemplateModel() {
-        Map<String, Object> model = new HashMap<>(sourceAndMetadata);
-        model.put(SourceFieldMapper.NAME, sourceAndMetadata);
-        // If there is a field in the source with the name '_ingest' it gets overwritten here,
-        // if access to that field is required then it get accessed via '_source._ingest'
-        model.put(INGEST_KEY, ingestMetadata);
-        return model;
+        return new TemplateModel(sourceAndMetadata, ingestMetadata);
+    }
+
+    /**
+     * The model that templates are rendered against: the source and metadata, the same again under {@code _source}, and the ingest
+     * metadata under {@code _ingest}. Fields are looked up in the document rather than copied so that a template that reads a
+     * single field doesn't read a {@link LazySourceMap} in full.
+     */
+    private static final class TemplateModel extends AbstractMap<String, Object> {
+        private final Map<String, Object> sourceAndMetadata;
+        private final Map<String, Object> ingestMetadata;
+
+        TemplateModel(Map<String, Object> sourceAndMetadata, Map<String, Object> ingestMetadata) {
+            this.sourceAndMetadata = sourceAndMetadata;
+            this.ingestMetadata = ingestMetadata;
+        }
+
+        @Override
+        public Object get(Object key) {
+            if (SourceFieldMapper.NAME.equals(key)) {
+                return sourceAndMetadata;
+            }
+            // If there is a field in the source with the name '_ingest' it is hidden here,
+            // if access to that field is required then it get accessed via '_source._ingest'
+            if (INGEST_KEY.equals(key)) {
+                return ingestMetadata;
+            }
+            return sourceAndMetadata.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return SourceFieldMapper.NAME.equals(key) || INGEST_KEY.equals(key) || sourceAndMetadata.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Map<String, Object> model = new HashMap<>(sourceAndMetadata);
+            model.put(SourceFieldMapper.NAME, sourceAndMetadata);
+            model.put(INGEST_KEY, ingestMetadata);
+            return Collections.unmodifiableMap(model).entrySet();
+        }
     }
 
     /**
@@ -766,6 +814,41 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline for several documents at once, with the same bookkeeping for each document as
+     * {@link #executePipeline(Pipeline, BiConsumer)}.
+     *
+     * @param pipeline the pipeline to execute
+     * @param ingestDocuments the documents to execute the pipeline for
+     * @param handlers handle the result or failure of the document at the same position
+     */
+    public static void batchExecutePipeline(Pipeline pipeline, List<IngestDocument> ingestDocuments,
+                                       List<BiConsumer<IngestDocument, Exception>> handlers) {
+        assert ingestDocuments.size() == handlers.size();
+        final List<IngestDocument> executingDocuments = new ArrayList<>(ingestDocuments.size());
+        final List<BiConsumer<IngestDocument, Exception>> pipelineHandlers = new ArrayList<>(ingestDocuments.size());
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            final IngestDocument ingestDocument = ingestDocuments.get(i);
+            final BiConsumer<IngestDocument, Exception> handler = handlers.get(i);
+            if (ingestDocument.executedPipelines.add(pipeline.getId())) {
+                Object previousPipeline = ingestDocument.ingestMetadata.put("pipeline", pipeline.getId());
+                executingDocuments.add(ingestDocument);
+                pipelineHandlers.add((result, e) -> {
+                    ingestDocument.executedPipelines.remove(pipeline.getId());
+                    if (previousPipeline != null) {
+                        ingestDocument.ingestMetadata.put("pipeline", previousPipeline);
+                    } else {
+                        ingestDocument.ingestMetadata.remove("pipeline");
+                    }
+                    handler.accept(result, e);
+                });
+            } else {
+                handler.accept(null, new IllegalStateException(PIPELINE_CYCLE_ERROR_MESSAGE + pipeline.getId()));
+            }
+        }
+        pipeline.batchExecute(executingDocuments, pipelineHandlers);
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
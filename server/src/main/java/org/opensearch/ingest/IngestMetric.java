@@ -35,6 +35,8 @@ package org.opensearch.ingest;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -46,6 +48,8 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 class IngestMetric {
 
+    private static final int ACTIVITY_CHANGING = -1;
+
     /**
      * The time it takes to complete the measured item.
      */
@@ -63,6 +67,13 @@ class IngestMetric {
      * The only increasing count of failures
      */
     private final CounterMetric ingestFailed = new CounterMetric();
+    /**
+     * The number of ingest actions in flight that track their activity, or {@link #ACTIVITY_CHANGING} while a period of activity
+     * starts or ends, the time at which the current period started and the total time of all past periods, in nanoseconds.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+    private long activeSinceInNanos;
+    private final AtomicLong activeTimeInNanos = new AtomicLong();
 
     /**
      * Call this prior to the ingest action.
@@ -81,6 +92,68 @@ class IngestMetric {
         ingestCount.inc();
     }
 
+    /**
+     * Call this after performing an ingest action on one of several items at once, even if the action failed. Each item takes the
+     * time since the previous item completed, so that the ingest time is the same as if the items had been processed one after the
+     * other rather than counting the time spent on the other items of the batch once per item.
+     * @param lastCompletionInNanos The relative time at which the last item completed, initially the time the batch started.
+     * @param relativeTimeInNanos The relative time at which this item completes.
+     */
+    void postIngest(AtomicLong lastCompletionInNanos, long relativeTimeInNanos) {
+        final long previousCompletionInNanos = lastCompletionInNanos.getAndAccumulate(relativeTimeInNanos, Math::max);
+        postIngest(TimeUnit.NANOSECONDS.toMillis(Math.max(0L, relativeTimeInNanos - previousCompletionInNanos)));
+    }
+
+    /**
+     * Call this when an ingest action starts, in order to track the time during which at least one action is in flight. Unlike
+     * the ingest time, this time doesn't grow faster than the wall clock when several actions are performed concurrently, so that
+     * it can tell the throughput of the measured item.
+     * @param relativeTimeInNanos The relative time at which the action starts.
+     */
+    void activityStarted(long relativeTimeInNanos) {
+        while (true) {
+            final int current = active.get();
+            if (current > 0) {
+                if (active.compareAndSet(current, current + 1)) {
+                    return;
+                }
+            } else if (current == 0 && active.compareAndSet(0, ACTIVITY_CHANGING)) {
+                activeSinceInNanos = relativeTimeInNanos;
+                active.set(1);
+                return;
+            }
+            // otherwise another action is starting or ending a period of activity, which only takes a couple of writes
+        }
+    }
+
+    /**
+     * Call this when an ingest action that called {@link #activityStarted(long)} completes.
+     * @param relativeTimeInNanos The relative time at which the action completes.
+     */
+    void activityEnded(long relativeTimeInNanos) {
+        while (true) {
+            final int current = active.get();
+            assert current != 0;
+            if (current > 1) {
+                if (active.compareAndSet(current, current - 1)) {
+                    return;
+                }
+            } else if (current == 1 && active.compareAndSet(1, ACTIVITY_CHANGING)) {
+                // the period can't start again until active is set back to 0, so its start can't change under our feet
+                activeTimeInNanos.addAndGet(relativeTimeInNanos - activeSinceInNanos);
+                active.set(0);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The total time during which at least one ingest action was in flight, excluding the current period of activity.
+     */
+    long activeTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(activeTimeInNanos.get());
+    }
+
     /**
      * Call this if the ingest action failed.
      */
@@ -99,6 +172,7 @@ class IngestMetric {
         ingestCount.inc(metrics.ingestCount.count());
         ingestTime.inc(metrics.ingestTime.sum());
         ingestFailed.inc(metrics.ingestFailed.count());
+        activeTimeInNanos.addAndGet(metrics.activeTimeInNanos.get());
     }
 
     /**
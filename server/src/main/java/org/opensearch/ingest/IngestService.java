@@ -57,17 +57,20 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.metadata.MetadataIndexTemplateService;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.env.Environment;
 import org.opensearch.gateway.GatewayService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.node.ReportingService;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.script.ScriptService;
@@ -79,6 +82,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -86,6 +90,7 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
@@ -99,6 +104,11 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
     public static final String INGEST_ORIGIN = "ingest";
 
+    /**
+     * The minimum number of requests in a slice of a bulk request, see {@link #executeBulkRequest}.
+     */
+    static final int MIN_BULK_SLICE_SIZE = 128;
+
     private static final Logger logger = LogManager.getLogger(IngestService.class);
 
     private final ClusterService clusterService;
@@ -111,14 +121,20 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
     private volatile Map<String, PipelineHolder> pipelines = Collections.emptyMap();
     private final ThreadPool threadPool;
     private final IngestMetric totalMetrics = new IngestMetric();
+    private final EnrichmentCache enrichmentCache;
     private final List<Consumer<ClusterState>> ingestClusterStateListeners = new CopyOnWriteArrayList<>();
     private volatile ClusterState state;
 
     public IngestService(ClusterService clusterService, ThreadPool threadPool,
                          Environment env, ScriptService scriptService, AnalysisRegistry analysisRegistry,
-                         List<IngestPlugin> ingestPlugins, Client client) {
+                         List<IngestPlugin> ingestPlugins, Client client, CircuitBreakerService circuitBreakerService) {
         this.clusterService = clusterService;
         this.scriptService = scriptService;
+        // processors register their namespaces while they are created so the cache must exist before them
+        this.enrichmentCache = new EnrichmentCache(
+            EnrichmentCache.CACHE_SIZE_SETTING.get(env == null ? Settings.EMPTY : env.settings()),
+            circuitBreakerService.getBreaker(CircuitBreaker.ACCOUNTING)
+        );
         this.processorFactories = processorFactories(
             ingestPlugins,
             new Processor.Parameters(
@@ -461,6 +477,12 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         ExceptionsHelper.rethrowAndSuppress(exceptions);
     }
 
+    /**
+     * Runs the index requests of a bulk request through their pipelines on the given executor. Large bulk requests are split into
+     * slices of consecutive requests that run concurrently, and the requests of a slice that go through the same pipeline first
+     * go through it together. Requests are identified by their position in the bulk request, and the callbacks for different
+     * requests may be called concurrently.
+     */
     public void executeBulkRequest(int numberOfActionRequests,
                                    Iterable<DocWriteRequest<?>> actionRequests,
                                    BiConsumer<Integer, Exception> onFailure,
@@ -477,52 +499,159 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
             @Override
             protected void doRun() {
-                final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
-                int i = 0;
-                for (DocWriteRequest<?> actionRequest : actionRequests) {
-                    IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
-                    if (indexRequest == null) {
-                        if (counter.decrementAndGet() == 0){
-                            onCompletion.accept(originalThread, null);
+                final List<DocWriteRequest<?>> requests = new ArrayList<>(numberOfActionRequests);
+                actionRequests.forEach(requests::add);
+                // large bulk requests are split into slices that run concurrently, the first one on this thread
+                final int sliceSize = bulkSliceSize(requests.size(), executorName);
+                for (int from = sliceSize; from < requests.size(); from += sliceSize) {
+                    final int sliceFrom = from;
+                    final int sliceTo = Math.min(from + sliceSize, requests.size());
+                    threadPool.executor(executorName).execute(new AbstractRunnable() {
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            onCompletion.accept(null, e);
                         }
-                        assert counter.get() >= 0;
-                        i++;
-                        continue;
-                    }
 
-                    final String pipelineId = indexRequest.getPipeline();
-                    indexRequest.setPipeline(NOOP_PIPELINE_NAME);
-                    final String finalPipelineId = indexRequest.getFinalPipeline();
-                    indexRequest.setFinalPipeline(NOOP_PIPELINE_NAME);
-                    boolean hasFinalPipeline = true;
-                    final List<String> pipelines;
-                    if (IngestService.NOOP_PIPELINE_NAME.equals(pipelineId) == false
-                        && IngestService.NOOP_PIPELINE_NAME.equals(finalPipelineId) == false) {
-                        pipelines = Arrays.asList(pipelineId, finalPipelineId);
-                    } else if (IngestService.NOOP_PIPELINE_NAME.equals(pipelineId) == false ) {
-                        pipelines = Collections.singletonList(pipelineId);
-                        hasFinalPipeline = false;
-                    } else if (IngestService.NOOP_PIPELINE_NAME.equals(finalPipelineId) == false) {
-                        pipelines = Collections.singletonList(finalPipelineId);
-                    } else {
-                        if (counter.decrementAndGet() == 0) {
-                            onCompletion.accept(originalThread, null);
+                        @Override
+                        public void onRejection(Exception e) {
+                            // the bulk request has already been accepted, so rather than failing its items we run them on this thread
+                            executeBulkSlice(requests, sliceFrom, sliceTo, onFailure, counter, onCompletion, onDropped);
                         }
-                        assert counter.get() >= 0;
-                        i++;
-                        continue;
-                    }
-
-                    executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
-                                     onCompletion, originalThread);
 
-                    i++;
+                        @Override
+                        protected void doRun() {
+                            executeBulkSlice(requests, sliceFrom, sliceTo, onFailure, counter, onCompletion, onDropped);
+                        }
+                    });
                 }
+                executeBulkSlice(requests, 0, Math.min(sliceSize, requests.size()), onFailure, counter, onCompletion, onDropped);
             }
         });
     }
 
+    /**
+     * Returns the number of requests per slice of a bulk request with the given number of requests, so that there are no more
+     * slices than threads in the executor and no slice smaller than {@link #MIN_BULK_SLICE_SIZE}.
+     */
+    private int bulkSliceSize(int numberOfRequests, String executorName) {
+        final ThreadPool.Info info = threadPool.info(executorName);
+        final int maxThreads = info == null ? 1 : Math.max(1, info.getMax());
+        return Math.max(MIN_BULK_SLICE_SIZE, (numberOfRequests + maxThreads - 1) / maxThreads);
+    }
+
+    private void executeBulkSlice(
+        final List<DocWriteRequest<?>> requests,
+        final int from,
+        final int to,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final IntConsumer onDropped
+    ) {
+        final Thread originalThread = Thread.currentThread();
+        // requests that go through the same pipeline first are executed together, see Processor#batchExecute(List, List)
+        final Map<String, List<PendingExecution>> executionsByPipeline = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(requests.get(i));
+            if (indexRequest == null) {
+                countDown(counter, onCompletion, originalThread);
+                continue;
+            }
+
+            final String pipelineId = indexRequest.getPipeline();
+            indexRequest.setPipeline(NOOP_PIPELINE_NAME);
+            final String finalPipelineId = indexRequest.getFinalPipeline();
+            indexRequest.setFinalPipeline(NOOP_PIPELINE_NAME);
+            boolean hasFinalPipeline = true;
+            final List<String> pipelines;
+            if (IngestService.NOOP_PIPELINE_NAME.equals(pipelineId) == false
+                && IngestService.NOOP_PIPELINE_NAME.equals(finalPipelineId) == false) {
+                pipelines = Arrays.asList(pipelineId, finalPipelineId);
+            } else if (IngestService.NOOP_PIPELINE_NAME.equals(pipelineId) == false ) {
+                pipelines = Collections.singletonList(pipelineId);
+                hasFinalPipeline = false;
+            } else if (IngestService.NOOP_PIPELINE_NAME.equals(finalPipelineId) == false) {
+                pipelines = Collections.singletonList(finalPipelineId);
+            } else {
+                countDown(counter, onCompletion, originalThread);
+                continue;
+            }
+
+            executionsByPipeline.computeIfAbsent(pipelines.get(0), k -> new ArrayList<>())
+                .add(new PendingExecution(i, pipelines.iterator(), hasFinalPipeline, indexRequest));
+        }
+
+        for (Map.Entry<String, List<PendingExecution>> entry : executionsByPipeline.entrySet()) {
+            executePipelines(entry.getKey(), entry.getValue(), onDropped, onFailure, counter, onCompletion, originalThread);
+        }
+    }
+
+    /**
+     * Executes the given pipeline for all given requests at once, and then the remaining pipelines of each request on its own.
+     */
+    private void executePipelines(
+        final String pipelineId,
+        final List<PendingExecution> executions,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final PipelineHolder holder = pipelines.get(pipelineId);
+        if (executions.size() == 1 || holder == null || holder.pipeline.getProcessors().isEmpty()) {
+            for (PendingExecution execution : executions) {
+                executePipelines(execution.slot, execution.pipelines, execution.hasFinalPipeline, execution.indexRequest, onDropped,
+                    onFailure, counter, onCompletion, originalThread);
+            }
+            return;
+        }
+
+        final Pipeline pipeline = holder.pipeline;
+        final long startTimeInNanos = System.nanoTime();
+        final List<IngestDocument> ingestDocuments = new ArrayList<>(executions.size());
+        final List<BiConsumer<IngestDocument, Exception>> handlers = new ArrayList<>(executions.size());
+        for (PendingExecution execution : executions) {
+            final int slot = execution.slot;
+            final IndexRequest indexRequest = execution.indexRequest;
+            final Iterator<String> it = execution.pipelines;
+            final String next = it.next();
+            assert pipelineId.equals(next);
+            final String originalIndex = indexRequest.indices()[0];
+            final IngestDocument ingestDocument;
+            try {
+                ingestDocument = newIngestDocument(indexRequest);
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                    pipelineId, indexRequest.index(), indexRequest.id()), e);
+                onFailure.accept(slot, e);
+                countDown(counter, onCompletion, originalThread);
+                continue;
+            }
+            ingestDocuments.add(ingestDocument);
+            handlers.add((result, e) -> onPipelineExecuted(slot, indexRequest, ingestDocument, result, e, onDropped,
+                ex -> continuePipelines(slot, pipelineId, originalIndex, it, execution.hasFinalPipeline, indexRequest, onDropped,
+                    onFailure, counter, onCompletion, originalThread, ex)));
+        }
+        if (ingestDocuments.isEmpty()) {
+            return;
+        }
+
+        final int size = ingestDocuments.size();
+        final AtomicLong lastCompletionInNanos = new AtomicLong(startTimeInNanos);
+        final List<BiConsumer<IngestDocument, Exception>> meteredHandlers = new ArrayList<>(size);
+        for (BiConsumer<IngestDocument, Exception> handler : handlers) {
+            totalMetrics.preIngest();
+            meteredHandlers.add((result, e) -> {
+                totalMetrics.postIngest(lastCompletionInNanos, System.nanoTime());
+                handler.accept(result, e);
+            });
+        }
+        IngestDocument.batchExecutePipeline(pipeline, ingestDocuments, meteredHandlers);
+    }
+
     private void executePipelines(
         final int slot,
         final Iterator<String> it,
@@ -543,61 +672,81 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 }
                 Pipeline pipeline = holder.pipeline;
                 String originalIndex = indexRequest.indices()[0];
-                innerExecute(slot, indexRequest, pipeline, onDropped, e -> {
-                    if (e != null) {
-                        logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
-                            pipelineId, indexRequest.index(), indexRequest.id()), e);
-                        onFailure.accept(slot, e);
-                    }
-
-                    Iterator<String> newIt = it;
-                    boolean newHasFinalPipeline = hasFinalPipeline;
-                    String newIndex = indexRequest.indices()[0];
-
-                    if (Objects.equals(originalIndex, newIndex) == false) {
-                        if (hasFinalPipeline && it.hasNext() == false) {
-                            totalMetrics.ingestFailed();
-                            onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId +
-                                "] can't change the target index"));
-                        } else {
-
-                            //Drain old it so it's not looped over
-                            it.forEachRemaining($ -> {
-                            });
-                            indexRequest.isPipelineResolved(false);
-                            resolvePipelines(null, indexRequest, state.metadata());
-                            if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
-                                newIt = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
-                                newHasFinalPipeline = true;
-                            } else {
-                                newIt = Collections.emptyIterator();
-                            }
-                        }
-                    }
-
-                    if (newIt.hasNext()) {
-                        executePipelines(slot, newIt, newHasFinalPipeline, indexRequest, onDropped, onFailure, counter, onCompletion,
-                            originalThread);
-                    } else {
-                        if (counter.decrementAndGet() == 0) {
-                            onCompletion.accept(originalThread, null);
-                        }
-                        assert counter.get() >= 0;
-                    }
-                });
+                innerExecute(slot, indexRequest, pipeline, onDropped, e -> continuePipelines(slot, pipelineId, originalIndex, it,
+                    hasFinalPipeline, indexRequest, onDropped, onFailure, counter, onCompletion, originalThread, e));
             } catch (Exception e) {
                 logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
                     pipelineId, indexRequest.index(), indexRequest.id()), e);
                 onFailure.accept(slot, e);
-                if (counter.decrementAndGet() == 0) {
-                    onCompletion.accept(originalThread, null);
-                }
-                assert counter.get() >= 0;
+                countDown(counter, onCompletion, originalThread);
                 break;
             }
         }
     }
 
+    /**
+     * Called once a request went through one of its pipelines, to run it through the pipelines that it has left.
+     */
+    private void continuePipelines(
+        final int slot,
+        final String pipelineId,
+        final String originalIndex,
+        final Iterator<String> it,
+        final boolean hasFinalPipeline,
+        final IndexRequest indexRequest,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread,
+        final Exception e
+    ) {
+        if (e != null) {
+            logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                pipelineId, indexRequest.index(), indexRequest.id()), e);
+            onFailure.accept(slot, e);
+        }
+
+        Iterator<String> newIt = it;
+        boolean newHasFinalPipeline = hasFinalPipeline;
+        String newIndex = indexRequest.indices()[0];
+
+        if (Objects.equals(originalIndex, newIndex) == false) {
+            if (hasFinalPipeline && it.hasNext() == false) {
+                totalMetrics.ingestFailed();
+                onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId +
+                    "] can't change the target index"));
+            } else {
+
+                //Drain old it so it's not looped over
+                it.forEachRemaining($ -> {
+                });
+                indexRequest.isPipelineResolved(false);
+                resolvePipelines(null, indexRequest, state.metadata());
+                if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                    newIt = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
+                    newHasFinalPipeline = true;
+                } else {
+                    newIt = Collections.emptyIterator();
+                }
+            }
+        }
+
+        if (newIt.hasNext()) {
+            executePipelines(slot, newIt, newHasFinalPipeline, indexRequest, onDropped, onFailure, counter, onCompletion,
+                originalThread);
+        } else {
+            countDown(counter, onCompletion, originalThread);
+        }
+    }
+
+    private static void countDown(AtomicInteger counter, BiConsumer<Thread, Exception> onCompletion, Thread originalThread) {
+        if (counter.decrementAndGet() == 0) {
+            onCompletion.accept(originalThread, null);
+        }
+        assert counter.get() >= 0;
+    }
+
     public IngestStats stats() {
         IngestStats.Builder statsBuilder = new IngestStats.Builder();
         statsBuilder.addTotalMetrics(totalMetrics);
@@ -613,9 +762,17 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
             });
         });
+        statsBuilder.addCacheStats(enrichmentCache.stats());
         return statsBuilder.build();
     }
 
+    /**
+     * The cache that processors share for the results of their lookups.
+     */
+    public EnrichmentCache getEnrichmentCache() {
+        return enrichmentCache;
+    }
+
     /**
      * Adds a listener that gets invoked with the current cluster state before processor factories
      * get invoked.
@@ -660,45 +817,68 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         // the pipeline specific stat holder may not exist and that is fine:
         // (e.g. the pipeline may have been removed while we're ingesting a document
         totalMetrics.preIngest();
+        IngestDocument ingestDocument = newIngestDocument(indexRequest);
+        ingestDocument.executePipeline(pipeline, (result, e) -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+            totalMetrics.postIngest(ingestTimeInMillis);
+            onPipelineExecuted(slot, indexRequest, ingestDocument, result, e, itemDroppedHandler, handler);
+        });
+    }
+
+    private static IngestDocument newIngestDocument(IndexRequest indexRequest) {
         String index = indexRequest.index();
         String type = indexRequest.type();
         String id = indexRequest.id();
         String routing = indexRequest.routing();
         Long version = indexRequest.version();
         VersionType versionType = indexRequest.versionType();
+        if (indexRequest.getContentType() == XContentType.JSON) {
+            LazySourceMap source = LazySourceMap.parse(indexRequest.source());
+            if (source != null) {
+                return new IngestDocument(index, type, id, routing, version, versionType, source);
+            }
+        }
         Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
-        IngestDocument ingestDocument = new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
-        ingestDocument.executePipeline(pipeline, (result, e) -> {
-            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
-            totalMetrics.postIngest(ingestTimeInMillis);
-            if (e != null) {
-                totalMetrics.ingestFailed();
-                handler.accept(e);
-            } else if (result == null) {
-                itemDroppedHandler.accept(slot);
-                handler.accept(null);
+        return new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+    }
+
+    /**
+     * Applies the outcome of running the given document through a pipeline to the request that it was created from.
+     */
+    private void onPipelineExecuted(int slot, IndexRequest indexRequest, IngestDocument ingestDocument, IngestDocument result,
+                                    Exception e, IntConsumer itemDroppedHandler, Consumer<Exception> handler) {
+        if (e != null) {
+            totalMetrics.ingestFailed();
+            handler.accept(e);
+        } else if (result == null) {
+            itemDroppedHandler.accept(slot);
+            handler.accept(null);
+        } else {
+            Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+            //it's fine to set all metadata fields all the time, as ingest document holds their starting values
+            //before ingestion, which might also get modified during ingestion.
+            indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+            indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
+            indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+            indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+            indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+            if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+                indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+            }
+            if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+                indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+            }
+            if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+                indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+            }
+            Map<String, Object> source = ingestDocument.getSourceAndMetadata();
+            if (source instanceof LazySourceMap) {
+                indexRequest.source(((LazySourceMap) source).toBytes(), indexRequest.getContentType());
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                //it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                //before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
-                handler.accept(null);
+                indexRequest.source(source, indexRequest.getContentType());
             }
-        });
+            handler.accept(null);
+        }
     }
 
     @Override
@@ -884,4 +1064,22 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    /**
+     * A request of a bulk request along with the pipelines that it still has to go through.
+     */
+    private static final class PendingExecution {
+
+        final int slot;
+        final Iterator<String> pipelines;
+        final boolean hasFinalPipeline;
+        final IndexRequest indexRequest;
+
+        PendingExecution(int slot, Iterator<String> pipelines, boolean hasFinalPipeline, IndexRequest indexRequest) {
+            this.slot = slot;
+            this.pipelines = pipelines;
+            this.hasFinalPipeline = hasFinalPipeline;
+            this.indexRequest = indexRequest;
+        }
+    }
+
 }
@@ -36,6 +36,7 @@ import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -53,6 +54,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
     private final Stats totalStats;
     private final List<PipelineStat> pipelineStats;
     private final Map<String, List<ProcessorStat>> processorStats;
+    private final List<CacheStats> cacheStats;
 
     /**
      * @param totalStats - The total stats for Ingest. This is the logically the sum of all pipeline stats,
@@ -61,9 +63,18 @@ public class IngestStats implements Writeable, ToXContentFragment {
      * @param processorStats - The per-processor stats for a given pipeline. A map keyed by the pipeline identifier.
      */
     public IngestStats(Stats totalStats, List<PipelineStat> pipelineStats, Map<String, List<ProcessorStat>> processorStats) {
+        this(totalStats, pipelineStats, processorStats, Collections.emptyList());
+    }
+
+    /**
+     * @param cacheStats - The stats for each namespace of the node's {@link EnrichmentCache}.
+     */
+    public IngestStats(Stats totalStats, List<PipelineStat> pipelineStats, Map<String, List<ProcessorStat>> processorStats,
+                       List<CacheStats> cacheStats) {
         this.totalStats = totalStats;
         this.pipelineStats = pipelineStats;
         this.processorStats = processorStats;
+        this.cacheStats = cacheStats;
     }
 
     /**
@@ -77,7 +88,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
         for (int i = 0; i < size; i++) {
             String pipelineId = in.readString();
             Stats pipelineStat = new Stats(in);
-            this.pipelineStats.add(new PipelineStat(pipelineId, pipelineStat));
+            long activeTimeInMillis = 0;
+            if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+                activeTimeInMillis = in.readVLong();
+            }
+            this.pipelineStats.add(new PipelineStat(pipelineId, pipelineStat, activeTimeInMillis));
             if (in.getVersion().onOrAfter(Version.V_6_5_0)) {
                 int processorsSize = in.readVInt();
                 List<ProcessorStat> processorStatsPerPipeline = new ArrayList<>(processorsSize);
@@ -93,6 +108,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 this.processorStats.put(pipelineId, processorStatsPerPipeline);
             }
         }
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            this.cacheStats = in.readList(CacheStats::new);
+        } else {
+            this.cacheStats = Collections.emptyList();
+        }
     }
 
     @Override
@@ -102,6 +122,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
         for (PipelineStat pipelineStat : pipelineStats) {
             out.writeString(pipelineStat.getPipelineId());
             pipelineStat.getStats().writeTo(out);
+            if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+                out.writeVLong(pipelineStat.getActiveTimeInMillis());
+            }
             if (out.getVersion().onOrAfter(Version.V_6_5_0)) {
                 List<ProcessorStat> processorStatsForPipeline = processorStats.get(pipelineStat.getPipelineId());
                 if (processorStatsForPipeline == null) {
@@ -118,6 +141,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeList(cacheStats);
+        }
     }
 
     @Override
@@ -130,6 +156,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
         for (PipelineStat pipelineStat : pipelineStats) {
             builder.startObject(pipelineStat.getPipelineId());
             pipelineStat.getStats().toXContent(builder, params);
+            builder.humanReadableField("active_time_in_millis", "active_time",
+                new TimeValue(pipelineStat.getActiveTimeInMillis(), TimeUnit.MILLISECONDS));
+            builder.field("throughput_per_second", pipelineStat.getThroughputPerSecond());
             List<ProcessorStat> processorStatsForPipeline = processorStats.get(pipelineStat.getPipelineId());
             builder.startArray("processors");
             if (processorStatsForPipeline != null) {
@@ -148,6 +177,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
             builder.endObject();
         }
         builder.endObject();
+        builder.startObject("enrichment_cache");
+        for (CacheStats namespaceStats : cacheStats) {
+            namespaceStats.toXContent(builder, params);
+        }
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -164,6 +198,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
         return processorStats;
     }
 
+    public List<CacheStats> getCacheStats() {
+        return cacheStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -171,12 +209,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
         IngestStats that = (IngestStats) o;
         return Objects.equals(totalStats, that.totalStats)
             && Objects.equals(pipelineStats, that.pipelineStats)
-            && Objects.equals(processorStats, that.processorStats);
+            && Objects.equals(processorStats, that.processorStats)
+            && Objects.equals(cacheStats, that.cacheStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalStats, pipelineStats, processorStats);
+        return Objects.hash(totalStats, pipelineStats, processorStats, cacheStats);
     }
 
     public static class Stats implements Writeable, ToXContentFragment {
@@ -272,7 +311,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private Stats totalStats;
         private List<PipelineStat> pipelineStats = new ArrayList<>();
         private Map<String, List<ProcessorStat>> processorStats = new HashMap<>();
-
+        private List<CacheStats> cacheStats = new ArrayList<>();
 
         Builder addTotalMetrics(IngestMetric totalMetric) {
             this.totalStats = totalMetric.createStats();
@@ -280,7 +319,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
         }
 
         Builder addPipelineMetrics(String pipelineId, IngestMetric pipelineMetric) {
-            this.pipelineStats.add(new PipelineStat(pipelineId, pipelineMetric.createStats()));
+            this.pipelineStats.add(new PipelineStat(pipelineId, pipelineMetric.createStats(), pipelineMetric.activeTimeInMillis()));
             return this;
         }
 
@@ -290,9 +329,14 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        Builder addCacheStats(List<CacheStats> cacheStats) {
+            this.cacheStats.addAll(cacheStats);
+            return this;
+        }
+
         IngestStats build() {
             return new IngestStats(totalStats, Collections.unmodifiableList(pipelineStats),
-                Collections.unmodifiableMap(processorStats));
+                Collections.unmodifiableMap(processorStats), Collections.unmodifiableList(cacheStats));
         }
     }
 
@@ -302,10 +346,16 @@ public class IngestStats implements Writeable, ToXContentFragment {
     public static class PipelineStat {
         private final String pipelineId;
         private final Stats stats;
+        private final long activeTimeInMillis;
 
         public PipelineStat(String pipelineId, Stats stats) {
+            this(pipelineId, stats, 0);
+        }
+
+        public PipelineStat(String pipelineId, Stats stats, long activeTimeInMillis) {
             this.pipelineId = pipelineId;
             this.stats = stats;
+            this.activeTimeInMillis = activeTimeInMillis;
         }
 
         public String getPipelineId() {
@@ -316,18 +366,37 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return stats;
         }
 
+        /**
+         * @return The total time during which at least one document was going through the pipeline in millis. Unlike the ingest
+         * time, documents that go through the pipeline concurrently only count once.
+         */
+        public long getActiveTimeInMillis() {
+            return activeTimeInMillis;
+        }
+
+        /**
+         * @return The number of documents that went through the pipeline per second of active time.
+         */
+        public double getThroughputPerSecond() {
+            if (activeTimeInMillis == 0) {
+                return 0;
+            }
+            return stats.getIngestCount() * 1000.0 / activeTimeInMillis;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IngestStats.PipelineStat that = (IngestStats.PipelineStat) o;
             return Objects.equals(pipelineId, that.pipelineId)
-                && Objects.equals(stats, that.stats);
+                && Objects.equals(stats, that.stats)
+                && activeTimeInMillis == that.activeTimeInMillis;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(pipelineId, stats);
+            return Objects.hash(pipelineId, stats, activeTimeInMillis);
         }
     }
 
@@ -373,4 +442,107 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.hash(name, type, stats);
         }
     }
+
+    /**
+     * Container for the stats of a namespace of the {@link EnrichmentCache}.
+     */
+    public static class CacheStats implements Writeable, ToXContentFragment {
+        private final String namespace;
+        private final long count;
+        private final long sizeInBytes;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public CacheStats(String namespace, long count, long sizeInBytes, long hits, long misses, long evictions) {
+            this.namespace = namespace;
+            this.count = count;
+            this.sizeInBytes = sizeInBytes;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Read from a stream.
+         */
+        public CacheStats(StreamInput in) throws IOException {
+            namespace = in.readString();
+            count = in.readVLong();
+            sizeInBytes = in.readVLong();
+            hits = in.readVLong();
+            misses = in.readVLong();
+            evictions = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(namespace);
+            out.writeVLong(count);
+            out.writeVLong(sizeInBytes);
+            out.writeVLong(hits);
+            out.writeVLong(misses);
+            out.writeVLong(evictions);
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        /**
+         * @return The number of entries of the namespace in the cache.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return The estimated size in bytes of the entries of the namespace in the cache.
+         */
+        public long getSizeInBytes() {
+            return sizeInBytes;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(namespace);
+            builder.field("count", count);
+            builder.humanReadableField("size_in_bytes", "size", new ByteSizeValue(sizeInBytes));
+            builder.field("hits", hits);
+            builder.field("misses", misses);
+            builder.field("evictions", evictions);
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IngestStats.CacheStats that = (IngestStats.CacheStats) o;
+            return Objects.equals(namespace, that.namespace)
+                && count == that.count
+                && sizeInBytes == that.sizeInBytes
+                && hits == that.hits
+                && misses == that.misses
+                && evictions == that.evictions;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespace, count, sizeInBytes, hits, misses, evictions);
+        }
+    }
 }
@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.opensearch.OpenSearchGenerationException;
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The source of a document that is being ingested, backed by its original
+ * JSON bytes rather than parsed into nested maps up front.
+ * <p>
+ * {@link #parse} only reads the top level of the source: scalar values are
+ * read right away, but objects and arrays are skipped over and only
+ * remember where they are in the source. They are parsed the first time
+ * they are read. When the document has been processed, {@link #toBytes()}
+ * copies the objects and arrays that were never read from the original
+ * source byte for byte, and returns the original source as is if none of
+ * its top level fields were read, changed, added or removed. Pipelines that
+ * only touch a few top level fields of wide documents no longer pay for
+ * building and serializing maps of the whole document.
+ * <p>
+ * Iterating over the entries reads all values, so that they can be changed
+ * through the entries, and means that the source is written out again.
+ */
+final class LazySourceMap extends AbstractMap<String, Object> {
+
+    /**
+     * Configured like the factory of {@link org.opensearch.common.xcontent.json.JsonXContent}, so that sources are accepted or
+     * rejected the same way.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    static {
+        JSON_FACTORY.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
+        JSON_FACTORY.configure(JsonFactory.Feature.FAIL_ON_SYMBOL_HASH_OVERFLOW, false);
+        JSON_FACTORY.configure(JsonParser.Feature.STRICT_DUPLICATE_DETECTION, true);
+    }
+
+    private final BytesReference source;
+    /**
+     * The top level fields in the order of the source, with a {@link RawValue} for objects and arrays that were not read yet.
+     */
+    private final Map<String, Object> values;
+    private final Set<String> sourceKeys;
+    /**
+     * The keys that were read, set, or removed since the source was parsed.
+     */
+    private final Set<String> changedKeys = new HashSet<>();
+    private boolean iterated = false;
+
+    private LazySourceMap(BytesReference source, Map<String, Object> values) {
+        this.source = source;
+        this.values = values;
+        this.sourceKeys = new HashSet<>(values.keySet());
+    }
+
+    /**
+     * Read the top level of the given JSON source.
+     *
+     * @return the source, or {@code null} if the bounds of its objects and arrays in the source aren't known, for instance because
+     *         it isn't encoded in UTF-8, so they can't be copied as is
+     * @throws OpenSearchParseException if the source isn't a valid JSON object
+     */
+    static LazySourceMap parse(BytesReference source) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(source.streamInput())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new OpenSearchParseException("Failed to parse content to map, expected an object but got [{}]",
+                    parser.currentToken());
+            }
+            if (parser.getTokenLocation().getByteOffset() < 0) {
+                // the parser only knows where tokens start for sources in UTF-8
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                token = parser.nextToken();
+                switch (token) {
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        long start = parser.getTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                        // the token is now the closing brace or bracket, which is a single byte
+                        long end = parser.getTokenLocation().getByteOffset() + 1;
+                        RawValue raw = new RawValue(Math.toIntExact(start), Math.toIntExact(end - start));
+                        boolean isObject = token == JsonToken.START_OBJECT;
+                        if (raw.isEnclosedIn(source, isObject ? '{' : '[', isObject ? '}' : ']') == false) {
+                            // never copy bytes that the parser can't exactly tell the bounds of
+                            return null;
+                        }
+                        values.put(name, raw);
+                        break;
+                    case VALUE_STRING:
+                        values.put(name, parser.getText());
+                        break;
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                        values.put(name, parser.getNumberValue());
+                        break;
+                    case VALUE_TRUE:
+                        values.put(name, Boolean.TRUE);
+                        break;
+                    case VALUE_FALSE:
+                        values.put(name, Boolean.FALSE);
+                        break;
+                    case VALUE_NULL:
+                        values.put(name, null);
+                        break;
+                    default:
+                        throw new OpenSearchParseException("Failed to parse content to map, unexpected token [{}]", token);
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new OpenSearchParseException("Failed to parse content to map, unexpected token [{}]", token);
+            }
+        } catch (IOException e) {
+            throw new OpenSearchParseException("Failed to parse content to map", e);
+        }
+        return new LazySourceMap(source, values);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = values.get(key);
+        if (value instanceof RawValue) {
+            // the value may be changed in place once it has been handed out
+            String name = (String) key;
+            value = read((RawValue) value);
+            values.put(name, value);
+            changedKeys.add(name);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        changedKeys.add(key);
+        return readIfRaw(values.put(key, value));
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (values.containsKey(key) == false) {
+            return null;
+        }
+        changedKeys.add((String) key);
+        return readIfRaw(values.remove(key));
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (iterated == false) {
+            iterated = true;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                if (entry.getValue() instanceof RawValue) {
+                    entry.setValue(read((RawValue) entry.getValue()));
+                }
+            }
+        }
+        return values.entrySet();
+    }
+
+    /**
+     * Whether the source still holds exactly the top level fields that it was parsed from.
+     */
+    boolean isUnchanged() {
+        if (iterated) {
+            return false;
+        }
+        for (String key : changedKeys) {
+            if (sourceKeys.contains(key) || values.containsKey(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write the source as JSON, copying the objects and arrays that were never read from the original source.
+     */
+    BytesReference toBytes() {
+        if (isUnchanged()) {
+            return source;
+        }
+        try {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            builder.startObject();
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                if (entry.getValue() instanceof RawValue) {
+                    RawValue raw = (RawValue) entry.getValue();
+                    builder.rawField(entry.getKey(), source.slice(raw.offset, raw.length).streamInput(), XContentType.JSON);
+                } else {
+                    builder.field(entry.getKey(), entry.getValue());
+                }
+            }
+            builder.endObject();
+            return BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchGenerationException("Failed to generate source", e);
+        }
+    }
+
+    private Object readIfRaw(Object value) {
+        return value instanceof RawValue ? read((RawValue) value) : value;
+    }
+
+    private Object read(RawValue raw) {
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source.slice(raw.offset, raw.length).streamInput())) {
+            return parser.nextToken() == XContentParser.Token.START_OBJECT ? parser.map() : parser.list();
+        } catch (IOException e) {
+            throw new OpenSearchParseException("Failed to parse content to map", e);
+        }
+    }
+
+    /**
+     * The keys of the source, which records the keys that are removed through it like {@link #remove} does.
+     */
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<String> iterator = values.keySet().iterator();
+            return new Iterator<String>() {
+                private String current;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    current = iterator.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    changedKeys.add(current);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return values.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key) {
+            if (values.containsKey(key) == false) {
+                return false;
+            }
+            LazySourceMap.this.remove(key);
+            return true;
+        }
+    }
+
+    /**
+     * Where an object or array that was not read yet is in the source.
+     */
+    private static final class RawValue {
+        private final int offset;
+        private final int length;
+
+        RawValue(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        boolean isEnclosedIn(BytesReference source, char open, char close) {
+            return offset >= 0 && length >= 2 && offset + length <= source.length()
+                && source.get(offset) == open && source.get(offset + length - 1) == close;
+        }
+    }
+}
@@ -35,11 +35,14 @@ package org.opensearch.ingest;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.LongSupplier;
 
@@ -110,9 +113,11 @@ public final class Pipeline {
     public void execute(IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> handler) {
         final long startTimeInNanos = relativeTimeProvider.getAsLong();
         metrics.preIngest();
+        metrics.activityStarted(startTimeInNanos);
         compoundProcessor.execute(ingestDocument, (result, e) -> {
-            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
-            metrics.postIngest(ingestTimeInMillis);
+            final long endTimeInNanos = relativeTimeProvider.getAsLong();
+            metrics.postIngest(TimeUnit.NANOSECONDS.toMillis(endTimeInNanos - startTimeInNanos));
+            metrics.activityEnded(endTimeInNanos);
             if (e != null) {
                 metrics.ingestFailed();
             }
@@ -120,6 +125,41 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies the data of several documents to be indexed based on the processor this pipeline holds, letting each processor
+     * process all documents that are still being processed at once, see {@link Processor#batchExecute(List, List)}.
+     *
+     * The handler at the same position as a document gets called once that document has been processed, with <code>null</code>
+     * if this document will be dropped and not indexed.
+     */
+    public void batchExecute(List<IngestDocument> ingestDocuments, List<BiConsumer<IngestDocument, Exception>> handlers) {
+        assert ingestDocuments.size() == handlers.size();
+        final int size = ingestDocuments.size();
+        if (size == 0) {
+            return;
+        }
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final AtomicInteger pending = new AtomicInteger(size);
+        final AtomicLong lastCompletionInNanos = new AtomicLong(startTimeInNanos);
+        final List<BiConsumer<IngestDocument, Exception>> pipelineHandlers = new ArrayList<>(size);
+        for (BiConsumer<IngestDocument, Exception> handler : handlers) {
+            metrics.preIngest();
+            pipelineHandlers.add((result, e) -> {
+                final long endTimeInNanos = relativeTimeProvider.getAsLong();
+                metrics.postIngest(lastCompletionInNanos, endTimeInNanos);
+                if (e != null) {
+                    metrics.ingestFailed();
+                }
+                if (pending.decrementAndGet() == 0) {
+                    metrics.activityEnded(endTimeInNanos);
+                }
+                handler.accept(result, e);
+            });
+        }
+        metrics.activityStarted(startTimeInNanos);
+        compoundProcessor.batchExecute(ingestDocuments, pipelineHandlers);
+    }
+
     /**
      * The unique id of this pipeline
      */
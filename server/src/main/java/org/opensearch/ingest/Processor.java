@@ -39,6 +39,7 @@ import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.Scheduler;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -70,6 +71,21 @@ public interface Processor {
         handler.accept(result, null);
     }
 
+    /**
+     * Introspect and potentially modify a batch of incoming documents, calling the handler at the same position as each document
+     * once that document has been processed, the same way {@link #execute(IngestDocument, BiConsumer)} does.
+     *
+     * Expert method: only override this method if a processor implementation can process several documents at once more
+     * efficiently than one after the other, e.g. because it can share a lookup between them. By default, each document is
+     * processed on its own.
+     */
+    default void batchExecute(List<IngestDocument> ingestDocuments, List<BiConsumer<IngestDocument, Exception>> handlers) {
+        assert ingestDocuments.size() == handlers.size();
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            execute(ingestDocuments.get(i), handlers.get(i));
+        }
+    }
+
     /**
      * Introspect and potentially modify the incoming data.
      *
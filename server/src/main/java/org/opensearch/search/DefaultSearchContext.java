@@ -87,6 +87,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -95,6 +96,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.LongSupplier;
 
 final class DefaultSearchContext extends SearchContext {
@@ -192,7 +194,8 @@ final class DefaultSearchContext extends SearchContext {
         this.clusterService = clusterService;
         this.engineSearcher = readerContext.acquireSearcher("search");
         this.searcher = new ContextIndexSearcher(engineSearcher.getIndexReader(), engineSearcher.getSimilarity(),
-            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation);
+            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation,
+            concurrentSegmentSearchExecutor(indexService.getIndexSettings(), indexShard.getThreadPool()));
         this.relativeTimeSupplier = relativeTimeSupplier;
         this.timeout = timeout;
         this.minNodeVersion = minNodeVersion;
@@ -203,6 +206,19 @@ final class DefaultSearchContext extends SearchContext {
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    /**
+     * Returns the executor used to search the segments of the shard concurrently, or <code>null</code> if the index
+     * does not opt in to concurrent segment search. Throttled indices are always searched sequentially.
+     */
+    @Nullable
+    private static Executor concurrentSegmentSearchExecutor(IndexSettings indexSettings, @Nullable ThreadPool threadPool) {
+        if (threadPool == null || indexSettings == null
+            || indexSettings.isConcurrentSegmentSearchEnabled() == false || indexSettings.isSearchThrottled()) {
+            return null;
+        }
+        return threadPool.executor(ThreadPool.Names.INDEX_SEARCHER);
+    }
+
     @Override
     public void doClose() {
         Releasables.close(engineSearcher, searcher);
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.search.stats.SearchStats;
+import org.opensearch.index.shard.IllegalIndexShardStateException;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchRequest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admits shard-level query phases into the search thread pool based on their estimated cost. The cost of a request is estimated
+ * from the historical query latency of the shard it targets, as recorded by its search stats, or from the size of the shard and
+ * the average task time of the search thread pool if the shard has not been searched yet, and is scaled up for requests that
+ * aggregate. Expensive requests are rejected when the estimated cost of the requests that were admitted but did not complete yet
+ * would keep them waiting for longer than {@link #SEARCH_ADMISSION_CONTROL_MAX_WAIT}, cheaper requests are always admitted and left
+ * to the queue of the thread pool.
+ */
+public final class SearchAdmissionController {
+
+    public static final Setting<Boolean> SEARCH_ADMISSION_CONTROL_ENABLED =
+        Setting.boolSetting("search.admission_control.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<TimeValue> SEARCH_ADMISSION_CONTROL_MAX_WAIT =
+        Setting.timeSetting("search.admission_control.max_wait", TimeValue.timeValueSeconds(5), TimeValue.timeValueMillis(1),
+            Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<TimeValue> SEARCH_ADMISSION_CONTROL_EXPENSIVE_REQUEST_THRESHOLD =
+        Setting.timeSetting("search.admission_control.expensive_request_threshold", TimeValue.timeValueMillis(100),
+            TimeValue.ZERO, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The shard size that a request is expected to take the average task time of the thread pool for, when there are no query
+     * latencies recorded for its shard.
+     */
+    static final long REFERENCE_SHARD_SIZE_IN_BYTES = ByteSizeUnit.GB.toBytes(1);
+    static final int MAX_SHARD_SIZE_FACTOR = 16;
+    static final int AGGREGATION_COST_FACTOR = 2;
+
+    private final CounterMetric admitted = new CounterMetric();
+    private final CounterMetric rejected = new CounterMetric();
+    private final AtomicLong outstandingCostInNanos = new AtomicLong();
+
+    private volatile boolean enabled;
+    private volatile long maxWaitInNanos;
+    private volatile long expensiveRequestThresholdInNanos;
+
+    public SearchAdmissionController(Settings settings, ClusterSettings clusterSettings) {
+        setEnabled(SEARCH_ADMISSION_CONTROL_ENABLED.get(settings));
+        setMaxWait(SEARCH_ADMISSION_CONTROL_MAX_WAIT.get(settings));
+        setExpensiveRequestThreshold(SEARCH_ADMISSION_CONTROL_EXPENSIVE_REQUEST_THRESHOLD.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_ADMISSION_CONTROL_ENABLED, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_ADMISSION_CONTROL_MAX_WAIT, this::setMaxWait);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_ADMISSION_CONTROL_EXPENSIVE_REQUEST_THRESHOLD,
+            this::setExpensiveRequestThreshold);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setMaxWait(TimeValue maxWait) {
+        this.maxWaitInNanos = maxWait.nanos();
+    }
+
+    private void setExpensiveRequestThreshold(TimeValue expensiveRequestThreshold) {
+        this.expensiveRequestThresholdInNanos = expensiveRequestThreshold.nanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Admits the query phase of the given request into a thread pool with the given number of threads and average task time,
+     * or throws an {@link OpenSearchRejectedExecutionException} if the request is expensive and the thread pool is too busy to
+     * run it in time. The returned {@link Releasable} must be released once the query phase completed or failed.
+     */
+    public Releasable admit(IndexShard shard, ShardSearchRequest request, int threads, double taskExecutionEWMAInNanos) {
+        if (enabled == false) {
+            return () -> {};
+        }
+        final SearchStats.Stats stats = shard.searchStats().getTotal();
+        final long meanQueryTimeInNanos = stats.getQueryCount() == 0 ? -1L
+            : TimeUnit.MILLISECONDS.toNanos(stats.getQueryTimeInMillis()) / stats.getQueryCount();
+        final SearchSourceBuilder source = request.source();
+        final boolean aggregations = source != null && source.aggregations() != null;
+        // the size of the shard is only needed when it has no query latencies recorded yet
+        final long shardSizeInBytes = meanQueryTimeInNanos < 0 ? shardSizeInBytes(shard) : 0L;
+        return admit(estimateCost(meanQueryTimeInNanos, shardSizeInBytes, aggregations, taskExecutionEWMAInNanos), threads);
+    }
+
+    Releasable admit(long costInNanos, int threads) {
+        assert costInNanos >= 0 : costInNanos;
+        if (costInNanos >= expensiveRequestThresholdInNanos) {
+            final long projectedWaitInNanos = outstandingCostInNanos.get() / Math.max(1, threads);
+            // an expensive request is always admitted into an idle thread pool, however long it may take
+            if (projectedWaitInNanos > 0 && projectedWaitInNanos + costInNanos > maxWaitInNanos) {
+                rejected.inc();
+                throw new OpenSearchRejectedExecutionException("rejected expensive search request with an estimated cost of ["
+                    + TimeValue.timeValueNanos(costInNanos) + "] since the search thread pool is expected to be busy for ["
+                    + TimeValue.timeValueNanos(projectedWaitInNanos) + "], more than ["
+                    + SEARCH_ADMISSION_CONTROL_MAX_WAIT.getKey() + "=" + TimeValue.timeValueNanos(maxWaitInNanos) + "] allows");
+            }
+        }
+        admitted.inc();
+        outstandingCostInNanos.addAndGet(costInNanos);
+        return Releasables.releaseOnce(() -> {
+            final long outstanding = outstandingCostInNanos.addAndGet(-costInNanos);
+            assert outstanding >= 0 : "released more cost than was admitted: " + outstanding;
+        });
+    }
+
+    /**
+     * Estimates the time it takes to execute the query phase of a request on a shard, preferring the mean query time of the shard
+     * if it has been searched before.
+     */
+    static long estimateCost(long meanQueryTimeInNanos, long shardSizeInBytes, boolean aggregations, double taskExecutionEWMAInNanos) {
+        long cost;
+        if (meanQueryTimeInNanos >= 0) {
+            cost = meanQueryTimeInNanos;
+        } else {
+            final double shardSizeFactor = Math.min(MAX_SHARD_SIZE_FACTOR,
+                Math.max(1d, (double) shardSizeInBytes / REFERENCE_SHARD_SIZE_IN_BYTES));
+            cost = (long) (taskExecutionEWMAInNanos * shardSizeFactor);
+        }
+        if (aggregations) {
+            cost *= AGGREGATION_COST_FACTOR;
+        }
+        return Math.max(0L, cost);
+    }
+
+    private static long shardSizeInBytes(IndexShard shard) {
+        try {
+            return shard.docStats().getTotalSizeInBytes();
+        } catch (AlreadyClosedException | IllegalIndexShardStateException e) {
+            // the shard is not readable, the request will fail anyway
+            return 0L;
+        }
+    }
+
+    public SearchAdmissionStats stats() {
+        return new SearchAdmissionStats(admitted.count(), rejected.count(), outstandingCostInNanos.get());
+    }
+}
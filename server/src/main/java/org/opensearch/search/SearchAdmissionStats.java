@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Stats of the {@link SearchAdmissionController} of a node.
+ */
+public class SearchAdmissionStats implements Writeable, ToXContentFragment {
+
+    private final long admitted;
+    private final long rejected;
+    private final long outstandingCostInNanos;
+
+    public SearchAdmissionStats(long admitted, long rejected, long outstandingCostInNanos) {
+        this.admitted = admitted;
+        this.rejected = rejected;
+        this.outstandingCostInNanos = outstandingCostInNanos;
+    }
+
+    public SearchAdmissionStats(StreamInput in) throws IOException {
+        admitted = in.readVLong();
+        rejected = in.readVLong();
+        outstandingCostInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(admitted);
+        out.writeVLong(rejected);
+        out.writeVLong(outstandingCostInNanos);
+    }
+
+    /**
+     * The number of shard query phases that were admitted into the search thread pool.
+     */
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    /**
+     * The number of expensive shard query phases that were rejected because the search thread pool was too busy.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * The estimated cost of the admitted shard query phases that did not complete yet.
+     */
+    public long getOutstandingCostInNanos() {
+        return outstandingCostInNanos;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("search_admission");
+        builder.field("admitted", admitted);
+        builder.field("rejected", rejected);
+        builder.humanReadableField("outstanding_cost_in_nanos", "outstanding_cost", TimeValue.timeValueNanos(outstandingCostInNanos));
+        builder.endObject();
+        return builder;
+    }
+}
@@ -65,6 +65,7 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ConcurrentMapLong;
+import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -222,6 +223,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private final MultiBucketConsumerService multiBucketConsumerService;
 
+    private final SearchAdmissionController admissionController;
+
     private final AtomicInteger openScrollContexts = new AtomicInteger();
     private final String sessionId = UUIDs.randomBase64UUID();
 
@@ -239,6 +242,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.fetchPhase = fetchPhase;
         this.multiBucketConsumerService = new MultiBucketConsumerService(clusterService, settings,
             circuitBreakerService.getBreaker(CircuitBreaker.REQUEST));
+        this.admissionController = new SearchAdmissionController(settings, clusterService.getClusterSettings());
 
         TimeValue keepAliveInterval = KEEPALIVE_INTERVAL_SETTING.get(settings);
         setKeepAlives(DEFAULT_KEEPALIVE_SETTING.get(settings), MAX_KEEPALIVE_SETTING.get(settings));
@@ -410,8 +414,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                         return;
                     }
                 }
+                final Executor executor = getExecutor(shard);
+                final Releasable admission;
+                try {
+                    admission = admitQueryPhase(shard, orig, executor);
+                } catch (Exception exc) {
+                    listener.onFailure(exc);
+                    return;
+                }
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
+                runAsync(executor, () -> executeQueryPhase(orig, task, keepStatesInContext),
+                    ActionListener.runBefore(listener, admission::close));
             }
 
             @Override
@@ -429,6 +442,19 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
+    /**
+     * Admits the query phase of a request into the search thread pool, before it gets queued, see {@link SearchAdmissionController}.
+     * Requests to system indices and search throttled indices run on thread pools of their own and are always admitted.
+     */
+    private Releasable admitQueryPhase(IndexShard shard, ShardSearchRequest request, Executor executor) {
+        if (admissionController.isEnabled() && executor instanceof QueueResizingOpenSearchThreadPoolExecutor
+                && shard.isSystem() == false && shard.indexSettings().isSearchThrottled() == false) {
+            final QueueResizingOpenSearchThreadPoolExecutor searchExecutor = (QueueResizingOpenSearchThreadPoolExecutor) executor;
+            return admissionController.admit(shard, request, searchExecutor.getMaximumPoolSize(), searchExecutor.getTaskExecutionEWMA());
+        }
+        return () -> {};
+    }
+
     private <T> void runAsync(Executor executor, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
         executor.execute(ActionRunnable.supply(listener, executable::get));
     }
@@ -1129,6 +1155,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return this.responseCollectorService;
     }
 
+    public SearchAdmissionController getAdmissionController() {
+        return this.admissionController;
+    }
+
     class Reaper implements Runnable {
         @Override
         public void run() {
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ScoreMode;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Collects the top level aggregations of a search request with aggregators of their own for each slice of segments, when the
+ * slices of segments of a shard are searched concurrently, and reduces the results of the slices into the shard-level result.
+ * Only {@link MergeableAggregations mergeable} aggregations can be collected this way, since the shard-level result must not
+ * depend on how the segments were sliced.
+ */
+public final class AggregationCollectorManager implements CollectorManager<Collector, InternalAggregations> {
+
+    private final SearchContext context;
+
+    public AggregationCollectorManager(SearchContext context) {
+        assert canCollectConcurrently(context);
+        this.context = context;
+    }
+
+    /**
+     * Can the aggregations of the given context be collected per slice of segments?
+     */
+    public static boolean canCollectConcurrently(SearchContext context) {
+        if (context.aggregations() == null || context.getProfilers() != null) {
+            return false;
+        }
+        if (context.request() == null || context.request().source() == null || context.request().source().aggregations() == null) {
+            return false;
+        }
+        return MergeableAggregations.isMergeable(context.request().source().aggregations());
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        final Aggregator[] aggregators = context.aggregations().factories().createTopLevelAggregators(context);
+        final BucketCollector collector = BatchedBucketCollector.wrap(MultiBucketCollector.wrap(Arrays.asList(aggregators)));
+        collector.preCollection();
+        return new SliceCollector(collector, aggregators);
+    }
+
+    @Override
+    public InternalAggregations reduce(Collection<Collector> collectors) throws IOException {
+        final List<InternalAggregations> aggregations = new ArrayList<>(collectors.size());
+        for (Collector collector : collectors) {
+            final SliceCollector slice = (SliceCollector) collector;
+            slice.postCollection();
+            context.aggregations().resetBucketMultiConsumer();
+            final List<InternalAggregation> sliceAggregations = new ArrayList<>(slice.aggregators.length);
+            for (Aggregator aggregator : slice.aggregators) {
+                sliceAggregations.add(aggregator.buildTopLevel());
+            }
+            aggregations.add(InternalAggregations.from(sliceAggregations));
+        }
+        // mergeable aggregations don't run scripts when they are reduced
+        final InternalAggregation.ReduceContext reduceContext = InternalAggregation.ReduceContext.forPartialReduction(
+            context.bigArrays(), null, context.request().source().aggregations()::buildPipelineTree);
+        return InternalAggregations.topLevelReduce(aggregations, reduceContext);
+    }
+
+    /**
+     * Collects the aggregations of a slice of segments, and keeps track of the aggregators that build their results.
+     */
+    private static final class SliceCollector extends BucketCollector {
+        private final BucketCollector in;
+        private final Aggregator[] aggregators;
+
+        SliceCollector(BucketCollector in, Aggregator[] aggregators) {
+            this.in = in;
+            this.aggregators = aggregators;
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+            return in.getLeafCollector(ctx);
+        }
+
+        @Override
+        public void preCollection() throws IOException {
+            in.preCollection();
+        }
+
+        @Override
+        public void postCollection() throws IOException {
+            in.postCollection();
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return in.scoreMode();
+        }
+
+        @Override
+        public String toString() {
+            return in.toString();
+        }
+    }
+}
@@ -69,8 +69,16 @@ public class AggregationPhase {
                 }
                 context.aggregations().aggregators(aggregators);
                 if (!collectors.isEmpty()) {
-                    Collector collector = MultiBucketCollector.wrap(collectors);
-                    ((BucketCollector)collector).preCollection();
+                    BucketCollector bucketCollector = MultiBucketCollector.wrap(collectors);
+                    if (context.getProfilers() == null) {
+                        // profiles report on the aggregation collectors themselves, so only collect in blocks when not profiling
+                        bucketCollector = BatchedBucketCollector.wrap(bucketCollector);
+                        if (bucketCollector instanceof BatchedBucketCollector) {
+                            context.aggregations().batchedCollector((BatchedBucketCollector) bucketCollector);
+                        }
+                    }
+                    bucketCollector.preCollection();
+                    Collector collector = bucketCollector;
                     if (context.getProfilers() != null) {
                         collector = new InternalProfileCollector(collector, CollectorResult.REASON_AGGREGATION,
                                 // TODO: report on child aggs as well
@@ -128,6 +136,16 @@ public class AggregationPhase {
             }
         }
 
+        final BatchedBucketCollector batchedCollector = context.aggregations().batchedCollector();
+        if (batchedCollector != null) {
+            try {
+                batchedCollector.flush();
+                context.aggregations().batchedCollector(null);
+            } catch (IOException e) {
+                throw new AggregationExecutionException("Failed to collect the last documents of the aggregations", e);
+            }
+        }
+
         List<InternalAggregation> aggregations = new ArrayList<>(aggregators.length);
         context.aggregations().resetBucketMultiConsumer();
         for (Aggregator aggregator : context.aggregations().aggregators()) {
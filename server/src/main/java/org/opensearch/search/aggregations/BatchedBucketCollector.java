@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+
+import java.io.IOException;
+
+/**
+ * A {@link BucketCollector} that buffers the documents that the query matches
+ * and passes them on to the top level aggregations in blocks, through
+ * {@link LeafBucketCollector#collect(int[], int, long)}, rather than one at a
+ * time. This saves a call per document and aggregation and lets aggregations
+ * that read doc values do so in a tight loop.
+ * <p>
+ * Buffered documents are collected once a block is full, before the
+ * collector for the next segment is built, and on {@link #flush()}, which
+ * must be called once the query is done collecting and before
+ * {@link Aggregator#postCollection()}, or on {@link #postCollection()}. Since the score of a buffered
+ * document is no longer available when it is collected, aggregations that
+ * need scores are not wrapped, see {@link #wrap(BucketCollector)}.
+ */
+public final class BatchedBucketCollector extends BucketCollector {
+
+    /**
+     * The number of documents that are collected at once.
+     */
+    static final int BLOCK_SIZE = 512;
+
+    private final BucketCollector in;
+    private final int[] docs = new int[BLOCK_SIZE];
+    private int count;
+    /**
+     * The collector for the segment that the buffered documents belong to.
+     */
+    private LeafBucketCollector pending;
+
+    private BatchedBucketCollector(BucketCollector in) {
+        this.in = in;
+    }
+
+    /**
+     * Wraps the given collector to collect documents in blocks, unless it needs scores.
+     */
+    public static BucketCollector wrap(BucketCollector in) {
+        if (in == NO_OP_COLLECTOR || in.scoreMode().needsScores()) {
+            return in;
+        }
+        return new BatchedBucketCollector(in);
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return in.scoreMode();
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+        // aggregations that defer the collection of their sub aggregations expect all documents of a segment to be collected
+        // before the collector for the next segment is built
+        flush();
+        final LeafBucketCollector leaf = in.getLeafCollector(ctx);
+        if (leaf == LeafBucketCollector.NO_OP_COLLECTOR) {
+            return leaf;
+        }
+        pending = leaf;
+        return new LeafBucketCollector() {
+            @Override
+            public void setScorer(Scorable scorer) throws IOException {
+                leaf.setScorer(scorer);
+            }
+
+            @Override
+            public void collect(int doc, long owningBucketOrd) throws IOException {
+                if (owningBucketOrd != 0) {
+                    // top level aggregations only ever collect into the first bucket, but doc values must be read in order
+                    flush();
+                    leaf.collect(doc, owningBucketOrd);
+                    return;
+                }
+                docs[count++] = doc;
+                if (count == BLOCK_SIZE) {
+                    count = 0;
+                    leaf.collect(docs, BLOCK_SIZE, 0);
+                }
+            }
+
+            @Override
+            public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+                flush();
+                leaf.collect(docs, count, owningBucketOrd);
+            }
+        };
+    }
+
+    /**
+     * Collect the documents that are still buffered.
+     */
+    void flush() throws IOException {
+        if (count > 0) {
+            final int count = this.count;
+            this.count = 0;
+            try {
+                pending.collect(docs, count, 0);
+            } catch (CollectionTerminatedException e) {
+                // the aggregations need no more documents from this segment
+            }
+        }
+    }
+
+    @Override
+    public void preCollection() throws IOException {
+        in.preCollection();
+    }
+
+    @Override
+    public void postCollection() throws IOException {
+        flush();
+        in.postCollection();
+    }
+
+    @Override
+    public String toString() {
+        return in.toString();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ExtendedStatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.StatsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tells which aggregations produce the same shard-level result when it is reduced from the results of parts of the shard, e.g.
+ * single segments or slices of segments, as when they are collected from the whole shard at once. This excludes e.g. the
+ * {@code terms} aggregation since its shard-level results are truncated to the top {@code shard_size} buckets.
+ */
+public final class MergeableAggregations {
+
+    private static final Set<String> MERGEABLE_AGGREGATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        DateHistogramAggregationBuilder.NAME,
+        HistogramAggregationBuilder.NAME,
+        RangeAggregationBuilder.NAME,
+        DateRangeAggregationBuilder.NAME,
+        FilterAggregationBuilder.NAME,
+        FiltersAggregationBuilder.NAME,
+        MissingAggregationBuilder.NAME,
+        MinAggregationBuilder.NAME,
+        MaxAggregationBuilder.NAME,
+        SumAggregationBuilder.NAME,
+        AvgAggregationBuilder.NAME,
+        ValueCountAggregationBuilder.NAME,
+        StatsAggregationBuilder.NAME,
+        ExtendedStatsAggregationBuilder.NAME,
+        CardinalityAggregationBuilder.NAME)));
+
+    private MergeableAggregations() {}
+
+    /**
+     * Are all the aggregations of a request, and all their sub-aggregations, mergeable?
+     */
+    public static boolean isMergeable(AggregatorFactories.Builder aggregations) {
+        // pipeline aggregations are only run on the coordinating node, so they don't matter here
+        return isMergeable(aggregations.getAggregatorFactories());
+    }
+
+    private static boolean isMergeable(Collection<AggregationBuilder> aggregations) {
+        for (AggregationBuilder aggregation : aggregations) {
+            if (MERGEABLE_AGGREGATIONS.contains(aggregation.getType()) == false
+                    || isMergeable(aggregation.getSubAggregations()) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -41,6 +41,7 @@ public class SearchContextAggregations {
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
     private Aggregator[] aggregators;
+    private BatchedBucketCollector batchedCollector;
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
@@ -67,6 +68,21 @@ public class SearchContextAggregations {
         this.aggregators = aggregators;
     }
 
+    /**
+     * Returns the collector that collects the top level aggregations in blocks of documents, if any.
+     */
+    BatchedBucketCollector batchedCollector() {
+        return batchedCollector;
+    }
+
+    /**
+     * Registers the collector that collects the top level aggregations in blocks of documents, which must be flushed once the query
+     * is done collecting.
+     */
+    void batchedCollector(BatchedBucketCollector batchedCollector) {
+        this.batchedCollector = batchedCollector;
+    }
+
     /**
      * Returns a consumer for multi bucket aggregation that checks the total number of buckets
      * created in the response
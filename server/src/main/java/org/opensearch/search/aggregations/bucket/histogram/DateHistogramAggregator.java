@@ -31,13 +31,27 @@
 
 package org.opensearch.search.aggregations.bucket.histogram;
 
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
+import org.apache.lucene.util.FutureArrays;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -65,6 +79,12 @@ import java.util.function.BiConsumer;
  */
 class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator {
 
+    /**
+     * The maximum number of buckets per segment to count from the points of the field, each of which takes a walk of the
+     * points tree.
+     */
+    static final int MAX_BUCKETS_FROM_POINTS = 1024;
+
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat formatter;
     private final Rounding rounding;
@@ -81,6 +101,18 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * The field to count the buckets of from its points, see {@link #pointRangeOrNull}.
+     */
+    private final String pointField;
+    /**
+     * The inclusive bounds of the values that matching documents have in {@link #pointField},
+     * or {@code null} if buckets must be counted by collecting documents.
+     */
+    @Nullable
+    private final long[] pointRange;
+    private int segmentsCountedFromPoints;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +144,63 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        this.pointRange = pointRangeOrNull(valuesSourceConfig);
+        this.pointField = pointRange == null ? null : valuesSourceConfig.fieldType().name();
+    }
+
+    /**
+     * Returns the inclusive bounds of the values that documents matching the query have in the field of this aggregation if
+     * the doc counts of its buckets can be read from the points of the field rather than by collecting documents, or
+     * {@code null} otherwise. This is the case if the aggregation is top level and has no sub-aggregations, if its values are
+     * those that a date field with millisecond resolution indexes, and if the query matches either all documents or a range
+     * of that field.
+     */
+    @Nullable
+    private long[] pointRangeOrNull(ValuesSourceConfig config) {
+        if (valuesSource == null || parent != null || subAggregators.length > 0) {
+            return null;
+        }
+        // documents that the query matches may still not be collected
+        if (context.minimumScore() != null || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return null;
+        }
+        // checks that the field is indexed and that there is no script or missing value
+        if (config.getPointReaderOrNull() == null) {
+            return null;
+        }
+        final MappedFieldType fieldType = config.fieldType();
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false
+            || ((DateFieldMapper.DateFieldType) fieldType).resolution() != DateFieldMapper.Resolution.MILLISECONDS) {
+            return null;
+        }
+        final Query query = extractQuery(context.query());
+        if (query == null || query.getClass() == MatchAllDocsQuery.class) {
+            return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        }
+        if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (fieldType.name().equals(rangeQuery.getField()) && rangeQuery.getNumDims() == 1
+                && rangeQuery.getBytesPerDim() == Long.BYTES) {
+                return new long[] {
+                    LongPoint.decodeDimension(rangeQuery.getLowerPoint(), 0),
+                    LongPoint.decodeDimension(rangeQuery.getUpperPoint(), 0) };
+            }
+        }
+        return null;
+    }
+
+    private static Query extractQuery(Query query) {
+        if (query instanceof BoostQuery) {
+            return extractQuery(((BoostQuery) query).getQuery());
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            return extractQuery(((IndexOrDocValuesQuery) query).getIndexQuery());
+        } else if (query instanceof ConstantScoreQuery) {
+            return extractQuery(((ConstantScoreQuery) query).getQuery());
+        } else if (query instanceof DateRangeIncludingNowQuery) {
+            return extractQuery(((DateRangeIncludingNowQuery) query).getQuery());
+        } else {
+            return query;
+        }
     }
 
     @Override
@@ -127,6 +216,11 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (pointRange != null && countFromPoints(ctx.reader())) {
+            segmentsCountedFromPoints++;
+            // the doc counts of the buckets have been read from the points, we don't need to collect hits on this segment.
+            throw new CollectionTerminatedException();
+        }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -158,6 +252,101 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    /**
+     * Adds the number of documents of the given segment that fall into each bucket by counting the points of the field within
+     * each rounding interval, or returns {@code false} if they can not be counted that way.
+     */
+    private boolean countFromPoints(LeafReader reader) throws IOException {
+        if (reader.hasDeletions()) {
+            // points include deleted documents
+            return false;
+        }
+        final PointValues points = reader.getPointValues(pointField);
+        if (points == null) {
+            // no document of this segment has a value
+            return true;
+        }
+        if (points.size() != points.getDocCount()) {
+            // a document with several values that round to the same bucket must only be counted once
+            return false;
+        }
+        final long min = Math.max(LongPoint.decodeDimension(points.getMinPackedValue(), 0), pointRange[0]);
+        final long max = Math.min(LongPoint.decodeDimension(points.getMaxPackedValue(), 0), pointRange[1]);
+        if (min > max) {
+            return true;
+        }
+        // collecting documents is cheaper than walking the points tree once per bucket if there are many buckets
+        final long[] keys = new long[MAX_BUCKETS_FROM_POINTS + 1];
+        int numBuckets = 0;
+        for (long key = preparedRounding.round(min); key <= max; ) {
+            if (numBuckets == MAX_BUCKETS_FROM_POINTS) {
+                return false;
+            }
+            keys[numBuckets++] = key;
+            final long next = preparedRounding.nextRoundingValue(key);
+            if (next <= key) {
+                return false;
+            }
+            key = next;
+        }
+        keys[numBuckets] = max == Long.MAX_VALUE ? Long.MAX_VALUE : max + 1;
+        for (int i = 0; i < numBuckets; i++) {
+            final long key = keys[i];
+            if (hardBounds != null && hardBounds.contain(key) == false) {
+                continue;
+            }
+            final int docCount = countPoints(points, Math.max(key, min), keys[i + 1] - 1);
+            if (docCount > 0) {
+                long bucketOrd = bucketOrds.add(0, key);
+                if (bucketOrd < 0) { // already seen
+                    bucketOrd = -1 - bucketOrd;
+                }
+                incrementBucketDocCount(bucketOrd, docCount);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the points with a value between {@code lower} and {@code upper}, inclusive. Only the leaves of the points tree that
+     * cross these bounds have their values compared, all other leaves are either skipped or counted as a whole.
+     */
+    private static int countPoints(PointValues points, long lower, long upper) throws IOException {
+        final byte[] lowerPoint = new byte[Long.BYTES];
+        final byte[] upperPoint = new byte[Long.BYTES];
+        LongPoint.encodeDimension(lower, lowerPoint, 0);
+        LongPoint.encodeDimension(upper, upperPoint, 0);
+        final int[] count = new int[1];
+        points.intersect(new PointValues.IntersectVisitor() {
+            @Override
+            public void visit(int docID) {
+                count[0]++;
+            }
+
+            @Override
+            public void visit(int docID, byte[] packedValue) {
+                if (FutureArrays.compareUnsigned(packedValue, 0, Long.BYTES, lowerPoint, 0, Long.BYTES) >= 0
+                    && FutureArrays.compareUnsigned(packedValue, 0, Long.BYTES, upperPoint, 0, Long.BYTES) <= 0) {
+                    count[0]++;
+                }
+            }
+
+            @Override
+            public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                if (FutureArrays.compareUnsigned(minPackedValue, 0, Long.BYTES, upperPoint, 0, Long.BYTES) > 0
+                    || FutureArrays.compareUnsigned(maxPackedValue, 0, Long.BYTES, lowerPoint, 0, Long.BYTES) < 0) {
+                    return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                }
+                if (FutureArrays.compareUnsigned(minPackedValue, 0, Long.BYTES, lowerPoint, 0, Long.BYTES) >= 0
+                    && FutureArrays.compareUnsigned(maxPackedValue, 0, Long.BYTES, upperPoint, 0, Long.BYTES) <= 0) {
+                    return PointValues.Relation.CELL_INSIDE_QUERY;
+                }
+                return PointValues.Relation.CELL_CROSSES_QUERY;
+            }
+        });
+        return count[0];
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds,
@@ -194,6 +383,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        add.accept("segments_counted_from_points", segmentsCountedFromPoints);
     }
 
     /**
@@ -34,8 +34,8 @@ package org.opensearch.search.aggregations.bucket.terms;
 
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
-import org.opensearch.common.util.LongHash;
-import org.opensearch.common.util.LongLongHash;
+import org.opensearch.common.util.RobinHoodLongHash;
+import org.opensearch.common.util.RobinHoodLongLongHash;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 
 /**
@@ -58,6 +58,14 @@ public abstract class LongKeyedBucketOrds implements Releasable {
      */
     public abstract long add(long owningBucketOrd, long value);
 
+    /**
+     * Add the first {@code length} {@code values} to {@code owningBucketOrd},
+     * storing what {@link #add(long, long)} returns for each of them in
+     * {@code ords}. This is cheaper than adding the values one at a time
+     * when a document has many of them.
+     */
+    public abstract void add(long owningBucketOrd, long[] values, int length, long[] ords);
+
     /**
      * Count the buckets in {@code owningBucketOrd}.
      * <p>
@@ -131,10 +139,10 @@ public abstract class LongKeyedBucketOrds implements Releasable {
      * Implementation that only works if it is collecting from a single bucket.
      */
     public static class FromSingle extends LongKeyedBucketOrds {
-        private final LongHash ords;
+        private final RobinHoodLongHash ords;
 
         public FromSingle(BigArrays bigArrays) {
-            ords = new LongHash(1, bigArrays);
+            ords = new RobinHoodLongHash(1, bigArrays);
         }
 
         @Override
@@ -144,6 +152,12 @@ public abstract class LongKeyedBucketOrds implements Releasable {
             return ords.add(value);
         }
 
+        @Override
+        public void add(long owningBucketOrd, long[] values, int length, long[] ords) {
+            assert owningBucketOrd == 0;
+            this.ords.add(values, length, ords);
+        }
+
         @Override
         public long find(long owningBucketOrd, long value) {
             assert owningBucketOrd == 0;
@@ -211,10 +225,10 @@ public abstract class LongKeyedBucketOrds implements Releasable {
      * Implementation that works properly when collecting from many buckets.
      */
     public static class FromMany extends LongKeyedBucketOrds {
-        private final LongLongHash ords;
+        private final RobinHoodLongLongHash ords;
 
         public FromMany(BigArrays bigArrays) {
-            ords = new LongLongHash(2, bigArrays);
+            ords = new RobinHoodLongLongHash(2, bigArrays);
         }
 
         @Override
@@ -223,6 +237,11 @@ public abstract class LongKeyedBucketOrds implements Releasable {
             return ords.add(owningBucketOrd, value);
         }
 
+        @Override
+        public void add(long owningBucketOrd, long[] values, int length, long[] ords) {
+            this.ords.add(owningBucketOrd, values, length, ords);
+        }
+
         @Override
         public long find(long owningBucketOrd, long value) {
             return ords.find(owningBucketOrd, value);
@@ -35,6 +35,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.collect.List;
@@ -111,28 +112,51 @@ public class NumericTermsAggregator extends TermsAggregator {
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         SortedNumericDocValues values = resultStrategy.getValues(ctx);
         return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, values) {
+            private long[] docValues = new long[1];
+            private long[] docOrds = new long[1];
+
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
                 if (values.advanceExact(doc)) {
                     int valuesCount = values.docValueCount();
+                    if (valuesCount == 1) {
+                        long val = values.nextValue();
+                        if ((longFilter == null) || (longFilter.accept(val))) {
+                            collectOrd(sub, doc, bucketOrds.add(owningBucketOrd, val));
+                        }
+                        return;
+                    }
+                    if (docValues.length < valuesCount) {
+                        docValues = new long[ArrayUtil.oversize(valuesCount, Long.BYTES)];
+                        docOrds = new long[docValues.length];
+                    }
 
+                    // gather the distinct values of the document first so that their buckets are looked up in a single batch
+                    int count = 0;
                     long previous = Long.MAX_VALUE;
                     for (int i = 0; i < valuesCount; ++i) {
                         long val = values.nextValue();
                         if (previous != val || i == 0) {
                             if ((longFilter == null) || (longFilter.accept(val))) {
-                                long bucketOrdinal = bucketOrds.add(owningBucketOrd, val);
-                                if (bucketOrdinal < 0) { // already seen
-                                    bucketOrdinal = -1 - bucketOrdinal;
-                                    collectExistingBucket(sub, doc, bucketOrdinal);
-                                } else {
-                                    collectBucket(sub, doc, bucketOrdinal);
-                                }
+                                docValues[count++] = val;
                             }
 
                             previous = val;
                         }
                     }
+                    bucketOrds.add(owningBucketOrd, docValues, count, docOrds);
+                    for (int i = 0; i < count; ++i) {
+                        collectOrd(sub, doc, docOrds[i]);
+                    }
+                }
+            }
+
+            private void collectOrd(LeafBucketCollector sub, int doc, long bucketOrdinal) throws IOException {
+                if (bucketOrdinal < 0) { // already seen
+                    bucketOrdinal = -1 - bucketOrdinal;
+                    collectExistingBucket(sub, doc, bucketOrdinal);
+                } else {
+                    collectBucket(sub, doc, bucketOrdinal);
                 }
             }
         });
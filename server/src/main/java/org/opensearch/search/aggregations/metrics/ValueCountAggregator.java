@@ -96,6 +96,18 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
                         counts.increment(bucket, values.docValueCount());
                     }
                 }
+
+                @Override
+                public void collect(int[] docs, int count, long bucket) throws IOException {
+                    counts = bigArrays.grow(counts, bucket + 1);
+                    long valueCount = 0;
+                    for (int i = 0; i < count; i++) {
+                        if (values.advanceExact(docs[i])) {
+                            valueCount += values.docValueCount();
+                        }
+                    }
+                    counts.increment(bucket, valueCount);
+                }
             };
         }
         if (valuesSource instanceof ValuesSource.Bytes.GeoPoint) {
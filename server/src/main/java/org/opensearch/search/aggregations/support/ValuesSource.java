@@ -57,6 +57,7 @@ import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.index.fielddata.SortingBinaryDocValues;
 import org.opensearch.index.fielddata.SortingNumericDoubleValues;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalMap;
 import org.opensearch.index.mapper.RangeType;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.aggregations.AggregationExecutionException;
@@ -241,7 +242,7 @@ public abstract class ValuesSource {
                 @Override
                 public LongUnaryOperator globalOrdinalsMapping(LeafReaderContext context) throws IOException {
                     final IndexOrdinalsFieldData global = indexFieldData.loadGlobal((DirectoryReader)context.parent.reader());
-                    final OrdinalMap map = global.getOrdinalMap();
+                    final GlobalOrdinalMap map = global.getGlobalOrdinalMap();
                     if (map == null) {
                         // segments and global ordinals are the same
                         return LongUnaryOperator.identity();
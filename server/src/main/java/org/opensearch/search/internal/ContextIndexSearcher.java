@@ -62,8 +62,10 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.profile.Timer;
@@ -80,6 +82,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -94,22 +101,42 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    /**
+     * The executor used to search slices of segments concurrently, or <code>null</code> if
+     * the segments of this searcher should be searched sequentially on the calling thread.
+     */
+    @Nullable
+    private final Executor executor;
+    private final LeafSlice[] leafSlices;
+    /**
+     * The number of times that term or collection statistics were read, which is not exact when weights are created concurrently.
+     */
+    private long statisticsReads;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader);
+        this(reader, similarity, queryCache, queryCachingPolicy, wrapWithExitableDirectoryReader, null);
+    }
+
+    public ContextIndexSearcher(IndexReader reader, Similarity similarity,
+                                QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                                boolean wrapWithExitableDirectoryReader, @Nullable Executor executor) throws IOException {
+        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader, executor);
     }
 
     private ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                  QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                  MutableQueryTimeout cancellable,
-                                 boolean wrapWithExitableDirectoryReader) throws IOException {
+                                 boolean wrapWithExitableDirectoryReader,
+                                 @Nullable Executor executor) throws IOException {
         super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader);
         setSimilarity(similarity);
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        this.executor = executor;
+        this.leafSlices = executor == null ? null : slices(leafContexts);
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -186,6 +213,150 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Returns true if the segments of this searcher are split in more than one slice that are searched
+     * concurrently by {@link #search(Query, CollectorManager)}.
+     */
+    public boolean isConcurrentSegmentSearchEnabled() {
+        return executor != null && leafSlices.length > 1;
+    }
+
+    /**
+     * Searches the slices of segments of this searcher concurrently when an executor was provided, one
+     * {@link Collector} per slice, and reduces the per-slice collectors with the provided <code>collectorManager</code>.
+     * The last slice is searched on the calling thread, as well as any slice that the executor rejected.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        if (isConcurrentSegmentSearchEnabled() == false) {
+            return super.search(query, collectorManager);
+        }
+        final List<C> collectors = new ArrayList<>(leafSlices.length);
+        ScoreMode scoreMode = null;
+        for (int i = 0; i < leafSlices.length; ++i) {
+            final C collector = collectorManager.newCollector();
+            collectors.add(collector);
+            if (scoreMode == null) {
+                scoreMode = collector.scoreMode();
+            } else if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+        }
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1);
+        // set as soon as a slice fails, so that the slices that haven't finished yet stop searching
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<SliceSearch<C>> searches = new ArrayList<>(leafSlices.length);
+        final List<FutureTask<C>> tasks = new ArrayList<>(leafSlices.length);
+        for (int i = 0; i < leafSlices.length; ++i) {
+            final SliceSearch<C> search = new SliceSearch<>(Arrays.asList(leafSlices[i].leaves), weight, collectors.get(i), failed);
+            final FutureTask<C> task = new FutureTask<>(search);
+            searches.add(search);
+            tasks.add(task);
+            if (i == leafSlices.length - 1) {
+                // the calling thread would only wait for the other slices so it searches the last one itself
+                task.run();
+            } else {
+                try {
+                    executor.execute(task);
+                } catch (OpenSearchRejectedExecutionException e) {
+                    task.run();
+                }
+            }
+        }
+        // wait for all slices, even once one of them failed, so that none of them still reads the segments once this method returns
+        final List<C> collectedCollectors = new ArrayList<>(tasks.size());
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (int i = 0; i < tasks.size(); ++i) {
+            if (failure != null && searches.get(i).skip()) {
+                continue;
+            }
+            while (true) {
+                try {
+                    collectedCollectors.add(tasks.get(i).get());
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failed.set(true);
+                    if (failure == null) {
+                        failure = new IllegalStateException("interrupted while searching segments concurrently", e);
+                    }
+                } catch (ExecutionException e) {
+                    failed.set(true);
+                    if (failure == null) {
+                        failure = e.getCause();
+                    } else {
+                        failure.addSuppressed(e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                // preserve cancellation and timeout exceptions that are expected by the query phase
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new IllegalStateException(failure);
+        }
+        return collectorManager.reduce(collectedCollectors);
+    }
+
+    /**
+     * Searches a slice of segments on behalf of {@link #search(Query, CollectorManager)}.
+     */
+    private final class SliceSearch<C extends Collector> implements Callable<C> {
+        private final List<LeafReaderContext> leaves;
+        private final Weight weight;
+        private final C collector;
+        private final AtomicBoolean failed;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        SliceSearch(List<LeafReaderContext> leaves, Weight weight, C collector, AtomicBoolean failed) {
+            this.leaves = leaves;
+            this.weight = weight;
+            this.collector = collector;
+            this.failed = failed;
+        }
+
+        @Override
+        public C call() throws Exception {
+            if (started.compareAndSet(false, true) == false) {
+                // skipped because another slice failed before this one started
+                return collector;
+            }
+            try {
+                for (LeafReaderContext ctx : leaves) {
+                    if (failed.get()) {
+                        // another slice failed, the results of this one won't be used
+                        break;
+                    }
+                    searchLeaf(ctx, weight, collector);
+                }
+            } catch (Throwable t) {
+                failed.set(true);
+                throw t;
+            }
+            return collector;
+        }
+
+        /**
+         * Prevents this slice from being searched if it hasn't started yet.
+         *
+         * @return true if this slice will never be searched, false if it has already started
+         */
+        boolean skip() {
+            return started.compareAndSet(false, true);
+        }
+    }
+
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
@@ -213,6 +384,13 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Searches a single segment of this searcher with the given weight, e.g. to compute results that are cached per segment.
+     */
+    public void search(LeafReaderContext leaf, Weight weight, Collector collector) throws IOException {
+        searchLeaf(leaf, weight, collector);
+    }
+
     /**
      * Lower-level search API.
      *
@@ -327,8 +505,17 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         checkCancelled.run();
     }
 
+    /**
+     * The number of times that term or collection statistics of the whole index were read, e.g. to score documents. Results that
+     * were computed while this number grew depend on all the segments of this searcher, not only on the ones they were computed on.
+     */
+    public long statisticsReads() {
+        return statisticsReads;
+    }
+
     @Override
     public TermStatistics termStatistics(Term term, int docFreq, long totalTermFreq) throws IOException {
+        statisticsReads++;
         if (aggregatedDfs == null) {
             // we are either executing the dfs phase or the search_type doesn't include the dfs phase.
             return super.termStatistics(term, docFreq, totalTermFreq);
@@ -343,6 +530,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     @Override
     public CollectionStatistics collectionStatistics(String field) throws IOException {
+        statisticsReads++;
         if (aggregatedDfs == null) {
             // we are either executing the dfs phase or the search_type doesn't include the dfs phase.
             return super.collectionStatistics(field);
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile;
+
+import org.opensearch.common.ParseField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Profile information about how the shard level results of a search request were reduced on the coordinating node.
+ */
+public final class ReduceProfileResult implements Writeable, ToXContentObject {
+
+    public static final String REDUCE = "reduce";
+    static final ParseField INCREMENTAL = new ParseField("incremental");
+    static final ParseField NUM_REDUCE_PHASES = new ParseField("num_reduce_phases");
+    static final ParseField MAX_BUFFERED_RESULTS = new ParseField("max_buffered_results");
+    static final ParseField MAX_MEMORY = new ParseField("max_memory");
+    static final ParseField MAX_MEMORY_IN_BYTES = new ParseField("max_memory_in_bytes");
+    static final ParseField PARTIAL_REDUCE_TIME = new ParseField("partial_reduce_time");
+    static final ParseField PARTIAL_REDUCE_TIME_IN_NANOS = new ParseField("partial_reduce_time_in_nanos");
+    static final ParseField FINAL_REDUCE_TIME = new ParseField("final_reduce_time");
+    static final ParseField FINAL_REDUCE_TIME_IN_NANOS = new ParseField("final_reduce_time_in_nanos");
+
+    private final boolean incremental;
+    private final int numReducePhases;
+    private final int maxBufferedResults;
+    private final long maxMemoryInBytes;
+    private final long partialReduceTimeInNanos;
+    private final long finalReduceTimeInNanos;
+
+    public ReduceProfileResult(boolean incremental, int numReducePhases, int maxBufferedResults, long maxMemoryInBytes,
+                               long partialReduceTimeInNanos, long finalReduceTimeInNanos) {
+        this.incremental = incremental;
+        this.numReducePhases = numReducePhases;
+        this.maxBufferedResults = maxBufferedResults;
+        this.maxMemoryInBytes = maxMemoryInBytes;
+        this.partialReduceTimeInNanos = partialReduceTimeInNanos;
+        this.finalReduceTimeInNanos = finalReduceTimeInNanos;
+    }
+
+    public ReduceProfileResult(StreamInput in) throws IOException {
+        incremental = in.readBoolean();
+        numReducePhases = in.readVInt();
+        maxBufferedResults = in.readVInt();
+        maxMemoryInBytes = in.readVLong();
+        partialReduceTimeInNanos = in.readVLong();
+        finalReduceTimeInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(incremental);
+        out.writeVInt(numReducePhases);
+        out.writeVInt(maxBufferedResults);
+        out.writeVLong(maxMemoryInBytes);
+        out.writeVLong(partialReduceTimeInNanos);
+        out.writeVLong(finalReduceTimeInNanos);
+    }
+
+    /**
+     * Whether shard results were merged into the running reduction as soon as they arrived.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * The number of partial and final reduce phases that were executed.
+     */
+    public int getNumReducePhases() {
+        return numReducePhases;
+    }
+
+    /**
+     * The maximum number of shard results that were buffered at once, waiting to be reduced.
+     */
+    public int getMaxBufferedResults() {
+        return maxBufferedResults;
+    }
+
+    /**
+     * The maximum number of bytes that were accounted in the request circuit breaker while reducing.
+     */
+    public long getMaxMemoryInBytes() {
+        return maxMemoryInBytes;
+    }
+
+    /**
+     * The total time spent in partial reduce phases.
+     */
+    public long getPartialReduceTimeInNanos() {
+        return partialReduceTimeInNanos;
+    }
+
+    /**
+     * The time spent in the final reduce phase.
+     */
+    public long getFinalReduceTimeInNanos() {
+        return finalReduceTimeInNanos;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(INCREMENTAL.getPreferredName(), incremental);
+        builder.field(NUM_REDUCE_PHASES.getPreferredName(), numReducePhases);
+        builder.field(MAX_BUFFERED_RESULTS.getPreferredName(), maxBufferedResults);
+        builder.humanReadableField(MAX_MEMORY_IN_BYTES.getPreferredName(), MAX_MEMORY.getPreferredName(),
+            new ByteSizeValue(maxMemoryInBytes));
+        if (builder.humanReadable()) {
+            builder.field(PARTIAL_REDUCE_TIME.getPreferredName(), new TimeValue(partialReduceTimeInNanos, TimeUnit.NANOSECONDS).toString());
+        }
+        builder.field(PARTIAL_REDUCE_TIME_IN_NANOS.getPreferredName(), partialReduceTimeInNanos);
+        if (builder.humanReadable()) {
+            builder.field(FINAL_REDUCE_TIME.getPreferredName(), new TimeValue(finalReduceTimeInNanos, TimeUnit.NANOSECONDS).toString());
+        }
+        builder.field(FINAL_REDUCE_TIME_IN_NANOS.getPreferredName(), finalReduceTimeInNanos);
+        return builder.endObject();
+    }
+
+    public static ReduceProfileResult fromXContent(XContentParser parser) throws IOException {
+        XContentParser.Token token = parser.currentToken();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+        boolean incremental = false;
+        int numReducePhases = 0;
+        int maxBufferedResults = 0;
+        long maxMemoryInBytes = 0;
+        long partialReduceTimeInNanos = 0;
+        long finalReduceTimeInNanos = 0;
+        String currentFieldName = null;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token.isValue()) {
+                if (INCREMENTAL.match(currentFieldName, parser.getDeprecationHandler())) {
+                    incremental = parser.booleanValue();
+                } else if (NUM_REDUCE_PHASES.match(currentFieldName, parser.getDeprecationHandler())) {
+                    numReducePhases = parser.intValue();
+                } else if (MAX_BUFFERED_RESULTS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    maxBufferedResults = parser.intValue();
+                } else if (MAX_MEMORY_IN_BYTES.match(currentFieldName, parser.getDeprecationHandler())) {
+                    maxMemoryInBytes = parser.longValue();
+                } else if (PARTIAL_REDUCE_TIME_IN_NANOS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    partialReduceTimeInNanos = parser.longValue();
+                } else if (FINAL_REDUCE_TIME_IN_NANOS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    finalReduceTimeInNanos = parser.longValue();
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new ReduceProfileResult(incremental, numReducePhases, maxBufferedResults, maxMemoryInBytes,
+            partialReduceTimeInNanos, finalReduceTimeInNanos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReduceProfileResult that = (ReduceProfileResult) o;
+        return incremental == that.incremental
+            && numReducePhases == that.numReducePhases
+            && maxBufferedResults == that.maxBufferedResults
+            && maxMemoryInBytes == that.maxMemoryInBytes
+            && partialReduceTimeInNanos == that.partialReduceTimeInNanos
+            && finalReduceTimeInNanos == that.finalReduceTimeInNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(incremental, numReducePhases, maxBufferedResults, maxMemoryInBytes,
+            partialReduceTimeInNanos, finalReduceTimeInNanos);
+    }
+}
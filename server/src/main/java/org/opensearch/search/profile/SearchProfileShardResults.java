@@ -32,6 +32,8 @@
 
 package org.opensearch.search.profile;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -55,7 +57,8 @@ import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedT
 
 /**
  * A container class to hold all the profile results across all shards.  Internally
- * holds a map of shard ID -&gt; Profiled results
+ * holds a map of shard ID -&gt; Profiled results, and optionally the profile of the
+ * reduction of these results on the coordinating node.
  */
 public final class SearchProfileShardResults implements Writeable, ToXContentFragment {
 
@@ -66,8 +69,16 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
 
     private Map<String, ProfileShardResult> shardResults;
 
+    @Nullable
+    private final ReduceProfileResult reduceProfileResult;
+
     public SearchProfileShardResults(Map<String, ProfileShardResult> shardResults) {
+        this(shardResults, null);
+    }
+
+    public SearchProfileShardResults(Map<String, ProfileShardResult> shardResults, @Nullable ReduceProfileResult reduceProfileResult) {
         this.shardResults =  Collections.unmodifiableMap(shardResults);
+        this.reduceProfileResult = reduceProfileResult;
     }
 
     public SearchProfileShardResults(StreamInput in) throws IOException {
@@ -80,12 +91,26 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             shardResults.put(key, shardResult);
         }
         shardResults = Collections.unmodifiableMap(shardResults);
+        if (in.getVersion().onOrAfter(Version.V_7_10_3)) {
+            reduceProfileResult = in.readOptionalWriteable(ReduceProfileResult::new);
+        } else {
+            reduceProfileResult = null;
+        }
     }
 
     public Map<String, ProfileShardResult> getShardResults() {
         return this.shardResults;
     }
 
+    /**
+     * Returns the profile of the reduction of the shard results on the coordinating node, or <code>null</code>
+     * if it was not recorded.
+     */
+    @Nullable
+    public ReduceProfileResult getReduceProfileResult() {
+        return reduceProfileResult;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeInt(shardResults.size());
@@ -93,6 +118,9 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             out.writeString(entry.getKey());
             entry.getValue().writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_7_10_3)) {
+            out.writeOptionalWriteable(reduceProfileResult);
+        }
     }
 
     @Override
@@ -113,7 +141,11 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             profileShardResult.getAggregationProfileResults().toXContent(builder, params);
             builder.endObject();
         }
-        builder.endArray().endObject();
+        builder.endArray();
+        if (reduceProfileResult != null) {
+            builder.field(ReduceProfileResult.REDUCE, reduceProfileResult);
+        }
+        builder.endObject();
         return builder;
     }
 
@@ -121,6 +153,7 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
         XContentParser.Token token = parser.currentToken();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
         Map<String, ProfileShardResult> searchProfileResults = new HashMap<>();
+        ReduceProfileResult reduceProfileResult = null;
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.START_ARRAY) {
                 if (SHARDS_FIELD.equals(parser.currentName())) {
@@ -131,10 +164,14 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
                     parser.skipChildren();
                 }
             } else if (token == XContentParser.Token.START_OBJECT) {
-                parser.skipChildren();
+                if (ReduceProfileResult.REDUCE.equals(parser.currentName())) {
+                    reduceProfileResult = ReduceProfileResult.fromXContent(parser);
+                } else {
+                    parser.skipChildren();
+                }
             }
         }
-        return new SearchProfileShardResults(searchProfileResults);
+        return new SearchProfileShardResults(searchProfileResults, reduceProfileResult);
     }
 
     private static void parseSearchProfileResultsEntry(XContentParser parser,
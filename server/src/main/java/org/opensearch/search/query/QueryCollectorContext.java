@@ -33,6 +33,7 @@
 package org.opensearch.search.query;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Query;
@@ -41,6 +42,7 @@ import org.apache.lucene.search.SimpleCollector;
 import org.apache.lucene.search.Weight;
 import org.opensearch.common.lucene.MinimumScoreCollector;
 import org.opensearch.common.lucene.search.FilteredCollector;
+import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.profile.query.InternalProfileCollector;
 
 import java.io.IOException;
@@ -49,6 +51,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import static org.opensearch.search.profile.query.CollectorResult.REASON_AGGREGATION;
 import static org.opensearch.search.profile.query.CollectorResult.REASON_SEARCH_MIN_SCORE;
 import static org.opensearch.search.profile.query.CollectorResult.REASON_SEARCH_MULTI;
 import static org.opensearch.search.profile.query.CollectorResult.REASON_SEARCH_POST_FILTER;
@@ -93,6 +96,24 @@ abstract class QueryCollectorContext {
      */
     void postProcess(QuerySearchResult result) throws IOException {}
 
+    /**
+     * Returns true if this context can create a collector per slice of segments with {@link #createForSlice(Collector)}, so that
+     * the slices of segments of the shard can be searched concurrently.
+     */
+    boolean supportsConcurrentCollection() {
+        return false;
+    }
+
+    /**
+     * Creates the collector of a slice of segments that delegates documents to the provided <code>in</code> collector. This is
+     * called once per slice, before any slice is searched, and {@link #postProcess(QuerySearchResult)} then combines the results
+     * of all slices. Contexts that keep state across calls to {@link #create(Collector)} must override this.
+     */
+    Collector createForSlice(Collector in) throws IOException {
+        assert supportsConcurrentCollection();
+        return create(in);
+    }
+
     /**
      * Creates the collector tree from the provided <code>collectors</code>
      * @param collectors Ordered list of collector context
@@ -105,6 +126,18 @@ abstract class QueryCollectorContext {
         return collector;
     }
 
+    /**
+     * Creates the collector tree of a slice of segments from the provided <code>collectors</code>
+     * @param collectors Ordered list of collector context that all support concurrent collection
+     */
+    static Collector createQueryCollectorForSlice(List<QueryCollectorContext> collectors) throws IOException {
+        Collector collector = null;
+        for (QueryCollectorContext ctx : collectors) {
+            collector = ctx.createForSlice(collector);
+        }
+        return collector;
+    }
+
     /**
      * Creates the collector tree from the provided <code>collectors</code> and wraps each collector with a profiler
      * @param collectors Ordered list of collector context
@@ -127,6 +160,11 @@ abstract class QueryCollectorContext {
             Collector create(Collector in) {
                 return new MinimumScoreCollector(in, minScore);
             }
+
+            @Override
+            boolean supportsConcurrentCollection() {
+                return true;
+            }
         };
     }
 
@@ -140,6 +178,11 @@ abstract class QueryCollectorContext {
                 final Weight filterWeight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
                 return new FilteredCollector(in, filterWeight);
             }
+
+            @Override
+            boolean supportsConcurrentCollection() {
+                return true;
+            }
         };
     }
 
@@ -172,6 +215,33 @@ abstract class QueryCollectorContext {
         };
     }
 
+    /**
+     * Collects aggregations with a collector of the provided <code>manager</code> per slice of segments, and sets the reduced
+     * aggregations of all slices in the query result
+     */
+    static QueryCollectorContext createAggregationCollectorContext(CollectorManager<Collector, InternalAggregations> manager) {
+        return new QueryCollectorContext(REASON_AGGREGATION) {
+            private final List<Collector> collectors = new ArrayList<>();
+
+            @Override
+            Collector create(Collector in) throws IOException {
+                final Collector collector = manager.newCollector();
+                collectors.add(collector);
+                return MultiCollector.wrap(in, collector);
+            }
+
+            @Override
+            boolean supportsConcurrentCollection() {
+                return true;
+            }
+
+            @Override
+            void postProcess(QuerySearchResult result) throws IOException {
+                result.aggregations(manager.reduce(collectors));
+            }
+        };
+    }
+
     /**
      * Creates collector limiting the collection to the first <code>numHits</code> documents
      */
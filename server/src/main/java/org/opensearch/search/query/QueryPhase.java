@@ -71,6 +71,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchContextSourcePrinter;
 import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregationCollectorManager;
 import org.opensearch.search.aggregations.AggregationPhase;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
@@ -87,12 +88,15 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
+import static org.opensearch.search.query.QueryCollectorContext.createAggregationCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createEarlyTerminationCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createFilteredCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
@@ -224,6 +228,7 @@ public class QueryPhase {
                 }
             }
 
+            final boolean searchConcurrently = canSearchConcurrently(searchContext, searcher);
             final LinkedList<QueryCollectorContext> collectors = new LinkedList<>();
             // whether the chain contains a collector that filters documents
             boolean hasFilterCollector = false;
@@ -242,8 +247,13 @@ public class QueryPhase {
                 hasFilterCollector = true;
             }
             if (searchContext.queryCollectors().isEmpty() == false) {
-                // plug in additional collectors, like aggregations
-                collectors.add(createMultiCollectorContext(searchContext.queryCollectors().values()));
+                if (searchConcurrently) {
+                    // collect the aggregations of each slice of segments with aggregators of its own
+                    collectors.add(createAggregationCollectorContext(new AggregationCollectorManager(searchContext)));
+                } else {
+                    // plug in additional collectors, like aggregations
+                    collectors.add(createMultiCollectorContext(searchContext.queryCollectors().values()));
+                }
             }
             if (searchContext.minimumScore() != null) {
                 // apply the minimum score after multi collector so we filter aggs as well
@@ -305,6 +315,8 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (searchConcurrently) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -419,6 +431,64 @@ public class QueryPhase {
         return false; // no rescoring when sorting by field
     }
 
+    /**
+     * Returns true if the slices of segments of the shard can be searched concurrently for this request, with collectors of their
+     * own. Profiled, terminate_after, scroll and collapse requests are always collected sequentially, as well as requests with
+     * aggregations that are not {@link AggregationCollectorManager#canCollectConcurrently mergeable} or other plugged in collectors.
+     */
+    static boolean canSearchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher) {
+        if (searcher.isConcurrentSegmentSearchEnabled() == false) return false;
+        if (searchContext.getProfilers() != null) return false;
+        if (searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) return false;
+        if (searchContext.scrollContext() != null) return false;
+        if (searchContext.collapse() != null) return false;
+        final Map<Class<?>, Collector> queryCollectors = searchContext.queryCollectors();
+        if (queryCollectors.isEmpty() == false) {
+            if (queryCollectors.size() != 1 || queryCollectors.containsKey(AggregationPhase.class) == false) return false;
+            if (AggregationCollectorManager.canCollectConcurrently(searchContext) == false) return false;
+        }
+        return true;
+    }
+
+    /*
+     * Searches slices of segments concurrently with a collector tree per slice, created by the same collector contexts as
+     * when the segments are searched sequentially. Each context combines the results of all slices when it post-processes them.
+     */
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+            LinkedList<QueryCollectorContext> collectors, boolean hasFilterCollector, boolean timeoutSet) throws IOException {
+        final TopDocsCollectorContext topDocsFactory = createTopDocsCollectorContext(searchContext, hasFilterCollector);
+        collectors.addFirst(topDocsFactory);
+        assert collectors.stream().allMatch(QueryCollectorContext::supportsConcurrentCollection);
+
+        final CollectorManager<Collector, Void> manager = new CollectorManager<Collector, Void>() {
+            @Override
+            public Collector newCollector() throws IOException {
+                return QueryCollectorContext.createQueryCollectorForSlice(collectors);
+            }
+
+            @Override
+            public Void reduce(Collection<Collector> sliceCollectors) {
+                // the collector contexts combine the results of the slices in postProcess
+                return null;
+            }
+        };
+        QuerySearchResult queryResult = searchContext.queryResult();
+        try {
+            searcher.search(query, manager);
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            queryResult.searchTimedOut(true);
+        }
+        for (QueryCollectorContext ctx : collectors) {
+            ctx.postProcess(queryResult);
+        }
+        return topDocsFactory.shouldRescore();
+    }
+
     private static Query tryRewriteLongSort(SearchContext searchContext, IndexReader reader,
                                             Query query, boolean hasFilterCollector) throws IOException {
         if ((searchContext.from() + searchContext.size()) <= 0) return null;
@@ -43,6 +43,7 @@ import org.apache.lucene.index.Terms;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.FieldDoc;
@@ -70,7 +71,6 @@ import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.lucene.search.function.FunctionScoreQuery;
 import org.opensearch.common.lucene.search.function.ScriptScoreQuery;
-import org.opensearch.common.util.CachedSupplier;
 import org.opensearch.index.search.OpenSearchToParentBlockJoinQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.collapse.CollapseContext;
@@ -80,6 +80,8 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -113,8 +115,14 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
 
     static class EmptyTopDocsCollectorContext extends TopDocsCollectorContext {
         private final Sort sort;
-        private final Collector collector;
-        private final Supplier<TotalHits> hitCountSupplier;
+        private final int trackTotalHitsUpTo;
+        /**
+         * The number of hits if it is known without collecting them, -1 otherwise
+         */
+        private final int hitCount;
+        private final List<TotalHitCountCollector> hitCountCollectors = new ArrayList<>();
+        private final List<EarlyTerminatingCollector> earlyTerminatingCollectors = new ArrayList<>();
+        private Collector collector;
 
         /**
          * Ctr
@@ -130,41 +138,70 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                                              boolean hasFilterCollector) throws IOException {
             super(REASON_SEARCH_COUNT, 0);
             this.sort = sortAndFormats == null ? null : sortAndFormats.sort;
+            this.trackTotalHitsUpTo = trackTotalHitsUpTo;
             if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
-                this.collector = new EarlyTerminatingCollector(new TotalHitCountCollector(), 0, false);
-                // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
-                this.hitCountSupplier = () -> new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                this.hitCount = -1;
             } else {
-                TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
                 // implicit total hit counts are valid only when there is no filter collector in the chain
-                int hitCount =  hasFilterCollector ? -1 : shortcutTotalHitCount(reader, query);
-                if (hitCount == -1) {
-                    if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_ACCURATE) {
-                        this.collector = hitCountCollector;
-                        this.hitCountSupplier = () -> new TotalHits(hitCountCollector.getTotalHits(), TotalHits.Relation.EQUAL_TO);
-                    } else {
-                        EarlyTerminatingCollector col =
-                            new EarlyTerminatingCollector(hitCountCollector, trackTotalHitsUpTo, false);
-                        this.collector = col;
-                        this.hitCountSupplier = () -> new TotalHits(hitCountCollector.getTotalHits(),
-                            col.hasEarlyTerminated() ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO : TotalHits.Relation.EQUAL_TO);
-                    }
-                } else {
-                    this.collector = new EarlyTerminatingCollector(hitCountCollector, 0, false);
-                    this.hitCountSupplier = () -> new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
-                }
+                this.hitCount = hasFilterCollector ? -1 : shortcutTotalHitCount(reader, query);
             }
         }
 
         @Override
         Collector create(Collector in) {
             assert in == null;
+            if (collector == null) {
+                collector = createHitCountCollector();
+            }
             return collector;
         }
 
+        @Override
+        boolean supportsConcurrentCollection() {
+            return true;
+        }
+
+        @Override
+        Collector createForSlice(Collector in) {
+            assert in == null;
+            return createHitCountCollector();
+        }
+
+        private Collector createHitCountCollector() {
+            final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+            hitCountCollectors.add(hitCountCollector);
+            if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED || hitCount != -1) {
+                // the hit count is not computed by the collector
+                return new EarlyTerminatingCollector(hitCountCollector, 0, false);
+            } else if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_ACCURATE) {
+                return hitCountCollector;
+            } else {
+                final EarlyTerminatingCollector collector = new EarlyTerminatingCollector(hitCountCollector, trackTotalHitsUpTo, false);
+                earlyTerminatingCollectors.add(collector);
+                return collector;
+            }
+        }
+
         @Override
         void postProcess(QuerySearchResult result) {
-            final TotalHits totalHitCount = hitCountSupplier.get();
+            final TotalHits totalHitCount;
+            if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+                // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+                totalHitCount = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+            } else if (hitCount != -1) {
+                totalHitCount = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+            } else {
+                long totalHits = 0;
+                for (TotalHitCountCollector hitCountCollector : hitCountCollectors) {
+                    totalHits += hitCountCollector.getTotalHits();
+                }
+                boolean earlyTerminated = false;
+                for (EarlyTerminatingCollector earlyTerminatingCollector : earlyTerminatingCollectors) {
+                    earlyTerminated |= earlyTerminatingCollector.hasEarlyTerminated();
+                }
+                totalHitCount = new TotalHits(totalHits,
+                    earlyTerminated ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO : TotalHits.Relation.EQUAL_TO);
+            }
             final TopDocs topDocs;
             if (sort != null) {
                 topDocs = new TopFieldDocs(totalHitCount, Lucene.EMPTY_SCORE_DOCS, sort.getSort());
@@ -231,11 +268,41 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             }
         }
 
+        /**
+         * Creates a manager whose collectors share the minimum competitive score and the hit count, so that the slices of
+         * segments of a shard can skip non-competitive documents as if they were searched sequentially.
+         */
+        private static CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> createSharedManager(
+                @Nullable SortAndFormats sortAndFormats, int numHits, @Nullable FieldDoc searchAfter, int hitCountThreshold) {
+            if (sortAndFormats == null) {
+                return TopScoreDocCollector.createSharedManager(numHits, searchAfter, hitCountThreshold);
+            } else {
+                return TopFieldCollector.createSharedManager(sortAndFormats.sort, numHits, searchAfter, hitCountThreshold);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <C extends Collector> TopDocs reduce(CollectorManager<C, ? extends TopDocs> manager,
+                List<? extends Collector> collectors) throws IOException {
+            return manager.reduce((List<C>) collectors);
+        }
+
         protected final @Nullable SortAndFormats sortAndFormats;
-        private final Collector collector;
-        private final Supplier<TotalHits> totalHitsSupplier;
-        private final Supplier<TopDocs> topDocsSupplier;
-        private final Supplier<Float> maxScoreSupplier;
+        private final @Nullable ScoreDoc searchAfter;
+        private final boolean trackMaxScore;
+        private final int hitCountThreshold;
+        /**
+         * The total number of hits if it is known without collecting them, <code>null</code> otherwise
+         */
+        private final @Nullable TotalHits totalHits;
+        private final List<TopDocsCollector<?>> topDocsCollectors = new ArrayList<>();
+        private final List<MaxScoreCollector> maxScoreCollectors = new ArrayList<>();
+        private Collector collector;
+        /**
+         * The manager of the collectors of the slices of segments, when they are searched concurrently
+         */
+        private CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> sliceManager;
+        private TopDocs topDocs;
 
         /**
          * Ctr
@@ -258,71 +325,117 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                                               boolean hasFilterCollector) throws IOException {
             super(REASON_SEARCH_TOP_HITS, numHits);
             this.sortAndFormats = sortAndFormats;
-
-            final TopDocsCollector<?> topDocsCollector;
+            this.searchAfter = searchAfter;
+            this.trackMaxScore = trackMaxScore;
 
             if ((sortAndFormats == null || SortField.FIELD_SCORE.equals(sortAndFormats.sort.getSort()[0]))
                     && hasInfMaxScore(query)) {
                 // disable max score optimization since we have a mandatory clause
                 // that doesn't track the maximum score
-                topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, Integer.MAX_VALUE);
-                topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
-                totalHitsSupplier = () -> topDocsSupplier.get().totalHits;
+                hitCountThreshold = Integer.MAX_VALUE;
+                totalHits = null;
             } else if (trackTotalHitsUpTo == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
                 // don't compute hit counts via the collector
-                topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, 1);
-                topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
-                totalHitsSupplier = () -> new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+                hitCountThreshold = 1;
+                totalHits = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
             } else {
                 // implicit total hit counts are valid only when there is no filter collector in the chain
                 final int hitCount = hasFilterCollector ? -1 : shortcutTotalHitCount(reader, query);
                 if (hitCount == -1) {
-                    topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, trackTotalHitsUpTo);
-                    topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
-                    totalHitsSupplier = () -> topDocsSupplier.get().totalHits;
+                    hitCountThreshold = trackTotalHitsUpTo;
+                    totalHits = null;
                 } else {
                     // don't compute hit counts via the collector
-                    topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, 1);
-                    topDocsSupplier = new CachedSupplier<>(topDocsCollector::topDocs);
-                    totalHitsSupplier = () -> new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
+                    hitCountThreshold = 1;
+                    totalHits = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO);
                 }
             }
-            MaxScoreCollector maxScoreCollector = null;
-            if (sortAndFormats == null) {
-                maxScoreSupplier = () -> {
-                    TopDocs topDocs = topDocsSupplier.get();
-                    if (topDocs.scoreDocs.length == 0) {
-                        return Float.NaN;
-                    } else {
-                        return topDocs.scoreDocs[0].score;
-                    }
-                };
-            } else if (trackMaxScore) {
-                maxScoreCollector = new MaxScoreCollector();
-                maxScoreSupplier = maxScoreCollector::getMaxScore;
-            } else {
-                maxScoreSupplier = () -> Float.NaN;
-            }
-
-            this.collector = MultiCollector.wrap(topDocsCollector, maxScoreCollector);
-
         }
 
         @Override
         Collector create(Collector in) {
             assert in == null;
+            if (collector == null) {
+                final TopDocsCollector<?> topDocsCollector = createCollector(sortAndFormats, numHits, searchAfter, hitCountThreshold);
+                topDocsCollectors.add(topDocsCollector);
+                collector = MultiCollector.wrap(topDocsCollector, createMaxScoreCollector());
+            }
             return collector;
         }
 
-        TopDocsAndMaxScore newTopDocs() {
-            TopDocs in = topDocsSupplier.get();
-            float maxScore = maxScoreSupplier.get();
+        @Override
+        boolean supportsConcurrentCollection() {
+            return true;
+        }
+
+        @Override
+        Collector createForSlice(Collector in) throws IOException {
+            assert in == null;
+            if (sliceManager == null) {
+                sliceManager = createSharedManager(sortAndFormats, numHits, (FieldDoc) searchAfter, hitCountThreshold);
+            }
+            final TopDocsCollector<?> topDocsCollector = sliceManager.newCollector();
+            topDocsCollectors.add(topDocsCollector);
+            return MultiCollector.wrap(topDocsCollector, createMaxScoreCollector());
+        }
+
+        @Nullable
+        private MaxScoreCollector createMaxScoreCollector() {
+            if (sortAndFormats == null || trackMaxScore == false) {
+                // the max score is the score of the top hit when sorting by score
+                return null;
+            }
+            final MaxScoreCollector maxScoreCollector = new MaxScoreCollector();
+            maxScoreCollectors.add(maxScoreCollector);
+            return maxScoreCollector;
+        }
+
+        private TopDocs topDocs() throws IOException {
+            if (topDocs == null) {
+                if (sliceManager == null) {
+                    assert topDocsCollectors.size() == 1;
+                    topDocs = topDocsCollectors.get(0).topDocs();
+                } else {
+                    topDocs = reduce(sliceManager, topDocsCollectors);
+                    // Lucene sets shards indexes during merging of topDocs from different collectors
+                    // We need to reset shard index; OpenSearch will set shard index later during reduce stage
+                    for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                        scoreDoc.shardIndex = -1;
+                    }
+                }
+            }
+            return topDocs;
+        }
+
+        private float maxScore() throws IOException {
+            if (sortAndFormats == null) {
+                TopDocs topDocs = topDocs();
+                if (topDocs.scoreDocs.length == 0) {
+                    return Float.NaN;
+                } else {
+                    return topDocs.scoreDocs[0].score;
+                }
+            }
+            float maxScore = Float.NaN;
+            for (MaxScoreCollector maxScoreCollector : maxScoreCollectors) {
+                final float score = maxScoreCollector.getMaxScore();
+                if (Float.isNaN(maxScore) || score > maxScore) {
+                    maxScore = score;
+                }
+            }
+            return maxScore;
+        }
+
+        TopDocsAndMaxScore newTopDocs() throws IOException {
+            TopDocs in = topDocs();
+            float maxScore = maxScore();
+            final TotalHits totalHits = this.totalHits == null ? in.totalHits : this.totalHits;
             final TopDocs newTopDocs;
             if (in instanceof TopFieldDocs) {
                 TopFieldDocs fieldDocs = (TopFieldDocs) in;
-                newTopDocs = new TopFieldDocs(totalHitsSupplier.get(), fieldDocs.scoreDocs, fieldDocs.fields);
+                newTopDocs = new TopFieldDocs(totalHits, fieldDocs.scoreDocs, fieldDocs.fields);
             } else {
-                newTopDocs = new TopDocs(totalHitsSupplier.get(), in.scoreDocs);
+                newTopDocs = new TopDocs(totalHits, in.scoreDocs);
             }
             return new TopDocsAndMaxScore(newTopDocs, maxScore);
         }
@@ -353,6 +466,12 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             this.numberOfShards = numberOfShards;
         }
 
+        @Override
+        boolean supportsConcurrentCollection() {
+            // the next round resumes from the last document that this round emitted
+            return false;
+        }
+
         @Override
         void postProcess(QuerySearchResult result) throws IOException {
             final TopDocsAndMaxScore topDocs = newTopDocs();
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * A message whose serialized form ends with a large chunk of bytes, e.g. the content of a file. When the message is not compressed,
+ * the transport layer appends these bytes to the outbound message as they are, rather than copying them into the buffer the rest
+ * of the message is serialized to, similar to {@link BytesTransportRequest}.
+ */
+public interface ThinWriteable extends Writeable {
+
+    /**
+     * Writes this message in a "thin" manner, without its trailing bytes, and returns the trailing bytes that must be appended right
+     * after the written content. Implementations that cannot write a thin message for the version of the given stream write the whole
+     * message and return {@link BytesArray#EMPTY}.
+     */
+    BytesReference writeThin(StreamOutput out) throws IOException;
+}
@@ -37,7 +37,9 @@ import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 
@@ -54,6 +56,8 @@ public class TransportDecompressor implements Closeable {
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
     private boolean hasReadHeader = false;
+    // set when the compressed stream was detected as LZ4 rather than DEFLATE
+    private Lz4BlockDecoder lz4Decoder;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
@@ -64,7 +68,13 @@ public class TransportDecompressor implements Closeable {
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
         if (hasReadHeader == false) {
-            if (CompressorFactory.COMPRESSOR.isCompressed(bytesReference) == false) {
+            final Compressor compressor;
+            if (CompressorFactory.COMPRESSOR.isCompressed(bytesReference)) {
+                compressor = CompressorFactory.COMPRESSOR;
+            } else if (CompressorFactory.LZ4_COMPRESSOR.isCompressed(bytesReference)) {
+                compressor = CompressorFactory.LZ4_COMPRESSOR;
+                lz4Decoder = new Lz4BlockDecoder();
+            } else {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
                     .append(maxToRead).append("] content bytes out of [").append(bytesReference.length())
@@ -76,11 +86,15 @@ public class TransportDecompressor implements Closeable {
                 throw new IllegalStateException(sb.toString());
             }
             hasReadHeader = true;
-            int headerLength = CompressorFactory.COMPRESSOR.headerLength();
+            int headerLength = compressor.headerLength();
             bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
             bytesConsumed += headerLength;
         }
 
+        if (lz4Decoder != null) {
+            return bytesConsumed + lz4Decoder.decompress(bytesReference);
+        }
+
         BytesRefIterator refIterator = bytesReference.iterator();
         BytesRef ref;
         while ((ref = refIterator.next()) != null) {
@@ -126,13 +140,122 @@ public class TransportDecompressor implements Closeable {
     }
 
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorFactory.COMPRESSOR.headerLength();
+        return hasReadHeader || bytesAvailable >= Math.max(CompressorFactory.COMPRESSOR.headerLength(),
+            CompressorFactory.LZ4_COMPRESSOR.headerLength());
     }
 
     public boolean isEOS() {
+        if (lz4Decoder != null) {
+            return lz4Decoder.eos;
+        }
         return inflater.finished();
     }
 
+    /**
+     * Returns the page that decompressed bytes should be written to, a new page is added if the last one is full.
+     */
+    private byte[] currentPage() {
+        if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+            pageOffset = 0;
+            pages.add(recycler.bytePage(false));
+        }
+        return pages.getLast().v();
+    }
+
+    /**
+     * Decompresses the blocks of a {@link Lz4Compressor} stream as soon as their bytes are fully received. Since a block can
+     * span several network reads its bytes are accumulated until they are complete.
+     */
+    private final class Lz4BlockDecoder {
+
+        private final byte[] blockHeader = new byte[Lz4Compressor.BLOCK_HEADER_LENGTH];
+        private int blockHeaderLength;
+        private byte[] block;
+        private int blockLength;
+        private int storedLength = -1;
+        private int decompressedLength;
+        private byte[] decompressed;
+        private boolean eos;
+
+        int decompress(BytesReference bytesReference) throws IOException {
+            int bytesConsumed = 0;
+            BytesRefIterator refIterator = bytesReference.iterator();
+            BytesRef ref;
+            while ((ref = refIterator.next()) != null) {
+                int offset = ref.offset;
+                final int end = ref.offset + ref.length;
+                while (offset < end && eos == false) {
+                    if (storedLength == -1) {
+                        // reading the header of the next block
+                        blockHeader[blockHeaderLength++] = ref.bytes[offset++];
+                        if (blockHeaderLength == 1 && blockHeader[0] == Lz4Compressor.END_BLOCK) {
+                            eos = true;
+                        } else if (blockHeaderLength == Lz4Compressor.BLOCK_HEADER_LENGTH) {
+                            startBlock();
+                        }
+                    } else {
+                        final int toCopy = Math.min(end - offset, storedLength - blockLength);
+                        System.arraycopy(ref.bytes, offset, block, blockLength, toCopy);
+                        offset += toCopy;
+                        blockLength += toCopy;
+                        if (blockLength == storedLength) {
+                            finishBlock();
+                        }
+                    }
+                }
+                bytesConsumed += offset - ref.offset;
+                if (eos) {
+                    break;
+                }
+            }
+            return bytesConsumed;
+        }
+
+        private void startBlock() throws IOException {
+            final byte type = blockHeader[0];
+            if (type != Lz4Compressor.COMPRESSED_BLOCK && type != Lz4Compressor.RAW_BLOCK) {
+                throw new IOException("Corrupted LZ4 stream: unknown block type [" + type + "]");
+            }
+            decompressedLength = Lz4Compressor.readBlockInt(blockHeader, 1);
+            storedLength = Lz4Compressor.readBlockInt(blockHeader, 1 + Integer.BYTES);
+            if (decompressedLength < 0 || decompressedLength > Lz4Compressor.BLOCK_SIZE || storedLength < 0
+                || storedLength > Lz4Compressor.maxCompressedLength(Lz4Compressor.BLOCK_SIZE)
+                || (type == Lz4Compressor.RAW_BLOCK && storedLength != decompressedLength)) {
+                throw new IOException("Corrupted LZ4 stream: invalid block lengths [" + decompressedLength + "/" + storedLength + "]");
+            }
+            if (block == null || block.length < storedLength) {
+                block = new byte[Lz4Compressor.maxCompressedLength(Lz4Compressor.BLOCK_SIZE)];
+            }
+            blockLength = 0;
+            if (storedLength == 0) {
+                finishBlock();
+            }
+        }
+
+        private void finishBlock() throws IOException {
+            final byte[] bytes;
+            if (blockHeader[0] == Lz4Compressor.RAW_BLOCK) {
+                bytes = block;
+            } else {
+                if (decompressed == null) {
+                    decompressed = new byte[Lz4Compressor.BLOCK_SIZE];
+                }
+                Lz4Compressor.decompressBlock(block, 0, storedLength, decompressed, 0, decompressedLength);
+                bytes = decompressed;
+            }
+            int copied = 0;
+            while (copied < decompressedLength) {
+                final byte[] page = currentPage();
+                final int toCopy = Math.min(decompressedLength - copied, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+                System.arraycopy(bytes, copied, page, pageOffset, toCopy);
+                pageOffset += toCopy;
+                copied += toCopy;
+            }
+            blockHeaderLength = 0;
+            storedLength = -1;
+        }
+    }
+
     public ReleasableBytesReference pollDecompressedPage() {
         if (pages.isEmpty()) {
             return null;
@@ -50,6 +50,7 @@ import org.opensearch.node.AdaptiveSelectionStats;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.ScriptCacheStats;
 import org.opensearch.script.ScriptStats;
+import org.opensearch.search.SearchAdmissionStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
@@ -274,6 +275,28 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(queueStats.getTotal(), deserializedDiscoveryStats.getQueueStats().getTotal());
                         assertEquals(queueStats.getPending(), deserializedDiscoveryStats.getQueueStats().getPending());
                     }
+                    PublishClusterStateStats publishStats = discoveryStats.getPublishStats();
+                    if (publishStats == null) {
+                        assertNull(deserializedDiscoveryStats.getPublishStats());
+                    } else {
+                        PublishClusterStateStats deserializedPublishStats = deserializedDiscoveryStats.getPublishStats();
+                        assertEquals(publishStats.getFullClusterStateReceivedCount(),
+                            deserializedPublishStats.getFullClusterStateReceivedCount());
+                        assertEquals(publishStats.getCompatibleClusterStateDiffReceivedCount(),
+                            deserializedPublishStats.getCompatibleClusterStateDiffReceivedCount());
+                        assertEquals(publishStats.getIncompatibleClusterStateDiffReceivedCount(),
+                            deserializedPublishStats.getIncompatibleClusterStateDiffReceivedCount());
+                        assertEquals(publishStats.getFullClusterStateSerializedCount(),
+                            deserializedPublishStats.getFullClusterStateSerializedCount());
+                        assertEquals(publishStats.getClusterStateDiffSerializedCount(),
+                            deserializedPublishStats.getClusterStateDiffSerializedCount());
+                        assertEquals(publishStats.getLaggingClusterStateDiffSerializedCount(),
+                            deserializedPublishStats.getLaggingClusterStateDiffSerializedCount());
+                        assertEquals(publishStats.getSerializedClusterStateSizeInBytes(),
+                            deserializedPublishStats.getSerializedClusterStateSizeInBytes());
+                        assertEquals(publishStats.getClusterStateSerializationTimeInMillis(),
+                            deserializedPublishStats.getClusterStateSerializationTimeInMillis());
+                    }
                 }
                 IngestStats ingestStats = nodeStats.getIngestStats();
                 IngestStats deserializedIngestStats = deserializedNodeStats.getIngestStats();
@@ -354,6 +377,16 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(limited, sum.getCompilationLimitTriggered());
                     assertEquals(compilations, sum.getCompilations());
                 }
+                SearchAdmissionStats searchAdmissionStats = nodeStats.getSearchAdmissionStats();
+                SearchAdmissionStats deserializedSearchAdmissionStats = deserializedNodeStats.getSearchAdmissionStats();
+                if (searchAdmissionStats == null) {
+                    assertNull(deserializedSearchAdmissionStats);
+                } else {
+                    assertEquals(searchAdmissionStats.getAdmitted(), deserializedSearchAdmissionStats.getAdmitted());
+                    assertEquals(searchAdmissionStats.getRejected(), deserializedSearchAdmissionStats.getRejected());
+                    assertEquals(searchAdmissionStats.getOutstandingCostInNanos(),
+                        deserializedSearchAdmissionStats.getOutstandingCostInNanos());
+                }
             }
         }
     }
@@ -477,6 +510,11 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 : null,
                 randomBoolean()
                 ? new PublishClusterStateStats(
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
                     randomNonNegativeLong(),
                     randomNonNegativeLong(),
                     randomNonNegativeLong())
@@ -529,10 +567,12 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        SearchAdmissionStats searchAdmissionStats = frequently() ? new SearchAdmissionStats(randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong()) : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, searchAdmissionStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
@@ -76,6 +76,9 @@ import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.profile.ProfileShardResult;
+import org.opensearch.search.profile.ReduceProfileResult;
+import org.opensearch.search.profile.aggregation.AggregationProfileShardResult;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.suggest.SortBy;
 import org.opensearch.search.suggest.Suggest;
@@ -601,6 +604,51 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerIncrementalReduce() throws Exception {
+        int expectedNumResults = randomIntBetween(1, 100);
+        int bufferSize = randomIntBetween(2, 200);
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.avg("foo")).size(0).profile(true));
+        request.setBatchedReduceSize(bufferSize);
+        QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST), SearchProgressListener.NOOP,
+            request, expectedNumResults, true, exc  -> {});
+        AtomicInteger max = new AtomicInteger();
+        CountDownLatch latch =  new CountDownLatch(expectedNumResults);
+        for (int i = 0; i < expectedNumResults; i++) {
+            int number = randomIntBetween(1, 1000);
+            max.updateAndGet(prev -> Math.max(prev, number));
+            QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", i),
+                new SearchShardTarget("node", new ShardId("a", "b", i), null, OriginalIndices.NONE), null);
+            result.topDocs(new TopDocsAndMaxScore(new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]), number),
+                    new DocValueFormat[0]);
+            InternalAggregations aggs = InternalAggregations.from(Collections.singletonList(new InternalMax("test", (double) number,
+                DocValueFormat.RAW, Collections.emptyMap())));
+            result.aggregations(aggs);
+            result.profileResults(new ProfileShardResult(emptyList(), new AggregationProfileShardResult(emptyList())));
+            result.setShardIndex(i);
+            result.size(1);
+            consumer.consumeResult(result, latch::countDown);
+        }
+        latch.await();
+
+        SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+        assertAggReduction(request);
+        InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+        assertEquals(max.get(), internalMax.getValue(), 0.0D);
+        assertEquals(max.get(), reduce.maxScore, 0.0f);
+        assertEquals(expectedNumResults, reduce.totalHits.value);
+        // the first result is always merged on its own since no other partial reduce can be in-flight
+        assertThat(reduce.numReducePhases, greaterThanOrEqualTo(2));
+        assertEquals(expectedNumResults, reduce.shardResults.getShardResults().size());
+        ReduceProfileResult reduceProfile = reduce.shardResults.getReduceProfileResult();
+        assertNotNull(reduceProfile);
+        assertTrue(reduceProfile.isIncremental());
+        assertEquals(reduce.numReducePhases, reduceProfile.getNumReducePhases());
+        assertThat(reduceProfile.getMaxBufferedResults(), lessThan(bufferSize));
+        assertThat(reduceProfile.getMaxMemoryInBytes(), greaterThanOrEqualTo(0L));
+    }
+
     public void testConsumerOnlyHits() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -33,8 +33,11 @@
 package org.opensearch.cluster.action.shard;
 
 import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateTaskExecutor;
+import org.opensearch.cluster.ClusterStateTaskListener;
+import org.opensearch.cluster.NotMasterException;
 import org.opensearch.cluster.OpenSearchAllocationTestCase;
 import org.opensearch.cluster.action.shard.ShardStateAction.StartedShardEntry;
 import org.opensearch.cluster.metadata.IndexMetadata;
@@ -50,6 +53,7 @@ import org.opensearch.index.shard.ShardId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -63,6 +67,7 @@ import static org.opensearch.cluster.routing.allocation.decider.ThrottlingAlloca
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 public class ShardStartedClusterStateTaskExecutorTests extends OpenSearchAllocationTestCase {
 
@@ -267,6 +272,39 @@ public class ShardStartedClusterStateTaskExecutorTests extends OpenSearchAllocat
         }
     }
 
+    public void testCoalescesQueuedEntriesAndFollowUpReroutes() {
+        final AtomicInteger reroutes = new AtomicInteger();
+        final ShardStateAction.ShardStartedClusterStateTaskExecutor executor = new ShardStateAction.ShardStartedClusterStateTaskExecutor(
+            createAllocationService(Settings.EMPTY), (reason, priority, listener) -> reroutes.incrementAndGet(), () -> Priority.NORMAL,
+            logger);
+        final ShardId shardId = new ShardId("test", "_na", 0);
+        final StartedShardEntry entry = new StartedShardEntry(shardId, "aId", 1L, "first");
+        final ClusterStateTaskListener listener = executor.queue(entry);
+        assertThat(listener, notNullValue());
+        // an equal entry is redundant while the first one is queued, even if its message differs
+        assertThat(executor.queue(new StartedShardEntry(shardId, "aId", 1L, "second")), nullValue());
+        final ClusterStateTaskListener otherListener = executor.queue(new StartedShardEntry(shardId, "otherId", 1L, "other"));
+        assertThat(otherListener, notNullValue());
+
+        // the first entry starts the shard, the follow-up reroute is left to the batch of the other entry
+        final ClusterState oldState = stateWithNoShard();
+        final ClusterState newState = ClusterState.builder(oldState).incrementVersion().build();
+        listener.clusterStateProcessed("test", oldState, newState);
+        executor.clusterStatePublished(new ClusterChangedEvent("test", newState, oldState));
+        assertThat(reroutes.get(), equalTo(0));
+
+        // which doesn't change the cluster state, so it triggers the follow-up reroute once it is processed
+        otherListener.clusterStateProcessed("test", newState, newState);
+        assertThat(reroutes.get(), equalTo(1));
+
+        // once processed, an entry can be queued again
+        final ClusterStateTaskListener requeuedListener = executor.queue(entry);
+        assertThat(requeuedListener, notNullValue());
+        requeuedListener.onFailure("test", new NotMasterException("simulated"));
+        assertThat(executor.queue(entry), notNullValue());
+        assertThat(reroutes.get(), equalTo(1));
+    }
+
     private ClusterStateTaskExecutor.ClusterTasksResult executeTasks(final ClusterState state,
                                                                      final List<StartedShardEntry> tasks) throws Exception {
         final ClusterStateTaskExecutor.ClusterTasksResult<StartedShardEntry> result = executor.execute(state, tasks);
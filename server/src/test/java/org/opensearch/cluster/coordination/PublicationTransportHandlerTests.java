@@ -33,25 +33,42 @@ package org.opensearch.cluster.coordination;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
+import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.coordination.CoordinationMetadata.VotingConfiguration;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.io.stream.InputStreamStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.discovery.zen.PublishClusterStateStats;
 import org.opensearch.node.Node;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 import org.opensearch.test.transport.CapturingTransport;
+import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class PublicationTransportHandlerTests extends OpenSearchTestCase {
 
@@ -100,4 +117,131 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
         assertThat(e.getCause(), instanceOf(IOException.class));
         assertThat(e.getCause().getMessage(), containsString("Simulated failure of diff serialization"));
     }
+
+    public void testSendsDiffFromLastAcceptedStateToLaggingNode() throws IOException {
+        DeterministicTaskQueue deterministicTaskQueue =
+            new DeterministicTaskQueue(Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "test").build(), random());
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final DiscoveryNode localNode = new DiscoveryNode("localNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final CapturingTransport capturingTransport = new CapturingTransport();
+        final TransportService transportService = capturingTransport.createTransportService(Settings.EMPTY,
+            deterministicTaskQueue.getThreadPool(),
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            x -> localNode,
+            clusterSettings, Collections.emptySet());
+        final PublicationTransportHandler handler = new PublicationTransportHandler(transportService,
+            writableRegistry(), pu -> null, (pu, l) -> {});
+        transportService.start();
+        transportService.acceptIncomingRequests();
+
+        final DiscoveryNode otherNode = new DiscoveryNode("otherNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final DiscoveryNodes discoveryNodes = DiscoveryNodes.builder().add(localNode).add(otherNode).localNodeId(localNode.getId())
+            .masterNodeId(localNode.getId()).build();
+        final ClusterState[] states = new ClusterState[4];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = CoordinationStateTests.clusterState(1L, i + 1, discoveryNodes,
+                VotingConfiguration.EMPTY_CONFIG, VotingConfiguration.EMPTY_CONFIG, i);
+        }
+
+        final ThreadContext threadContext = deterministicTaskQueue.getThreadPool().getThreadContext();
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.markAsSystemContext();
+
+            // the other node accepts the second state
+            publish(handler, states[0], states[1], otherNode, PlainActionFuture.newFuture());
+            CapturingTransport.CapturedRequest request = singleCapturedRequest(capturingTransport);
+            capturingTransport.handleResponse(request.requestId, new PublishWithJoinResponse(
+                new PublishResponse(1L, states[1].version()), Optional.empty()));
+
+            // then misses the publication of the third one
+            publish(handler, states[1], states[2], otherNode, PlainActionFuture.newFuture());
+            singleCapturedRequest(capturingTransport);
+
+            // so it rejects the diff from the third state to the fourth one, and is sent a diff from the second state instead
+            final PlainActionFuture<PublishWithJoinResponse> future = PlainActionFuture.newFuture();
+            publish(handler, states[2], states[3], otherNode, future);
+            request = singleCapturedRequest(capturingTransport);
+            assertThat(readDiff(request, localNode).apply(states[2]).stateUUID(), equalTo(states[3].stateUUID()));
+            capturingTransport.handleRemoteError(request.requestId,
+                new IncompatibleClusterStateVersionException("simulated incompatible state"));
+
+            request = singleCapturedRequest(capturingTransport);
+            assertThat(readDiff(request, localNode).apply(states[1]).stateUUID(), equalTo(states[3].stateUUID()));
+            capturingTransport.handleResponse(request.requestId, new PublishWithJoinResponse(
+                new PublishResponse(1L, states[3].version()), Optional.empty()));
+            assertTrue(future.isDone());
+        }
+
+        final PublishClusterStateStats stats = handler.stats();
+        assertThat(stats.getFullClusterStateSerializedCount(), equalTo(0L));
+        assertThat(stats.getClusterStateDiffSerializedCount(), equalTo(3L));
+        assertThat(stats.getLaggingClusterStateDiffSerializedCount(), equalTo(1L));
+        assertThat(stats.getSerializedClusterStateSizeInBytes(), greaterThan(0L));
+    }
+
+    public void testCompressesWithSchemeSupportedByDestination() {
+        DeterministicTaskQueue deterministicTaskQueue =
+            new DeterministicTaskQueue(Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "test").build(), random());
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final DiscoveryNode localNode = new DiscoveryNode("localNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final CapturingTransport capturingTransport = new CapturingTransport();
+        final TransportService transportService = capturingTransport.createTransportService(Settings.EMPTY,
+            deterministicTaskQueue.getThreadPool(),
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+            x -> localNode,
+            clusterSettings, Collections.emptySet());
+        final PublicationTransportHandler handler = new PublicationTransportHandler(transportService,
+            writableRegistry(), pu -> null, (pu, l) -> {}, CompressorFactory.LZ4_COMPRESSOR);
+        transportService.start();
+        transportService.acceptIncomingRequests();
+
+        final DiscoveryNode newNode = new DiscoveryNode("newNode", buildNewFakeTransportAddress(), Version.CURRENT);
+        final DiscoveryNode oldNode = new DiscoveryNode("oldNode", buildNewFakeTransportAddress(),
+            VersionUtils.getPreviousVersion(CompressorFactory.LZ4_COMPRESSION_VERSION));
+        final DiscoveryNodes discoveryNodes = DiscoveryNodes.builder().add(localNode).add(newNode).add(oldNode)
+            .localNodeId(localNode.getId()).masterNodeId(localNode.getId()).build();
+        final ClusterState previousState = CoordinationStateTests.clusterState(1L, 1L, discoveryNodes,
+            VotingConfiguration.EMPTY_CONFIG, VotingConfiguration.EMPTY_CONFIG, 0L);
+        final ClusterState newState = CoordinationStateTests.clusterState(1L, 2L, discoveryNodes,
+            VotingConfiguration.EMPTY_CONFIG, VotingConfiguration.EMPTY_CONFIG, 1L);
+
+        final ThreadContext threadContext = deterministicTaskQueue.getThreadPool().getThreadContext();
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.markAsSystemContext();
+
+            publish(handler, previousState, newState, newNode, PlainActionFuture.newFuture());
+            assertThat(CompressorFactory.compressor(((BytesTransportRequest) singleCapturedRequest(capturingTransport).request).bytes()),
+                sameInstance(CompressorFactory.LZ4_COMPRESSOR));
+
+            // nodes that can't decompress LZ4 are sent deflate
+            publish(handler, previousState, newState, oldNode, PlainActionFuture.newFuture());
+            assertThat(CompressorFactory.compressor(((BytesTransportRequest) singleCapturedRequest(capturingTransport).request).bytes()),
+                sameInstance(CompressorFactory.COMPRESSOR));
+        }
+    }
+
+    private static void publish(PublicationTransportHandler handler, ClusterState previousState, ClusterState newState,
+                                DiscoveryNode destination, ActionListener<PublishWithJoinResponse> listener) {
+        final PublicationTransportHandler.PublicationContext context =
+            handler.newPublicationContext(new ClusterChangedEvent("test", newState, previousState));
+        context.sendPublishRequest(destination, new PublishRequest(newState), listener);
+    }
+
+    private static CapturingTransport.CapturedRequest singleCapturedRequest(CapturingTransport capturingTransport) {
+        final CapturingTransport.CapturedRequest[] requests = capturingTransport.getCapturedRequestsAndClear();
+        assertThat(requests.length, equalTo(1));
+        assertThat(requests[0].action, equalTo(PublicationTransportHandler.PUBLISH_STATE_ACTION_NAME));
+        return requests[0];
+    }
+
+    private Diff<ClusterState> readDiff(CapturingTransport.CapturedRequest request, DiscoveryNode localNode) throws IOException {
+        final BytesReference bytes = ((BytesTransportRequest) request.request).bytes();
+        final Compressor compressor = CompressorFactory.compressor(bytes);
+        try (StreamInput in = new NamedWriteableAwareStreamInput(
+                new InputStreamStreamInput(compressor.threadLocalInputStream(bytes.streamInput())), writableRegistry())) {
+            in.setVersion(Version.CURRENT);
+            assertFalse(in.readBoolean());
+            return ClusterState.readDiffFrom(in, localNode);
+        }
+    }
 }
@@ -58,6 +58,7 @@ import org.opensearch.snapshots.EmptySnapshotsInfoService;
 import org.opensearch.test.gateway.TestGatewayAllocator;
 import org.hamcrest.Matchers;
 
+import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.STARTED;
@@ -84,6 +85,8 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
         settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), indexBalance);
         settings.put(BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING.getKey(), replicaBalance);
         settings.put(BalancedShardsAllocator.THRESHOLD_SETTING.getKey(), balanceThreshold);
+        settings.put(BalancedShardsAllocator.SKIP_BALANCED_INDICES_SETTING.getKey(), randomBoolean());
+        settings.put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), randomIntBetween(1, 4));
 
         AllocationService strategy = createAllocationService(settings.build(), new TestGatewayAllocator());
 
@@ -112,6 +115,8 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
         settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), indexBalance);
         settings.put(BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING.getKey(), replicaBalance);
         settings.put(BalancedShardsAllocator.THRESHOLD_SETTING.getKey(), balanceThreshold);
+        settings.put(BalancedShardsAllocator.SKIP_BALANCED_INDICES_SETTING.getKey(), randomBoolean());
+        settings.put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), randomIntBetween(1, 4));
 
         AllocationService strategy = createAllocationService(settings.build(), new TestGatewayAllocator());
 
@@ -128,6 +133,62 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
             numberOfNodes + 1 - (numberOfNodes + 1) / 2, numberOfIndices, numberOfReplicas, numberOfShards, balanceThreshold);
     }
 
+    public void testSkipBalancedIndices() {
+        /* Tests that skipping the indices that are balanced doesn't change the outcome of balancing */
+        final float balanceThreshold = 1.0f;
+
+        Settings.Builder settings = Settings.builder();
+        settings.put(ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+            ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString());
+        settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), 1.0f);
+        settings.put(BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING.getKey(), 0.0f);
+        settings.put(BalancedShardsAllocator.THRESHOLD_SETTING.getKey(), balanceThreshold);
+
+        AllocationService fullStrategy = createAllocationService(Settings.builder().put(settings.build())
+            .put(BalancedShardsAllocator.SKIP_BALANCED_INDICES_SETTING.getKey(), false).build(), new TestGatewayAllocator());
+        AllocationService skippingStrategy = createAllocationService(Settings.builder().put(settings.build())
+            .put(BalancedShardsAllocator.SKIP_BALANCED_INDICES_SETTING.getKey(), true).build(), new TestGatewayAllocator());
+
+        // a cluster that is balanced by the full algorithm is balanced when skipping balanced indices too
+        ClusterState clusterState = initCluster(fullStrategy);
+        assertSame(clusterState, skippingStrategy.reroute(clusterState, "reroute"));
+
+        // and the other way around
+        clusterState = initCluster(skippingStrategy);
+        assertSame(clusterState, fullStrategy.reroute(clusterState, "reroute"));
+
+        // both rebalance the indices that a new node unbalances
+        for (AllocationService strategy : Arrays.asList(fullStrategy, skippingStrategy)) {
+            ClusterState withNewNode = addNode(clusterState, strategy);
+            assertIndexBalance(withNewNode.getRoutingTable(), withNewNode.getRoutingNodes(), numberOfNodes + 1,
+                numberOfIndices, numberOfReplicas, numberOfShards, balanceThreshold);
+            assertSame(withNewNode, fullStrategy.reroute(withNewNode, "reroute"));
+            assertSame(withNewNode, skippingStrategy.reroute(withNewNode, "reroute"));
+        }
+    }
+
+    public void testConcurrentDeciders() {
+        /* Tests that asking the deciders about several nodes concurrently doesn't change the outcome of allocating and balancing */
+        Settings.Builder settings = Settings.builder();
+        settings.put(ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+            ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString());
+        settings.put(BalancedShardsAllocator.SKIP_BALANCED_INDICES_SETTING.getKey(), randomBoolean());
+
+        AllocationService serialStrategy = createAllocationService(Settings.builder().put(settings.build())
+            .put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), 1).build(), new TestGatewayAllocator());
+        AllocationService concurrentStrategy = createAllocationService(Settings.builder().put(settings.build())
+            .put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), randomIntBetween(2, 8)).build(),
+            new TestGatewayAllocator());
+
+        ClusterState serialState = initCluster(serialStrategy);
+        ClusterState concurrentState = initCluster(concurrentStrategy);
+        assertEquals(serialState.routingTable().prettyPrint(), concurrentState.routingTable().prettyPrint());
+
+        serialState = addNode(serialState, serialStrategy);
+        concurrentState = addNode(concurrentState, concurrentStrategy);
+        assertEquals(serialState.routingTable().prettyPrint(), concurrentState.routingTable().prettyPrint());
+    }
+
     private ClusterState initCluster(AllocationService strategy) {
         Metadata.Builder metadataBuilder = Metadata.builder();
         RoutingTable.Builder routingTableBuilder = RoutingTable.builder();
@@ -33,6 +33,7 @@
 package org.opensearch.common.compress;
 
 import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.test.OpenSearchTestCase;
@@ -44,6 +45,7 @@ import java.util.Random;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class DeflateCompressedXContentTests extends OpenSearchTestCase {
 
@@ -107,6 +109,15 @@ public class DeflateCompressedXContentTests extends OpenSearchTestCase {
         assertEquals(new CompressedXContent(b1), new CompressedXContent(b2));
     }
 
+    public void testOtherCompressor() throws IOException {
+        final BytesReference data = new BytesArray("{\"a\":\"b\"}");
+        final CompressedXContent lz4 = new CompressedXContent(data, CompressorFactory.LZ4_COMPRESSOR);
+        assertThat(CompressorFactory.compressor(lz4.compressedReference()), sameInstance(CompressorFactory.LZ4_COMPRESSOR));
+        assertEquals(new CompressedXContent(data), lz4);
+        // already compressed bytes are kept as they are, whatever their compression scheme
+        assertArrayEquals(lz4.compressed(), new CompressedXContent(lz4.compressedReference()).compressed());
+    }
+
     public void testHashCode() throws IOException {
         assertFalse(new CompressedXContent("{\"a\":\"b\"}").hashCode() == new CompressedXContent("{\"a\":\"c\"}").hashCode());
     }
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.util.LineFileDocs;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.lessThan;
+
+public class Lz4CompressTests extends OpenSearchTestCase {
+
+    private final Compressor compressor = new Lz4Compressor();
+
+    public void testRandom() throws IOException {
+        Random r = random();
+        for (int i = 0; i < 10; i++) {
+            byte[] bytes = new byte[TestUtil.nextInt(r, 1, 300000)];
+            r.nextBytes(bytes);
+            doTest(bytes);
+        }
+    }
+
+    public void testLineDocs() throws IOException {
+        Random r = random();
+        LineFileDocs lineFileDocs = new LineFileDocs(r);
+        for (int i = 0; i < 10; i++) {
+            int numDocs = TestUtil.nextInt(r, 1, 200);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            for (int j = 0; j < numDocs; j++) {
+                String s = lineFileDocs.nextDoc().get("body");
+                bos.write(s.getBytes(StandardCharsets.UTF_8));
+            }
+            doTest(bos.toByteArray());
+        }
+        lineFileDocs.close();
+    }
+
+    public void testRepetitions() throws IOException {
+        Random r = random();
+        for (int i = 0; i < 10; i++) {
+            byte[] bytes = new byte[TestUtil.nextInt(r, 1, 300000)];
+            final int alphabet = TestUtil.nextInt(r, 1, 8);
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte) r.nextInt(alphabet);
+            }
+            doTest(bytes);
+        }
+    }
+
+    public void testCompressAndUncompress() throws IOException {
+        final byte[] bytes = randomUnicodeOfLengthBetween(0, 100000).getBytes(StandardCharsets.UTF_8);
+        final BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        assertTrue(compressor.isCompressed(compressed));
+        assertFalse(CompressorFactory.COMPRESSOR.isCompressed(compressed));
+        assertSame(compressor.getClass(), CompressorFactory.compressor(compressed).getClass());
+        assertArrayEquals(bytes, BytesReference.toBytes(compressor.uncompress(compressed)));
+        assertArrayEquals(bytes, BytesReference.toBytes(CompressorFactory.uncompress(compressed)));
+    }
+
+    public void testHighlyCompressible() throws IOException {
+        final byte[] bytes = new byte[randomIntBetween(100000, 1000000)];
+        Arrays.fill(bytes, randomByte());
+        final BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        assertThat(compressed.length(), lessThan(bytes.length / 100));
+        assertArrayEquals(bytes, BytesReference.toBytes(compressor.uncompress(compressed)));
+    }
+
+    public void testCorruptedBlock() throws IOException {
+        final byte[] bytes = new byte[randomIntBetween(1000, 10000)];
+        Arrays.fill(bytes, (byte) 'a');
+        final byte[] compressed = BytesReference.toBytes(compressor.compress(new BytesArray(bytes)));
+        // truncate the stream in the middle of the first block
+        final byte[] truncated = Arrays.copyOf(compressed, compressed.length - 3);
+        expectThrows(IOException.class, () -> compressor.uncompress(new BytesArray(truncated)));
+    }
+
+    public void testCompressorForName() {
+        assertSame(CompressorFactory.COMPRESSOR, CompressorFactory.compressorForName(CompressorFactory.DEFLATE));
+        assertSame(CompressorFactory.LZ4_COMPRESSOR, CompressorFactory.compressorForName(CompressorFactory.LZ4));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> CompressorFactory.compressorForName("zip"));
+        assertEquals("unknown compression scheme [zip], must be one of [deflate, lz4]", e.getMessage());
+    }
+
+    private void doTest(byte[] bytes) throws IOException {
+        final Random r = random();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream os = compressor.threadLocalOutputStream(bos)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                final int len = Math.min(bytes.length - offset, TestUtil.nextInt(r, 1, 100000));
+                if (len == 1 && r.nextBoolean()) {
+                    os.write(bytes[offset]);
+                } else {
+                    os.write(bytes, offset, len);
+                }
+                offset += len;
+                if (r.nextInt(10) == 0) {
+                    os.flush();
+                }
+            }
+        }
+
+        ByteArrayOutputStream uncompressedOut = new ByteArrayOutputStream();
+        try (InputStream in = compressor.threadLocalInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            byte[] buffer = new byte[TestUtil.nextInt(r, 1, 70000)];
+            int len;
+            while ((len = in.read(buffer, 0, buffer.length)) != -1) {
+                uncompressedOut.write(buffer, 0, len);
+            }
+        }
+        assertArrayEquals(bytes, uncompressedOut.toByteArray());
+    }
+}
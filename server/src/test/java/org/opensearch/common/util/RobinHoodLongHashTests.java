@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class RobinHoodLongHashTests extends OpenSearchTestCase {
+    private BigArrays randombigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    private RobinHoodLongHash randomHash() {
+        // Test high load factors to make sure that collision resolution works fine
+        final float maxLoadFactor = 0.6f + randomFloat() * 0.39f;
+        return new RobinHoodLongHash(randomIntBetween(0, 100), maxLoadFactor, randombigArrays());
+    }
+
+    public void testSimple() {
+        try (RobinHoodLongHash hash = randomHash()) {
+            assertThat(hash.add(0), equalTo(0L));
+            assertThat(hash.add(1), equalTo(1L));
+            assertThat(hash.add(2), equalTo(2L));
+            assertThat(hash.add(-1), equalTo(3L));
+
+            assertThat(hash.add(0), equalTo(-1L));
+            assertThat(hash.add(2), equalTo(-3L));
+            assertThat(hash.add(-1), equalTo(-4L));
+
+            assertThat(hash.find(1), equalTo(1L));
+            assertThat(hash.find(3), equalTo(-1L));
+            assertThat(hash.get(3), equalTo(-1L));
+            assertThat(hash.size(), equalTo(4L));
+        }
+    }
+
+    public void testDuel() {
+        try (RobinHoodLongHash hash = randomHash()) {
+            int iters = scaledRandomIntBetween(100, 100000);
+            // a small range of keys makes sure that keys are added more than once
+            long[] values = new long[randomIntBetween(1, iters)];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = randomBoolean() ? randomLong() : randomIntBetween(0, values.length);
+            }
+            Map<Long, Long> keyToId = new HashMap<>();
+            List<Long> idToKey = new ArrayList<>();
+            for (int i = 0; i < iters; ++i) {
+                long key = randomFrom(values);
+                if (keyToId.containsKey(key)) {
+                    assertEquals(-1 - keyToId.get(key), hash.add(key));
+                } else {
+                    assertEquals(keyToId.size(), hash.add(key));
+                    keyToId.put(key, (long) keyToId.size());
+                    idToKey.add(key);
+                }
+            }
+
+            assertEquals(keyToId.size(), hash.size());
+            for (Map.Entry<Long, Long> entry : keyToId.entrySet()) {
+                assertEquals(entry.getValue().longValue(), hash.find(entry.getKey()));
+            }
+            for (long i = 0; i < hash.size(); i++) {
+                assertEquals(idToKey.get((int) i).longValue(), hash.get(i));
+            }
+            assertTrue(hash.size() <= hash.capacity());
+        }
+    }
+
+    public void testBatchAddMatchesAdd() {
+        try (RobinHoodLongHash batched = randomHash(); RobinHoodLongHash single = randomHash()) {
+            int batches = scaledRandomIntBetween(10, 1000);
+            long[] keys = new long[randomIntBetween(1, 100)];
+            long[] ids = new long[keys.length];
+            for (int batch = 0; batch < batches; batch++) {
+                int length = randomIntBetween(0, keys.length);
+                for (int i = 0; i < length; i++) {
+                    keys[i] = randomIntBetween(0, 5000);
+                }
+                batched.add(keys, length, ids);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(single.add(keys[i]), ids[i]);
+                }
+            }
+            assertEquals(single.size(), batched.size());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class RobinHoodLongLongHashTests extends OpenSearchTestCase {
+    private BigArrays randombigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    private RobinHoodLongLongHash randomHash() {
+        // Test high load factors to make sure that collision resolution works fine
+        final float maxLoadFactor = 0.6f + randomFloat() * 0.39f;
+        return new RobinHoodLongLongHash(randomIntBetween(0, 100), maxLoadFactor, randombigArrays());
+    }
+
+    public void testSimple() {
+        try (RobinHoodLongLongHash hash = randomHash()) {
+            assertThat(hash.add(0, 0), equalTo(0L));
+            assertThat(hash.add(0, 1), equalTo(1L));
+            assertThat(hash.add(0, 2), equalTo(2L));
+            assertThat(hash.add(1, 0), equalTo(3L));
+            assertThat(hash.add(1, 1), equalTo(4L));
+
+            assertThat(hash.add(0, 0), equalTo(-1L));
+            assertThat(hash.add(0, 2), equalTo(-3L));
+            assertThat(hash.add(1, 1), equalTo(-5L));
+
+            assertThat(hash.find(1, 0), equalTo(3L));
+            assertThat(hash.find(2, 0), equalTo(-1L));
+
+            assertThat(hash.getKey1(0), equalTo(0L));
+            assertThat(hash.getKey2(0), equalTo(0L));
+            assertThat(hash.getKey1(4), equalTo(1L));
+            assertThat(hash.getKey2(4), equalTo(1L));
+        }
+    }
+
+    public void testDuel() {
+        try (RobinHoodLongLongHash hash = randomHash()) {
+            int iters = scaledRandomIntBetween(100, 100000);
+            Key[] values = randomArray(1, iters, Key[]::new, () -> new Key(randomIntBetween(0, 10), randomLong()));
+            Map<Key, Integer> keyToId = new HashMap<>();
+            List<Key> idToKey = new ArrayList<>();
+            for (int i = 0; i < iters; ++i) {
+                Key key = randomFrom(values);
+                if (keyToId.containsKey(key)) {
+                    assertEquals(-1 - keyToId.get(key), hash.add(key.key1, key.key2));
+                } else {
+                    assertEquals(keyToId.size(), hash.add(key.key1, key.key2));
+                    keyToId.put(key, keyToId.size());
+                    idToKey.add(key);
+                }
+            }
+
+            assertEquals(keyToId.size(), hash.size());
+            for (Map.Entry<Key, Integer> entry : keyToId.entrySet()) {
+                assertEquals(entry.getValue().longValue(), hash.find(entry.getKey().key1, entry.getKey().key2));
+            }
+
+            for (long i = 0; i < hash.size(); i++) {
+                Key key = idToKey.get((int) i);
+                assertEquals(key.key1, hash.getKey1(i));
+                assertEquals(key.key2, hash.getKey2(i));
+            }
+        }
+    }
+
+    public void testBatchAddMatchesAdd() {
+        try (RobinHoodLongLongHash batched = randomHash(); RobinHoodLongLongHash single = randomHash()) {
+            int batches = scaledRandomIntBetween(10, 1000);
+            long[] key2s = new long[randomIntBetween(1, 100)];
+            long[] ids = new long[key2s.length];
+            for (int batch = 0; batch < batches; batch++) {
+                long key1 = randomIntBetween(0, 10);
+                int length = randomIntBetween(0, key2s.length);
+                for (int i = 0; i < length; i++) {
+                    key2s[i] = randomIntBetween(0, 1000);
+                }
+                batched.add(key1, key2s, length, ids);
+                for (int i = 0; i < length; i++) {
+                    assertEquals(single.add(key1, key2s[i]), ids[i]);
+                }
+            }
+            assertEquals(single.size(), batched.size());
+        }
+    }
+
+    class Key {
+        long key1;
+        long key2;
+
+        Key(long key1, long key2) {
+            this.key1 = key1;
+            this.key2 = key2;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return key1 == other.key1 && key2 == other.key2;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key1, key2);
+        }
+    }
+}
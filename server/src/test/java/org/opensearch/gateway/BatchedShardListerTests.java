@@ -0,0 +1,373 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.apache.logging.log4j.LogManager;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BatchedShardListerTests extends OpenSearchTestCase {
+
+    private final DiscoveryNode node1 = newNode("node1", Version.CURRENT);
+    private final DiscoveryNode node2 = newNode("node2", Version.CURRENT);
+
+    public void testBatchesFetchesPerNode() {
+        final TestAction action = new TestAction();
+        final BatchedShardLister<TestNodesResponse, TestNodeResponse> lister = newLister(action, 100);
+
+        final int numShards = between(1, 50);
+        final Map<ShardId, TestNodesResponse> results = new HashMap<>();
+        for (int i = 0; i < numShards; i++) {
+            final ShardId shardId = new ShardId("index", "_na_", i);
+            lister.list(shardId, "", new DiscoveryNode[] { node1, node2 },
+                ActionListener.wrap(r -> results.put(shardId, r), e -> { throw new AssertionError(e); }));
+        }
+        assertThat(action.batches, empty());
+        assertThat(lister.getNumberOfPendingFetches(), equalTo(2 * numShards));
+
+        lister.flush();
+        assertThat(lister.getNumberOfPendingFetches(), equalTo(0));
+        assertThat(action.batches, hasSize(2));
+        final Batch batch1 = action.batch(node1);
+        final Batch batch2 = action.batch(node2);
+        assertThat(batch1.request.getShards(), hasSize(numShards));
+        assertThat(batch2.request.getShards(), hasSize(numShards));
+
+        batch1.respond(i -> null);
+        assertThat("shards complete once all nodes responded", results.keySet(), empty());
+
+        final int failingShard = randomIntBetween(0, numShards - 1);
+        batch2.respond(i -> i == failingShard ? new IllegalStateException("simulated") : null);
+        assertThat(results.size(), equalTo(numShards));
+        for (int i = 0; i < numShards; i++) {
+            final TestNodesResponse response = results.get(new ShardId("index", "_na_", i));
+            if (i == failingShard) {
+                assertThat(response.getNodes(), hasSize(1));
+                assertThat(response.getNodes().get(0).getNode(), equalTo(node1));
+                assertThat(response.failures(), hasSize(1));
+                assertThat(response.failures().get(0).nodeId(), equalTo(node2.getId()));
+                assertThat(response.failures().get(0).getCause(), instanceOf(IllegalStateException.class));
+            } else {
+                assertThat(response.getNodes(), hasSize(2));
+                assertThat(response.failures(), empty());
+            }
+        }
+    }
+
+    public void testSendsFullBatchesRightAway() {
+        final TestAction action = new TestAction();
+        final int batchSize = between(2, 10);
+        final BatchedShardLister<TestNodesResponse, TestNodeResponse> lister = newLister(action, batchSize);
+
+        final int fullBatches = between(1, 5);
+        final int remainder = between(0, batchSize - 1);
+        for (int i = 0; i < fullBatches * batchSize + remainder; i++) {
+            lister.list(new ShardId("index", "_na_", i), "", new DiscoveryNode[] { node1 }, ActionListener.wrap(() -> {}));
+        }
+        assertThat(action.batches, hasSize(fullBatches));
+        for (Batch batch : action.batches) {
+            assertThat(batch.request.getShards(), hasSize(batchSize));
+        }
+        assertThat(lister.getNumberOfPendingFetches(), equalTo(remainder));
+
+        lister.flush();
+        assertThat(action.batches, hasSize(remainder == 0 ? fullBatches : fullBatches + 1));
+        assertThat(lister.getNumberOfPendingFetches(), equalTo(0));
+    }
+
+    public void testFailsAllShardsOfFailedBatch() {
+        final TestAction action = new TestAction();
+        final BatchedShardLister<TestNodesResponse, TestNodeResponse> lister = newLister(action, 100);
+
+        final List<TestNodesResponse> results = new ArrayList<>();
+        final int numShards = between(1, 10);
+        for (int i = 0; i < numShards; i++) {
+            lister.list(new ShardId("index", "_na_", i), "", new DiscoveryNode[] { node1 },
+                ActionListener.wrap(results::add, e -> { throw new AssertionError(e); }));
+        }
+        lister.flush();
+        action.batch(node1).listener.onFailure(new IllegalStateException("simulated"));
+
+        assertThat(results, hasSize(numShards));
+        for (TestNodesResponse response : results) {
+            assertThat(response.getNodes(), empty());
+            assertThat(response.failures(), hasSize(1));
+            assertThat(response.failures().get(0).nodeId(), equalTo(node1.getId()));
+        }
+    }
+
+    public void testListsShardsOfOlderNodesOneByOne() {
+        final TestAction action = new TestAction();
+        final BatchedShardLister<TestNodesResponse, TestNodeResponse> lister = newLister(action, 100);
+        final DiscoveryNode oldNode = newNode("old", VersionUtils.getPreviousVersion(Version.V_7_10_3));
+
+        final List<TestNodesResponse> results = new ArrayList<>();
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        lister.list(shardId, "", new DiscoveryNode[] { node1, oldNode },
+            ActionListener.wrap(results::add, e -> { throw new AssertionError(e); }));
+
+        assertThat(action.singleShardRequests, hasSize(1));
+        assertThat(Arrays.asList(action.singleShardRequests.get(0).nodes), equalTo(Collections.singletonList(oldNode)));
+        action.singleShardRequests.get(0).listener.onResponse(new TestNodesResponse(
+            Collections.singletonList(new TestNodeResponse(oldNode)), Collections.emptyList()));
+        assertThat(results, empty());
+
+        lister.flush();
+        action.batch(node1).respond(i -> null);
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).getNodes(), hasSize(2));
+    }
+
+    public void testListsShardsOneByOneIfBatchSizeIsOne() {
+        final TestAction action = new TestAction();
+        final BatchedShardLister<TestNodesResponse, TestNodeResponse> lister = newLister(action, 1);
+
+        lister.list(new ShardId("index", "_na_", 0), "", new DiscoveryNode[] { node1, node2 }, ActionListener.wrap(() -> {}));
+        lister.flush();
+        assertThat(action.batches, empty());
+        assertThat(action.singleShardRequests, hasSize(1));
+        assertThat(action.singleShardRequests.get(0).nodes.length, equalTo(2));
+    }
+
+    public void testBatchResponseSerialization() throws IOException {
+        final int numShards = between(0, 10);
+        final List<TestNodeResponse> responses = new ArrayList<>();
+        final List<Exception> failures = new ArrayList<>();
+        for (int i = 0; i < numShards; i++) {
+            if (randomBoolean()) {
+                responses.add(new TestNodeResponse(node1));
+                failures.add(null);
+            } else {
+                responses.add(null);
+                failures.add(new IllegalStateException("simulated " + i));
+            }
+        }
+        final NodeShardsBatchResponse<TestNodeResponse> response = new NodeShardsBatchResponse<>(responses, failures);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final NodeShardsBatchResponse<TestNodeResponse> read = new NodeShardsBatchResponse<>(in, TestNodeResponse::new);
+                assertThat(read.size(), equalTo(numShards));
+                for (int i = 0; i < numShards; i++) {
+                    if (responses.get(i) != null) {
+                        assertThat(read.getResponse(i).getNode(), equalTo(node1));
+                        assertThat(read.getFailure(i), nullValue());
+                    } else {
+                        assertThat(read.getResponse(i), nullValue());
+                        assertThat(read.getFailure(i).getMessage(), equalTo(failures.get(i).getMessage()));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testListShardsOfBatchInParallel() throws Exception {
+        final int numShards = between(0, 20);
+        final List<NodeShardsBatchRequest.Shard> shards = new ArrayList<>();
+        for (int i = 0; i < numShards; i++) {
+            shards.add(new NodeShardsBatchRequest.Shard(new ShardId("index", "_na_", i), ""));
+        }
+        final Set<Integer> failingShards = new HashSet<>();
+        for (int i = 0; i < numShards; i++) {
+            if (rarely()) {
+                failingShards.add(i);
+            }
+        }
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final Set<String> threads = ConcurrentCollections.newConcurrentSet();
+            final PlainActionFuture<NodeShardsBatchResponse<TestNodeResponse>> future = new PlainActionFuture<>();
+            final Executor executor = threadPool.executor(ThreadPool.Names.FETCH_SHARD_STORE);
+            NodeShardsBatchResponse.listShards(new NodeShardsBatchRequest(shards), executor, shard -> {
+                threads.add(Thread.currentThread().getName());
+                if (failingShards.contains(shard.getShardId().id())) {
+                    throw new IllegalStateException("simulated " + shard.getShardId().id());
+                }
+                return new TestNodeResponse(node1);
+            }, future);
+            final NodeShardsBatchResponse<TestNodeResponse> response = future.get(10, TimeUnit.SECONDS);
+            assertThat(response.size(), equalTo(numShards));
+            for (int i = 0; i < numShards; i++) {
+                if (failingShards.contains(i)) {
+                    assertThat(response.getResponse(i), nullValue());
+                    assertThat(response.getFailure(i).getMessage(), equalTo("simulated " + i));
+                } else {
+                    assertThat(response.getResponse(i).getNode(), equalTo(node1));
+                    assertThat(response.getFailure(i), nullValue());
+                }
+            }
+            for (String thread : threads) {
+                assertThat(thread, containsString("[" + ThreadPool.Names.FETCH_SHARD_STORE + "]"));
+            }
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testListShardsOfBatchFailsRejectedShards() {
+        final List<NodeShardsBatchRequest.Shard> shards = Arrays.asList(
+            new NodeShardsBatchRequest.Shard(new ShardId("index", "_na_", 0), ""),
+            new NodeShardsBatchRequest.Shard(new ShardId("index", "_na_", 1), ""));
+        final AtomicInteger executions = new AtomicInteger();
+        // rejects all shards after the first one
+        final Executor executor = command -> {
+            final AbstractRunnable runnable = (AbstractRunnable) command;
+            if (executions.incrementAndGet() == 1) {
+                runnable.run();
+            } else {
+                runnable.onRejection(new OpenSearchRejectedExecutionException("simulated"));
+                runnable.onAfter();
+            }
+        };
+        final PlainActionFuture<NodeShardsBatchResponse<TestNodeResponse>> future = new PlainActionFuture<>();
+        NodeShardsBatchResponse.listShards(new NodeShardsBatchRequest(shards), executor, shard -> new TestNodeResponse(node1), future);
+        final NodeShardsBatchResponse<TestNodeResponse> response = future.actionGet();
+        assertThat(response.getResponse(0).getNode(), equalTo(node1));
+        assertThat(response.getResponse(1), nullValue());
+        assertThat(response.getFailure(1), instanceOf(OpenSearchRejectedExecutionException.class));
+    }
+
+    private static BatchedShardLister<TestNodesResponse, TestNodeResponse> newLister(TestAction action, int batchSize) {
+        return new BatchedShardLister<>(LogManager.getLogger(BatchedShardListerTests.class), "test", action, () -> batchSize);
+    }
+
+    private static DiscoveryNode newNode(String id, Version version) {
+        return new DiscoveryNode(id, buildNewFakeTransportAddress(), Collections.emptyMap(),
+            Collections.singleton(DiscoveryNodeRole.DATA_ROLE), version);
+    }
+
+    private static class SingleShardRequest {
+        final ShardId shardId;
+        final DiscoveryNode[] nodes;
+        final ActionListener<TestNodesResponse> listener;
+
+        SingleShardRequest(ShardId shardId, DiscoveryNode[] nodes, ActionListener<TestNodesResponse> listener) {
+            this.shardId = shardId;
+            this.nodes = nodes;
+            this.listener = listener;
+        }
+    }
+
+    private static class Batch {
+        final DiscoveryNode node;
+        final NodeShardsBatchRequest request;
+        final ActionListener<NodeShardsBatchResponse<TestNodeResponse>> listener;
+
+        Batch(DiscoveryNode node, NodeShardsBatchRequest request, ActionListener<NodeShardsBatchResponse<TestNodeResponse>> listener) {
+            this.node = node;
+            this.request = request;
+            this.listener = listener;
+        }
+
+        /**
+         * Responds to the batch, failing the shards for which the given function returns an exception.
+         */
+        void respond(IntFunction<Exception> failure) {
+            final List<TestNodeResponse> responses = new ArrayList<>();
+            final List<Exception> failures = new ArrayList<>();
+            for (int i = 0; i < request.getShards().size(); i++) {
+                final Exception e = failure.apply(i);
+                responses.add(e == null ? new TestNodeResponse(node) : null);
+                failures.add(e);
+            }
+            listener.onResponse(new NodeShardsBatchResponse<>(responses, failures));
+        }
+    }
+
+    private static class TestAction implements AsyncShardFetch.BatchLister<TestNodesResponse, TestNodeResponse> {
+
+        final List<SingleShardRequest> singleShardRequests = new ArrayList<>();
+        final List<Batch> batches = new ArrayList<>();
+
+        @Override
+        public void list(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<TestNodesResponse> listener) {
+            singleShardRequests.add(new SingleShardRequest(shardId, nodes, listener));
+        }
+
+        @Override
+        public void listBatch(DiscoveryNode node, NodeShardsBatchRequest request,
+                              ActionListener<NodeShardsBatchResponse<TestNodeResponse>> listener) {
+            batches.add(new Batch(node, request, listener));
+        }
+
+        @Override
+        public TestNodesResponse newNodesResponse(List<TestNodeResponse> responses, List<FailedNodeException> failures) {
+            return new TestNodesResponse(responses, failures);
+        }
+
+        Batch batch(DiscoveryNode node) {
+            return batches.stream().filter(b -> b.node.equals(node)).findFirst().orElseThrow(AssertionError::new);
+        }
+    }
+
+    private static class TestNodeResponse extends BaseNodeResponse {
+        TestNodeResponse(DiscoveryNode node) {
+            super(node);
+        }
+
+        TestNodeResponse(StreamInput in) throws IOException {
+            super(in);
+        }
+    }
+
+    private static class TestNodesResponse extends BaseNodesResponse<TestNodeResponse> {
+        TestNodesResponse(List<TestNodeResponse> nodes, List<FailedNodeException> failures) {
+            super(ClusterName.DEFAULT, nodes, failures);
+        }
+
+        @Override
+        protected List<TestNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+            return in.readList(TestNodeResponse::new);
+        }
+
+        @Override
+        protected void writeNodesTo(StreamOutput out, List<TestNodeResponse> nodes) throws IOException {
+            out.writeList(nodes);
+        }
+    }
+}
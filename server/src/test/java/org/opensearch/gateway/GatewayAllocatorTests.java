@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterInfo;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.store.TransportNodesListShardStoreMetadata.NodeStoreFilesMetadata;
+import org.opensearch.indices.store.TransportNodesListShardStoreMetadata.NodesStoreFilesMetadata;
+import org.opensearch.snapshots.SnapshotShardSizeInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class GatewayAllocatorTests extends OpenSearchAllocationTestCase {
+
+    private final ShardId shardId = new ShardId("test", "_na_", 0);
+    private final DiscoveryNode node1 = newNode("node1");
+    private final DiscoveryNode node2 = newNode("node2");
+
+    public void testFlushesReplicaFetchesAfterAllocation() {
+        final RecordingLister<NodesStoreFilesMetadata, NodeStoreFilesMetadata> storeAction = new RecordingLister<>(
+            (responses, failures) -> new NodesStoreFilesMetadata(ClusterName.DEFAULT, responses, failures));
+        final GatewayAllocator gatewayAllocator = new GatewayAllocator((reason, priority, listener) -> {},
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), new RecordingLister<>(
+                (responses, failures) -> new TransportNodesListGatewayStartedShards.NodesGatewayStartedShards(
+                    ClusterName.DEFAULT, responses, failures)), storeAction);
+
+        final RoutingAllocation allocation = onePrimaryOnNode1And1Replica();
+        gatewayAllocator.beforeAllocation(allocation);
+        gatewayAllocator.afterPrimariesBeforeReplicas(allocation);
+
+        final RoutingNodes.UnassignedShards.UnassignedIterator iterator = allocation.routingNodes().unassigned().iterator();
+        final ShardRouting replica = iterator.next();
+        gatewayAllocator.allocateUnassigned(replica, allocation, iterator);
+        assertThat("the replica waits for its store to be fetched", allocation.routingNodes().unassigned().ignored(), hasSize(1));
+        assertThat("replica fetches are batched until the allocation round is over", storeAction.batches, empty());
+        assertThat(gatewayAllocator.getNumberOfInFlightFetches(), equalTo(2));
+
+        gatewayAllocator.afterAllocation(allocation);
+        final List<DiscoveryNode> nodes = new ArrayList<>();
+        for (RecordingLister.Batch batch : storeAction.batches) {
+            nodes.add(batch.node);
+            assertThat(batch.request.getShards(), hasSize(1));
+            assertThat(batch.request.getShards().get(0).getShardId(), equalTo(shardId));
+        }
+        assertThat(nodes, containsInAnyOrder(node1, node2));
+        assertThat(storeAction.singleShardRequests, equalTo(0));
+    }
+
+    public void testListsShardsOneByOneIfBatchSizeIsOne() {
+        final RecordingLister<NodesStoreFilesMetadata, NodeStoreFilesMetadata> storeAction = new RecordingLister<>(
+            (responses, failures) -> new NodesStoreFilesMetadata(ClusterName.DEFAULT, responses, failures));
+        final Settings settings = Settings.builder().put(GatewayAllocator.SHARD_FETCH_BATCH_SIZE_SETTING.getKey(), 1).build();
+        final GatewayAllocator gatewayAllocator = new GatewayAllocator((reason, priority, listener) -> {},
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), new RecordingLister<>(
+                (responses, failures) -> new TransportNodesListGatewayStartedShards.NodesGatewayStartedShards(
+                    ClusterName.DEFAULT, responses, failures)), storeAction);
+
+        final RoutingAllocation allocation = onePrimaryOnNode1And1Replica();
+        gatewayAllocator.beforeAllocation(allocation);
+        gatewayAllocator.afterPrimariesBeforeReplicas(allocation);
+        final RoutingNodes.UnassignedShards.UnassignedIterator iterator = allocation.routingNodes().unassigned().iterator();
+        gatewayAllocator.allocateUnassigned(iterator.next(), allocation, iterator);
+        gatewayAllocator.afterAllocation(allocation);
+
+        assertThat(storeAction.batches, empty());
+        assertThat(storeAction.singleShardRequests, equalTo(1));
+    }
+
+    private RoutingAllocation onePrimaryOnNode1And1Replica() {
+        final ShardRouting primaryShard = TestShardRouting.newShardRouting(shardId, node1.getId(), true, ShardRoutingState.STARTED);
+        final Metadata metadata = Metadata.builder()
+            .put(IndexMetadata.builder(shardId.getIndexName()).settings(settings(Version.CURRENT))
+                .numberOfShards(1).numberOfReplicas(1)
+                .putInSyncAllocationIds(0, Collections.singleton(primaryShard.allocationId().getId())))
+            .build();
+        final RoutingTable routingTable = RoutingTable.builder()
+            .add(IndexRoutingTable.builder(shardId.getIndex())
+                .addIndexShard(new IndexShardRoutingTable.Builder(shardId)
+                    .addShard(primaryShard)
+                    .addShard(ShardRouting.newUnassigned(shardId, false, RecoverySource.PeerRecoverySource.INSTANCE,
+                        new UnassignedInfo(UnassignedInfo.Reason.CLUSTER_RECOVERED, null)))
+                    .build()))
+            .build();
+        final ClusterState state = ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(metadata)
+            .routingTable(routingTable)
+            .nodes(DiscoveryNodes.builder().add(node1).add(node2))
+            .build();
+        return new RoutingAllocation(yesAllocationDeciders(), new RoutingNodes(state, false), state, ClusterInfo.EMPTY,
+            SnapshotShardSizeInfo.EMPTY, System.nanoTime());
+    }
+
+    /**
+     * Records the shard fetches that are sent, without ever completing them.
+     */
+    private static class RecordingLister<NodesResponse extends BaseNodesResponse<NodeResponse>,
+        NodeResponse extends BaseNodeResponse>
+        implements AsyncShardFetch.BatchLister<NodesResponse, NodeResponse> {
+
+        private final BiFunction<List<NodeResponse>, List<FailedNodeException>, NodesResponse> newNodesResponse;
+        final List<Batch> batches = new ArrayList<>();
+        int singleShardRequests;
+
+        RecordingLister(BiFunction<List<NodeResponse>, List<FailedNodeException>, NodesResponse> newNodesResponse) {
+            this.newNodesResponse = newNodesResponse;
+        }
+
+        @Override
+        public void list(ShardId shardId, String customDataPath, DiscoveryNode[] nodes, ActionListener<NodesResponse> listener) {
+            singleShardRequests++;
+        }
+
+        @Override
+        public void listBatch(DiscoveryNode node, NodeShardsBatchRequest request,
+                              ActionListener<NodeShardsBatchResponse<NodeResponse>> listener) {
+            batches.add(new Batch(node, request));
+        }
+
+        @Override
+        public NodesResponse newNodesResponse(List<NodeResponse> responses, List<FailedNodeException> failures) {
+            return newNodesResponse.apply(responses, failures);
+        }
+
+        static class Batch {
+            final DiscoveryNode node;
+            final NodeShardsBatchRequest request;
+
+            Batch(DiscoveryNode node, NodeShardsBatchRequest request) {
+                this.node = node;
+                this.request = request;
+            }
+        }
+    }
+}
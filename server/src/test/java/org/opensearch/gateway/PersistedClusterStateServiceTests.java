@@ -85,13 +85,18 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 
 public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
 
     private PersistedClusterStateService newPersistedClusterStateService(NodeEnvironment nodeEnvironment) {
+        return newPersistedClusterStateService(nodeEnvironment, Settings.EMPTY);
+    }
+
+    private PersistedClusterStateService newPersistedClusterStateService(NodeEnvironment nodeEnvironment, Settings settings) {
         return new PersistedClusterStateService(nodeEnvironment, xContentRegistry(), getBigArrays(),
-            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
             () -> 0L);
     }
 
@@ -785,6 +790,40 @@ public class PersistedClusterStateServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testLoadsIndexMetadataConcurrently() throws IOException {
+        try (NodeEnvironment nodeEnvironment = newNodeEnvironment(createDataPaths())) {
+            final PersistedClusterStateService serialService = newPersistedClusterStateService(nodeEnvironment,
+                Settings.builder().put(PersistedClusterStateService.LOADING_THREADS_SETTING.getKey(), 1).build());
+
+            final int numIndices = between(64, 300);
+            try (Writer writer = serialService.createWriter()) {
+                final ClusterState clusterState = loadPersistedClusterState(serialService);
+                final Metadata.Builder metadata = Metadata.builder(clusterState.metadata()).version(1L);
+                for (int i = 0; i < numIndices; i++) {
+                    metadata.put(IndexMetadata.builder("test-" + i)
+                        .version(randomLongBetween(1L, 100L))
+                        .settings(Settings.builder()
+                            .put(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.getKey(), between(1, 5))
+                            .put(IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.getKey(), between(0, 2))
+                            .put(IndexMetadata.SETTING_INDEX_VERSION_CREATED.getKey(), Version.CURRENT)
+                            .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID(random()))));
+                }
+                writeState(writer, 0L, ClusterState.builder(clusterState).metadata(metadata).incrementVersion().build(), clusterState);
+            }
+
+            final Metadata serialMetadata = serialService.loadBestOnDiskState().metadata;
+            final Metadata concurrentMetadata = newPersistedClusterStateService(nodeEnvironment,
+                Settings.builder().put(PersistedClusterStateService.LOADING_THREADS_SETTING.getKey(), between(2, 8)).build())
+                .loadBestOnDiskState().metadata;
+            assertThat(concurrentMetadata.indices().size(), equalTo(numIndices));
+            for (int i = 0; i < numIndices; i++) {
+                final IndexMetadata indexMetadata = serialMetadata.index("test-" + i);
+                assertThat(indexMetadata, notNullValue());
+                assertThat(concurrentMetadata.index("test-" + i), equalTo(indexMetadata));
+            }
+        }
+    }
+
     @TestLogging(value = "org.opensearch.gateway:WARN", reason = "to ensure that we log gateway events on WARN level")
     public void testSlowLogging() throws IOException, IllegalAccessException {
         final long slowWriteLoggingThresholdMillis;
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.routing.AllocationId;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.gateway.TransportNodesListGatewayStartedShards.NodeGatewayStartedShards;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardStateMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.transport.MockTransportService;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.opensearch.test.ClusterServiceUtils.createClusterService;
+
+public class TransportNodesListGatewayStartedShardsTests extends OpenSearchTestCase {
+
+    public void testListsShardsOfBatch() throws Exception {
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (MockTransportService transportService = MockTransportService.createNewService(Settings.EMPTY, Version.CURRENT, threadPool);
+             NodeEnvironment nodeEnv = newNodeEnvironment()) {
+            transportService.start();
+            transportService.acceptIncomingRequests();
+            try (ClusterService clusterService = createClusterService(threadPool, transportService.getLocalNode())) {
+                final TransportNodesListGatewayStartedShards action = newAction(threadPool, clusterService, transportService, nodeEnv);
+
+                final List<NodeShardsBatchRequest.Shard> shards = new ArrayList<>();
+                final List<String> allocationIds = new ArrayList<>();
+                final int numShards = between(1, 20);
+                for (int i = 0; i < numShards; i++) {
+                    final ShardId shardId = new ShardId("index", "_na_", i);
+                    shards.add(new NodeShardsBatchRequest.Shard(shardId, ""));
+                    if (randomBoolean()) {
+                        final AllocationId allocationId = AllocationId.newInitializing();
+                        ShardStateMetadata.FORMAT.writeAndCleanup(new ShardStateMetadata(true, "_na_", allocationId),
+                            nodeEnv.availableShardPaths(shardId));
+                        allocationIds.add(allocationId.getId());
+                    } else {
+                        allocationIds.add(null);
+                    }
+                }
+                // a shard whose state can't be read fails on its own, without failing the rest of the batch
+                final ShardId corruptShardId = new ShardId("index", "_na_", numShards);
+                final Path stateDir = nodeEnv.availableShardPaths(corruptShardId)[0].resolve(MetadataStateFormat.STATE_DIR_NAME);
+                Files.createDirectories(stateDir);
+                Files.write(stateDir.resolve("state-1" + MetadataStateFormat.STATE_FILE_EXTENSION),
+                    "not a state file".getBytes(StandardCharsets.UTF_8));
+                shards.add(new NodeShardsBatchRequest.Shard(corruptShardId, ""));
+
+                final PlainActionFuture<NodeShardsBatchResponse<NodeGatewayStartedShards>> future = new PlainActionFuture<>();
+                action.listBatch(transportService.getLocalNode(), new NodeShardsBatchRequest(shards), future);
+                final NodeShardsBatchResponse<NodeGatewayStartedShards> response = future.actionGet();
+
+                assertThat(response.size(), equalTo(numShards + 1));
+                for (int i = 0; i < numShards; i++) {
+                    assertThat(response.getFailure(i), nullValue());
+                    final NodeGatewayStartedShards shard = response.getResponse(i);
+                    assertThat(shard.getNode(), equalTo(transportService.getLocalNode()));
+                    assertThat(shard.allocationId(), equalTo(allocationIds.get(i)));
+                    if (allocationIds.get(i) != null) {
+                        // there is a shard state but no index to open
+                        assertThat(shard.storeException(), notNullValue());
+                    }
+                }
+                assertThat(response.getResponse(numShards), nullValue());
+                assertThat(response.getFailure(numShards).getMessage(), equalTo("failed to load started shards"));
+            }
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    private TransportNodesListGatewayStartedShards newAction(ThreadPool threadPool, ClusterService clusterService,
+                                                             TransportService transportService, NodeEnvironment nodeEnv) {
+        return new TransportNodesListGatewayStartedShards(Settings.EMPTY, threadPool, clusterService, transportService,
+            new ActionFilters(Collections.emptySet()), nodeEnv, mock(IndicesService.class), xContentRegistry());
+    }
+}
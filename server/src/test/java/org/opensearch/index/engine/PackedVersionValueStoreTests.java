@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class PackedVersionValueStoreTests extends OpenSearchTestCase {
+
+    private static BigArrays bigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    public void testPutGetRemove() {
+        try (PackedVersionValueStore store = new PackedVersionValueStore(bigArrays(), randomIntBetween(0, 100))) {
+            final Map<BytesRef, VersionValue> expected = new HashMap<>();
+            // removed uids keep their slot until the store is released
+            final Set<BytesRef> added = new HashSet<>();
+            final List<BytesRef> uids = new ArrayList<>();
+            final int numUids = randomIntBetween(1, 500);
+            for (int i = 0; i < numUids; i++) {
+                uids.add(new BytesRef(randomAlphaOfLengthBetween(1, 20) + i));
+            }
+            final int numOps = randomIntBetween(1, 5000);
+            for (int i = 0; i < numOps; i++) {
+                final BytesRef uid = randomFrom(uids);
+                if (randomInt(3) == 0) {
+                    final long bytesUsed = store.remove(uid);
+                    assertThat(bytesUsed, equalTo(0L));
+                    expected.remove(uid);
+                } else {
+                    final IndexVersionValue value = randomIndexVersionValue();
+                    final long bytesUsed = store.put(uid, value);
+                    if (added.add(uid)) {
+                        assertThat(bytesUsed, equalTo(PackedVersionValueStore.BYTES_PER_ENTRY + uid.length));
+                    } else {
+                        assertThat(bytesUsed, equalTo(0L));
+                    }
+                    expected.put(uid, value);
+                }
+                final BytesRef lookup = randomFrom(uids);
+                assertEquals(expected.get(lookup), store.get(lookup));
+            }
+            assertEquals(expected, store.asMap());
+            assertEquals(expected.size(), store.size());
+            assertEquals(expected.isEmpty(), store.isEmpty());
+        }
+    }
+
+    public void testReleasedStoreHasNoValues() {
+        final PackedVersionValueStore store = new PackedVersionValueStore(bigArrays(), 0);
+        final BytesRef uid = new BytesRef(randomAlphaOfLength(10));
+        assertThat(store.put(uid, randomIndexVersionValue()), greaterThan(0L));
+        assertNotNull(store.get(uid));
+        store.close();
+        assertNull(store.get(uid));
+        assertTrue(store.isEmpty());
+        assertTrue(store.asMap().isEmpty());
+        assertThat(store.put(uid, randomIndexVersionValue()), equalTo(0L));
+        assertThat(store.remove(uid), equalTo(0L));
+    }
+
+    private IndexVersionValue randomIndexVersionValue() {
+        final Translog.Location location = randomBoolean()
+            ? null
+            : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        return new IndexVersionValue(location, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+}
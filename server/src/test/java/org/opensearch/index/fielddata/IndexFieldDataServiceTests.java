@@ -35,18 +35,23 @@ package org.opensearch.index.fielddata;
 import org.apache.lucene.analysis.core.KeywordAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.SetOnce;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalMap;
 import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
 import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
 import org.opensearch.index.mapper.BooleanFieldMapper;
@@ -68,6 +73,7 @@ import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.mockito.Matchers;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -267,6 +273,115 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         ifdService.clear();
     }
 
+    public void testGlobalOrdinalsOfKeywordFieldsAreBuiltIncrementally() throws Exception {
+        final IndexService indexService = createIndex("test");
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        // copy the ifdService since we can set the listener only once.
+        final IndexFieldDataService ifdService = new IndexFieldDataService(indexService.getIndexSettings(),
+                indicesService.getIndicesFieldDataCache(), indicesService.getCircuitBreakerService(), indexService.mapperService());
+        final ShardFieldData shardFieldData = new ShardFieldData();
+        ifdService.setListener(shardFieldData);
+
+        final BuilderContext ctx = new BuilderContext(indexService.getIndexSettings().getSettings(), new ContentPath(1));
+        final MappedFieldType fieldType = new KeywordFieldMapper.Builder("field").build(ctx).fieldType();
+        final IndexOrdinalsFieldData ifd = ifdService.getForField(fieldType, "test", () -> {
+            throw new UnsupportedOperationException();
+        });
+        final ShardId shardId = new ShardId("test", "_na_", 1);
+        final IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(),
+            new IndexWriterConfig(new KeywordAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int i = 0; i < 2; i++) {
+            addKeywordDocs(writer, randomIntBetween(50, 100));
+        }
+        final CircuitBreaker breaker = indicesService.getCircuitBreakerService().getBreaker(CircuitBreaker.FIELDDATA);
+        final long initialBreakerUsed = breaker.getUsed();
+        final DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+        final GlobalOrdinalMap first = ifd.loadGlobal(reader).getGlobalOrdinalMap();
+        assertFalse(first.isIncremental());
+        assertTrue(first.isReusable());
+        assertEquals(initialBreakerUsed + first.ramBytesUsed(), breaker.getUsed());
+
+        addKeywordDocs(writer, randomIntBetween(1, 10));
+        final DirectoryReader newReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+        // the global ordinals of the previous reader are still reused after it was closed, and stay accounted for until then
+        reader.close();
+        assertEquals(initialBreakerUsed + first.ramBytesUsed(), breaker.getUsed());
+        final IndexOrdinalsFieldData global = ifd.loadGlobal(newReader);
+        assertEquals(initialBreakerUsed + global.ramBytesUsed(), breaker.getUsed());
+        assertTrue(global.getGlobalOrdinalMap().isIncremental());
+        assertEquals(global.getOrdinalMap().getValueCount(), global.getGlobalOrdinalMap().getValueCount());
+
+        FieldDataStats stats = shardFieldData.stats();
+        assertEquals(2, stats.getGlobalOrdinalsBuildCount());
+        assertEquals(1, stats.getGlobalOrdinalsIncrementalBuildCount());
+        assertEquals(global.ramBytesUsed(), stats.getGlobalOrdinalsMemorySizeInBytes());
+
+        newReader.close();
+        assertEquals(initialBreakerUsed + global.ramBytesUsed(), breaker.getUsed());
+        // closing the segments drops the map
+        writer.close();
+        assertEquals(initialBreakerUsed, breaker.getUsed());
+        stats = shardFieldData.stats();
+        assertEquals(0, stats.getGlobalOrdinalsMemorySizeInBytes());
+        ifdService.clear();
+    }
+
+    public void testClearingFieldOnlyDropsTheGlobalOrdinalMapsOfThatField() throws Exception {
+        final IndexService indexService = createIndex("test");
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexFieldDataService ifdService = new IndexFieldDataService(indexService.getIndexSettings(),
+                indicesService.getIndicesFieldDataCache(), indicesService.getCircuitBreakerService(), indexService.mapperService());
+        final BuilderContext ctx = new BuilderContext(indexService.getIndexSettings().getSettings(), new ContentPath(1));
+        final IndexOrdinalsFieldData ifd = ifdService.getForField(new KeywordFieldMapper.Builder("field").build(ctx).fieldType(),
+            "test", () -> {
+                throw new UnsupportedOperationException();
+            });
+        final IndexOrdinalsFieldData otherIfd = ifdService.getForField(new KeywordFieldMapper.Builder("other").build(ctx).fieldType(),
+            "test", () -> {
+                throw new UnsupportedOperationException();
+            });
+        final ShardId shardId = new ShardId("test", "_na_", 1);
+        final IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(),
+            new IndexWriterConfig(new KeywordAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int i = 0; i < 2; i++) {
+            addKeywordDocs(writer, randomIntBetween(50, 100), "field", "other");
+        }
+        final CircuitBreaker breaker = indicesService.getCircuitBreakerService().getBreaker(CircuitBreaker.FIELDDATA);
+        final long initialBreakerUsed = breaker.getUsed();
+        final DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+        final GlobalOrdinalMap first = ifd.loadGlobal(reader).getGlobalOrdinalMap();
+        final GlobalOrdinalMap otherFirst = otherIfd.loadGlobal(reader).getGlobalOrdinalMap();
+        reader.close();
+        assertEquals(initialBreakerUsed + first.ramBytesUsed() + otherFirst.ramBytesUsed(), breaker.getUsed());
+
+        ifdService.clearField("other");
+        assertEquals(initialBreakerUsed + first.ramBytesUsed(), breaker.getUsed());
+
+        addKeywordDocs(writer, randomIntBetween(1, 10), "field", "other");
+        final DirectoryReader newReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), shardId);
+        assertTrue(ifd.loadGlobal(newReader).getGlobalOrdinalMap().isIncremental());
+        assertFalse(otherIfd.loadGlobal(newReader).getGlobalOrdinalMap().isIncremental());
+        newReader.close();
+        writer.close();
+        ifdService.clear();
+        assertEquals(initialBreakerUsed, breaker.getUsed());
+    }
+
+    private void addKeywordDocs(IndexWriter writer, int numDocs) throws IOException {
+        addKeywordDocs(writer, numDocs, "field");
+    }
+
+    private void addKeywordDocs(IndexWriter writer, int numDocs, String... fields) throws IOException {
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            for (String field : fields) {
+                doc.add(new SortedSetDocValuesField(field, new BytesRef(randomAlphaOfLength(8))));
+            }
+            writer.addDocument(doc);
+        }
+        writer.flush();
+    }
+
     public void testSetCacheListenerTwice() {
         final IndexService indexService = createIndex("test");
         final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
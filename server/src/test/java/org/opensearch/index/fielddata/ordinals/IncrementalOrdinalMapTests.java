@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.ordinals;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class IncrementalOrdinalMapTests extends OpenSearchTestCase {
+
+    public void testMatchesFullBuild() throws IOException {
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            final int initialSegments = randomIntBetween(2, 5);
+            for (int i = 0; i < initialSegments; i++) {
+                addSegment(writer, randomIntBetween(50, 200));
+            }
+            DirectoryReader reader = DirectoryReader.open(writer);
+            GlobalOrdinalMap previous = GlobalOrdinalMap.wrap(
+                OrdinalMap.build(null, subs(reader), PackedInts.DEFAULT), segmentKeys(reader), segmentValueCounts(reader));
+
+            final int refreshes = randomIntBetween(1, 5);
+            for (int refresh = 0; refresh < refreshes; refresh++) {
+                final int addedSegments = randomIntBetween(0, 3);
+                for (int i = 0; i < addedSegments; i++) {
+                    addSegment(writer, randomIntBetween(1, 10));
+                }
+                final DirectoryReader newReader = DirectoryReader.open(writer);
+                reader.close();
+                reader = newReader;
+
+                final GlobalOrdinalMap incremental = IncrementalOrdinalMap.build(previous, subs(reader), segmentKeys(reader),
+                    segmentValueCounts(reader));
+                assertNotNull(incremental);
+                assertTrue(incremental.isIncremental());
+                assertTrue(incremental.isReusable());
+                assertMatches(reader, incremental, OrdinalMap.build(null, subs(reader), PackedInts.DEFAULT));
+                previous = incremental;
+            }
+            reader.close();
+        }
+    }
+
+    public void testNotReusedWhenSegmentsWereRemoved() throws IOException {
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            addSegment(writer, randomIntBetween(50, 100));
+            addSegment(writer, randomIntBetween(50, 100));
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                addSegment(writer, randomIntBetween(1, 10));
+                try (DirectoryReader newReader = DirectoryReader.open(writer)) {
+                    final GlobalOrdinalMap previous = GlobalOrdinalMap.wrap(OrdinalMap.build(null, subs(newReader), PackedInts.DEFAULT),
+                        segmentKeys(newReader), segmentValueCounts(newReader));
+                    // the older reader lacks one of the segments that the previous map was built for
+                    assertNull(IncrementalOrdinalMap.build(previous, subs(reader), segmentKeys(reader), segmentValueCounts(reader)));
+                }
+            }
+        }
+    }
+
+    public void testNotReusedWithoutSegmentKeys() throws IOException {
+        try (Directory dir = newDirectory();
+             IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            addSegment(writer, randomIntBetween(50, 100));
+            addSegment(writer, randomIntBetween(50, 100));
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                final GlobalOrdinalMap previous = GlobalOrdinalMap.wrap(OrdinalMap.build(null, subs(reader), PackedInts.DEFAULT));
+                assertFalse(previous.isReusable());
+                assertNull(IncrementalOrdinalMap.build(previous, subs(reader), segmentKeys(reader), segmentValueCounts(reader)));
+            }
+        }
+    }
+
+    private void addSegment(IndexWriter writer, int numDocs) throws IOException {
+        for (int i = 0; i < numDocs; i++) {
+            final Document doc = new Document();
+            final int numValues = randomIntBetween(0, 3);
+            for (int j = 0; j < numValues; j++) {
+                doc.add(new SortedSetDocValuesField("field", new BytesRef(String.format(Locale.ROOT, "%05d", randomIntBetween(0, 2000)))));
+            }
+            writer.addDocument(doc);
+        }
+        writer.flush();
+    }
+
+    private static SortedSetDocValues[] subs(IndexReader reader) throws IOException {
+        final SortedSetDocValues[] subs = new SortedSetDocValues[reader.leaves().size()];
+        for (int i = 0; i < subs.length; i++) {
+            subs[i] = DocValues.getSortedSet(reader.leaves().get(i).reader(), "field");
+        }
+        return subs;
+    }
+
+    private static IndexReader.CacheKey[] segmentKeys(IndexReader reader) {
+        final IndexReader.CacheKey[] keys = new IndexReader.CacheKey[reader.leaves().size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = reader.leaves().get(i).reader().getCoreCacheHelper().getKey();
+        }
+        return keys;
+    }
+
+    private static long[] segmentValueCounts(IndexReader reader) throws IOException {
+        final SortedSetDocValues[] subs = subs(reader);
+        final long[] valueCounts = new long[subs.length];
+        for (int i = 0; i < subs.length; i++) {
+            valueCounts[i] = subs[i].getValueCount();
+        }
+        return valueCounts;
+    }
+
+    private static void assertMatches(IndexReader reader, GlobalOrdinalMap actual, OrdinalMap expected) throws IOException {
+        assertThat(actual.getValueCount(), equalTo(expected.getValueCount()));
+        final SortedSetDocValues[] subs = subs(reader);
+        final TermsEnum[] lookups = new TermsEnum[subs.length];
+        for (int i = 0; i < subs.length; i++) {
+            lookups[i] = subs[i].termsEnum();
+            for (long ord = 0; ord < subs[i].getValueCount(); ord++) {
+                assertThat(actual.getGlobalOrds(i).get(ord), equalTo(expected.getGlobalOrds(i).get(ord)));
+            }
+        }
+        for (long globalOrd = 0; globalOrd < expected.getValueCount(); globalOrd++) {
+            final TermsEnum expectedLookup = lookups[expected.getFirstSegmentNumber(globalOrd)];
+            expectedLookup.seekExact(expected.getFirstSegmentOrd(globalOrd));
+            final BytesRef expectedTerm = BytesRef.deepCopyOf(expectedLookup.term());
+            final TermsEnum actualLookup = lookups[actual.getFirstSegmentNumber(globalOrd)];
+            actualLookup.seekExact(actual.getFirstSegmentOrd(globalOrd));
+            assertThat(actualLookup.term(), equalTo(expectedTerm));
+        }
+    }
+}
@@ -1446,4 +1446,53 @@ public class DocumentParserTests extends MapperServiceTestCase {
         ParsedDocument doc = mapper.parse(source(b -> b.field("foo", "1234")));
         assertNull(doc.dynamicMappingsUpdate()); // no update since we reused the existing type
     }
+
+    public void testParserCacheSharedAcrossDocuments() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("message").field("type", "text").endObject();
+            b.startObject("host");
+            {
+                b.startObject("properties");
+                b.startObject("name").field("type", "keyword").endObject();
+                b.startObject("ip").field("type", "ip").endObject();
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("tags").field("type", "nested").endObject();
+            b.startObject("status").field("type", "long").endObject();
+        }));
+
+        final DocumentParserCache parserCache = new DocumentParserCache();
+        for (int i = 0; i < 10; i++) {
+            final int docId = i;
+            final BytesReference source = BytesReference.bytes(XContentFactory.jsonBuilder().startObject()
+                .field("message", "document " + docId)
+                .field(randomBoolean() ? "host.name" : "host.ip", randomBoolean() ? "127.0.0.1" : "::1")
+                .startObject("host").field("name", "host-" + docId).endObject()
+                .startArray("tags").startObject().field("tag", "t" + docId).endObject().endArray()
+                .field("status", docId)
+                .field(randomFrom("unmapped", "unmapped.sub", "other.unmapped"), docId)
+                .endObject());
+            final ParsedDocument expected = mapper.parse(new SourceToParse("test", "_doc", "1", source, XContentType.JSON));
+            final ParsedDocument actual =
+                mapper.parse(new SourceToParse("test", "_doc", "1", source, XContentType.JSON, null, parserCache));
+            assertEquals(expected.docs().size(), actual.docs().size());
+            for (int d = 0; d < expected.docs().size(); d++) {
+                assertEquals(expected.docs().get(d).getFields().toString(), actual.docs().get(d).getFields().toString());
+            }
+            assertEquals(String.valueOf(expected.dynamicMappingsUpdate()), String.valueOf(actual.dynamicMappingsUpdate()));
+        }
+
+        // the mapper lookups are not reused with another mapping
+        DocumentMapper strictMapper = createDocumentMapper(topMapping(b -> {
+            b.field("dynamic", "strict");
+            b.startObject("properties").startObject("message").field("type", "keyword").endObject().endObject();
+        }));
+        StrictDynamicMappingException e = expectThrows(StrictDynamicMappingException.class, () -> strictMapper.parse(
+            new SourceToParse("test", "_doc", "1", new BytesArray("{\"status\": 1}"), XContentType.JSON, null, parserCache)));
+        assertThat(e.getMessage(), containsString("[status]"));
+        ParsedDocument doc = strictMapper.parse(
+            new SourceToParse("test", "_doc", "1", new BytesArray("{\"message\": \"m\"}"), XContentType.JSON, null, parserCache));
+        assertEquals(new BytesRef("m"), doc.rootDoc().getField("message").binaryValue());
+    }
 }
@@ -63,6 +63,7 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ReleasableLock;
@@ -128,6 +129,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -154,6 +156,7 @@ import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.in;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -484,6 +487,9 @@ public class TranslogTests extends OpenSearchTestCase {
             assertThat(stats.getUncommittedOperations(), equalTo(4));
             assertThat(stats.getUncommittedSizeInBytes(), equalTo(300L));
             assertThat(stats.getEarliestLastModifiedAge(), greaterThan(0L));
+            // rolling the generation syncs the operations of the previous generation
+            assertThat(stats.getSyncCount(), greaterThan(0L));
+            assertThat(stats.getSyncedOperations(), equalTo(4L));
         }
 
         {
@@ -493,6 +499,8 @@ public class TranslogTests extends OpenSearchTestCase {
             final TranslogStats copy = new TranslogStats(out.bytes().streamInput());
             assertThat(copy.estimatedNumberOfOperations(), equalTo(4));
             assertThat(copy.getTranslogSizeInBytes(), equalTo(355L));
+            assertThat(copy.getSyncCount(), equalTo(stats.getSyncCount()));
+            assertThat(copy.getSyncedOperations(), equalTo(stats.getSyncedOperations()));
 
             try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
                 builder.startObject();
@@ -500,7 +508,10 @@ public class TranslogTests extends OpenSearchTestCase {
                 builder.endObject();
                 assertThat(Strings.toString(builder), equalTo("{\"translog\":{\"operations\":4,\"size_in_bytes\":" + 355
                     + ",\"uncommitted_operations\":4,\"uncommitted_size_in_bytes\":" + 300
-                    + ",\"earliest_last_modified_age\":" + stats.getEarliestLastModifiedAge() + "}}"));
+                    + ",\"earliest_last_modified_age\":" + stats.getEarliestLastModifiedAge()
+                    + ",\"sync_count\":" + stats.getSyncCount() + ",\"synced_operations\":" + stats.getSyncedOperations()
+                    + ",\"sync_time_in_millis\":" + stats.getSyncTimeInMillis()
+                    + ",\"group_commit_wait_time_in_millis\":" + stats.getGroupCommitWaitTimeInMillis() + "}}"));
             }
         }
         translog.getDeletionPolicy().setLocalCheckpointOfSafeCommit(randomLongBetween(3, Long.MAX_VALUE));
@@ -555,7 +566,8 @@ public class TranslogTests extends OpenSearchTestCase {
         long earliestLastModifiedAge = Long.MAX_VALUE;
         for (int i = 0; i < n; i++) {
             final TranslogStats stats = new TranslogStats(randomIntBetween(1, 4096), randomIntBetween(1, 1 << 20),
-                randomIntBetween(1, 1 << 20), randomIntBetween(1, 4096), randomIntBetween(1, 1 << 20));
+                randomIntBetween(1, 1 << 20), randomIntBetween(1, 4096), randomIntBetween(1, 1 << 20), randomIntBetween(0, 4096),
+                randomIntBetween(0, 1 << 20), randomIntBetween(0, 1 << 20), randomIntBetween(0, 1 << 20));
             statsList.add(stats);
             total.add(stats);
             if (earliestLastModifiedAge > stats.getEarliestLastModifiedAge()) {
@@ -578,6 +590,18 @@ public class TranslogTests extends OpenSearchTestCase {
         assertThat(
             total.getEarliestLastModifiedAge(),
             equalTo(earliestLastModifiedAge));
+        assertThat(
+            total.getSyncCount(),
+            equalTo(statsList.stream().mapToLong(TranslogStats::getSyncCount).sum()));
+        assertThat(
+            total.getSyncedOperations(),
+            equalTo(statsList.stream().mapToLong(TranslogStats::getSyncedOperations).sum()));
+        assertThat(
+            total.getSyncTimeInMillis(),
+            equalTo(statsList.stream().mapToLong(TranslogStats::getSyncTimeInMillis).sum()));
+        assertThat(
+            total.getGroupCommitWaitTimeInMillis(),
+            equalTo(statsList.stream().mapToLong(TranslogStats::getGroupCommitWaitTimeInMillis).sum()));
     }
 
     public void testNegativeNumberOfOperations() {
@@ -605,6 +629,135 @@ public class TranslogTests extends OpenSearchTestCase {
         assertThat(e, hasToString(containsString("earliestLastModifiedAge must be >= 0")));
     }
 
+    public void testNegativeSyncStats() {
+        IllegalArgumentException e =
+            expectThrows(IllegalArgumentException.class, () -> new TranslogStats(1, 1, 1, 1, 1, -1, 1, 1, 1));
+        assertThat(e, hasToString(containsString("syncCount must be >= 0")));
+        e = expectThrows(IllegalArgumentException.class, () -> new TranslogStats(1, 1, 1, 1, 1, 1, -1, 1, 1));
+        assertThat(e, hasToString(containsString("syncedOperations must be >= 0")));
+        e = expectThrows(IllegalArgumentException.class, () -> new TranslogStats(1, 1, 1, 1, 1, 1, 1, -1, 1));
+        assertThat(e, hasToString(containsString("syncTimeInMillis must be >= 0")));
+        e = expectThrows(IllegalArgumentException.class, () -> new TranslogStats(1, 1, 1, 1, 1, 1, 1, 1, -1));
+        assertThat(e, hasToString(containsString("groupCommitWaitTimeInMillis must be >= 0")));
+    }
+
+    public void testGroupCommitWindow() {
+        final AtomicReference<TimeValue> maxWait = new AtomicReference<>(TimeValue.ZERO);
+        final TranslogGroupCommit groupCommit = new TranslogGroupCommit(maxWait::get);
+        assertFalse(groupCommit.isEnabled());
+        assertThat(groupCommit.windowNanos(randomIntBetween(0, 100)), equalTo(0L));
+
+        maxWait.set(TimeValue.timeValueMillis(randomIntBetween(1, 50)));
+        assertTrue(groupCommit.isEnabled());
+        // a single pending operation does not wait unless previous fsyncs batched operations
+        assertThat(groupCommit.windowNanos(1), equalTo(0L));
+        final long fsyncNanos = TimeUnit.MICROSECONDS.toNanos(randomIntBetween(100, 500));
+        for (int i = 0; i < 20; i++) {
+            groupCommit.onSync(10, fsyncNanos);
+        }
+        final long window = groupCommit.windowNanos(1);
+        assertThat(window, greaterThan(0L));
+        assertThat(window, lessThanOrEqualTo(Math.min(maxWait.get().nanos(), fsyncNanos)));
+        assertThat(groupCommit.getSyncCount(), equalTo(20L));
+        assertThat(groupCommit.getSyncedOperations(), equalTo(200L));
+        assertThat(groupCommit.getSyncTimeInNanos(), equalTo(20 * fsyncNanos));
+
+        // the wait stops early when no operations are written concurrently
+        groupCommit.awaitConcurrentOperations(() -> 5);
+        assertThat(groupCommit.getWaitTimeInNanos(), greaterThan(0L));
+    }
+
+    public void testGroupCommitSyncsConcurrentOperations() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_MAX_WAIT_SETTING.getKey(), "5ms")
+            .build();
+        final TranslogConfig config = getTranslogConfig(createTempDir(), settings);
+        try (Translog groupCommitTranslog = createTranslog(config)) {
+            final int numThreads = randomIntBetween(2, 8);
+            final int numOpsPerThread = randomIntBetween(10, 100);
+            final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+            final Thread[] threads = new Thread[numThreads];
+            for (int t = 0; t < numThreads; t++) {
+                final int threadId = t;
+                threads[t] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        for (int i = 0; i < numOpsPerThread; i++) {
+                            final long seqNo = threadId * numOpsPerThread + i;
+                            final Translog.Location location = groupCommitTranslog.add(
+                                new Translog.Index("test", Long.toString(seqNo), seqNo, primaryTerm.get(), new byte[]{1}));
+                            groupCommitTranslog.ensureSynced(location);
+                            assertFalse(groupCommitTranslog.getCurrent().syncNeededUpTo(location.translogLocation + location.size));
+                        }
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            final TranslogStats stats = groupCommitTranslog.stats();
+            assertThat(stats.getSyncedOperations(), equalTo((long) numThreads * numOpsPerThread));
+            assertThat(stats.getSyncCount(), lessThanOrEqualTo((long) numThreads * numOpsPerThread));
+        }
+    }
+
+    public void testMmapReaders() throws IOException {
+        final int opsPerGeneration = randomIntBetween(1, 20);
+        final int numGenerations = randomIntBetween(2, 6);
+        // randomly cap the mapped bytes so that only some of the generations are mapped
+        final boolean capped = randomBoolean();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_READERS_SETTING.getKey(), true)
+            .put(IndexSettings.INDEX_TRANSLOG_MMAP_READERS_MAX_BYTES_SETTING.getKey(), capped ? "1kb" : "1gb")
+            .build();
+        final TranslogConfig config = getTranslogConfig(createTempDir(), settings);
+        try (Translog mmapTranslog = createTranslog(config)) {
+            final List<Translog.Operation> ops = new ArrayList<>();
+            final List<Translog.Location> locations = new ArrayList<>();
+            long seqNo = 0;
+            for (int gen = 0; gen < numGenerations; gen++) {
+                for (int i = 0; i < opsPerGeneration; i++) {
+                    final byte[] source = randomAlphaOfLength(64).getBytes(StandardCharsets.UTF_8);
+                    locations.add(addToTranslogAndList(mmapTranslog, ops,
+                        new Translog.Index("test", Long.toString(seqNo), seqNo, primaryTerm.get(), source)));
+                    seqNo++;
+                }
+                mmapTranslog.rollGeneration();
+            }
+            try (Translog.Snapshot snapshot = mmapTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+            final List<TranslogReader> readers = new ArrayList<>(mmapTranslog.getReaders());
+            long mappedBytes = 0;
+            for (TranslogReader reader : readers) {
+                if (reader.mappedOperations() != null) {
+                    mappedBytes += reader.sizeInBytes();
+                } else {
+                    assertTrue("only a capped translog may read generations through their channel", capped);
+                }
+            }
+            assertThat(mappedBytes, lessThanOrEqualTo(capped ? 1024L : readers.stream().mapToLong(TranslogReader::sizeInBytes).sum()));
+            for (int i = 0; i < ops.size(); i++) {
+                assertEquals(ops.get(i), mmapTranslog.readOperation(locations.get(i)));
+            }
+
+            // trimming the generations releases their mappings
+            mmapTranslog.getDeletionPolicy().setLocalCheckpointOfSafeCommit(seqNo - 1);
+            mmapTranslog.trimUnreferencedReaders();
+            assertThat(mmapTranslog.getReaders().size(), lessThan(readers.size()));
+            for (TranslogReader reader : readers) {
+                if (mmapTranslog.getReaders().contains(reader) == false) {
+                    assertNull(reader.mappedOperations());
+                }
+            }
+        }
+    }
+
     public void testBasicSnapshot() throws IOException {
         ArrayList<Translog.Operation> ops = new ArrayList<>();
         try (Translog.Snapshot snapshot = translog.newSnapshot()) {
@@ -39,6 +39,8 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TermQuery;
@@ -63,6 +65,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
@@ -339,6 +342,53 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
     }
 
+    public void testCachePerSegment() throws Exception {
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+        AtomicInteger loads = new AtomicInteger();
+        CheckedSupplier<BytesReference, IOException> loader = () -> {
+            loads.incrementAndGet();
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.writeString("segment");
+                return out.bytes();
+            }
+        };
+        assertEquals(1, reader.leaves().size());
+        cache.getOrCompute(entity, loader, reader.leaves().get(0).reader().getCoreCacheHelper(), termBytes);
+        assertEquals(1, loads.get());
+
+        // a refresh that adds a segment only needs to compute the results of the new segment
+        writer.addDocument(newDoc(1, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        assertEquals(2, secondReader.leaves().size());
+        for (LeafReaderContext leaf : secondReader.leaves()) {
+            BytesReference value = cache.getOrCompute(entity, loader, leaf.reader().getCoreCacheHelper(), termBytes);
+            assertEquals("segment", value.streamInput().readString());
+        }
+        assertEquals(2, loads.get());
+        assertEquals(1, requestCacheStats.stats().getHitCount());
+        assertEquals(2, requestCacheStats.stats().getMissCount());
+        assertEquals(2, cache.count());
+        assertEquals(2, cache.numRegisteredCloseListeners());
+
+        // the entries are cleaned up once the segments are closed
+        IOUtils.close(reader, secondReader, writer);
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, requestCacheStats.stats().getMemorySize().bytesAsInt());
+        IOUtils.close(dir, cache);
+        assertEquals(0, cache.numRegisteredCloseListeners());
+    }
+
     public Iterable<Field> newDoc(int id, String value) {
         return Arrays.asList(newField("id", Integer.toString(id), StringField.TYPE_STORED), newField("value", value,
             StringField.TYPE_STORED));
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class RecoveryFileChunkRequestTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final Version version = VersionUtils.randomCompatibleVersion(random(), Version.CURRENT);
+        final RecoveryFileChunkRequest request = randomRequest();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            request.writeTo(out);
+            assertRoundTrip(request, out.bytes(), version);
+        }
+    }
+
+    public void testThinSerialization() throws IOException {
+        final Version version = VersionUtils.randomCompatibleVersion(random(), Version.CURRENT);
+        final RecoveryFileChunkRequest request = randomRequest();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            final BytesReference trailingBytes = request.writeThin(out);
+            if (version.onOrAfter(Version.V_7_10_3)) {
+                // the content is not copied into the message
+                assertThat(trailingBytes, sameInstance(request.content()));
+            } else {
+                assertThat(trailingBytes.length(), equalTo(0));
+            }
+            assertRoundTrip(request, CompositeBytesReference.of(out.bytes(), trailingBytes), version);
+        }
+    }
+
+    private static RecoveryFileChunkRequest randomRequest() {
+        final StoreFileMetadata metadata = new StoreFileMetadata(randomAlphaOfLength(10), randomNonNegativeLong(),
+            randomAlphaOfLength(8), org.apache.lucene.util.Version.LATEST);
+        return new RecoveryFileChunkRequest(randomNonNegativeLong(), randomNonNegativeLong(), new ShardId("test", "_na_", 0),
+            metadata, randomNonNegativeLong(), new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 1024))), randomBoolean(),
+            randomIntBetween(0, 1000), randomNonNegativeLong());
+    }
+
+    private static void assertRoundTrip(RecoveryFileChunkRequest request, BytesReference bytes, Version version) throws IOException {
+        try (StreamInput in = bytes.streamInput()) {
+            in.setVersion(version);
+            final RecoveryFileChunkRequest copy = new RecoveryFileChunkRequest(in);
+            assertThat(in.available(), equalTo(0));
+            assertThat(copy.recoveryId(), equalTo(request.recoveryId()));
+            if (version.onOrAfter(Version.V_7_9_0)) {
+                assertThat(copy.requestSeqNo(), equalTo(request.requestSeqNo()));
+            }
+            assertThat(copy.shardId(), equalTo(request.shardId()));
+            assertThat(copy.name(), equalTo(request.name()));
+            assertThat(copy.position(), equalTo(request.position()));
+            assertThat(copy.length(), equalTo(request.length()));
+            assertThat(copy.metadata().checksum(), equalTo(request.metadata().checksum()));
+            assertThat(copy.metadata().writtenBy(), equalTo(request.metadata().writtenBy()));
+            assertThat(copy.content(), equalTo(request.content()));
+            assertThat(copy.lastChunk(), equalTo(request.lastChunk()));
+            assertThat(copy.totalTranslogOps(), equalTo(request.totalTranslogOps()));
+            assertThat(copy.sourceThrottleTimeInNanos(), equalTo(request.sourceThrottleTimeInNanos()));
+        }
+    }
+}
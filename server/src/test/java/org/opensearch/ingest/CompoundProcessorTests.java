@@ -36,9 +36,11 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -377,6 +379,83 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testBatchExecute() {
+        final int numDocs = randomIntBetween(2, 30);
+        final boolean withOnFailure = randomBoolean();
+        TestProcessor processor1 = new TestProcessor(null, "test-processor", null, ingestDocument -> {
+            int value = ingestDocument.getFieldValue("value", Integer.class);
+            if (value % 3 == 0) {
+                return null;
+            }
+            if (value % 3 == 1) {
+                throw new RuntimeException("error");
+            }
+            return ingestDocument;
+        });
+        List<Integer> batchSizes = new ArrayList<>();
+        TestProcessor processor2 = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("field", "value")) {
+            @Override
+            public void batchExecute(List<IngestDocument> ingestDocuments, List<BiConsumer<IngestDocument, Exception>> handlers) {
+                batchSizes.add(ingestDocuments.size());
+                super.batchExecute(ingestDocuments, handlers);
+            }
+        };
+        TestProcessor onFailureProcessor = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("failed", true));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(false, Arrays.asList(processor1, processor2),
+            withOnFailure ? singletonList(onFailureProcessor) : Collections.emptyList(), relativeTimeProvider);
+
+        List<IngestDocument> ingestDocuments = new ArrayList<>(numDocs);
+        List<BiConsumer<IngestDocument, Exception>> handlers = new ArrayList<>(numDocs);
+        IngestDocument[] results = new IngestDocument[numDocs];
+        Exception[] failures = new Exception[numDocs];
+        int[] calls = new int[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            final int slot = i;
+            Map<String, Object> source = new HashMap<>();
+            source.put("value", i);
+            ingestDocuments.add(new IngestDocument(source, new HashMap<>()));
+            handlers.add((result, e) -> {
+                calls[slot]++;
+                results[slot] = result;
+                failures[slot] = e;
+            });
+        }
+        compoundProcessor.batchExecute(ingestDocuments, handlers);
+
+        int expectedFailed = 0;
+        int expectedSucceeded = 0;
+        for (int i = 0; i < numDocs; i++) {
+            assertThat(calls[i], equalTo(1));
+            if (i % 3 == 0) {
+                assertThat(results[i], nullValue());
+                assertThat(failures[i], nullValue());
+            } else if (i % 3 == 1) {
+                expectedFailed++;
+                if (withOnFailure) {
+                    assertThat(results[i], sameInstance(ingestDocuments.get(i)));
+                    assertThat(results[i].getFieldValue("failed", Boolean.class), is(true));
+                    assertThat(results[i].hasField("field"), is(false));
+                } else {
+                    assertThat(results[i], nullValue());
+                    assertThat(((OpenSearchException) failures[i]).getRootCause().getMessage(), equalTo("error"));
+                }
+            } else {
+                expectedSucceeded++;
+                assertThat(failures[i], nullValue());
+                assertThat(results[i].getFieldValue("field", String.class), equalTo("value"));
+            }
+        }
+        assertThat(processor1.getInvokedCounter(), equalTo(numDocs));
+        assertThat(processor2.getInvokedCounter(), equalTo(expectedSucceeded));
+        if (expectedSucceeded > 1) {
+            assertThat(batchSizes, equalTo(singletonList(expectedSucceeded)));
+        }
+        assertStats(0, compoundProcessor, 0, numDocs, expectedFailed, 0);
+        assertStats(1, compoundProcessor, 0, expectedSucceeded, 0, 0);
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count,  long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
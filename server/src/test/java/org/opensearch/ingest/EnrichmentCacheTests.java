@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.indices.breaker.BreakerSettings;
+import org.opensearch.indices.breaker.CircuitBreakerService;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class EnrichmentCacheTests extends OpenSearchTestCase {
+
+    private static EnrichmentCache newCache(long sizeInBytes) {
+        return new EnrichmentCache(new ByteSizeValue(sizeInBytes), new NoopCircuitBreaker("test"));
+    }
+
+    public void testHitsAndMisses() {
+        EnrichmentCache cache = newCache(1024);
+        EnrichmentCache.Namespace<String, String> namespace = cache.registerNamespace("test", (key, value) -> 10);
+        assertThat(namespace.get("a"), nullValue());
+        namespace.put("a", "b");
+        assertThat(namespace.get("a"), equalTo("b"));
+        AtomicInteger lookups = new AtomicInteger();
+        assertThat(namespace.computeIfAbsent("c", key -> key + lookups.incrementAndGet()), equalTo("c1"));
+        assertThat(namespace.computeIfAbsent("c", key -> key + lookups.incrementAndGet()), equalTo("c1"));
+        assertThat(lookups.get(), equalTo(1));
+
+        assertThat(cache.stats(), equalTo(Collections.singletonList(new IngestStats.CacheStats("test", 2, 20, 2, 2, 0))));
+    }
+
+    public void testNamespacesAreSeparate() {
+        EnrichmentCache cache = newCache(1024);
+        EnrichmentCache.Namespace<String, String> first = cache.registerNamespace("first", (key, value) -> 10);
+        EnrichmentCache.Namespace<String, String> second = cache.registerNamespace("second", (key, value) -> 20);
+        first.put("a", "first");
+        second.put("a", "second");
+        assertThat(first.get("a"), equalTo("first"));
+        assertThat(second.get("a"), equalTo("second"));
+        assertThat(cache.sizeInBytes(), equalTo(30L));
+
+        List<IngestStats.CacheStats> stats = cache.stats();
+        assertThat(stats.size(), equalTo(2));
+        assertThat(stats.get(0), equalTo(new IngestStats.CacheStats("first", 1, 10, 1, 0, 0)));
+        assertThat(stats.get(1), equalTo(new IngestStats.CacheStats("second", 1, 20, 1, 0, 0)));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> cache.registerNamespace("first", (key, value) -> 1));
+        assertThat(e.getMessage(), equalTo("enrichment cache namespace [first] is already registered"));
+    }
+
+    public void testEvictsLeastRecentlyUsedEntriesOfAllNamespaces() {
+        EnrichmentCache cache = newCache(100);
+        EnrichmentCache.Namespace<String, String> first = cache.registerNamespace("first", (key, value) -> 40);
+        EnrichmentCache.Namespace<String, String> second = cache.registerNamespace("second", (key, value) -> 40);
+        first.put("a", "a");
+        second.put("b", "b");
+        assertThat(first.get("a"), equalTo("a"));
+        // evicts b, which was used the longest time ago
+        first.put("c", "c");
+        assertThat(second.get("b"), nullValue());
+        assertThat(first.get("a"), equalTo("a"));
+        assertThat(first.get("c"), equalTo("c"));
+        assertThat(cache.sizeInBytes(), equalTo(80L));
+
+        List<IngestStats.CacheStats> stats = cache.stats();
+        assertThat(stats.get(0), equalTo(new IngestStats.CacheStats("first", 2, 80, 3, 0, 0)));
+        assertThat(stats.get(1), equalTo(new IngestStats.CacheStats("second", 0, 0, 0, 1, 1)));
+    }
+
+    public void testReplacingAValue() {
+        EnrichmentCache cache = newCache(1024);
+        EnrichmentCache.Namespace<String, String> namespace = cache.registerNamespace("test", (key, value) -> value.length());
+        namespace.put("a", "short");
+        namespace.put("a", "much longer");
+        assertThat(namespace.get("a"), equalTo("much longer"));
+        assertThat(cache.stats().get(0), equalTo(new IngestStats.CacheStats("test", 1, 11, 1, 0, 0)));
+    }
+
+    public void testValuesLargerThanTheCacheAreNotCached() {
+        EnrichmentCache cache = newCache(100);
+        EnrichmentCache.Namespace<String, String> namespace = cache.registerNamespace("test", (key, value) -> value.length());
+        namespace.put("a", "a");
+        namespace.put("b", randomAlphaOfLength(101));
+        assertThat(namespace.get("a"), equalTo("a"));
+        assertThat(namespace.get("b"), nullValue());
+    }
+
+    public void testDisabled() {
+        EnrichmentCache cache = newCache(0);
+        EnrichmentCache.Namespace<String, String> namespace = cache.registerNamespace("test", (key, value) -> 1);
+        namespace.put("a", "a");
+        assertThat(namespace.get("a"), nullValue());
+        assertThat(cache.stats().get(0), equalTo(new IngestStats.CacheStats("test", 0, 0, 0, 1, 0)));
+    }
+
+    public void testCircuitBreakerAccounting() {
+        CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.<BreakerSettings>emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        CircuitBreaker breaker = breakerService.getBreaker(CircuitBreaker.ACCOUNTING);
+        EnrichmentCache cache = new EnrichmentCache(new ByteSizeValue(1, ByteSizeUnit.MB), breaker);
+        EnrichmentCache.Namespace<String, String> namespace = cache.registerNamespace("test", (key, value) -> 100);
+        namespace.put("a", "a");
+        namespace.put("b", "b");
+        assertThat(breaker.getUsed(), equalTo(200L));
+        namespace.put("a", "c");
+        assertThat(breaker.getUsed(), equalTo(200L));
+
+        // values are not cached when they would trip the breaker
+        breaker.setLimitAndOverhead(250, 1.0);
+        namespace.put("d", "d");
+        assertThat(namespace.get("d"), nullValue());
+        assertThat(breaker.getUsed(), equalTo(200L));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class IngestMetricTests extends OpenSearchTestCase {
+
+    public void testBatchTimeIsSplitBetweenDocuments() {
+        final IngestMetric metric = new IngestMetric();
+        final AtomicLong lastCompletionInNanos = new AtomicLong(0L);
+        for (int i = 0; i < 3; i++) {
+            metric.preIngest();
+        }
+        metric.postIngest(lastCompletionInNanos, TimeUnit.MILLISECONDS.toNanos(2));
+        metric.postIngest(lastCompletionInNanos, TimeUnit.MILLISECONDS.toNanos(5));
+        // a document that completes concurrently with an earlier clock reading doesn't count the time of the others again
+        metric.postIngest(lastCompletionInNanos, TimeUnit.MILLISECONDS.toNanos(4));
+
+        final IngestStats.Stats stats = metric.createStats();
+        assertThat(stats.getIngestCount(), equalTo(3L));
+        assertThat(stats.getIngestCurrent(), equalTo(0L));
+        assertThat(stats.getIngestTimeInMillis(), equalTo(5L));
+    }
+
+    public void testActiveTime() {
+        final IngestMetric metric = new IngestMetric();
+        metric.activityStarted(TimeUnit.MILLISECONDS.toNanos(10));
+        metric.activityStarted(TimeUnit.MILLISECONDS.toNanos(12));
+        metric.activityEnded(TimeUnit.MILLISECONDS.toNanos(15));
+        assertThat("the current period of activity isn't counted", metric.activeTimeInMillis(), equalTo(0L));
+        metric.activityEnded(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(metric.activeTimeInMillis(), equalTo(10L));
+
+        metric.activityStarted(TimeUnit.MILLISECONDS.toNanos(30));
+        metric.activityEnded(TimeUnit.MILLISECONDS.toNanos(33));
+        assertThat(metric.activeTimeInMillis(), equalTo(13L));
+    }
+
+    public void testConcurrentActivity() throws Exception {
+        final IngestMetric metric = new IngestMetric();
+        final int numThreads = randomIntBetween(2, 8);
+        final int numActions = randomIntBetween(100, 1000);
+        final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < numActions; i++) {
+                    // every action lasts one millisecond from the same start, so that periods of activity never add up to more
+                    metric.activityStarted(0L);
+                    metric.activityEnded(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        final long activeTimeInMillis = metric.activeTimeInMillis();
+        assertTrue("active time [" + activeTimeInMillis + "]", activeTimeInMillis >= 1 && activeTimeInMillis <= numThreads * numActions);
+
+        // activity is balanced, so a new period starts from scratch
+        final long before = metric.activeTimeInMillis();
+        metric.activityStarted(0L);
+        metric.activityEnded(TimeUnit.MILLISECONDS.toNanos(7));
+        assertThat(metric.activeTimeInMillis(), equalTo(before + 7));
+    }
+}
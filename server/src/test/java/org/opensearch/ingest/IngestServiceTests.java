@@ -61,12 +61,14 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.cbor.CborXContent;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.VersionType;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.script.MockScriptEngine;
 import org.opensearch.script.Script;
@@ -87,9 +89,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -102,6 +106,7 @@ import java.util.stream.Collectors;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -142,7 +147,7 @@ public class IngestServiceTests extends OpenSearchTestCase {
     public void testIngestPlugin() {
         Client client = mock(Client.class);
         IngestService ingestService = new IngestService(mock(ClusterService.class), threadPool, null, null,
-            null, Collections.singletonList(DUMMY_PLUGIN), client);
+            null, Collections.singletonList(DUMMY_PLUGIN), client, new NoneCircuitBreakerService());
         Map<String, Processor.Factory> factories = ingestService.getProcessorFactories();
         assertTrue(factories.containsKey("foo"));
         assertEquals(1, factories.size());
@@ -152,14 +157,15 @@ public class IngestServiceTests extends OpenSearchTestCase {
         Client client = mock(Client.class);
         IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () ->
             new IngestService(mock(ClusterService.class), threadPool, null, null,
-            null, Arrays.asList(DUMMY_PLUGIN, DUMMY_PLUGIN), client));
+            null, Arrays.asList(DUMMY_PLUGIN, DUMMY_PLUGIN), client,
+            new NoneCircuitBreakerService()));
         assertTrue(e.getMessage(), e.getMessage().contains("already registered"));
     }
 
     public void testExecuteIndexPipelineDoesNotExist() {
         Client client = mock(Client.class);
         IngestService ingestService = new IngestService(mock(ClusterService.class), threadPool, null, null,
-            null, Collections.singletonList(DUMMY_PLUGIN), client);
+            null, Collections.singletonList(DUMMY_PLUGIN), client, new NoneCircuitBreakerService());
         final IndexRequest indexRequest =
             new IndexRequest("_index", "_type", "_id").source(emptyMap()).setPipeline("_id").setFinalPipeline("_none");
 
@@ -979,6 +985,12 @@ public class IngestServiceTests extends OpenSearchTestCase {
             handler.accept(null, error);
             return null;
         }).when(processor).execute(any(), any());
+        doAnswer(args -> {
+            @SuppressWarnings("unchecked")
+            List<BiConsumer<IngestDocument, Exception>> handlers = (List) args.getArguments()[1];
+            handlers.forEach(handler -> handler.accept(null, error));
+            return null;
+        }).when(processor).batchExecute(any(), any());
         IngestService ingestService = createWithProcessors(Collections.singletonMap(
             "mock", (factories, tag, description, config) -> processor));
         PutPipelineRequest putRequest = new PutPipelineRequest("_id",
@@ -1031,6 +1043,12 @@ public class IngestServiceTests extends OpenSearchTestCase {
             handler.accept(RandomDocumentPicks.randomIngestDocument(random()), null);
             return null;
         }).when(processor).execute(any(), any());
+        doAnswer(args -> {
+            @SuppressWarnings("unchecked")
+            List<BiConsumer<IngestDocument, Exception>> handlers = (List) args.getArguments()[1];
+            handlers.forEach(handler -> handler.accept(RandomDocumentPicks.randomIngestDocument(random()), null));
+            return null;
+        }).when(processor).batchExecute(any(), any());
         Map<String, Processor.Factory> map = new HashMap<>(2);
         map.put("mock", (factories, tag, description, config) -> processor);
 
@@ -1058,6 +1076,72 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBulkRequestExecutionInSlices() throws Exception {
+        final int maxThreads = 4;
+        when(threadPool.info(Names.WRITE)).thenReturn(new ThreadPool.Info(Names.WRITE, ThreadPool.ThreadPoolType.FIXED, maxThreads));
+        final int numRequest = randomIntBetween(IngestService.MIN_BULK_SLICE_SIZE * 2, IngestService.MIN_BULK_SLICE_SIZE * 6);
+        final Set<Integer> expectedFailedSlots = new HashSet<>();
+        final Set<Integer> expectedDroppedSlots = new HashSet<>();
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest =
+                new IndexRequest("_index", "_type", "_id" + i).setPipeline("_id").setFinalPipeline("_none");
+            if (rarely()) {
+                expectedFailedSlots.add(i);
+                indexRequest.source(Requests.INDEX_CONTENT_TYPE, "action", "fail");
+            } else if (rarely()) {
+                expectedDroppedSlots.add(i);
+                indexRequest.source(Requests.INDEX_CONTENT_TYPE, "action", "drop");
+            } else {
+                indexRequest.source(Requests.INDEX_CONTENT_TYPE, "action", "process");
+            }
+            bulkRequest.add(indexRequest);
+        }
+
+        final TestProcessor processor = new TestProcessor("tag", "mock", null, ingestDocument -> {
+            String action = ingestDocument.getFieldValue("action", String.class);
+            if (action.equals("fail")) {
+                throw new IllegalStateException("error");
+            } else if (action.equals("drop")) {
+                return null;
+            }
+            ingestDocument.setFieldValue("processed", true);
+            return ingestDocument;
+        });
+        IngestService ingestService = createWithProcessors(Collections.singletonMap(
+            "mock", (factories, tag, description, config) -> processor));
+        PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+            new BytesArray("{\"processors\": [{\"mock\" : {}}]}"), XContentType.JSON);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build(); // Start empty
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        final Set<Integer> failedSlots = ConcurrentCollections.newConcurrentSet();
+        final Set<Integer> droppedSlots = ConcurrentCollections.newConcurrentSet();
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), (slot, e) -> {
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            assertTrue(failedSlots.add(slot));
+        }, completionHandler, slot -> assertTrue(droppedSlots.add(slot)), Names.WRITE);
+
+        final int sliceSize = Math.max(IngestService.MIN_BULK_SLICE_SIZE, (numRequest + maxThreads - 1) / maxThreads);
+        final int numSlices = (numRequest + sliceSize - 1) / sliceSize;
+        assertThat(numSlices, greaterThan(1));
+        verify(threadPool, times(numSlices)).executor(Names.WRITE);
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        assertThat(failedSlots, equalTo(expectedFailedSlots));
+        assertThat(droppedSlots, equalTo(expectedDroppedSlots));
+        assertThat(processor.getInvokedCounter(), equalTo(numRequest));
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(bulkRequest.requests().get(i));
+            boolean processed = expectedFailedSlots.contains(i) == false && expectedDroppedSlots.contains(i) == false;
+            assertThat(indexRequest.sourceAsMap().containsKey("processed"), equalTo(processed));
+        }
+        assertThat(ingestService.stats().getPipelineStats().get(0).getStats().getIngestCount(), equalTo((long) numRequest));
+    }
+
     public void testStats() throws Exception {
         final Processor processor = mock(Processor.class);
         final Processor processorFailure = mock(Processor.class);
@@ -1283,7 +1367,8 @@ public class IngestServiceTests extends OpenSearchTestCase {
         // Create ingest service:
         Client client = mock(Client.class);
         IngestService ingestService =
-            new IngestService(mock(ClusterService.class), threadPool, null, null, null, Arrays.asList(testPlugin), client);
+            new IngestService(mock(ClusterService.class), threadPool, null, null, null, Arrays.asList(testPlugin), client,
+                new NoneCircuitBreakerService());
         ingestService.addIngestClusterStateListener(ingestClusterStateListener);
 
         // Create pipeline and apply the resulting cluster state, which should update the counter in the right order:
@@ -1485,7 +1570,7 @@ public class IngestServiceTests extends OpenSearchTestCase {
             public Map<String, Processor.Factory> getProcessors(final Processor.Parameters parameters) {
                 return processors;
             }
-        }), client);
+        }), client, new NoneCircuitBreakerService());
     }
 
     private CompoundProcessor mockCompoundProcessor() {
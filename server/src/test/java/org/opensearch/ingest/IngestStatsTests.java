@@ -40,6 +40,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -56,6 +57,35 @@ public class IngestStatsTests extends OpenSearchTestCase {
         IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats);
         IngestStats serializedStats = serialize(ingestStats);
         assertIngestStats(ingestStats, serializedStats, true, true);
+        for (int i = 0; i < pipelineStats.size(); i++) {
+            assertEquals(pipelineStats.get(i).getActiveTimeInMillis(), serializedStats.getPipelineStats().get(i).getActiveTimeInMillis());
+        }
+    }
+
+    public void testCacheStatsSerialization() throws IOException {
+        IngestStats.Stats totalStats = new IngestStats.Stats(50, 100, 200, 300);
+        List<IngestStats.PipelineStat> pipelineStats = createPipelineStats();
+        Map<String, List<IngestStats.ProcessorStat>> processorStats = createProcessorStats(pipelineStats);
+        List<IngestStats.CacheStats> cacheStats = Arrays.asList(
+            new IngestStats.CacheStats("geoip", 10, 10240, 100, 10, 2),
+            new IngestStats.CacheStats("user_agent", 0, 0, 0, 3, 0));
+        IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats, cacheStats);
+        IngestStats serializedStats = serialize(ingestStats);
+        assertIngestStats(ingestStats, serializedStats, true, true);
+        assertEquals(cacheStats, serializedStats.getCacheStats());
+        assertEquals(ingestStats, serializedStats);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(VersionUtils.getPreviousVersion(Version.V_7_10_3));
+        ingestStats.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(VersionUtils.getPreviousVersion(Version.V_7_10_3));
+        assertEquals(Collections.emptyList(), new IngestStats(in).getCacheStats());
+    }
+
+    public void testThroughput() {
+        assertEquals(500.0, new IngestStats.PipelineStat("pipeline", new IngestStats.Stats(47, 97, 0, 0), 94).getThroughputPerSecond(), 0);
+        assertEquals(0.0, new IngestStats.PipelineStat("pipeline", new IngestStats.Stats(47, 97, 0, 0), 0).getThroughputPerSecond(), 0);
     }
 
     public void testReadLegacyStream() throws IOException {
@@ -97,8 +127,8 @@ public class IngestStatsTests extends OpenSearchTestCase {
     }
 
     private List<IngestStats.PipelineStat> createPipelineStats() {
-        IngestStats.PipelineStat pipeline1Stats = new IngestStats.PipelineStat("pipeline1", new IngestStats.Stats(3, 3, 3, 3));
-        IngestStats.PipelineStat pipeline2Stats = new IngestStats.PipelineStat("pipeline2", new IngestStats.Stats(47, 97, 197, 297));
+        IngestStats.PipelineStat pipeline1Stats = new IngestStats.PipelineStat("pipeline1", new IngestStats.Stats(3, 3, 3, 3), 2);
+        IngestStats.PipelineStat pipeline2Stats = new IngestStats.PipelineStat("pipeline2", new IngestStats.Stats(47, 97, 197, 297), 53);
         IngestStats.PipelineStat pipeline3Stats = new IngestStats.PipelineStat("pipeline3", new IngestStats.Stats(0, 0, 0, 0));
         return Stream.of(pipeline1Stats, pipeline2Stats, pipeline3Stats).collect(Collectors.toList());
     }
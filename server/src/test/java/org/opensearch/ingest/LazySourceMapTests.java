@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.VersionType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class LazySourceMapTests extends OpenSearchTestCase {
+
+    private static final String SOURCE = "{\"str\":\"foo\",\"int\":1,\"double\":1.5,\"bool\":true,\"nil\":null,"
+        + "\"obj\": { \"a\" : [1, 2], \"b\" : {\"c\": \"d\"} },\"list\": [ {\"e\":1}, \"f\" ]}";
+
+    private static Map<String, Object> eager(BytesReference source) {
+        return XContentHelper.convertToMap(source, false, XContentType.JSON).v2();
+    }
+
+    public void testReadsLikeSourceAsMap() {
+        BytesReference source = new BytesArray(SOURCE);
+        LazySourceMap lazy = LazySourceMap.parse(source);
+        Map<String, Object> expected = eager(source);
+        assertThat(lazy.size(), equalTo(expected.size()));
+        assertThat(lazy.keySet(), contains("str", "int", "double", "bool", "nil", "obj", "list"));
+        for (String key : expected.keySet()) {
+            assertTrue(lazy.containsKey(key));
+            assertThat(lazy.get(key), equalTo(expected.get(key)));
+        }
+        assertThat(lazy, equalTo(expected));
+        assertThat(eager(lazy.toBytes()), equalTo(expected));
+    }
+
+    public void testUnchangedSourceIsReturnedAsIs() {
+        BytesReference source = new BytesArray(SOURCE);
+        LazySourceMap lazy = LazySourceMap.parse(source);
+        assertThat(lazy.get("str"), equalTo("foo"));
+        assertThat(lazy.get("int"), equalTo(1));
+        assertTrue(lazy.containsKey("obj"));
+        lazy.put("_id", "id");
+        assertThat(lazy.remove("_id"), equalTo("id"));
+        assertThat(lazy.remove("missing"), nullValue());
+        assertTrue(lazy.isUnchanged());
+        assertThat(lazy.toBytes(), sameInstance(source));
+    }
+
+    public void testObjectsAndArraysThatWereNotReadAreCopied() {
+        BytesReference source = new BytesArray(SOURCE);
+        LazySourceMap lazy = LazySourceMap.parse(source);
+        lazy.put("str", "bar");
+        lazy.put("new", 2);
+        assertThat(lazy.remove("int"), equalTo(1));
+        assertFalse(lazy.isUnchanged());
+
+        String written = lazy.toBytes().utf8ToString();
+        // the objects and arrays keep the white space of the original source
+        assertThat(written, containsString("\"obj\":{ \"a\" : [1, 2], \"b\" : {\"c\": \"d\"} }"));
+        assertThat(written, containsString("\"list\":[ {\"e\":1}, \"f\" ]"));
+
+        Map<String, Object> expected = eager(source);
+        expected.put("str", "bar");
+        expected.put("new", 2);
+        expected.remove("int");
+        assertThat(eager(lazy.toBytes()), equalTo(expected));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testValuesThatWereReadAreWrittenBack() {
+        BytesReference source = new BytesArray(SOURCE);
+        LazySourceMap lazy = LazySourceMap.parse(source);
+        Map<String, Object> obj = (Map<String, Object>) lazy.get("obj");
+        obj.put("g", "h");
+        List<Object> list = (List<Object>) lazy.get("list");
+        assertThat(list.size(), equalTo(2));
+        assertFalse(lazy.isUnchanged());
+
+        Map<String, Object> expected = eager(source);
+        ((Map<String, Object>) expected.get("obj")).put("g", "h");
+        assertThat(eager(lazy.toBytes()), equalTo(expected));
+    }
+
+    public void testIteratingReadsAllValues() {
+        BytesReference source = new BytesArray(SOURCE);
+        LazySourceMap lazy = LazySourceMap.parse(source);
+        Map<String, Object> copy = new HashMap<>(lazy);
+        assertThat(copy, equalTo(eager(source)));
+        assertFalse(lazy.isUnchanged());
+        assertThat(eager(lazy.toBytes()), equalTo(eager(source)));
+    }
+
+    public void testIngestDocument() throws Exception {
+        BytesReference source = new BytesArray(SOURCE);
+        IngestDocument document = new IngestDocument("index", "type", "id", null, 1L, VersionType.INTERNAL, LazySourceMap.parse(source));
+        assertThat(document.getFieldValue("obj.b.c", String.class), equalTo("d"));
+        document.setFieldValue("obj.b.c", "e");
+        document.extractMetadata();
+        LazySourceMap lazy = (LazySourceMap) document.getSourceAndMetadata();
+        assertThat(XContentHelper.convertToMap(lazy.toBytes(), false, XContentType.JSON).v2().get("obj"),
+            equalTo(org.opensearch.common.collect.Map.of("a", Arrays.asList(1, 2), "b", org.opensearch.common.collect.Map.of("c", "e"))));
+    }
+
+    public void testRemovingKeysThroughKeySet() {
+        BytesReference source = new BytesArray(SOURCE);
+        LazySourceMap lazy = LazySourceMap.parse(source);
+        assertFalse(lazy.keySet().remove("missing"));
+        assertTrue(lazy.keySet().remove("str"));
+        Iterator<String> keys = lazy.keySet().iterator();
+        assertThat(keys.next(), equalTo("int"));
+        keys.remove();
+        assertFalse(lazy.isUnchanged());
+
+        Map<String, Object> expected = eager(source);
+        expected.remove("str");
+        expected.remove("int");
+        assertThat(lazy, equalTo(expected));
+        assertThat(eager(lazy.toBytes()), equalTo(expected));
+    }
+
+    public void testRemovingKeysThroughKeySetOfIngestDocument() {
+        BytesReference source = new BytesArray(SOURCE);
+        IngestDocument document = new IngestDocument("index", "type", "id", null, 1L, VersionType.INTERNAL, LazySourceMap.parse(source));
+        // like a script that does ctx.keySet().removeIf(...), removing fields whose values were never read
+        assertTrue(document.getSourceAndMetadata().keySet().removeIf(key -> key.equals("obj") || key.equals("list")));
+        document.extractMetadata();
+        LazySourceMap lazy = (LazySourceMap) document.getSourceAndMetadata();
+        assertFalse(lazy.isUnchanged());
+
+        Map<String, Object> expected = eager(source);
+        expected.remove("obj");
+        expected.remove("list");
+        assertThat(eager(lazy.toBytes()), equalTo(expected));
+    }
+
+    public void testInvalidSource() {
+        expectThrows(OpenSearchParseException.class, () -> LazySourceMap.parse(new BytesArray("[1, 2]")));
+        expectThrows(OpenSearchParseException.class, () -> LazySourceMap.parse(new BytesArray("{\"a\": 1")));
+        expectThrows(OpenSearchParseException.class, () -> LazySourceMap.parse(new BytesArray("{\"a\": {\"b\": [1, }}")));
+        expectThrows(OpenSearchParseException.class, () -> LazySourceMap.parse(new BytesArray("{\"a\": 1, \"a\": 2}")));
+        expectThrows(OpenSearchParseException.class, () -> LazySourceMap.parse(new BytesArray("{\"a\": {\"b\": 1, \"b\": 2}}")));
+    }
+
+    public void testSourceThatIsNotUtf8() {
+        BytesReference source = new BytesArray("{\"a\": {\"b\": 1}}".getBytes(StandardCharsets.UTF_16BE));
+        assertThat(LazySourceMap.parse(source), nullValue());
+    }
+}
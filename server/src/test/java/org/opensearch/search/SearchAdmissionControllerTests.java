@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class SearchAdmissionControllerTests extends OpenSearchTestCase {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    public void testEstimateCost() {
+        // the mean query time of the shard wins over its size
+        assertThat(SearchAdmissionController.estimateCost(5 * MILLIS, randomNonNegativeLong(), false, 1_000), equalTo(5 * MILLIS));
+        assertThat(SearchAdmissionController.estimateCost(5 * MILLIS, randomNonNegativeLong(), true, 1_000),
+            equalTo(5 * MILLIS * SearchAdmissionController.AGGREGATION_COST_FACTOR));
+        // shards that were not searched yet are expected to take the average task time per reference size
+        assertThat(SearchAdmissionController.estimateCost(-1, 0, false, 1_000), equalTo(1_000L));
+        assertThat(SearchAdmissionController.estimateCost(-1, 4 * SearchAdmissionController.REFERENCE_SHARD_SIZE_IN_BYTES, false,
+            1_000), equalTo(4_000L));
+        assertThat(SearchAdmissionController.estimateCost(-1, Long.MAX_VALUE, false, 1_000),
+            equalTo(1_000L * SearchAdmissionController.MAX_SHARD_SIZE_FACTOR));
+    }
+
+    public void testRejectsExpensiveRequestsWhenBusy() {
+        final SearchAdmissionController controller = newController(TimeValue.timeValueMillis(100), TimeValue.timeValueMillis(10));
+
+        // an idle thread pool admits an expensive request however long it takes
+        final Releasable first = controller.admit(500 * MILLIS, 2);
+        assertThat(controller.stats().getOutstandingCostInNanos(), equalTo(500 * MILLIS));
+
+        // cheap requests are always admitted
+        final Releasable cheap = controller.admit(5 * MILLIS, 2);
+
+        final OpenSearchRejectedExecutionException e =
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> controller.admit(20 * MILLIS, 2));
+        assertThat(e.getMessage(), containsString("rejected expensive search request"));
+        assertThat(controller.stats().getAdmitted(), equalTo(2L));
+        assertThat(controller.stats().getRejected(), equalTo(1L));
+
+        first.close();
+        // releasing twice is a no-op
+        first.close();
+        assertThat(controller.stats().getOutstandingCostInNanos(), equalTo(5 * MILLIS));
+        controller.admit(20 * MILLIS, 2).close();
+        cheap.close();
+
+        final SearchAdmissionStats stats = controller.stats();
+        assertThat(stats.getAdmitted(), equalTo(3L));
+        assertThat(stats.getRejected(), equalTo(1L));
+        assertThat(stats.getOutstandingCostInNanos(), equalTo(0L));
+    }
+
+    public void testProjectedWaitAccountsForThreads() {
+        final SearchAdmissionController controller = newController(TimeValue.timeValueMillis(100), TimeValue.ZERO);
+        final Releasable first = controller.admit(300 * MILLIS, 4);
+        // the outstanding cost is spread over four threads
+        controller.admit(20 * MILLIS, 4).close();
+        expectThrows(OpenSearchRejectedExecutionException.class, () -> controller.admit(20 * MILLIS, 1));
+        first.close();
+    }
+
+    private static SearchAdmissionController newController(TimeValue maxWait, TimeValue expensiveRequestThreshold) {
+        final Settings settings = Settings.builder()
+            .put(SearchAdmissionController.SEARCH_ADMISSION_CONTROL_ENABLED.getKey(), true)
+            .put(SearchAdmissionController.SEARCH_ADMISSION_CONTROL_MAX_WAIT.getKey(), maxWait)
+            .put(SearchAdmissionController.SEARCH_ADMISSION_CONTROL_EXPENSIVE_REQUEST_THRESHOLD.getKey(), expensiveRequestThreshold)
+            .build();
+        final SearchAdmissionController controller =
+            new SearchAdmissionController(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        assertTrue(controller.isEnabled());
+        return controller;
+    }
+}
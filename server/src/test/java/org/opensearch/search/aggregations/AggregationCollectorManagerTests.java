@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+
+public class AggregationCollectorManagerTests extends AggregatorTestCase {
+
+    public void testCanCollectConcurrently() throws IOException {
+        try (Directory dir = newDirectory()) {
+            new IndexWriter(dir, new IndexWriterConfig()).close();
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                IndexSearcher searcher = newSearcher(reader, false, false);
+                MappedFieldType fieldType = longField("number");
+                AggregatorFactories.Builder mergeable = new AggregatorFactories.Builder()
+                    .addAggregator(AggregationBuilders.histogram("histo").field("number").interval(10)
+                        .subAggregation(AggregationBuilders.sum("sum").field("number")));
+                assertTrue(AggregationCollectorManager.canCollectConcurrently(createSearchContext(searcher, mergeable, fieldType)));
+                // the buckets of terms aggregations that are kept depend on how the segments were sliced
+                AggregatorFactories.Builder notMergeable = new AggregatorFactories.Builder()
+                    .addAggregator(AggregationBuilders.histogram("histo").field("number").interval(10)
+                        .subAggregation(AggregationBuilders.terms("terms").field("number")));
+                assertFalse(AggregationCollectorManager.canCollectConcurrently(createSearchContext(searcher, notMergeable, fieldType)));
+            }
+        }
+    }
+
+    public void testSameResultsAsSequentialCollection() throws IOException {
+        MappedFieldType fieldType = longField("number");
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter w = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                // enough segments to search them in more than one slice
+                for (int i = randomIntBetween(6, 20); i > 0; i--) {
+                    for (int j = randomIntBetween(1, 50); j > 0; j--) {
+                        Document doc = new Document();
+                        doc.add(new SortedNumericDocValuesField("number", randomIntBetween(0, 100)));
+                        w.addDocument(doc);
+                    }
+                    w.commit();
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                AggregatorFactories.Builder aggregations = new AggregatorFactories.Builder()
+                    .addAggregator(AggregationBuilders.histogram("histo").field("number").interval(randomIntBetween(1, 20))
+                        .subAggregation(AggregationBuilders.sum("sum").field("number")))
+                    .addAggregator(AggregationBuilders.max("max").field("number"))
+                    .addAggregator(AggregationBuilders.range("range").field("number").addUnboundedTo(50).addUnboundedFrom(50));
+                Query query = new MatchAllDocsQuery();
+
+                SearchContext sequentialContext = createSearchContext(newSearcher(reader, false, false), aggregations, fieldType);
+                Aggregator[] aggregators = sequentialContext.aggregations().factories().createTopLevelAggregators(sequentialContext);
+                BucketCollector collector = MultiBucketCollector.wrap(Arrays.asList(aggregators));
+                collector.preCollection();
+                sequentialContext.searcher().search(query, collector);
+                collector.postCollection();
+
+                SearchContext concurrentContext = createSearchContext(newSearcher(reader, false, false), aggregations, fieldType);
+                ContextIndexSearcher concurrentSearcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), false,
+                    threadPool.executor(ThreadPool.Names.INDEX_SEARCHER));
+                InternalAggregations concurrent = concurrentSearcher.search(query, new AggregationCollectorManager(concurrentContext));
+
+                for (Aggregator aggregator : aggregators) {
+                    assertEquals(aggregator.buildTopLevel(), concurrent.get(aggregator.name()));
+                }
+            }
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    private SearchContext createSearchContext(IndexSearcher searcher, AggregatorFactories.Builder aggregations,
+                                              MappedFieldType... fieldTypes) throws IOException {
+        MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST));
+        SearchContext context = createSearchContext(searcher, createIndexSettings(), new MatchAllDocsQuery(), bucketConsumer, fieldTypes);
+        AggregatorFactories factories = aggregations.build(context.getQueryShardContext(), null);
+        when(context.aggregations()).thenReturn(new SearchContextAggregations(factories, bucketConsumer));
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        SearchSourceBuilder source = new SearchSourceBuilder();
+        for (AggregationBuilder aggregation : aggregations.getAggregatorFactories()) {
+            source.aggregation(aggregation);
+        }
+        when(request.source()).thenReturn(source);
+        when(context.request()).thenReturn(request);
+        return context;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class BatchedBucketCollectorTests extends OpenSearchTestCase {
+
+    /**
+     * Records the documents that it collects, checking that the documents of each segment are collected before the collector of the
+     * next segment is built.
+     */
+    private static class RecordingBucketCollector extends BucketCollector {
+        private final ScoreMode scoreMode;
+        private final List<Integer> docs = new ArrayList<>();
+        private final List<Integer> blockSizes = new ArrayList<>();
+        private LeafReaderContext current;
+        private boolean postCollected;
+
+        RecordingBucketCollector(ScoreMode scoreMode) {
+            this.scoreMode = scoreMode;
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) {
+            current = ctx;
+            return new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long owningBucketOrd) {
+                    assertSame(ctx, current);
+                    assertFalse(postCollected);
+                    docs.add(ctx.docBase + doc);
+                }
+
+                @Override
+                public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+                    blockSizes.add(count);
+                    super.collect(docs, count, owningBucketOrd);
+                }
+            };
+        }
+
+        @Override
+        public void preCollection() {}
+
+        @Override
+        public void postCollection() {
+            postCollected = true;
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return scoreMode;
+        }
+    }
+
+    public void testCollectsAllDocsInBlocks() throws IOException {
+        try (Directory directory = newDirectory()) {
+            final int numDocs = randomIntBetween(1, BatchedBucketCollector.BLOCK_SIZE * 5);
+            try (RandomIndexWriter writer = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < numDocs; i++) {
+                    writer.addDocument(new Document());
+                    if (rarely()) {
+                        writer.flush();
+                    }
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final RecordingBucketCollector recording = new RecordingBucketCollector(ScoreMode.COMPLETE_NO_SCORES);
+                final BucketCollector collector = BatchedBucketCollector.wrap(recording);
+                assertThat(collector, instanceOf(BatchedBucketCollector.class));
+                collector.preCollection();
+                searcher.search(new MatchAllDocsQuery(), collector);
+                collector.postCollection();
+
+                assertTrue(recording.postCollected);
+                assertThat(recording.docs.size(), equalTo(numDocs));
+                for (int i = 0; i < numDocs; i++) {
+                    assertThat(recording.docs.get(i), equalTo(i));
+                }
+                for (int blockSize : recording.blockSizes) {
+                    assertThat(blockSize, lessThanOrEqualTo(BatchedBucketCollector.BLOCK_SIZE));
+                }
+            }
+        }
+    }
+
+    public void testDoesNotWrapCollectorsThatNeedScores() {
+        final RecordingBucketCollector recording = new RecordingBucketCollector(ScoreMode.COMPLETE);
+        assertThat(BatchedBucketCollector.wrap(recording), sameInstance(recording));
+        assertThat(BatchedBucketCollector.wrap(BucketCollector.NO_OP_COLLECTOR), sameInstance(BucketCollector.NO_OP_COLLECTOR));
+    }
+}
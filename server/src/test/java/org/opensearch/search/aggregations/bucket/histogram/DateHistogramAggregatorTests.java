@@ -46,16 +46,20 @@ import org.apache.lucene.store.Directory;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -1167,6 +1171,120 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         assertWarnings("[interval] on [date_histogram] is deprecated, use [fixed_interval] or [calendar_interval] in the future.");
     }
 
+    public void testCountFromPoints() throws IOException {
+        final boolean multiValued = rarely();
+        final boolean deletions = randomBoolean();
+        final long start = asLong("2000-01-01T00:00:00");
+        final long end = asLong("2030-01-01T00:00:00");
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numDocs = scaledRandomIntBetween(100, 2000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    document.add(new LongPoint("id", i));
+                    final int numValues = multiValued ? randomIntBetween(1, 3) : 1;
+                    for (int v = 0; v < numValues; v++) {
+                        long instant = randomLongBetween(start, end);
+                        document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, instant));
+                        document.add(new LongPoint(AGGREGABLE_DATE, instant));
+                    }
+                    indexWriter.addDocument(document);
+                    if (rarely()) {
+                        indexWriter.commit();
+                    }
+                }
+                if (deletions) {
+                    indexWriter.deleteDocuments(LongPoint.newRangeQuery("id", 0, numDocs / 10));
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, false, true);
+                final Query query = randomBoolean()
+                    ? new MatchAllDocsQuery()
+                    : LongPoint.newRangeQuery(AGGREGABLE_DATE, randomLongBetween(start, end), randomLongBetween(start, end));
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name").field(AGGREGABLE_DATE);
+                if (randomBoolean()) {
+                    aggregationBuilder.calendarInterval(randomFrom(DateHistogramInterval.MONTH, DateHistogramInterval.YEAR));
+                } else {
+                    // 30 years in intervals of at least 11 days stay below MAX_BUCKETS_FROM_POINTS, so every segment is counted
+                    aggregationBuilder.fixedInterval(new DateHistogramInterval(randomIntBetween(11, 100) + "d"));
+                }
+                if (randomBoolean()) {
+                    // the buckets are enumerated with nextRoundingValue, which must agree with rounding across DST transitions
+                    aggregationBuilder.timeZone(randomBoolean() ? randomFrom(ZoneId.of("America/New_York"), ZoneId.of("Europe/Berlin"),
+                        ZoneId.of("Australia/Lord_Howe")) : randomZone());
+                }
+                if (randomBoolean()) {
+                    aggregationBuilder.offset(randomLongBetween(-23, 23) * 60 * 60 * 1000);
+                }
+                if (randomBoolean()) {
+                    aggregationBuilder.hardBounds(new LongBounds(randomLongBetween(start, end), randomLongBetween(end, end * 2)));
+                }
+
+                Map<String, Object> pointsDebug = new HashMap<>();
+                InternalDateHistogram fromPoints = collect(indexSearcher, query, aggregationBuilder,
+                    aggregableDateFieldType(false, true), pointsDebug);
+                Map<String, Object> docValuesDebug = new HashMap<>();
+                InternalDateHistogram fromDocValues = collect(indexSearcher, query, aggregationBuilder,
+                    aggregableDateFieldType(false, false), docValuesDebug);
+
+                assertThat(docValuesDebug.get("segments_counted_from_points"), equalTo(0));
+                if (multiValued == false) {
+                    // segments with deleted documents must be collected
+                    long segmentsWithoutDeletions = indexReader.leaves().stream()
+                        .filter(ctx -> ctx.reader().hasDeletions() == false)
+                        .count();
+                    assertThat(pointsDebug.get("segments_counted_from_points"), equalTo((int) segmentsWithoutDeletions));
+                }
+                assertThat(fromPoints.getBuckets().size(), equalTo(fromDocValues.getBuckets().size()));
+                for (int i = 0; i < fromPoints.getBuckets().size(); i++) {
+                    InternalDateHistogram.Bucket expected = fromDocValues.getBuckets().get(i);
+                    InternalDateHistogram.Bucket actual = fromPoints.getBuckets().get(i);
+                    assertThat(actual.getKey(), equalTo(expected.getKey()));
+                    assertThat(actual.getDocCount(), equalTo(expected.getDocCount()));
+                }
+            }
+        }
+    }
+
+    public void testDoNotCountFromPointsWithSubAggs() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (String date : DATASET) {
+                    long instant = asLong(date);
+                    indexWriter.addDocument(Arrays.asList(
+                        new SortedNumericDocValuesField(AGGREGABLE_DATE, instant),
+                        new LongPoint(AGGREGABLE_DATE, instant)));
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, false, true);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name").field(AGGREGABLE_DATE)
+                    .calendarInterval(DateHistogramInterval.YEAR)
+                    .subAggregation(new DateHistogramAggregationBuilder("_sub").field(AGGREGABLE_DATE)
+                        .calendarInterval(DateHistogramInterval.MONTH));
+                Map<String, Object> debug = new HashMap<>();
+                InternalDateHistogram histogram = collect(indexSearcher, new MatchAllDocsQuery(), aggregationBuilder,
+                    aggregableDateFieldType(false, true), debug);
+                assertThat(debug.get("segments_counted_from_points"), equalTo(0));
+                assertThat(histogram.getBuckets().stream().mapToLong(InternalDateHistogram.Bucket::getDocCount).sum(),
+                    equalTo((long) DATASET.size()));
+            }
+        }
+    }
+
+    private InternalDateHistogram collect(IndexSearcher indexSearcher, Query query, DateHistogramAggregationBuilder aggregationBuilder,
+                                          DateFieldMapper.DateFieldType fieldType, Map<String, Object> debug) throws IOException {
+        Aggregator aggregator = createAggregator(query, aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+        aggregator.preCollection();
+        indexSearcher.search(query, aggregator);
+        aggregator.postCollection();
+        aggregator.collectDebugInfo(debug::put);
+        return (InternalDateHistogram) aggregator.buildTopLevel();
+    }
+
     private void testSearchCase(Query query, List<String> dataset,
                                 Consumer<DateHistogramAggregationBuilder> configure,
                                 Consumer<InternalDateHistogram> verify, boolean useNanosecondResolution) throws IOException {
@@ -39,7 +39,9 @@ import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -188,6 +190,40 @@ public class LongKeyedBucketOrdsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBatchAdd() {
+        CardinalityUpperBound cardinality = randomFrom(CardinalityUpperBound.ONE, CardinalityUpperBound.MANY);
+        try (LongKeyedBucketOrds ords = LongKeyedBucketOrds.build(bigArrays, cardinality)) {
+            long maxOwningBucketOrd = cardinality == CardinalityUpperBound.ONE ? 0 : randomIntBetween(0, 10);
+            Map<OwningBucketOrdAndValue, Long> expected = new HashMap<>();
+            long[] values = new long[randomIntBetween(1, 50)];
+            long[] bucketOrds = new long[values.length];
+            int batches = scaledRandomIntBetween(1, 1000);
+            for (int batch = 0; batch < batches; batch++) {
+                long owningBucketOrd = randomLongBetween(0, maxOwningBucketOrd);
+                int length = randomIntBetween(0, values.length);
+                for (int i = 0; i < length; i++) {
+                    values[i] = randomLongBetween(0, 1000);
+                }
+                ords.add(owningBucketOrd, values, length, bucketOrds);
+                for (int i = 0; i < length; i++) {
+                    OwningBucketOrdAndValue key = new OwningBucketOrdAndValue(owningBucketOrd, values[i]);
+                    Long ord = expected.get(key);
+                    if (ord == null) {
+                        assertThat(bucketOrds[i], equalTo((long) expected.size()));
+                        expected.put(key, bucketOrds[i]);
+                    } else {
+                        assertThat(bucketOrds[i], equalTo(-1 - ord));
+                    }
+                }
+            }
+            assertThat(ords.size(), equalTo((long) expected.size()));
+            for (Map.Entry<OwningBucketOrdAndValue, Long> entry : expected.entrySet()) {
+                assertThat(ords.find(entry.getKey().owningBucketOrd, entry.getKey().value), equalTo(entry.getValue()));
+                assertThat(ords.get(entry.getValue()), equalTo(entry.getKey().value));
+            }
+        }
+    }
+
     private class OwningBucketOrdAndValue {
         private final long owningBucketOrd;
         private final long value;
@@ -51,6 +51,8 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
@@ -61,8 +63,10 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.SimpleCollector;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -81,14 +85,19 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableLeafReader;
@@ -96,6 +105,7 @@ import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePoi
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
 
 public class ContextIndexSearcherTests extends OpenSearchTestCase {
     public void testIntersectScorerAndRoleBits() throws Exception {
@@ -183,6 +193,141 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         directory.close();
     }
 
+    public void testConcurrentSegmentSearch() throws Exception {
+        final Directory directory = newDirectory();
+        IndexWriter iw = new IndexWriter(
+            directory,
+            new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+        );
+        final int numSegments = randomIntBetween(6, 20);
+        int numDocs = 0;
+        for (int i = 0; i < numSegments; i++) {
+            final int docsPerSegment = randomIntBetween(1, 20);
+            for (int j = 0; j < docsPerSegment; j++) {
+                Document document = new Document();
+                document.add(new StringField("field", randomBoolean() ? "value" : "other", Field.Store.NO));
+                iw.addDocument(document);
+                numDocs++;
+            }
+            iw.commit();
+        }
+        iw.close();
+
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+            ContextIndexSearcher sequential = new ContextIndexSearcher(directoryReader, IndexSearcher.getDefaultSimilarity(),
+                IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true);
+            assertFalse(sequential.isConcurrentSegmentSearchEnabled());
+            ContextIndexSearcher concurrent = new ContextIndexSearcher(directoryReader, IndexSearcher.getDefaultSimilarity(),
+                IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+                threadPool.executor(ThreadPool.Names.INDEX_SEARCHER));
+            assertTrue(concurrent.isConcurrentSegmentSearchEnabled());
+
+            Query query = new TermQuery(new Term("field", "value"));
+            TopDocs expected = sequential.search(query, TopScoreDocCollector.createSharedManager(numDocs, null, Integer.MAX_VALUE));
+            TopDocs actual = concurrent.search(query, TopScoreDocCollector.createSharedManager(numDocs, null, Integer.MAX_VALUE));
+            assertEquals(expected.totalHits, actual.totalHits);
+            assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+            for (int i = 0; i < expected.scoreDocs.length; i++) {
+                assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0f);
+            }
+
+            // cancellation is propagated from the slices searched by the executor
+            concurrent.addQueryCancellation(() -> {
+                throw new TaskCancelledException("cancelled");
+            });
+            CollectorManager<TopScoreDocCollector, TopDocs> manager =
+                TopScoreDocCollector.createSharedManager(numDocs, null, Integer.MAX_VALUE);
+            expectThrows(TaskCancelledException.class, () -> concurrent.search(new MatchAllDocsQuery(), manager));
+            concurrent.close();
+        } finally {
+            terminate(threadPool);
+            directory.close();
+        }
+    }
+
+    public void testConcurrentSegmentSearchWaitsForAllSlicesOnFailure() throws Exception {
+        final Directory directory = newDirectory();
+        IndexWriter iw = new IndexWriter(
+            directory,
+            new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+        );
+        final int numSegments = randomIntBetween(12, 30);
+        for (int i = 0; i < numSegments; i++) {
+            Document document = new Document();
+            document.add(new StringField("field", "value", Field.Store.NO));
+            iw.addDocument(document);
+            iw.commit();
+        }
+        iw.close();
+
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+            ContextIndexSearcher searcher = new ContextIndexSearcher(directoryReader, IndexSearcher.getDefaultSimilarity(),
+                IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+                threadPool.executor(ThreadPool.Names.INDEX_SEARCHER));
+            assertTrue(searcher.isConcurrentSegmentSearchEnabled());
+
+            // randomize up front, the segments are searched by other threads
+            final boolean[] failing = new boolean[numSegments];
+            final int[] sleeps = new int[numSegments];
+            for (int i = 0; i < numSegments; i++) {
+                failing[i] = rarely();
+                sleeps[i] = randomIntBetween(0, 5);
+            }
+            failing[randomIntBetween(0, numSegments - 1)] = true;
+            final AtomicInteger searching = new AtomicInteger();
+            final AtomicInteger failures = new AtomicInteger();
+            CollectorManager<Collector, Void> manager = new CollectorManager<Collector, Void>() {
+                @Override
+                public Collector newCollector() {
+                    return new SimpleCollector() {
+                        @Override
+                        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+                            searching.incrementAndGet();
+                            try {
+                                if (failing[context.ord]) {
+                                    failures.incrementAndGet();
+                                    throw new IOException("failed to search segment [" + context.ord + "]");
+                                }
+                                Thread.sleep(sleeps[context.ord]);
+                            } catch (InterruptedException e) {
+                                throw new AssertionError(e);
+                            } finally {
+                                searching.decrementAndGet();
+                            }
+                        }
+
+                        @Override
+                        public void collect(int doc) {
+                        }
+
+                        @Override
+                        public ScoreMode scoreMode() {
+                            return ScoreMode.COMPLETE_NO_SCORES;
+                        }
+                    };
+                }
+
+                @Override
+                public Void reduce(Collection<Collector> collectors) {
+                    throw new AssertionError("collectors must not be reduced when a slice failed");
+                }
+            };
+            IOException e = expectThrows(IOException.class, () -> searcher.search(new MatchAllDocsQuery(), manager));
+            assertThat(e.getMessage(), startsWith("failed to search segment ["));
+            // the other failures are kept as suppressed exceptions
+            assertEquals(failures.get() - 1, e.getSuppressed().length);
+            // no slice is still searching the segments
+            assertEquals(0, searching.get());
+            searcher.close();
+        } finally {
+            terminate(threadPool);
+            directory.close();
+        }
+    }
+
     public void testContextIndexSearcherSparseNoDeletions() throws IOException {
         doTestContextIndexSearcher(true, false);
     }
@@ -69,7 +69,9 @@ public class SearchProfileShardResultsTests  extends OpenSearchTestCase {
             AggregationProfileShardResult aggProfileShardResult = AggregationProfileShardResultTests.createTestItem(1);
             searchProfileResults.put(randomAlphaOfLengthBetween(5, 10), new ProfileShardResult(queryProfileResults, aggProfileShardResult));
         }
-        return new SearchProfileShardResults(searchProfileResults);
+        ReduceProfileResult reduceProfileResult = randomBoolean() ? null : new ReduceProfileResult(randomBoolean(),
+            randomIntBetween(1, 100), randomIntBetween(0, 100), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+        return new SearchProfileShardResults(searchProfileResults, reduceProfileResult);
     }
 
     public void testFromXContent() throws IOException {
@@ -111,6 +113,7 @@ public class SearchProfileShardResultsTests  extends OpenSearchTestCase {
             assertNull(parser.nextToken());
         }
         assertToXContentEquivalent(originalBytes, toXContent(parsed, xContentType, humanReadable), xContentType);
+        assertEquals(shardResult.getReduceProfileResult(), parsed.getReduceProfileResult());
 
     }
 
@@ -108,6 +108,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -952,6 +953,96 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testConcurrentSegmentSearch() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE));
+        final int numSegments = randomIntBetween(6, 12);
+        int rank = 0;
+        for (int i = 0; i < numSegments; i++) {
+            final int numDocs = randomIntBetween(1, 50);
+            for (int j = 0; j < numDocs; j++) {
+                Document doc = new Document();
+                StringBuilder text = new StringBuilder();
+                for (int k = randomIntBetween(1, 5); k > 0; k--) {
+                    text.append("foo ");
+                }
+                for (int k = randomIntBetween(0, 5); k > 0; k--) {
+                    text.append("bar ");
+                }
+                doc.add(new TextField("text", text.toString(), Store.NO));
+                doc.add(new StringField("filter", randomFrom("a", "b"), Store.NO));
+                // unique values so that sorted hits don't depend on how ties are broken
+                doc.add(new NumericDocValuesField("rank", rank++));
+                w.addDocument(doc);
+            }
+            w.commit();
+        }
+        w.close();
+
+        try (IndexReader reader = DirectoryReader.open(dir)) {
+            ContextIndexSearcher concurrentSearcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+                IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+                threadPool.executor(ThreadPool.Names.INDEX_SEARCHER));
+            assertTrue(concurrentSearcher.isConcurrentSegmentSearchEnabled());
+            final IndexSearcher searcher = new IndexSearcher(reader);
+            for (int iter = 0; iter < 20; iter++) {
+                final Query query = randomBoolean() ? new TermQuery(new Term("text", "foo")) : new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term("text", "foo")), Occur.MUST)
+                    .add(new TermQuery(new Term("text", "bar")), Occur.SHOULD)
+                    .build();
+                final int size = randomBoolean() ? 0 : randomIntBetween(1, 30);
+                final SortAndFormats sort = randomBoolean() ? null : new SortAndFormats(
+                    new Sort(new SortField("rank", SortField.Type.LONG, randomBoolean())), new DocValueFormat[] { DocValueFormat.RAW });
+                final boolean trackScores = randomBoolean();
+                final ParsedQuery postFilter = randomBoolean() ? new ParsedQuery(new TermQuery(new Term("filter", "a"))) : null;
+                final Float minScore = randomBoolean() ? null : randomFrom(searcher.search(query, rank).scoreDocs).score;
+
+                final QuerySearchResult expected = executeQuery(newContextSearcher(reader), query, size, sort, trackScores, postFilter,
+                    minScore);
+                final QuerySearchResult actual = executeQuery(concurrentSearcher, query, size, sort, trackScores, postFilter, minScore);
+                final TopDocs expectedTopDocs = expected.topDocs().topDocs;
+                final TopDocs actualTopDocs = actual.topDocs().topDocs;
+                assertEquals(expectedTopDocs.totalHits, actualTopDocs.totalHits);
+                assertEquals(expected.topDocs().maxScore, actual.topDocs().maxScore, 0f);
+                assertEquals(expectedTopDocs.scoreDocs.length, actualTopDocs.scoreDocs.length);
+                for (int i = 0; i < expectedTopDocs.scoreDocs.length; i++) {
+                    final ScoreDoc expectedDoc = expectedTopDocs.scoreDocs[i];
+                    final ScoreDoc actualDoc = actualTopDocs.scoreDocs[i];
+                    assertEquals(-1, actualDoc.shardIndex);
+                    if (sort == null) {
+                        // hits with the same score may come in a different order
+                        assertEquals(expectedDoc.score, actualDoc.score, 0f);
+                    } else {
+                        assertEquals(expectedDoc.doc, actualDoc.doc);
+                        assertArrayEquals(((FieldDoc) expectedDoc).fields, ((FieldDoc) actualDoc).fields);
+                    }
+                }
+            }
+            concurrentSearcher.close();
+        }
+        dir.close();
+    }
+
+    private QuerySearchResult executeQuery(ContextIndexSearcher searcher, Query query, int size, SortAndFormats sort,
+                                           boolean trackScores, ParsedQuery postFilter, Float minScore) {
+        TestSearchContext context = new TestSearchContext(null, indexShard, searcher);
+        context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        context.parsedQuery(new ParsedQuery(query));
+        context.setSize(size);
+        context.trackTotalHitsUpTo(SearchContext.TRACK_TOTAL_HITS_ACCURATE);
+        context.sort(sort);
+        context.trackScores(trackScores);
+        if (postFilter != null) {
+            context.parsedPostFilter(postFilter);
+        }
+        if (minScore != null) {
+            context.minimumScore(minScore);
+        }
+        assertEquals(searcher.isConcurrentSegmentSearchEnabled(), QueryPhase.canSearchConcurrently(context, searcher));
+        QueryPhase.executeInternal(context);
+        return context.queryResult();
+    }
+
     public void testCancellationDuringPreprocess() throws IOException {
         try (Directory dir = newDirectory();
              RandomIndexWriter w = new RandomIndexWriter(random(), dir, newIndexWriterConfig())) {
@@ -1605,7 +1605,7 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                         new IngestService(
                             clusterService, threadPool, environment, scriptService,
                             new AnalysisModule(environment, Collections.emptyList()).getAnalysisRegistry(),
-                            Collections.emptyList(), client),
+                            Collections.emptyList(), client, new NoneCircuitBreakerService()),
                         transportShardBulkAction, client, actionFilters, indexNameExpressionResolver,
                         new AutoCreateIndex(settings, clusterSettings, indexNameExpressionResolver, new SystemIndices(emptyMap())),
                         new IndexingPressure(settings),
@@ -142,4 +142,46 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIncrementalLz4Compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            final int numInts = randomIntBetween(1, 100000);
+            try (StreamOutput lz4Stream = new OutputStreamStreamOutput(
+                    CompressorFactory.LZ4_COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
+                for (int i = 0; i < numInts; ++i) {
+                    lz4Stream.writeInt(randomBoolean() ? i : randomInt());
+                    if (rarely()) {
+                        lz4Stream.flush();
+                    }
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            int offset = 0;
+            while (offset < bytes.length()) {
+                final int length = Math.min(bytes.length() - offset, randomIntBetween(1, 20000));
+                if (offset == 0) {
+                    assertEquals(length >= CompressorFactory.LZ4_COMPRESSOR.headerLength(), decompressor.canDecompress(length));
+                    if (decompressor.canDecompress(length) == false) {
+                        continue;
+                    }
+                }
+                assertFalse(decompressor.isEOS());
+                final BytesReference inbound = bytes.slice(offset, length);
+                assertEquals(inbound.length(), decompressor.decompress(inbound));
+                offset += length;
+            }
+            assertTrue(decompressor.isEOS());
+
+            final BytesStreamOutput decompressed = new BytesStreamOutput();
+            ReleasableBytesReference reference;
+            while ((reference = decompressor.pollDecompressedPage()) != null) {
+                reference.writeTo(decompressed);
+                reference.close();
+            }
+            assertEquals(4 * numInts, decompressed.size());
+            decompressor.close();
+        }
+    }
 }
@@ -476,9 +476,11 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
                 aggs.add(a.buildTopLevel());
             }
         } else {
-            root.preCollection();
-            searcher.search(rewritten, root);
-            root.postCollection();
+            // sometimes collect in blocks of documents the way the aggregation phase does
+            final BucketCollector collector = randomBoolean() ? BatchedBucketCollector.wrap(root) : root;
+            collector.preCollection();
+            searcher.search(rewritten, collector);
+            collector.postCollection();
             aggs.add(root.buildTopLevel());
         }
 